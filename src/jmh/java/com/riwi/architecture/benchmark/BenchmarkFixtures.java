@@ -0,0 +1,74 @@
+package com.riwi.architecture.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.Venue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Datos de prueba compartidos por los benchmarks
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Venues (ids 1..VENUES) entre los que se reparten los eventos generados
+     */
+    static final int VENUES = 1_000;
+
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.now().plusDays(30);
+    private static final AtomicLong generated = new AtomicLong();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Cada evento cae en un venue y horario distintos: la agenda de venues
+     * nunca los rechaza por solape
+     */
+    static Event futureEvent(int capacity) {
+        long n = generated.getAndIncrement();
+        LocalDateTime start = FIRST_SLOT.plusHours(4 * (n / VENUES));
+        Event event = new Event();
+        event.setName("Benchmark concert");
+        event.setDescription("Evento generado para benchmarks");
+        event.setEventDate(start);
+        event.setEventEndDate(start.plusHours(3));
+        event.setCategory("MUSIC");
+        event.setTicketPrice(new BigDecimal("120.00"));
+        event.setTotalCapacity(capacity);
+        event.setVenueId(1 + n % VENUES);
+        return event;
+    }
+
+    static DomainEventOutbox domainEventOutbox() {
+        return new DomainEventOutbox(new InMemoryOutboxRepository(), new ObjectMapper());
+    }
+
+    /**
+     * Repositorio con los venues 1..VENUES sin límite de capacidad
+     */
+    static InMemoryVenueRepository scheduledVenues() {
+        InMemoryVenueRepository venueRepository = new InMemoryVenueRepository();
+        for (int i = 0; i < VENUES; i++) {
+            Venue venue = venue();
+            venue.setCapacity(Integer.MAX_VALUE);
+            venueRepository.save(venue);
+        }
+        return venueRepository;
+    }
+
+    static Venue venue() {
+        Venue venue = new Venue();
+        venue.setName("Benchmark arena");
+        venue.setAddress("Calle 10 # 20-30");
+        venue.setCity("Medellín");
+        venue.setCountry("Colombia");
+        venue.setCapacity(50_000);
+        venue.setType("ARENA");
+        return venue;
+    }
+}
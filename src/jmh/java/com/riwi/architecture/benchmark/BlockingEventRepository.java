@@ -0,0 +1,46 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * InMemoryEventRepository con una latencia fija por llamada para simular
+ * el bloqueo de un viaje a la base de datos (JDBC)
+ */
+public class BlockingEventRepository extends InMemoryEventRepository {
+
+    private final long latencyNanos;
+
+    public BlockingEventRepository(long latencyNanos) {
+        this.latencyNanos = latencyNanos;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        block();
+        return super.findById(id);
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        block();
+        return super.decrementAvailableTickets(id, quantity, now);
+    }
+
+    /**
+     * El lote completo es un solo viaje
+     */
+    @Override
+    public int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now) {
+        block();
+        return super.decrementAvailableTicketsAll(quantitiesByEvent, now);
+    }
+
+    private void block() {
+        LockSupport.parkNanos(latencyNanos);
+    }
+}
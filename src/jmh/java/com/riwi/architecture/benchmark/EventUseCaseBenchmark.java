@@ -0,0 +1,69 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crear/actualizar eventos y coste de las validaciones (camino válido e inválido)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventUseCaseBenchmark {
+
+    private TicketPipeline pipeline;
+    private CreateEventUseCaseImpl createEventUseCase;
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    private Long eventId;
+    private Event changes;
+    private Event invalidEvent;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        pipeline = new TicketPipeline(new InMemoryEventRepository(), "ENGINE");
+        createEventUseCase = pipeline.createEventUseCase();
+        updateEventUseCase = pipeline.updateEventUseCase();
+        eventId = createEventUseCase.createEvent(BenchmarkFixtures.futureEvent(1_000)).getId();
+
+        changes = BenchmarkFixtures.futureEvent(1_000);
+        changes.setName("Benchmark concert (updated)");
+
+        invalidEvent = BenchmarkFixtures.futureEvent(1_000);
+        invalidEvent.setTotalCapacity(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    public Event createEvent() {
+        return createEventUseCase.createEvent(BenchmarkFixtures.futureEvent(1_000));
+    }
+
+    @Benchmark
+    public Event updateEvent() {
+        return updateEventUseCase.updateEvent(eventId, changes);
+    }
+
+    /**
+     * Falla en la última regla: recorre toda la cadena de validaciones y lanza
+     */
+    @Benchmark
+    public Object createEvent_invalid() {
+        try {
+            return createEventUseCase.createEvent(invalidEvent);
+        } catch (InvalidEventDataException e) {
+            return e;
+        }
+    }
+}
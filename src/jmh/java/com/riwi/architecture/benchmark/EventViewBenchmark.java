@@ -0,0 +1,111 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.support.LocalEpochClock;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.infrastructure.mappers.EventMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validaciones de venta sobre el Event con objetos envueltos frente a la
+ * vista primitiva EventInventoryView, el motor de inventario vendiendo
+ * con y sin armar el Event de respuesta, y una fila de listado armada como
+ * Event completo frente a EventListing
+ * Correr con -prof gc: el chequeo sobre la vista no reserva memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventViewBenchmark {
+
+    private Event event;
+    private EventInventoryView view;
+    private TicketInventoryEngine ticketInventory;
+    private Long eventId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Event fixture = BenchmarkFixtures.futureEvent(Integer.MAX_VALUE - 1);
+        fixture.setActive(true);
+        fixture.setAvailableTickets(Integer.MAX_VALUE - 1);
+        fixture.setCreatedAt(LocalDateTime.now());
+        fixture.setUpdatedAt(fixture.getCreatedAt());
+
+        InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+        event = eventRepository.save(fixture);
+        eventId = event.getId();
+        view = EventInventoryView.from(event);
+        ticketInventory = new TicketInventoryEngine(eventRepository,
+                new OptimisticRetryExecutor(new NoOpTransactionManager(), 3, 1),
+                new TicketLedger(new InMemoryTicketLedgerRepository(), BenchmarkFixtures.domainEventOutbox(),
+                        1_000, 0), true);
+    }
+
+    // ==================== VALIDACIONES DE VENTA ====================
+
+    /**
+     * Lo que hacía el motor antes de la vista: desenvolver y pedir la hora
+     */
+    @Benchmark
+    public boolean canSell_event() {
+        if (event.getActive() == null || !event.getActive()) {
+            return false;
+        }
+        int available = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+        if (available < 1 || event.getTicketPrice().doubleValue() < 0) {
+            return false;
+        }
+        LocalDateTime end = event.getEventEndDate() != null ? event.getEventEndDate() : event.getEventDate();
+        return !LocalDateTime.now().isAfter(end);
+    }
+
+    @Benchmark
+    public boolean canSell_view() {
+        return view.isActive()
+                && view.getAvailableTickets() >= 1
+                && view.getTicketPriceMinor() >= 0
+                && !view.isPastAt(LocalEpochClock.nowSeconds());
+    }
+
+    // ==================== MOTOR DE INVENTARIO ====================
+
+    /**
+     * Venta con el Event de respuesta armado en el borde
+     */
+    @Benchmark
+    public Event engine_sell() {
+        return ticketInventory.sell(eventId, 1);
+    }
+
+    // ==================== LISTADOS ====================
+
+    /**
+     * Fila de listado como antes: la entidad con todas sus columnas y el
+     * Event que se arma a partir de ella
+     */
+    @Benchmark
+    public Event listing_event() {
+        return EventMapper.toDomain(EventMapper.toEntity(event));
+    }
+
+    /**
+     * Misma fila como EventListing (vista primitiva + nombre, categoría, inicio)
+     */
+    @Benchmark
+    public EventListing listing_row() {
+        return EventListing.of(event.getId(), event.getName(), event.getCategory(),
+                event.getEventDate(), event.getEventEndDate(), event.getTicketPrice(),
+                event.getAvailableTickets(), event.getTotalCapacity(), event.getActive(),
+                event.getVenueId());
+    }
+}
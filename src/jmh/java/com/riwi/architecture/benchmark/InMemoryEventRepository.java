@@ -0,0 +1,209 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * EventRepository en memoria para medir los casos de uso sin base de datos
+ * Copia los eventos al leer y al guardar, igual que el adaptador JPA
+ */
+public class InMemoryEventRepository implements EventRepository {
+
+    private final ConcurrentHashMap<Long, Event> events = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Event save(Event event) {
+        Event stored = copyOf(event);
+        if (stored.getId() == null) {
+            stored.setId(sequence.incrementAndGet());
+        }
+        stored.setVersion(stored.getVersion() == null ? 0L : stored.getVersion() + 1);
+        events.put(stored.getId(), stored);
+        return copyOf(stored);
+    }
+
+    @Override
+    public List<Event> saveAll(Collection<Event> toSave) {
+        List<Event> saved = new ArrayList<>(toSave.size());
+        for (Event event : toSave) {
+            saved.add(save(event));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        Event event = events.get(id);
+        return event == null ? Optional.empty() : Optional.of(copyOf(event));
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        List<Event> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public List<EventInventoryView> findInventoryViewsById(Collection<Long> ids) {
+        List<EventInventoryView> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Event event = events.get(id);
+            if (event != null) {
+                found.add(EventInventoryView.from(event));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        events.remove(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return events.containsKey(id);
+    }
+
+    @Override
+    public boolean existsActiveByVenueId(Long venueId) {
+        for (Event event : events.values()) {
+            if (venueId.equals(event.getVenueId()) && Boolean.TRUE.equals(event.getActive())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Event> findActiveByVenueId(Long venueId) {
+        List<Event> found = new ArrayList<>();
+        for (Event event : events.values()) {
+            if (venueId.equals(event.getVenueId()) && Boolean.TRUE.equals(event.getActive())) {
+                found.add(event);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Event> findUpcomingActiveByVenueIds(Collection<Long> venueIds, LocalDateTime now, int perVenue) {
+        Map<Long, Integer> taken = new HashMap<>();
+        return events.values().stream()
+                .filter(e -> venueIds.contains(e.getVenueId()) && Boolean.TRUE.equals(e.getActive()))
+                .filter(e -> e.getEventEndDate() != null ? e.getEventEndDate().isAfter(now)
+                        : e.getEventDate() != null && e.getEventDate().isAfter(now))
+                .sorted(Comparator.comparing(Event::getEventDate).thenComparing(Event::getId))
+                .filter(e -> taken.merge(e.getVenueId(), 1, Integer::sum) <= perVenue)
+                .map(InMemoryEventRepository::copyOf)
+                .toList();
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        AtomicInteger affected = new AtomicInteger();
+        events.computeIfPresent(id, (key, event) -> {
+            LocalDateTime end = event.getEventEndDate() != null ? event.getEventEndDate() : event.getEventDate();
+            if (Boolean.TRUE.equals(event.getActive()) && event.getAvailableTickets() >= quantity
+                    && end.isAfter(now)) {
+                event.setAvailableTickets(event.getAvailableTickets() - quantity);
+                event.setUpdatedAt(now);
+                affected.set(1);
+            }
+            return event;
+        });
+        return affected.get();
+    }
+
+    @Override
+    public int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now) {
+        int[] affected = new int[quantitiesByEvent.size()];
+        int line = 0;
+        for (Map.Entry<Long, Integer> entry : quantitiesByEvent.entrySet()) {
+            affected[line++] = decrementAvailableTickets(entry.getKey(), entry.getValue(), now);
+        }
+        return affected;
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        AtomicInteger affected = new AtomicInteger();
+        events.computeIfPresent(id, (key, event) -> {
+            if (event.getAvailableTickets() + quantity <= event.getTotalCapacity()) {
+                event.setAvailableTickets(event.getAvailableTickets() + quantity);
+                event.setUpdatedAt(now);
+                affected.set(1);
+            }
+            return event;
+        });
+        return affected.get();
+    }
+
+    @Override
+    public List<EventListing> search(EventSearchCriteria criteria, int limit) {
+        return events.values().stream()
+                .filter(e -> criteria.getCategory() == null || criteria.getCategory().equals(e.getCategory()))
+                .filter(e -> criteria.getVenueId() == null || criteria.getVenueId().equals(e.getVenueId()))
+                .filter(e -> criteria.getActive() == null || criteria.getActive().equals(e.getActive()))
+                .filter(e -> criteria.getFromDate() == null || !e.getEventDate().isBefore(criteria.getFromDate()))
+                .filter(e -> criteria.getToDate() == null || e.getEventDate().isBefore(criteria.getToDate()))
+                .filter(e -> criteria.getAfterEventDate() == null
+                        || e.getEventDate().isAfter(criteria.getAfterEventDate())
+                        || (e.getEventDate().isEqual(criteria.getAfterEventDate()) && e.getId() > criteria.getAfterId()))
+                .sorted(Comparator.comparing(Event::getEventDate).thenComparing(Event::getId))
+                .limit(limit)
+                .map(EventListing::from)
+                .toList();
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalog(Long afterId) {
+        long after = afterId != null ? afterId : 0L;
+        return events.values().stream()
+                .filter(e -> e.getId() > after)
+                .sorted(Comparator.comparing(Event::getId))
+                .map(e -> new EventCatalogEntry(e.getId(), e.getName(), e.getDescription(), e.getCategory(),
+                        e.getEventDate(), e.getEventEndDate(), e.getTicketPrice(), e.getAvailableTickets(),
+                        e.getTotalCapacity(), e.getActive(), e.getVenueId(), null, null, null));
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalogChangedSince(LocalDateTime since) {
+        return events.values().stream()
+                .filter(e -> e.getUpdatedAt() == null || e.getUpdatedAt().isAfter(since))
+                .sorted(Comparator.comparing(Event::getId))
+                .map(e -> new EventCatalogEntry(e.getId(), e.getName(), e.getDescription(), e.getCategory(),
+                        e.getEventDate(), e.getEventEndDate(), e.getTicketPrice(), e.getAvailableTickets(),
+                        e.getTotalCapacity(), e.getActive(), e.getVenueId(), null, null, null));
+    }
+
+    private static Event copyOf(Event source) {
+        Event copy = new Event(source.getId(), source.getName(), source.getDescription(),
+                source.getEventDate(), source.getEventEndDate(), source.getCategory(),
+                source.getTicketPrice(), source.getAvailableTickets(), source.getTotalCapacity(),
+                source.getActive(), source.getVenueId(), source.getCreatedAt(), source.getUpdatedAt());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,54 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registros de idempotencia en memoria: putIfAbsent hace el papel de la clave primaria
+ */
+class InMemoryIdempotencyRepository implements IdempotencyRepository {
+
+    private final ConcurrentHashMap<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return Optional.ofNullable(records.get(key)).map(InMemoryIdempotencyRepository::copyOf);
+    }
+
+    @Override
+    public boolean claim(IdempotencyRecord record) {
+        return records.putIfAbsent(record.getKey(), copyOf(record)) == null;
+    }
+
+    @Override
+    public void complete(String key, int availableTickets, LocalDateTime completedAt) {
+        records.computeIfPresent(key, (k, record) -> {
+            IdempotencyRecord completed = copyOf(record);
+            completed.setAvailableTickets(availableTickets);
+            completed.setCompletedAt(completedAt);
+            return completed;
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        records.computeIfPresent(key, (k, record) -> record.isCompleted() ? record : null);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime threshold) {
+        int before = records.size();
+        records.values().removeIf(record -> record.getCreatedAt().isBefore(threshold));
+        return before - records.size();
+    }
+
+    private static IdempotencyRecord copyOf(IdempotencyRecord record) {
+        return new IdempotencyRecord(record.getKey(), record.getOperation(), record.getEventId(),
+                record.getQuantity(), record.getAvailableTickets(), record.getCreatedAt(),
+                record.getCompletedAt());
+    }
+}
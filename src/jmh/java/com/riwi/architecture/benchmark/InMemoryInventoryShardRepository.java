@@ -0,0 +1,95 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.InventoryShard;
+import com.riwi.architecture.domain.ports.out.InventoryShardRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Porciones de inventario en memoria: cada fila es un contador atómico
+ * independiente, como lo serían filas separadas en la base de datos
+ */
+class InMemoryInventoryShardRepository implements InventoryShardRepository {
+
+    private final ConcurrentHashMap<Long, Row[]> rowsByEvent = new ConcurrentHashMap<>();
+
+    @Override
+    public List<InventoryShard> findByEventId(Long eventId) {
+        Row[] rows = rowsByEvent.get(eventId);
+        List<InventoryShard> shards = new ArrayList<>();
+        if (rows != null) {
+            for (int i = 0; i < rows.length; i++) {
+                shards.add(new InventoryShard(eventId, i, rows[i].available.get(), rows[i].capacity));
+            }
+        }
+        return shards;
+    }
+
+    @Override
+    public void saveAll(List<InventoryShard> shards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        Row[] rows = new Row[shards.size()];
+        for (InventoryShard shard : shards) {
+            rows[shard.getShardIndex()] = new Row(shard.getAvailableTickets(), shard.getCapacity());
+        }
+        rowsByEvent.put(shards.get(0).getEventId(), rows);
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long eventId, int shardIndex, int quantity) {
+        AtomicInteger available = rowsByEvent.get(eventId)[shardIndex].available;
+        int current;
+        do {
+            current = available.get();
+            if (current < quantity) {
+                return 0;
+            }
+        } while (!available.compareAndSet(current, current - quantity));
+        return 1;
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long eventId, int shardIndex, int quantity) {
+        Row row = rowsByEvent.get(eventId)[shardIndex];
+        int current;
+        do {
+            current = row.available.get();
+            if (current + (long) quantity > row.capacity) {
+                return 0;
+            }
+        } while (!row.available.compareAndSet(current, current + quantity));
+        return 1;
+    }
+
+    @Override
+    public int sumAvailableTickets(Long eventId) {
+        long sum = 0;
+        Row[] rows = rowsByEvent.get(eventId);
+        if (rows != null) {
+            for (Row row : rows) {
+                sum += row.available.get();
+            }
+        }
+        return (int) sum;
+    }
+
+    @Override
+    public void deleteByEventId(Long eventId) {
+        rowsByEvent.remove(eventId);
+    }
+
+    private static final class Row {
+        private final AtomicInteger available;
+        private final int capacity;
+
+        private Row(int available, int capacity) {
+            this.available = new AtomicInteger(available);
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox en memoria que solo cuenta los mensajes agregados
+ * Sin relay en los benchmarks: guardar las filas solo haría crecer el heap
+ */
+class InMemoryOutboxRepository implements OutboxRepository {
+
+    private final AtomicLong appended = new AtomicLong();
+
+    @Override
+    public void appendAll(List<OutboxMessage> messages) {
+        appended.addAndGet(messages.size());
+    }
+
+    @Override
+    public List<OutboxMessage> findUnpublished(int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void markPublished(List<Long> sequences, LocalDateTime publishedAt) {
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime threshold) {
+        return 0;
+    }
+
+    @Override
+    public boolean tryAcquireRelayLease(String owner, LocalDateTime now, LocalDateTime until) {
+        return true;
+    }
+
+    @Override
+    public void releaseRelayLease(String owner, LocalDateTime now) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.TicketLedgerSnapshot;
+import com.riwi.architecture.domain.model.TicketLedgerTail;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.ports.out.TicketLedgerRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Libro de tickets en memoria que solo acumula saldos por evento
+ * No guarda las filas: los benchmarks generan millones de movimientos
+ */
+class InMemoryTicketLedgerRepository implements TicketLedgerRepository {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, long[]> totals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, TicketLedgerSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public void appendAll(List<TicketMovement> movements) {
+        for (TicketMovement movement : movements) {
+            long id = sequence.incrementAndGet();
+            totals.compute(movement.getEventId(), (eventId, total) -> {
+                long[] updated = total != null ? total : new long[3];
+                updated[0] += movement.getDelta();
+                updated[1] = id;
+                updated[2]++;
+                return updated;
+            });
+        }
+    }
+
+    @Override
+    public List<TicketMovement> findMovements(Long eventId, long afterSequence, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public TicketLedgerTail summarizeAfter(Long eventId, long afterSequence) {
+        long[] total = totals.get(eventId);
+        if (total == null) {
+            return new TicketLedgerTail(0, afterSequence, 0);
+        }
+        TicketLedgerSnapshot snapshot = snapshots.get(eventId);
+        long base = snapshot != null ? snapshot.getAvailableTickets() : 0;
+        return new TicketLedgerTail(total[0] - base, total[1], total[2]);
+    }
+
+    @Override
+    public TicketLedgerTail summarizeSettled(Long eventId, long afterSequence, LocalDateTime occurredBefore) {
+        return summarizeAfter(eventId, afterSequence);
+    }
+
+    @Override
+    public Optional<TicketLedgerSnapshot> findLatestSnapshot(Long eventId) {
+        return Optional.ofNullable(snapshots.get(eventId));
+    }
+
+    @Override
+    public void saveSnapshot(TicketLedgerSnapshot snapshot) {
+        snapshots.put(snapshot.getEventId(), snapshot);
+    }
+}
@@ -0,0 +1,68 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.model.VenueLocation;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * VenueRepository en memoria para medir los casos de uso sin base de datos
+ */
+public class InMemoryVenueRepository implements VenueRepository {
+
+    private final ConcurrentHashMap<Long, Venue> venues = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Venue save(Venue venue) {
+        if (venue.getId() == null) {
+            venue.setId(sequence.incrementAndGet());
+        }
+        venues.put(venue.getId(), venue);
+        return venue;
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        return Optional.ofNullable(venues.get(id));
+    }
+
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        List<Venue> found = new ArrayList<>();
+        for (Long id : ids) {
+            Venue venue = venues.get(id);
+            if (venue != null) {
+                found.add(venue);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<VenueLocation> findAllLocations() {
+        List<VenueLocation> locations = new ArrayList<>();
+        for (Venue venue : venues.values()) {
+            if (Boolean.TRUE.equals(venue.getActive()) && venue.isLocated()) {
+                locations.add(new VenueLocation(venue.getId(), venue.getLatitude(), venue.getLongitude()));
+            }
+        }
+        return locations;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        venues.remove(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return venues.containsKey(id);
+    }
+}
@@ -0,0 +1,71 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.infrastructure.cache.OffHeapEventRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lecturas del catálogo desde el heap (repositorio en memoria) frente al
+ * nivel fuera del heap, con todos los eventos ya cargados
+ * Correr con -prof gc: la vista fuera del heap solo reserva el objeto que
+ * devuelve; el Event completo decodifica los textos en cada lectura.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-XX:MaxDirectMemorySize=1g")
+public class OffHeapCatalogBenchmark {
+
+    @Param({"1000000"})
+    private int events;
+
+    private InMemoryEventRepository heapRepository;
+    private OffHeapEventRepository offHeapRepository;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        heapRepository = new InMemoryEventRepository();
+        offHeapRepository = new OffHeapEventRepository(heapRepository, true, events, 512, Long.MAX_VALUE / 2);
+        for (int i = 0; i < events; i++) {
+            Event event = BenchmarkFixtures.futureEvent(5_000);
+            event.setActive(true);
+            event.setAvailableTickets(5_000);
+            event.setCreatedAt(LocalDateTime.now());
+            event.setUpdatedAt(event.getCreatedAt());
+            event = heapRepository.save(event);
+            if (i == 0) {
+                firstId = event.getId();
+            }
+            // Primera lectura: queda guardado fuera del heap
+            offHeapRepository.findById(event.getId());
+        }
+    }
+
+    private Long randomId() {
+        return firstId + ThreadLocalRandom.current().nextInt(events);
+    }
+
+    @Benchmark
+    public Event findById_heap() {
+        return heapRepository.findById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public Event findById_offHeap() {
+        return offHeapRepository.findById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public List<EventInventoryView> inventoryView_offHeap() {
+        return offHeapRepository.findInventoryViewsById(List.of(randomId()));
+    }
+}
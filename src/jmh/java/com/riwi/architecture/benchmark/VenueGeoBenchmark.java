@@ -0,0 +1,79 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.domain.model.Venue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsquedas por cercanía en el índice espacial con muchos venues
+ * La mitad de los venues se concentra alrededor de unas pocas ciudades
+ * (celdas densas) y el resto se reparte por todo el planeta
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VenueGeoBenchmark {
+
+    private static final double[][] CITIES = {
+            {6.2442, -75.5812}, {4.7110, -74.0721}, {19.4326, -99.1332},
+            {-34.6037, -58.3816}, {40.4168, -3.7038}, {40.7128, -74.0060}
+    };
+
+    @Param({"300000"})
+    public int venues;
+
+    @Param({"5", "50"})
+    public double radiusKm;
+
+    private VenueGeoIndex venueGeoIndex;
+    private double[][] points;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        InMemoryVenueRepository venueRepository = new InMemoryVenueRepository();
+        for (int i = 0; i < venues; i++) {
+            Venue venue = BenchmarkFixtures.venue();
+            venue.setActive(true);
+            if (i % 2 == 0) {
+                double[] city = CITIES[random.nextInt(CITIES.length)];
+                venue.setLatitude(city[0] + random.nextDouble(-0.5, 0.5));
+                venue.setLongitude(city[1] + random.nextDouble(-0.5, 0.5));
+            } else {
+                venue.setLatitude(random.nextDouble(-60, 70));
+                venue.setLongitude(random.nextDouble(-180, 180));
+            }
+            venueRepository.save(venue);
+        }
+        venueGeoIndex = new VenueGeoIndex(venueRepository, 0.1);
+
+        // Consultas alrededor de las ciudades: el peor caso, celdas llenas
+        points = new double[1024][];
+        for (int i = 0; i < points.length; i++) {
+            double[] city = CITIES[random.nextInt(CITIES.length)];
+            points[i] = new double[]{city[0] + random.nextDouble(-0.3, 0.3), city[1] + random.nextDouble(-0.3, 0.3)};
+        }
+        venueGeoIndex.withinRadius(0, 0, 1, 1);
+    }
+
+    @Benchmark
+    public List<VenueGeoIndex.Hit> withinRadius() {
+        double[] point = points[next++ & (points.length - 1)];
+        return venueGeoIndex.withinRadius(point[0], point[1], radiusKm, 20);
+    }
+
+    @Benchmark
+    public List<VenueGeoIndex.Hit> withinBox() {
+        double[] point = points[next++ & (points.length - 1)];
+        double span = radiusKm / 111.0;
+        return venueGeoIndex.withinBox(point[0] - span, point[1] - span, point[0] + span, point[1] + span, 20);
+    }
+}
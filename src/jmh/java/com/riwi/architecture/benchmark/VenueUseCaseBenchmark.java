@@ -0,0 +1,75 @@
+package com.riwi.architecture.benchmark;
+
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.DeleteVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateVenueUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.InvalidVenueDataException;
+import com.riwi.architecture.domain.model.Venue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Casos de uso de Venue y coste de sus validaciones
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VenueUseCaseBenchmark {
+
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    private UpdateVenueUseCaseImpl updateVenueUseCase;
+    private DeleteVenueUseCaseImpl deleteVenueUseCase;
+    private Long venueId;
+    private Venue changes;
+    private Venue invalidVenue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryVenueRepository venueRepository = new InMemoryVenueRepository();
+        VenueGeoIndex venueGeoIndex = new VenueGeoIndex(venueRepository, 0.1);
+        createVenueUseCase = new CreateVenueUseCaseImpl(venueRepository, venueGeoIndex);
+        InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+        updateVenueUseCase = new UpdateVenueUseCaseImpl(venueRepository, new EventTextIndex(eventRepository,
+                venueRepository, new NoOpTransactionManager(),
+                System.getProperty("java.io.tmpdir") + "/benchmark-event-search.idx"), venueGeoIndex);
+        deleteVenueUseCase = new DeleteVenueUseCaseImpl(venueRepository, eventRepository,
+                BenchmarkFixtures.domainEventOutbox(), new VenueSchedule(eventRepository, venueRepository, 60_000),
+                venueGeoIndex);
+
+        venueId = createVenueUseCase.createVenue(BenchmarkFixtures.venue()).getId();
+        changes = BenchmarkFixtures.venue();
+        invalidVenue = BenchmarkFixtures.venue();
+        invalidVenue.setCapacity(0);
+    }
+
+    @Benchmark
+    public Venue createVenue() {
+        return createVenueUseCase.createVenue(BenchmarkFixtures.venue());
+    }
+
+    @Benchmark
+    public Venue updateVenue() {
+        return updateVenueUseCase.updateVenue(venueId, changes);
+    }
+
+    @Benchmark
+    public void createAndDeleteVenue() {
+        deleteVenueUseCase.deleteVenue(createVenueUseCase.createVenue(BenchmarkFixtures.venue()).getId());
+    }
+
+    @Benchmark
+    public Object createVenue_invalid() {
+        try {
+            return createVenueUseCase.createVenue(invalidVenue);
+        } catch (InvalidVenueDataException e) {
+            return e;
+        }
+    }
+}
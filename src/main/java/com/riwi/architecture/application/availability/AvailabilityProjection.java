@@ -0,0 +1,483 @@
+package com.riwi.architecture.application.availability;
+
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.application.support.LocalEpochClock;
+import com.riwi.architecture.domain.model.AvailabilitySnapshot;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventAvailability;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Proyección de disponibilidad para las consultas periódicas de las tiendas
+ * CAPA DE APLICACIÓN - Cada evento consultado ocupa una posición en columnas
+ * de primitivos (disponibles, capacidad, activo y fin en segundos) indexadas por una tabla de direccionamiento abierto id -> posición.
+ * Responder a una consulta no toca el repositorio ni crea objetos Event.
+ *
+ * Mantenimiento incremental:
+ * - Ventas y devoluciones solo marcan el evento con {@link #touch(Long)};
+ *   {@link #refresh()} recalcula el valor absoluto desde el inventario vivo
+ *   (memoria si el evento está en el motor, una consulta por tanda si no),
+ *   así la proyección no acumula desvíos.
+ * - Actualizaciones y borrados escriben sus datos al confirmar la transacción.
+ * - Cada 'resync-interval-ms' todo lo proyectado se vuelve a marcar, lo que
+ *   recoge cambios hechos por otras instancias.
+ *
+ * El ETag de una consulta es un hash de lo que responde: (id, disponibles,
+ * capacidad, activo, pasado) de cada evento pedido, o su ausencia. Solo
+ * depende de datos compartidos, así que dos instancias (o la misma tras un
+ * reinicio) con la misma disponibilidad dan el mismo ETag y el 304 sigue
+ * valiendo detrás de un balanceador.
+ */
+@Component
+public class AvailabilityProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityProjection.class);
+
+    private static final int INITIAL_TABLE_SIZE = 1024;
+    private static final int RELOAD_BATCH_SIZE = 500;
+    private static final int MAX_MISSING = 10_000;
+
+    private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+    private final ShardedInventory shardedInventory;
+    private final long missingTtlNanos;
+
+    private final StampedLock lock = new StampedLock();
+
+    // Tabla id -> posición con sondeo lineal (0 = libre: los IDs son positivos)
+    private long[] keys = new long[INITIAL_TABLE_SIZE];
+    private int[] positions = new int[INITIAL_TABLE_SIZE];
+
+    // Columnas densas, una fila por evento proyectado
+    private long[] eventIds = new long[INITIAL_TABLE_SIZE / 2];
+    private int[] available = new int[INITIAL_TABLE_SIZE / 2];
+    private int[] capacity = new int[INITIAL_TABLE_SIZE / 2];
+    private boolean[] active = new boolean[INITIAL_TABLE_SIZE / 2];
+    private long[] endsAt = new long[INITIAL_TABLE_SIZE / 2];
+    private int size;
+
+    private final Set<Long> dirtyEventIds = ConcurrentHashMap.newKeySet();
+    // IDs pedidos que no existen: se recuerdan para no consultarlos en cada sondeo
+    private final ConcurrentHashMap<Long, Long> missingSince = new ConcurrentHashMap<>();
+
+    public AvailabilityProjection(EventRepository eventRepository,
+                                  TicketInventoryEngine ticketInventory,
+                                  ShardedInventory shardedInventory,
+                                  @Value("${availability.resync-interval-ms:30000}") long resyncIntervalMillis) {
+        this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+        this.shardedInventory = shardedInventory;
+        this.missingTtlNanos = TimeUnit.MILLISECONDS.toNanos(resyncIntervalMillis);
+    }
+
+    /**
+     * Disponibilidad de 'ids' (en ese orden); los que aún no están proyectados
+     * se cargan con una sola consulta
+     */
+    public AvailabilitySnapshot snapshot(long[] ids, String ifNoneMatch) {
+        loadUnknown(ids);
+
+        long nowSeconds = LocalEpochClock.nowSeconds();
+        long stamp = lock.readLock();
+        try {
+            String etag = etag(ids, nowSeconds);
+            if (matches(ifNoneMatch, etag)) {
+                return AvailabilitySnapshot.notModified(etag);
+            }
+            List<EventAvailability> entries = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                int position = find(id);
+                if (position >= 0) {
+                    entries.add(new EventAvailability(id, available[position], capacity[position],
+                            active[position], endsAt[position] <= nowSeconds));
+                }
+            }
+            return AvailabilitySnapshot.of(etag, entries);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Cambió el conteo de tickets del evento: se recalcula en el próximo refresh
+     */
+    public void touch(Long eventId) {
+        dirtyEventIds.add(eventId);
+    }
+
+    /**
+     * El evento se actualizó: fechas, estado y capacidad nuevos al confirmar
+     */
+    public void describe(Event event) {
+        AfterCommit.run(() -> {
+            EventInventoryView view = EventInventoryView.from(event);
+            long stamp = lock.writeLock();
+            try {
+                int position = find(event.getId());
+                if (position >= 0) {
+                    write(position, available[position], view);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            touch(event.getId());
+        });
+    }
+
+    /**
+     * El evento se eliminó: sale de la proyección al confirmar
+     */
+    public void remove(Long eventId) {
+        AfterCommit.run(() -> forget(eventId));
+    }
+
+    /**
+     * Recalcular los eventos marcados desde su inventario vivo
+     */
+    @Scheduled(fixedDelayString = "${availability.refresh-interval-ms:250}")
+    public void refresh() {
+        if (dirtyEventIds.isEmpty()) {
+            return;
+        }
+        List<Long> fromRepository = new ArrayList<>();
+        for (Long eventId : new ArrayList<>(dirtyEventIds)) {
+            // Se desmarca ANTES de leer: una venta posterior lo vuelve a marcar
+            dirtyEventIds.remove(eventId);
+            if (!isTracked(eventId)) {
+                continue;
+            }
+            int live = ticketInventory.availableIfLoaded(eventId);
+            if (live != TicketInventoryEngine.NOT_LOADED) {
+                setAvailable(eventId, live);
+            } else {
+                fromRepository.add(eventId);
+            }
+        }
+        for (int from = 0; from < fromRepository.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = fromRepository.subList(from, Math.min(from + RELOAD_BATCH_SIZE, fromRepository.size()));
+            try {
+                reload(batch, true);
+            } catch (RuntimeException e) {
+                // Se reintenta en la siguiente pasada
+                dirtyEventIds.addAll(batch);
+                log.warn("Could not refresh availability of {} events", batch.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Volver a marcar todo lo proyectado (cambios de otras instancias)
+     */
+    @Scheduled(fixedDelayString = "${availability.resync-interval-ms:30000}")
+    public void resync() {
+        long stamp = lock.readLock();
+        try {
+            for (int i = 0; i < size; i++) {
+                dirtyEventIds.add(eventIds[i]);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        pruneMissing();
+    }
+
+    // ==================== CARGA ====================
+
+    private void loadUnknown(long[] ids) {
+        List<Long> unknown = null;
+        long now = System.nanoTime();
+        long stamp = lock.readLock();
+        try {
+            for (long id : ids) {
+                if (find(id) < 0 && !isKnownMissing(id, now)) {
+                    if (unknown == null) {
+                        unknown = new ArrayList<>();
+                    }
+                    unknown.add(id);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        if (unknown != null) {
+            reload(unknown, false);
+        }
+    }
+
+    /**
+     * Una consulta por tanda; el conteo se toma de la fuente viva de cada evento
+     * @param trackedOnly true desde refresh: no volver a agregar eventos borrados entre tanto
+     */
+    private void reload(List<Long> batch, boolean trackedOnly) {
+        List<EventInventoryView> views = eventRepository.findInventoryViewsById(batch);
+        Set<Long> found = new HashSet<>();
+        for (EventInventoryView view : views) {
+            found.add(view.getId());
+            int live = liveAvailable(view);
+            long stamp = lock.writeLock();
+            try {
+                int position = find(view.getId());
+                if (position < 0 && !trackedOnly) {
+                    position = insert(view.getId());
+                }
+                if (position >= 0) {
+                    write(position, live, view);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        long now = System.nanoTime();
+        for (Long eventId : batch) {
+            if (!found.contains(eventId)) {
+                rememberMissing(eventId, now);
+                forget(eventId);
+            }
+        }
+    }
+
+    /**
+     * Recordar un ID inexistente sin dejar crecer el registro: con
+     * MAX_MISSING entradas se descartan las vencidas y, si sigue lleno, el
+     * ID no se recuerda (se vuelve a consultar en el próximo sondeo)
+     */
+    private void rememberMissing(Long eventId, long now) {
+        if (missingSince.size() >= MAX_MISSING) {
+            pruneMissing();
+            if (missingSince.size() >= MAX_MISSING) {
+                return;
+            }
+        }
+        missingSince.put(eventId, now);
+    }
+
+    /**
+     * Un ID inexistente vencido se olvida al consultarlo (puede haberse creado)
+     */
+    private boolean isKnownMissing(long eventId, long now) {
+        Long since = missingSince.get(eventId);
+        if (since == null) {
+            return false;
+        }
+        if (now - since > missingTtlNanos) {
+            missingSince.remove(eventId, since);
+            return false;
+        }
+        return true;
+    }
+
+    private void pruneMissing() {
+        long now = System.nanoTime();
+        missingSince.values().removeIf(since -> now - since > missingTtlNanos);
+    }
+
+    private int liveAvailable(EventInventoryView view) {
+        int live = ticketInventory.availableIfLoaded(view.getId());
+        if (live != TicketInventoryEngine.NOT_LOADED) {
+            return live;
+        }
+        if (shardedInventory.manages(view)) {
+            return shardedInventory.availableTickets(view);
+        }
+        return view.getAvailableTickets();
+    }
+
+    private void forget(Long eventId) {
+        dirtyEventIds.remove(eventId);
+        long stamp = lock.writeLock();
+        try {
+            delete(eventId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void setAvailable(Long eventId, int value) {
+        long stamp = lock.writeLock();
+        try {
+            int position = find(eventId);
+            if (position >= 0) {
+                available[position] = value;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean isTracked(Long eventId) {
+        long stamp = lock.readLock();
+        try {
+            return find(eventId) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ==================== TABLA (con el candado tomado) ====================
+
+    private void write(int position, int availableTickets, EventInventoryView view) {
+        available[position] = availableTickets;
+        capacity[position] = view.getTotalCapacity();
+        active[position] = view.isActive();
+        endsAt[position] = view.getClosesAt();
+    }
+
+    private int find(long id) {
+        int mask = keys.length - 1;
+        for (int i = slot(id, mask); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == id) {
+                return positions[i];
+            }
+        }
+        return -1;
+    }
+
+    private int insert(long id) {
+        if (size == eventIds.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int i = slot(id, mask);
+        while (keys[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        int position = size++;
+        keys[i] = id;
+        positions[i] = position;
+        eventIds[position] = id;
+        return position;
+    }
+
+    /**
+     * Borrado con corrimiento hacia atrás (sin lápidas) y la última fila
+     * de las columnas movida al hueco para mantenerlas densas
+     */
+    private void delete(long id) {
+        int mask = keys.length - 1;
+        int i = slot(id, mask);
+        while (keys[i] != id) {
+            if (keys[i] == 0) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        int position = positions[i];
+
+        int gap = i;
+        for (int j = (i + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = slot(keys[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                positions[gap] = positions[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+
+        int last = --size;
+        if (position != last) {
+            long movedId = eventIds[last];
+            eventIds[position] = movedId;
+            available[position] = available[last];
+            capacity[position] = capacity[last];
+            active[position] = active[last];
+            endsAt[position] = endsAt[last];
+            for (int k = slot(movedId, mask); ; k = (k + 1) & mask) {
+                if (keys[k] == movedId) {
+                    positions[k] = position;
+                    break;
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        int rows = eventIds.length * 2;
+        eventIds = Arrays.copyOf(eventIds, rows);
+        available = Arrays.copyOf(available, rows);
+        capacity = Arrays.copyOf(capacity, rows);
+        active = Arrays.copyOf(active, rows);
+        endsAt = Arrays.copyOf(endsAt, rows);
+
+        // Factor de carga <= 0.5: la tabla siempre duplica las filas
+        long[] newKeys = new long[rows * 2];
+        int[] newPositions = new int[rows * 2];
+        int mask = newKeys.length - 1;
+        for (int position = 0; position < size; position++) {
+            int i = slot(eventIds[position], mask);
+            while (newKeys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            newKeys[i] = eventIds[position];
+            newPositions[i] = position;
+        }
+        keys = newKeys;
+        positions = newPositions;
+    }
+
+    // ==================== ETAG ====================
+
+    private String etag(long[] ids, long nowSeconds) {
+        long hash = 0xcbf29ce484222325L;
+        for (long id : ids) {
+            int position = find(id);
+            hash = mix(hash, id);
+            if (position < 0) {
+                // Ausente: no aparece en la respuesta
+                hash = mix(hash, -1L);
+                continue;
+            }
+            hash = mix(hash, available[position]);
+            hash = mix(hash, capacity[position]);
+            hash = mix(hash, (active[position] ? 1L : 0L) | (endsAt[position] <= nowSeconds ? 2L : 0L));
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * If-None-Match puede traer varias etiquetas, débiles (W/) o "*"
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long mix(long hash, long value) {
+        hash ^= value;
+        hash *= 0x100000001b3L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static int slot(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,17 @@
+package com.riwi.architecture.application.exporter;
+
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+
+import java.io.IOException;
+
+/**
+ * Escribe filas del catálogo directamente sobre el destino, sin acumularlas
+ */
+public interface CatalogWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(EventCatalogEntry entry) throws IOException;
+
+    void flush() throws IOException;
+}
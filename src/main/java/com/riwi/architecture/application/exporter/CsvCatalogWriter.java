@@ -0,0 +1,86 @@
+package com.riwi.architecture.application.exporter;
+
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Salida CSV con cabecera; los textos se citan solo cuando hace falta
+ */
+public class CsvCatalogWriter implements CatalogWriter {
+
+    private static final String HEADER = "eventId,name,description,category,eventDate,eventEndDate,"
+            + "ticketPrice,availableTickets,totalCapacity,active,venueId,venueName,venueCity,venueCountry\n";
+
+    private final Writer writer;
+
+    public CsvCatalogWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(EventCatalogEntry entry) throws IOException {
+        value(entry.getEventId());
+        writer.write(',');
+        text(entry.getName());
+        writer.write(',');
+        text(entry.getDescription());
+        writer.write(',');
+        text(entry.getCategory());
+        writer.write(',');
+        value(entry.getEventDate());
+        writer.write(',');
+        value(entry.getEventEndDate());
+        writer.write(',');
+        value(entry.getTicketPrice() != null ? entry.getTicketPrice().toPlainString() : null);
+        writer.write(',');
+        value(entry.getAvailableTickets());
+        writer.write(',');
+        value(entry.getTotalCapacity());
+        writer.write(',');
+        value(entry.getActive());
+        writer.write(',');
+        value(entry.getVenueId());
+        writer.write(',');
+        text(entry.getVenueName());
+        writer.write(',');
+        text(entry.getVenueCity());
+        writer.write(',');
+        text(entry.getVenueCountry());
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void value(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    /**
+     * Citar el texto solo si contiene separadores, comillas o saltos de línea
+     */
+    private void text(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+}
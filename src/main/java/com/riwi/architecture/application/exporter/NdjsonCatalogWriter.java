@@ -0,0 +1,70 @@
+package com.riwi.architecture.application.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+
+/**
+ * Salida NDJSON escrita campo a campo con el JsonGenerator de Jackson,
+ * sin construir un árbol ni un objeto intermedio por fila
+ */
+public class NdjsonCatalogWriter implements CatalogWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonCatalogWriter(ObjectMapper objectMapper, Writer writer) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(writer);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON no lleva cabecera
+    }
+
+    @Override
+    public void write(EventCatalogEntry entry) throws IOException {
+        generator.writeStartObject();
+        number("eventId", entry.getEventId());
+        generator.writeStringField("name", entry.getName());
+        generator.writeStringField("description", entry.getDescription());
+        generator.writeStringField("category", entry.getCategory());
+        dateTime("eventDate", entry.getEventDate());
+        dateTime("eventEndDate", entry.getEventEndDate());
+        if (entry.getTicketPrice() != null) {
+            generator.writeNumberField("ticketPrice", entry.getTicketPrice());
+        }
+        number("availableTickets", entry.getAvailableTickets());
+        number("totalCapacity", entry.getTotalCapacity());
+        if (entry.getActive() != null) {
+            generator.writeBooleanField("active", entry.getActive());
+        }
+        number("venueId", entry.getVenueId());
+        generator.writeStringField("venueName", entry.getVenueName());
+        generator.writeStringField("venueCity", entry.getVenueCity());
+        generator.writeStringField("venueCountry", entry.getVenueCountry());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    private void number(String field, Number value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value.longValue());
+        }
+    }
+
+    private void dateTime(String field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toString());
+        }
+    }
+}
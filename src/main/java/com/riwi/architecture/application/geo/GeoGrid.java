@@ -0,0 +1,380 @@
+package com.riwi.architecture.application.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rejilla de celdas de tamaño fijo en grados (equivale a un geohash de
+ * precisión fija): cada celda guarda sus venues en arreglos primitivos, así
+ * una consulta solo visita las celdas que cubren el área y recorre memoria
+ * contigua. No es seguro entre hilos.
+ *
+ * Cada venue se guarda también como vector unitario (x, y, z): la distancia
+ * en línea recta entre dos vectores crece con la de círculo máximo, así que
+ * filtrar y ordenar no necesita trigonometría por venue; solo los
+ * resultados se convierten a km.
+ *
+ * Las celdas se recorren en anillos desde la del punto de búsqueda y se
+ * corta en cuanto el anillo siguiente no puede mejorar a los 'limit' más
+ * cercanos encontrados: en una ciudad densa basta con pocas celdas aunque
+ * el radio sea grande.
+ */
+final class GeoGrid {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellOfVenue;
+
+    GeoGrid(double cellDegrees, int expectedSize) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180.0 / cellDegrees);
+        this.columns = (int) Math.ceil(360.0 / cellDegrees);
+        this.cellOfVenue = new HashMap<>(Math.max(16, expectedSize * 4 / 3));
+    }
+
+    int size() {
+        return cellOfVenue.size();
+    }
+
+    /**
+     * Agregar o mover un venue
+     */
+    void put(long venueId, double latitude, double longitude) {
+        remove(venueId);
+        long key = (long) row(latitude) * columns + column(longitude);
+        cells.computeIfAbsent(key, k -> new Cell()).add(venueId, latitude, longitude);
+        cellOfVenue.put(venueId, key);
+    }
+
+    void remove(long venueId) {
+        Long key = cellOfVenue.remove(venueId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(venueId);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Los 'limit' venues más cercanos dentro del radio, del más cercano al más lejano
+     */
+    List<VenueGeoIndex.Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double south = Math.max(-90.0, latitude - latitudeSpan);
+        double north = Math.min(90.0, latitude + latitudeSpan);
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+
+        // Cerca de un polo el círculo abarca todas las longitudes
+        int centerColumn = column(longitude);
+        int left = centerColumn;
+        int right = columns - 1 - centerColumn;
+        if (south > -90.0 && north < 90.0 && cosLatitude * 180.0 > latitudeSpan) {
+            int halfColumns = (int) Math.ceil(latitudeSpan / cosLatitude / cellDegrees) + 1;
+            if (2 * halfColumns + 1 < columns) {
+                left = halfColumns;
+                right = halfColumns;
+            }
+        }
+
+        double maxChord = 2.0 * Math.sin(Math.min(Math.PI, radiusKm / EARTH_RADIUS_KM) / 2.0);
+        double maxChordSquared = maxChord * maxChord;
+        Query query = new Query(latitude, longitude, limit) {
+            @Override
+            void visit(Cell cell) {
+                for (int i = 0; i < cell.size; i++) {
+                    double chordSquared = chordSquared(cell, i);
+                    if (chordSquared <= maxChordSquared) {
+                        offer(cell.ids[i], chordSquared);
+                    }
+                }
+            }
+        };
+        return nearestFirst(query, row(south), row(north), left, right);
+    }
+
+    /**
+     * Venues dentro del rectángulo, los más cercanos a su centro primero
+     * Si west > east el rectángulo cruza el antimeridiano
+     */
+    List<VenueGeoIndex.Hit> withinBox(double south, double west, double north, double east, int limit) {
+        double centerLatitude = (south + north) / 2.0;
+        double centerLongitude = west <= east
+                ? (west + east) / 2.0
+                : normalizeLongitude((west + east + 360.0) / 2.0);
+        boolean crossesAntimeridian = west > east;
+
+        int centerColumn = column(centerLongitude);
+        int left = Math.floorMod(centerColumn - column(west), columns);
+        int right = Math.floorMod(column(east) - centerColumn, columns);
+        if (left + right + 1 > columns) {
+            left = centerColumn;
+            right = columns - 1 - centerColumn;
+        }
+
+        Query query = new Query(centerLatitude, centerLongitude, limit) {
+            @Override
+            void visit(Cell cell) {
+                for (int i = 0; i < cell.size; i++) {
+                    double latitude = cell.latitudes[i];
+                    double longitude = cell.longitudes[i];
+                    boolean insideLongitude = crossesAntimeridian
+                            ? longitude >= west || longitude <= east
+                            : longitude >= west && longitude <= east;
+                    if (latitude >= south && latitude <= north && insideLongitude) {
+                        offer(cell.ids[i], chordSquared(cell, i));
+                    }
+                }
+            }
+        };
+        return nearestFirst(query, row(south), row(north), left, right);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Recorrer en anillos las filas [firstRow, lastRow] y las columnas desde
+     * 'left' a la izquierda hasta 'right' a la derecha de la del centro
+     * (dando la vuelta en el antimeridiano)
+     */
+    private List<VenueGeoIndex.Hit> nearestFirst(Query query, int firstRow, int lastRow, int left, int right) {
+        // Área mayor que la cantidad de celdas ocupadas: es más barato recorrer solo esas
+        if ((long) (lastRow - firstRow + 1) * (left + right + 1) > cells.size()) {
+            for (Cell cell : cells.values()) {
+                query.visit(cell);
+            }
+            return query.sorted();
+        }
+
+        int centerRow = row(query.latitude);
+        int centerColumn = column(query.longitude);
+        int maxRing = Math.max(Math.max(centerRow - firstRow, lastRow - centerRow), Math.max(left, right));
+        // La latitud más alejada del ecuador es la que más achica los grados de longitud
+        double cosPolewards = Math.cos(Math.toRadians(Math.min(90.0, Math.max(
+                Math.abs(latitudeOf(firstRow)), Math.abs(latitudeOf(lastRow + 1))))));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (ring >= 2 && query.isFull() && ringLowerBoundKm(ring - 1, cosPolewards) > query.worstKm()) {
+                break;
+            }
+            for (int r = Math.max(firstRow, centerRow - ring); r <= Math.min(lastRow, centerRow + ring); r++) {
+                if (Math.abs(r - centerRow) == ring) {
+                    for (int offset = -Math.min(ring, left); offset <= Math.min(ring, right); offset++) {
+                        visit(query, r, Math.floorMod(centerColumn + offset, columns));
+                    }
+                } else {
+                    if (ring <= left) {
+                        visit(query, r, Math.floorMod(centerColumn - ring, columns));
+                    }
+                    if (ring <= right) {
+                        visit(query, r, Math.floorMod(centerColumn + ring, columns));
+                    }
+                }
+            }
+        }
+        return query.sorted();
+    }
+
+    private void visit(Query query, int row, int column) {
+        Cell cell = cells.get((long) row * columns + column);
+        if (cell != null) {
+            query.visit(cell);
+        }
+    }
+
+    /**
+     * Distancia mínima posible a un venue separado por 'cellsApart' celdas
+     * completas (en latitud o en longitud, la menor de las dos cotas)
+     */
+    private double ringLowerBoundKm(int cellsApart, double cosPolewards) {
+        double gap = Math.toRadians(cellsApart * cellDegrees);
+        double byLatitude = EARTH_RADIUS_KM * gap;
+        double byLongitude = 2.0 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, cosPolewards * Math.sin(gap / 2.0)));
+        return Math.min(byLatitude, byLongitude);
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90.0) / cellDegrees)));
+    }
+
+    private int column(double longitude) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor((longitude + 180.0) / cellDegrees)));
+    }
+
+    private double latitudeOf(int row) {
+        return row * cellDegrees - 90.0;
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        double shifted = (longitude + 180.0) % 360.0;
+        return (shifted < 0 ? shifted + 360.0 : shifted) - 180.0;
+    }
+
+    /**
+     * Km de círculo máximo a partir de la distancia en línea recta (al cuadrado)
+     */
+    private static double chordToKm(double chordSquared) {
+        return 2.0 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(chordSquared) / 2.0));
+    }
+
+    /**
+     * Venues de una celda en arreglos paralelos; el borrado mueve el último al hueco
+     */
+    private static final class Cell {
+
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private double[] xs = new double[4];
+        private double[] ys = new double[4];
+        private double[] zs = new double[4];
+        private int size;
+
+        void add(long id, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+            }
+            double phi = Math.toRadians(latitude);
+            double lambda = Math.toRadians(longitude);
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            xs[size] = Math.cos(phi) * Math.cos(lambda);
+            ys[size] = Math.cos(phi) * Math.sin(lambda);
+            zs[size] = Math.sin(phi);
+            size++;
+        }
+
+        void remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    size--;
+                    ids[i] = ids[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    xs[i] = xs[size];
+                    ys[i] = ys[size];
+                    zs[i] = zs[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Consulta en curso: el punto de referencia, el filtro de cada celda
+     * ('visit') y los k más cercanos en un montículo de máximos sobre
+     * arreglos primitivos (la raíz es el más lejano de los que van quedando)
+     */
+    private abstract static class Query {
+
+        final double latitude;
+        final double longitude;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private final long[] ids;
+        private final double[] chords;
+        private int size;
+
+        Query(double latitude, double longitude, int limit) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            double phi = Math.toRadians(latitude);
+            double lambda = Math.toRadians(longitude);
+            this.x = Math.cos(phi) * Math.cos(lambda);
+            this.y = Math.cos(phi) * Math.sin(lambda);
+            this.z = Math.sin(phi);
+            this.ids = new long[limit];
+            this.chords = new double[limit];
+        }
+
+        abstract void visit(Cell cell);
+
+        final double chordSquared(Cell cell, int i) {
+            double dx = cell.xs[i] - x;
+            double dy = cell.ys[i] - y;
+            double dz = cell.zs[i] - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        final boolean isFull() {
+            return size == ids.length;
+        }
+
+        final double worstKm() {
+            return chordToKm(chords[0]);
+        }
+
+        final void offer(long id, double chord) {
+            if (size < ids.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (chords[parent] >= chord) {
+                        break;
+                    }
+                    ids[i] = ids[parent];
+                    chords[i] = chords[parent];
+                    i = parent;
+                }
+                ids[i] = id;
+                chords[i] = chord;
+            } else if (size > 0 && chord < chords[0]) {
+                siftDown(id, chord);
+            }
+        }
+
+        private void siftDown(long id, double chord) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && chords[child + 1] > chords[child]) {
+                    child++;
+                }
+                if (chords[child] <= chord) {
+                    break;
+                }
+                ids[i] = ids[child];
+                chords[i] = chords[child];
+                i = child;
+            }
+            ids[i] = id;
+            chords[i] = chord;
+        }
+
+        final List<VenueGeoIndex.Hit> sorted() {
+            List<VenueGeoIndex.Hit> hits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                hits.add(new VenueGeoIndex.Hit(ids[i], chordToKm(chords[i])));
+            }
+            hits.sort((a, b) -> a.distanceKm() != b.distanceKm()
+                    ? Double.compare(a.distanceKm(), b.distanceKm())
+                    : Long.compare(a.venueId(), b.venueId()));
+            return hits;
+        }
+    }
+}
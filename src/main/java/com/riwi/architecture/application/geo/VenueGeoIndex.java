@@ -0,0 +1,185 @@
+package com.riwi.architecture.application.geo;
+
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.model.VenueLocation;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice espacial en memoria de los venues activos con coordenadas
+ * CAPA DE APLICACIÓN - Las búsquedas por cercanía se resuelven en un
+ * {@link GeoGrid} sin tocar la base; solo los venues encontrados se leen
+ * del repositorio.
+ *
+ * Se carga en la primera consulta (solo id, latitud y longitud) y los casos
+ * de uso de venues lo mantienen al día al confirmar cada cambio. La recarga
+ * periódica recoge cambios de otras instancias.
+ */
+@Component
+public class VenueGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueGeoIndex.class);
+
+    private final VenueRepository venueRepository;
+    private final double cellDegrees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Una sola reconstrucción a la vez; ReentrantLock y no synchronized porque
+    // espera a la base (un hilo virtual no queda fijado a su portador)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private GeoGrid grid;
+
+    // Cambios locales ocurridos durante una recarga: se reaplican sobre la rejilla nueva
+    private final Map<Long, Venue> changedDuringReload = new ConcurrentHashMap<>();
+    private volatile boolean reloading;
+    private volatile boolean loaded;
+
+    public VenueGeoIndex(VenueRepository venueRepository,
+                         @Value("${venues.geo.cell-degrees:0.1}") double cellDegrees) {
+        this.venueRepository = venueRepository;
+        this.cellDegrees = cellDegrees;
+        this.grid = new GeoGrid(cellDegrees, 0);
+    }
+
+    /**
+     * Venues a menos de 'radiusKm' del punto, del más cercano al más lejano
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return grid.withinRadius(latitude, longitude, radiusKm, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Venues dentro del rectángulo (west > east cruza el antimeridiano)
+     */
+    public List<Hit> withinBox(double south, double west, double north, double east, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return grid.withinBox(south, west, north, east, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== CAMBIOS DE VENUES ====================
+
+    /**
+     * Venue creado o actualizado (al confirmar); si quedó inactivo o sin
+     * coordenadas sale del índice
+     */
+    public void venueSaved(Venue venue) {
+        AfterCommit.run(() -> apply(venue.getId(), venue));
+    }
+
+    public void venueRemoved(Long venueId) {
+        AfterCommit.run(() -> apply(venueId, null));
+    }
+
+    // ==================== CARGA ====================
+
+    /**
+     * Reconstruir desde la base; las consultas siguen usando la rejilla
+     * anterior hasta el reemplazo
+     */
+    @Scheduled(fixedDelayString = "${venues.geo.reload-interval-ms:600000}")
+    public void reload() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not reload venue geo index", e);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!loaded) {
+                rebuild();
+                loaded = true;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        rebuildLock.lock();
+        reloading = true;
+        changedDuringReload.clear();
+        try {
+            List<VenueLocation> locations = venueRepository.findAllLocations();
+            GeoGrid fresh = new GeoGrid(cellDegrees, locations.size());
+            for (VenueLocation location : locations) {
+                fresh.put(location.getVenueId(), location.getLatitude(), location.getLongitude());
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Venue> change : changedDuringReload.entrySet()) {
+                    put(fresh, change.getKey(), change.getValue());
+                }
+                grid = fresh;
+                reloading = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Venue geo index loaded with {} venues", fresh.size());
+        } finally {
+            reloading = false;
+            changedDuringReload.clear();
+            rebuildLock.unlock();
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void apply(Long venueId, Venue venue) {
+        lock.writeLock().lock();
+        try {
+            put(grid, venueId, venue);
+            if (reloading) {
+                // Un venue borrado se marca con un Venue vacío (el mapa no admite null)
+                changedDuringReload.put(venueId, venue != null ? venue : new Venue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void put(GeoGrid target, Long venueId, Venue venue) {
+        if (venue != null && Boolean.TRUE.equals(venue.getActive()) && venue.isLocated()) {
+            target.put(venueId, venue.getLatitude(), venue.getLongitude());
+        } else {
+            target.remove(venueId);
+        }
+    }
+
+    /**
+     * Resultado de una consulta: venue y distancia en km
+     */
+    public record Hit(long venueId, double distanceKm) {
+    }
+}
@@ -0,0 +1,254 @@
+package com.riwi.architecture.application.idempotency;
+
+import com.riwi.architecture.domain.exceptions.EventNotFoundException;
+import com.riwi.architecture.domain.exceptions.IdempotencyKeyConflictException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.model.TicketOperation;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Deduplicación de operaciones de tickets por clave de idempotencia
+ * CAPA DE APLICACIÓN - Una repetición de la misma clave devuelve el resultado
+ * original en lugar de vender/devolver otra vez.
+ *
+ * Dos niveles:
+ * - Memoria: mapa concurrente acotado (expulsión FIFO) con el resultado
+ *   completo; una repetición reciente se resuelve sin tocar el repositorio,
+ *   y las repeticiones simultáneas esperan a la petición original.
+ * - Repositorio: la clave se reclama con un INSERT antes de ejecutar la
+ *   operación, así dos instancias nunca ejecutan la misma clave.
+ *
+ * El resultado se escribe en la MISMA transacción que el cambio de stock y
+ * su movimiento del libro (la operación recibe con qué escribirlo): clave
+ * completada y venta confirmada van juntas. Si la operación falla la clave
+ * se libera para que el cliente pueda reintentar.
+ *
+ * Un reclamo pendiente nunca se vuelve a ejecutar: su venta puede estar en
+ * curso o sin escribir todavía (el inventario en memoria la escribe en su
+ * flush). Pasado 'pending-timeout-ms' se responde que el resultado es
+ * desconocido y el cliente debe revisar el evento antes de usar otra clave.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final EventRepository eventRepository;
+    private final int maxEntries;
+    private final Duration retention;
+    private final Duration pendingTimeout;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyStore(IdempotencyRepository idempotencyRepository,
+                            EventRepository eventRepository,
+                            @Value("${tickets.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${tickets.idempotency.retention-hours:24}") long retentionHours,
+                            @Value("${tickets.idempotency.pending-timeout-ms:300000}") long pendingTimeoutMillis) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.eventRepository = eventRepository;
+        this.maxEntries = maxEntries;
+        this.retention = Duration.ofHours(retentionHours);
+        this.pendingTimeout = Duration.ofMillis(pendingTimeoutMillis);
+    }
+
+    /**
+     * Ejecutar 'operation' una sola vez por clave; las repeticiones reciben el resultado original
+     * 'action' recibe con qué escribir el resultado (los tickets que quedan) y
+     * debe llamarlo dentro de la transacción que cambia el stock
+     */
+    public Event execute(String key, TicketOperation operation, Long eventId, int quantity,
+                         Function<IntConsumer, Event> action) {
+        validateKey(key);
+
+        Entry mine = new Entry(key, operation, eventId, quantity);
+        Entry existing = entries.putIfAbsent(key, mine);
+        if (existing != null && !existing.isExpired(retention)) {
+            if (!existing.matches(operation, eventId, quantity)) {
+                throw IdempotencyKeyConflictException.reusedKey(key);
+            }
+            return await(existing.result);
+        }
+        if (existing != null) {
+            // Entrada vencida: reemplazarla por la nuestra
+            if (!entries.replace(key, existing, mine)) {
+                return execute(key, operation, eventId, quantity, action);
+            }
+        }
+        insertionOrder.add(mine);
+        evictOverflow();
+
+        try {
+            Event result = claimAndRun(key, operation, eventId, quantity, action);
+            mine.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            // Sin resultado que recordar: la clave queda libre para un reintento
+            entries.remove(key, mine);
+            insertionOrder.remove(mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Borrar del repositorio los registros más antiguos que la retención
+     */
+    @Scheduled(fixedDelayString = "${tickets.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = idempotencyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("Purged {} idempotency records", deleted);
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Event claimAndRun(String key, TicketOperation operation, Long eventId, int quantity,
+                              Function<IntConsumer, Event> action) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord(key, operation, eventId, quantity, null, now, null);
+
+        // Camino habitual: clave nueva, un solo INSERT antes de operar
+        if (!idempotencyRepository.claim(record)) {
+            return replay(key, operation, eventId, quantity, action);
+        }
+
+        return runClaimed(key, action);
+    }
+
+    /**
+     * Si la operación falla, su transacción (con el resultado) se revirtió
+     * entera: la clave queda libre
+     */
+    private Event runClaimed(String key, Function<IntConsumer, Event> action) {
+        try {
+            return action.apply(available -> idempotencyRepository.complete(key, available, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(key);
+            throw e;
+        }
+    }
+
+    /**
+     * La clave ya estaba en el repositorio (otra instancia o memoria expulsada)
+     */
+    private Event replay(String key, TicketOperation operation, Long eventId, int quantity,
+                         Function<IntConsumer, Event> action) {
+        Optional<IdempotencyRecord> stored = idempotencyRepository.findByKey(key);
+        if (stored.isEmpty()) {
+            // Se liberó entre el INSERT fallido y la lectura: la petición original falló
+            return claimAndRun(key, operation, eventId, quantity, action);
+        }
+
+        IdempotencyRecord record = stored.get();
+        if (!record.matches(operation, eventId, quantity)) {
+            throw IdempotencyKeyConflictException.reusedKey(key);
+        }
+        if (!record.isCompleted()) {
+            // Sin resultado escrito: la venta no se confirmó o aún no se escribe; nunca se repite
+            if (record.getCreatedAt().isBefore(LocalDateTime.now().minus(pendingTimeout))) {
+                log.warn("Idempotency key {} is still pending after {}; its outcome is unknown", key, pendingTimeout);
+                throw IdempotencyKeyConflictException.outcomeUnknown(key);
+            }
+            throw IdempotencyKeyConflictException.inProgress(key);
+        }
+
+        // Resultado original: el evento con los tickets que quedaron tras la operación
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        event.setAvailableTickets(record.getAvailableTickets());
+        event.setUpdatedAt(record.getCompletedAt());
+        return event;
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            // Entrada ya reemplazada por una más nueva de la misma clave
+            if (entries.get(oldest.key) != oldest) {
+                continue;
+            }
+            // Las que siguen en curso se conservan: sus repeticiones deben esperarlas
+            if (oldest.result.isDone()) {
+                entries.remove(oldest.key, oldest);
+            } else {
+                insertionOrder.add(oldest);
+                return;
+            }
+        }
+    }
+
+    private static Event await(CompletableFuture<Event> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new InvalidEventDataException("idempotencyKey", "Is mandatory");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidEventDataException("idempotencyKey",
+                "Cannot exceed " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Huella de la petición original y su resultado (compartido con las repeticiones)
+     */
+    private static final class Entry {
+        private final String key;
+        private final TicketOperation operation;
+        private final Long eventId;
+        private final int quantity;
+        private final long createdAtNanos = System.nanoTime();
+        private final CompletableFuture<Event> result = new CompletableFuture<>();
+
+        private Entry(String key, TicketOperation operation, Long eventId, int quantity) {
+            this.key = key;
+            this.operation = operation;
+            this.eventId = eventId;
+            this.quantity = quantity;
+        }
+
+        private boolean matches(TicketOperation operation, Long eventId, int quantity) {
+            return this.operation == operation && this.eventId.equals(eventId) && this.quantity == quantity;
+        }
+
+        private boolean isExpired(Duration retention) {
+            return System.nanoTime() - createdAtNanos > retention.toNanos();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.riwi.architecture.application.importer;
+
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser CSV (RFC 4180 sin saltos de línea dentro de un campo)
+ * La primera línea es la cabecera; las columnas pueden venir en cualquier orden:
+ * name, description, eventDate, eventEndDate, category, ticketPrice, totalCapacity, venueId
+ */
+public class CsvEventLineParser implements EventLineParser {
+
+    private Map<String, Integer> columns;
+
+    @Override
+    public boolean consumeHeader(String line) {
+        if (columns != null) {
+            return false;
+        }
+        List<String> names;
+        try {
+            names = split(stripByteOrderMark(line));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEventDataException("header", e.getMessage());
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!name.isEmpty() && header.putIfAbsent(name, i) != null) {
+                throw new InvalidEventDataException("header", "Duplicated column '" + name + "'");
+            }
+        }
+        if (!header.containsKey("name")) {
+            throw new InvalidEventDataException("header", "Must contain at least the 'name' column");
+        }
+        columns = header;
+        return true;
+    }
+
+    @Override
+    public Event parse(String line) {
+        List<String> fields = split(line);
+
+        Event event = new Event();
+        event.setName(text(fields, "name"));
+        event.setDescription(text(fields, "description"));
+        event.setEventDate(dateTime(fields, "eventDate"));
+        event.setEventEndDate(dateTime(fields, "eventEndDate"));
+        event.setCategory(text(fields, "category"));
+        String price = text(fields, "ticketPrice");
+        event.setTicketPrice(price != null ? new BigDecimal(price) : null);
+        String capacity = text(fields, "totalCapacity");
+        event.setTotalCapacity(capacity != null ? Integer.valueOf(capacity) : null);
+        String venueId = text(fields, "venueId");
+        event.setVenueId(venueId != null ? Long.valueOf(venueId) : null);
+        return event;
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private String text(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private LocalDateTime dateTime(List<String> fields, String column) {
+        String value = text(fields, column);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    /**
+     * Separar por comas respetando comillas dobles ("" escapa una comilla)
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
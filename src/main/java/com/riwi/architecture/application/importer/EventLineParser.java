@@ -0,0 +1,20 @@
+package com.riwi.architecture.application.importer;
+
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+
+/**
+ * Convierte una línea del archivo de importación en un Event
+ * Lanza IllegalArgumentException si la línea no tiene el formato esperado
+ */
+public interface EventLineParser {
+
+    /**
+     * @return true si la línea es de cabecera y debe saltarse
+     * @throws InvalidEventDataException si la cabecera no es válida (no se
+     *         puede leer ninguna línea del archivo)
+     */
+    boolean consumeHeader(String line);
+
+    Event parse(String line);
+}
@@ -0,0 +1,35 @@
+package com.riwi.architecture.application.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.riwi.architecture.domain.model.Event;
+
+/**
+ * Parser NDJSON: cada línea es un objeto JSON con los campos de Event
+ * Los campos desconocidos se ignoran; las fechas van en ISO-8601
+ */
+public class NdjsonEventLineParser implements EventLineParser {
+
+    private final ObjectReader reader;
+
+    public NdjsonEventLineParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(Event.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public boolean consumeHeader(String line) {
+        return false;
+    }
+
+    @Override
+    public Event parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.exceptions.*;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+
+/**
+ * Agrupación de ventas concurrentes sobre un mismo evento (request coalescing)
+ * CAPA DE APLICACIÓN - Cuando muchas peticiones venden del mismo evento a la
+ * vez, la primera en llegar se convierte en "líder": espera una ventana corta
+ * para que se sumen otras, aplica el lote en orden sobre el conteo actual
+ * dentro de UNA transacción y escribe el evento UNA sola vez, junto con un
+ * movimiento del libro de tickets por cada venta aceptada.
+ *
+ * Cada líder atiende un solo lote (como mucho 'max-batch-size' ventas) y
+ * pasa el turno a la petición más antigua que sigue esperando: ninguna
+ * petición queda atendiendo la cola de otras mientras siga llegando tráfico.
+ *
+ * Cada petición recibe su propio resultado: el evento con los tickets que
+ * quedaban tras su venta, o la excepción que le corresponde
+ * (InsufficientTicketsException si ya no alcanzaba para ella).
+ *
+ * Solo se usa cuando el inventario en memoria está desactivado; con él activo
+ * las ventas ya no escriben en el repositorio por petición.
+ */
+@Component
+public class SellRequestCoalescer {
+
+    private final EventRepository eventRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TicketLedger ticketLedger;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public SellRequestCoalescer(EventRepository eventRepository,
+                                OptimisticRetryExecutor retryExecutor,
+                                TicketLedger ticketLedger,
+                                @Value("${tickets.coalescing.enabled:true}") boolean enabled,
+                                @Value("${tickets.coalescing.window-ms:2}") long windowMillis,
+                                @Value("${tickets.coalescing.max-batch-size:256}") int maxBatchSize) {
+        this.eventRepository = eventRepository;
+        this.retryExecutor = retryExecutor;
+        this.ticketLedger = ticketLedger;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Vender 'quantity' tickets sumándose al lote en curso del evento
+     */
+    public Event sell(Long eventId, int quantity) {
+        return sell(eventId, quantity, null);
+    }
+
+    /**
+     * Igual que {@link #sell(Long, int)}; 'inTransaction' (si no es null)
+     * recibe los tickets que quedan dentro de la transacción del lote
+     */
+    public Event sell(Long eventId, int quantity, IntConsumer inTransaction) {
+        PendingSale sale = new PendingSale(quantity, inTransaction);
+        Lane lane = lanes.computeIfAbsent(eventId, id -> new Lane());
+        lane.queue.add(sale);
+
+        // Quien logra marcar el carril como "en proceso" atiende un lote
+        if (lane.draining.compareAndSet(false, true)) {
+            leadOnce(eventId, lane);
+        }
+        // Esperar el resultado o el turno de atender el siguiente lote
+        boolean interrupted = false;
+        while (!sale.result.isDone()) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                interrupted = true;
+            }
+            if (!sale.result.isDone() && lane.draining.compareAndSet(false, true)) {
+                leadOnce(eventId, lane);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return await(sale.result);
+    }
+
+    // ==================== LÍDER DEL LOTE ====================
+
+    /**
+     * Atender un solo lote y pasar el turno
+     * Se suelta el carril antes de mirar la cola: quien encole después lo
+     * encuentra libre, y quien ya estaba encolado recibe el turno aquí
+     */
+    private void leadOnce(Long eventId, Lane lane) {
+        try {
+            // Ventana corta para que se sumen las peticiones concurrentes
+            if (windowNanos > 0) {
+                LockSupport.parkNanos(windowNanos);
+            }
+            List<PendingSale> batch = drain(lane);
+            if (!batch.isEmpty()) {
+                apply(eventId, batch);
+            }
+        } finally {
+            lane.draining.set(false);
+        }
+
+        PendingSale next = lane.queue.peek();
+        if (next != null) {
+            next.wake();
+        } else {
+            // Carril ocioso: quien aún lo tenga tomado se hará líder de él
+            lanes.remove(eventId, lane);
+        }
+    }
+
+    private List<PendingSale> drain(Lane lane) {
+        List<PendingSale> batch = new ArrayList<>(Math.min(maxBatchSize, 64));
+        PendingSale sale;
+        while (batch.size() < maxBatchSize && (sale = lane.queue.poll()) != null) {
+            batch.add(sale);
+        }
+        return batch;
+    }
+
+    /**
+     * Aplicar el lote en orden de llegada con una sola lectura y una sola escritura
+     */
+    private void apply(Long eventId, List<PendingSale> batch) {
+        List<Object> outcomes;
+        try {
+            outcomes = retryExecutor.execute(() -> sellInOrder(eventId, batch));
+        } catch (RuntimeException e) {
+            // Fallo común al lote (evento inexistente, inactivo, pasado o conflicto persistente)
+            for (PendingSale sale : batch) {
+                sale.fail(e);
+            }
+            return;
+        }
+
+        // Completar a cada petición solo tras confirmar la transacción
+        for (int i = 0; i < batch.size(); i++) {
+            Object outcome = outcomes.get(i);
+            if (outcome instanceof RuntimeException failure) {
+                batch.get(i).fail(failure);
+            } else {
+                batch.get(i).complete((Event) outcome);
+            }
+        }
+    }
+
+    private List<Object> sellInOrder(Long eventId, List<PendingSale> batch) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        if (event.getActive() == null || !event.getActive()) {
+            throw new EventInactiveException(eventId);
+        }
+
+        int available = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+        LocalDateTime now = LocalDateTime.now();
+        boolean past = TicketRules.isPast(event, now);
+
+        List<Object> outcomes = new ArrayList<>(batch.size());
+        int sold = 0;
+        for (PendingSale sale : batch) {
+            if (available < sale.quantity) {
+                outcomes.add(new InsufficientTicketsException(sale.quantity, available));
+            } else if (past) {
+                outcomes.add(new PastEventException(eventId));
+            } else {
+                available -= sale.quantity;
+                sold += sale.quantity;
+                outcomes.add(available);
+            }
+        }
+
+        // Una sola escritura por lote (y ninguna si nada se vendió)
+        Event saved = event;
+        if (sold > 0) {
+            event.setAvailableTickets(available);
+            event.setUpdatedAt(now);
+            saved = eventRepository.save(event);
+        }
+
+        List<TicketMovement> movements = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) instanceof Integer remaining) {
+                movements.add(new TicketMovement(null, eventId, TicketMovementType.SELL,
+                        -batch.get(i).quantity, now));
+                outcomes.set(i, TicketRules.withAvailableTickets(saved, remaining, saved.getUpdatedAt()));
+            }
+        }
+        ticketLedger.record(movements);
+
+        // Resultados de las claves de idempotencia, en la misma transacción que el lote
+        for (int i = 0; i < outcomes.size(); i++) {
+            IntConsumer inTransaction = batch.get(i).inTransaction;
+            if (inTransaction != null && outcomes.get(i) instanceof Event response) {
+                inTransaction.accept(response.getAvailableTickets());
+            }
+        }
+        return outcomes;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Event await(CompletableFuture<Event> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cola de ventas pendientes de un evento y marca de líder activo
+     */
+    private static final class Lane {
+        private final ConcurrentLinkedQueue<PendingSale> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    /**
+     * Venta en espera y el hilo que la pidió (se despierta con su resultado o con el turno)
+     */
+    private static final class PendingSale {
+        private final int quantity;
+        private final IntConsumer inTransaction;
+        private final Thread waiter = Thread.currentThread();
+        private final CompletableFuture<Event> result = new CompletableFuture<>();
+
+        private PendingSale(int quantity, IntConsumer inTransaction) {
+            this.quantity = quantity;
+            this.inTransaction = inTransaction;
+        }
+
+        private void complete(Event event) {
+            result.complete(event);
+            wake();
+        }
+
+        private void fail(RuntimeException failure) {
+            result.completeExceptionally(failure);
+            wake();
+        }
+
+        private void wake() {
+            LockSupport.unpark(waiter);
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.exceptions.*;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.InventoryShard;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.InventoryShardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Inventario repartido en porciones para eventos muy grandes
+ * CAPA DE APLICACIÓN - Con totalCapacity por encima del umbral, la capacidad
+ * se divide en K porciones persistidas como filas separadas. Cada venta
+ * elige una porción al azar por hilo y, si está agotada, prueba las demás;
+ * así las ventas concurrentes no disputan una única fila.
+ *
+ * availableTickets del evento pasa a ser un agregado perezoso: se corrige
+ * con la suma de las porciones en {@link #reconcile()}. Entre dos pasadas
+ * los eventos devueltos lo ajustan con las ventas locales pendientes.
+ *
+ * Cada porción tiene su propia capacidad y la suma de capacidades es
+ * totalCapacity, así que una devolución nunca puede superarla.
+ *
+ * Cada venta o devolución descuenta las porciones y asienta su movimiento
+ * en el libro de tickets en una misma transacción. Las ventas locales
+ * pendientes se anotan solo tras confirmarla: una venta revertida no cuenta.
+ */
+@Component
+public class ShardedInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedInventory.class);
+
+    private final InventoryShardRepository shardRepository;
+    private final EventRepository eventRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TicketLedger ticketLedger;
+    private final TransactionTemplate shardCreation;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int capacityThreshold;
+    private final long snapshotTtlNanos;
+
+    private final ConcurrentHashMap<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyEventIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> plainEventIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, CachedEvent> shardedEvents = new ConcurrentHashMap<>();
+
+    public ShardedInventory(InventoryShardRepository shardRepository,
+                            EventRepository eventRepository,
+                            OptimisticRetryExecutor retryExecutor,
+                            TicketLedger ticketLedger,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${tickets.sharding.enabled:false}") boolean enabled,
+                            @Value("${tickets.sharding.shard-count:16}") int shardCount,
+                            @Value("${tickets.sharding.capacity-threshold:80000}") int capacityThreshold,
+                            @Value("${tickets.sharding.reconcile-interval-ms:1000}") long reconcileIntervalMillis) {
+        this.shardRepository = shardRepository;
+        this.eventRepository = eventRepository;
+        this.retryExecutor = retryExecutor;
+        this.ticketLedger = ticketLedger;
+        this.shardCreation = new TransactionTemplate(transactionManager);
+        this.shardCreation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.capacityThreshold = capacityThreshold;
+        this.snapshotTtlNanos = Duration.ofMillis(reconcileIntervalMillis).toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Solo los eventos con capacidad igual o mayor al umbral se reparten
+     */
+    public boolean manages(Event event) {
+        return enabled && event.getTotalCapacity() != null
+                && event.getTotalCapacity() >= capacityThreshold;
+    }
+
+    /**
+     * El evento ya leído si su inventario está repartido; null si no lo está
+     * (o no existe: el camino normal reporta el evento inexistente)
+     *
+     * totalCapacity no cambia tras crear el evento, así que la decisión se
+     * recuerda en los dos sentidos. Los eventos que no se reparten no vuelven
+     * a leerse aquí; los repartidos guardan el evento leído (sus límites y la
+     * respuesta) y se releen como mucho una vez por intervalo de
+     * reconciliación, el mismo retraso con que llega el conteo persistido.
+     */
+    public Event managedEvent(Long eventId) {
+        if (!enabled || plainEventIds.contains(eventId)) {
+            return null;
+        }
+        CachedEvent cached = shardedEvents.get(eventId);
+        if (cached != null && cached.isFresh(snapshotTtlNanos)) {
+            return cached.event();
+        }
+
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            shardedEvents.remove(eventId);
+            return null;
+        }
+        if (manages(event)) {
+            shardedEvents.put(eventId, CachedEvent.of(event));
+            return event;
+        }
+        plainEventIds.add(eventId);
+        return null;
+    }
+
+    /**
+     * Vender desde una porción; si ninguna alcanza sola, repartir la venta entre varias
+     */
+    public Event sell(Event event, int quantity) {
+        return sell(event, quantity, null);
+    }
+
+    /**
+     * Igual que {@link #sell(Event, int)}; 'inTransaction' (si no es null)
+     * recibe el agregado que queda dentro de la transacción de la venta
+     */
+    public Event sell(Event event, int quantity, IntConsumer inTransaction) {
+        checkSellable(event);
+        return take(event, quantity, () -> ticketLedger.recordSale(event.getId(), quantity), inTransaction);
+    }
+
+    /**
+     * Apartar tickets para una reserva: mismas reglas que la venta, con un
+     * movimiento HOLD (sin hecho de venta)
+     */
+    public Event hold(Event event, int quantity, IntConsumer inTransaction) {
+        checkSellable(event);
+        return take(event, quantity, () -> ticketLedger.recordHold(event.getId(), quantity), inTransaction);
+    }
+
+    /**
+     * Igual que {@link #sell(Event, int)} pero dentro de la transacción de
+     * quien llama (el carrito) y sin reintento propio: si falla, la
+     * excepción revierte esa transacción y la reintenta quien la abrió
+     */
+    public Event sellInCurrentTransaction(Event event, int quantity) {
+        Long eventId = event.getId();
+        checkSellable(event);
+
+        int shards = ensureShards(event);
+        takeFromShards(eventId, shards, quantity);
+        ticketLedger.recordSale(eventId, quantity);
+        return recorded(event, -quantity);
+    }
+
+    /**
+     * Devolver a una porción con espacio; si ninguna alcanza sola, repartir entre varias
+     */
+    public Event refund(Event event, int quantity) {
+        return refund(event, quantity, null);
+    }
+
+    /**
+     * Igual que {@link #refund(Event, int)}; 'inTransaction' (si no es null)
+     * recibe el agregado que queda dentro de la transacción de la devolución
+     */
+    public Event refund(Event event, int quantity, IntConsumer inTransaction) {
+        return giveBack(event, quantity, () -> ticketLedger.recordRefund(event.getId(), quantity), inTransaction);
+    }
+
+    /**
+     * Devolver los tickets de una reserva vencida o liberada (movimiento RELEASE)
+     */
+    public Event releaseHold(Event event, int quantity, IntConsumer inTransaction) {
+        return giveBack(event, quantity, () -> ticketLedger.recordHoldReleased(event.getId(), quantity),
+                inTransaction);
+    }
+
+    /**
+     * Convertir una reserva en venta: las porciones no cambian, solo se asientan
+     * la devolución de lo apartado y la venta
+     */
+    public void confirmHold(Event event, int quantity, IntConsumer inTransaction) {
+        retryExecutor.run(() -> {
+            ticketLedger.recordHoldConfirmed(event.getId(), quantity);
+            inTransaction.accept(aggregated(event, 0));
+        });
+    }
+
+    /**
+     * Evento con el agregado de tickets disponibles visto desde esta instancia
+     */
+    public Event view(Event event) {
+        return TicketRules.withAvailableTickets(event, aggregated(event, 0), LocalDateTime.now());
+    }
+
+    public boolean manages(EventInventoryView view) {
+        return enabled && view.getTotalCapacity() >= capacityThreshold;
+    }
+
+    /**
+     * Conteo agregado de {@link #view(Event)} sin armar el Event
+     */
+    public int availableTickets(EventInventoryView view) {
+        AtomicInteger pending = pendingDeltas.get(view.getId());
+        int value = view.getAvailableTickets() + (pending != null ? pending.get() : 0);
+        return Math.max(0, Math.min(value, view.getTotalCapacity()));
+    }
+
+    /**
+     * Borrar las porciones de un evento eliminado
+     */
+    public void evict(Long eventId) {
+        shardCounts.remove(eventId);
+        plainEventIds.remove(eventId);
+        shardedEvents.remove(eventId);
+        pendingDeltas.remove(eventId);
+        dirtyEventIds.remove(eventId);
+        if (enabled) {
+            shardRepository.deleteByEventId(eventId);
+        }
+    }
+
+    /**
+     * Escribir en el evento la suma real de sus porciones
+     */
+    @Scheduled(fixedDelayString = "${tickets.sharding.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        // Foto de los pendientes: lo que se marque durante la pasada espera a la siguiente
+        for (Long eventId : new ArrayList<>(dirtyEventIds)) {
+            dirtyEventIds.remove(eventId);
+
+            AtomicInteger pending = pendingDeltas.get(eventId);
+            int delta = pending != null ? pending.get() : 0;
+            try {
+                Event saved = retryExecutor.execute(() -> {
+                    Event event = eventRepository.findById(eventId)
+                            .orElseThrow(() -> new EventNotFoundException(eventId));
+                    event.setAvailableTickets(shardRepository.sumAvailableTickets(eventId));
+                    event.setUpdatedAt(LocalDateTime.now());
+                    return eventRepository.save(event);
+                });
+                // El evento recordado pasa a tener la suma antes de descontarla de los pendientes
+                shardedEvents.put(eventId, CachedEvent.of(saved));
+                // Lo vendido mientras se sumaba queda pendiente para la próxima pasada
+                if (pending != null && pending.addAndGet(-delta) != 0) {
+                    dirtyEventIds.add(eventId);
+                }
+            } catch (EventNotFoundException e) {
+                evict(eventId);
+            } catch (RuntimeException e) {
+                // Se reintenta en la siguiente pasada
+                dirtyEventIds.add(eventId);
+                log.warn("Could not reconcile sharded inventory for event {}", eventId, e);
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static void checkSellable(Event event) {
+        if (event.getActive() == null || !event.getActive()) {
+            throw new EventInactiveException(event.getId());
+        }
+        if (TicketRules.isPast(event, LocalDateTime.now())) {
+            throw new PastEventException(event.getId());
+        }
+    }
+
+    /**
+     * Crear las porciones la primera vez que se vende o devuelve del evento
+     * Si otra instancia las crea a la vez, la restricción única decide y se releen
+     *
+     * Se crean en una transacción propia (REQUIRES_NEW): quedan confirmadas
+     * aunque se revierta la venta que las pidió (el carrito), y el choque con
+     * la restricción única no marca para revertir la transacción de quien llama.
+     * Se reparten desde el evento releído, no desde el recordado.
+     */
+    private int ensureShards(Event event) {
+        Long eventId = event.getId();
+        Integer known = shardCounts.get(eventId);
+        if (known != null) {
+            return known;
+        }
+
+        List<InventoryShard> existing = shardRepository.findByEventId(eventId);
+        if (existing.isEmpty()) {
+            try {
+                existing = shardCreation.execute(status -> {
+                    List<InventoryShard> created = split(eventRepository.findById(eventId)
+                            .orElseThrow(() -> new EventNotFoundException(eventId)));
+                    shardRepository.saveAll(created);
+                    return created;
+                });
+            } catch (DataIntegrityViolationException e) {
+                existing = shardRepository.findByEventId(eventId);
+            }
+        }
+        shardCounts.put(eventId, existing.size());
+        return existing.size();
+    }
+
+    /**
+     * Repartir capacidad y disponibles en partes iguales (el resto en las primeras)
+     * Como disponibles <= capacidad, cada porción también cumple disponibles <= capacidad
+     */
+    private List<InventoryShard> split(Event event) {
+        int capacity = event.getTotalCapacity();
+        int available = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+        int shards = Math.max(1, Math.min(shardCount, capacity));
+
+        List<InventoryShard> result = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            result.add(new InventoryShard(event.getId(), i,
+                    available / shards + (i < available % shards ? 1 : 0),
+                    capacity / shards + (i < capacity % shards ? 1 : 0)));
+        }
+        return result;
+    }
+
+    /**
+     * Descontar de las porciones, asentar 'movement' y correr 'inTransaction'
+     * (si no es null) en una transacción
+     */
+    private Event take(Event event, int quantity, Runnable movement, IntConsumer inTransaction) {
+        Long eventId = event.getId();
+        int shards = ensureShards(event);
+        retryExecutor.run(() -> {
+            takeFromShards(eventId, shards, quantity);
+            movement.run();
+            if (inTransaction != null) {
+                inTransaction.accept(aggregated(event, -quantity));
+            }
+        });
+        return recorded(event, -quantity);
+    }
+
+    private Event giveBack(Event event, int quantity, Runnable movement, IntConsumer inTransaction) {
+        Long eventId = event.getId();
+        int shards = ensureShards(event);
+        retryExecutor.run(() -> {
+            returnToShards(eventId, shards, quantity);
+            movement.run();
+            if (inTransaction != null) {
+                inTransaction.accept(aggregated(event, quantity));
+            }
+        });
+        return recorded(event, quantity);
+    }
+
+    private void takeFromShards(Long eventId, int shards, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            if (shardRepository.decrementAvailableTickets(eventId, (start + i) % shards, quantity) > 0) {
+                return;
+            }
+        }
+        // Ninguna porción tiene suficiente: tomar de varias
+        takeAcrossShards(eventId, quantity);
+    }
+
+    private void returnToShards(Long eventId, int shards, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            if (shardRepository.incrementAvailableTickets(eventId, (start + i) % shards, quantity) > 0) {
+                return;
+            }
+        }
+        returnAcrossShards(eventId, quantity);
+    }
+
+    private void takeAcrossShards(Long eventId, int quantity) {
+        List<InventoryShard> shards = shardRepository.findByEventId(eventId);
+        int remaining = quantity;
+        int available = 0;
+        for (InventoryShard shard : shards) {
+            available += shard.getAvailableTickets();
+            int take = Math.min(shard.getAvailableTickets(), remaining);
+            if (take > 0 && shardRepository.decrementAvailableTickets(eventId, shard.getShardIndex(), take) > 0) {
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+        // La excepción revierte lo ya descontado en esta transacción
+        throw new InsufficientTicketsException(quantity, available);
+    }
+
+    private void returnAcrossShards(Long eventId, int quantity) {
+        List<InventoryShard> shards = shardRepository.findByEventId(eventId);
+        int remaining = quantity;
+        for (InventoryShard shard : shards) {
+            int room = Math.min(shard.getCapacity() - shard.getAvailableTickets(), remaining);
+            if (room > 0 && shardRepository.incrementAvailableTickets(eventId, shard.getShardIndex(), room) > 0) {
+                remaining -= room;
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+        throw TicketRules.refundExceedsCapacity();
+    }
+
+    /**
+     * Anotar la venta o devolución como pendiente de reconciliar tras el
+     * commit (sin transacción, en el acto); la respuesta ya la incluye
+     */
+    private Event recorded(Event event, int delta) {
+        Long eventId = event.getId();
+        int available = aggregated(event, delta);
+        AfterCommit.run(() -> {
+            pendingDeltas.computeIfAbsent(eventId, id -> new AtomicInteger()).addAndGet(delta);
+            dirtyEventIds.add(eventId);
+        });
+        return TicketRules.withAvailableTickets(event, available, LocalDateTime.now());
+    }
+
+    private int aggregated(Event event, int extraDelta) {
+        int persisted = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+        AtomicInteger pending = pendingDeltas.get(event.getId());
+        int value = persisted + (pending != null ? pending.get() : 0) + extraDelta;
+        return Math.max(0, Math.min(value, event.getTotalCapacity()));
+    }
+
+    /**
+     * Evento repartido ya leído y el momento de la lectura
+     */
+    private record CachedEvent(Event event, long loadedAtNanos) {
+
+        private static CachedEvent of(Event event) {
+            return new CachedEvent(event, System.nanoTime());
+        }
+
+        private boolean isFresh(long ttlNanos) {
+            return System.nanoTime() - loadedAtNanos < ttlNanos;
+        }
+    }
+}
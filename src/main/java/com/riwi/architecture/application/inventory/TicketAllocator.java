@@ -0,0 +1,257 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.exceptions.*;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+/**
+ * Descontar y devolver tickets de un evento
+ * CAPA DE APLICACIÓN - Punto único que usan la venta, las devoluciones y
+ * las reservas temporales, para que todas respeten las mismas reglas.
+ *
+ * Los eventos muy grandes van a ShardedInventory. Para el resto, con el
+ * inventario en memoria activo usa TicketInventoryEngine; si no,
+ * agrupa las ventas concurrentes con SellRequestCoalescer o, desactivado
+ * este, usa una sentencia condicional en el repositorio (sin leer antes la fila).
+ *
+ * Cada camino asienta el movimiento en el libro de tickets dentro de su
+ * propia transacción de stock (el inventario en memoria, al escribir su conteo).
+ * En esa misma transacción corre 'inTransaction' cuando se pasa (el
+ * resultado de una clave de idempotencia), con los tickets que quedan.
+ */
+@Component
+public class TicketAllocator {
+
+    private static final int MAX_CONDITIONAL_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TicketInventoryEngine ticketInventory;
+    private final SellRequestCoalescer sellCoalescer;
+    private final ShardedInventory shardedInventory;
+    private final TicketLedger ticketLedger;
+    private final AvailabilityProjection availabilityProjection;
+
+    public TicketAllocator(EventRepository eventRepository,
+                           OptimisticRetryExecutor retryExecutor,
+                           TicketInventoryEngine ticketInventory,
+                           SellRequestCoalescer sellCoalescer,
+                           ShardedInventory shardedInventory,
+                           TicketLedger ticketLedger,
+                           AvailabilityProjection availabilityProjection) {
+        this.eventRepository = eventRepository;
+        this.retryExecutor = retryExecutor;
+        this.ticketInventory = ticketInventory;
+        this.sellCoalescer = sellCoalescer;
+        this.shardedInventory = shardedInventory;
+        this.ticketLedger = ticketLedger;
+        this.availabilityProjection = availabilityProjection;
+    }
+
+    /**
+     * Descontar tickets: evento activo, no pasado y con suficientes tickets
+     */
+    public Event take(Long eventId, int quantity) {
+        return take(eventId, quantity, null);
+    }
+
+    /**
+     * Igual que {@link #take(Long, int)}; 'inTransaction' recibe los tickets
+     * que quedan dentro de la transacción que escribe la venta
+     */
+    public Event take(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event event = takeFromInventory(eventId, quantity, inTransaction);
+        availabilityProjection.touch(eventId);
+        return event;
+    }
+
+    // ==================== RESERVAS TEMPORALES ====================
+
+    /**
+     * Apartar tickets para una reserva: mismas reglas que {@link #take(Long, int)}
+     * pero asentados como HOLD (sin hecho de venta). 'inTransaction' guarda la
+     * reserva en la transacción que descuenta el stock. Sin agrupador: cada
+     * reserva es su propia sentencia condicional.
+     */
+    public void hold(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            shardedInventory.hold(sharded, quantity, inTransaction);
+        } else if (ticketInventory.isEnabled()) {
+            ticketInventory.hold(eventId, quantity, inTransaction);
+        } else {
+            retryExecutor.execute(() -> takeWithStatement(eventId, quantity,
+                    () -> ticketLedger.recordHold(eventId, quantity), inTransaction));
+        }
+        availabilityProjection.touch(eventId);
+    }
+
+    /**
+     * Devolver los tickets de una reserva (RELEASE). 'inTransaction' borra la
+     * reserva en la misma transacción: si falla, los tickets no vuelven
+     */
+    public void releaseHold(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            shardedInventory.releaseHold(sharded, quantity, inTransaction);
+        } else if (ticketInventory.isEnabled()) {
+            ticketInventory.releaseHold(eventId, quantity, inTransaction);
+        } else {
+            retryExecutor.execute(() -> giveBackWithStatement(eventId, quantity,
+                    () -> ticketLedger.recordHoldReleased(eventId, quantity), inTransaction));
+        }
+        availabilityProjection.touch(eventId);
+    }
+
+    /**
+     * Convertir una reserva en venta: el stock ya estaba descontado, solo se
+     * asientan RELEASE y SELL (que publica su hecho) junto con 'inTransaction'
+     */
+    public Event confirmHold(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            shardedInventory.confirmHold(sharded, quantity, inTransaction);
+        } else if (ticketInventory.isEnabled()) {
+            ticketInventory.confirmHold(eventId, quantity, inTransaction);
+        } else {
+            retryExecutor.execute(() -> {
+                Event event = findEvent(eventId);
+                ticketLedger.recordHoldConfirmed(eventId, quantity);
+                return written(event, inTransaction);
+            });
+        }
+        return current(eventId);
+    }
+
+    /**
+     * Devolver tickets sin exceder totalCapacity
+     */
+    public Event giveBack(Long eventId, int quantity) {
+        return giveBack(eventId, quantity, null);
+    }
+
+    /**
+     * Igual que {@link #giveBack(Long, int)}; 'inTransaction' recibe los
+     * tickets que quedan dentro de la transacción que escribe la devolución
+     */
+    public Event giveBack(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event event = giveBackToInventory(eventId, quantity, inTransaction);
+        availabilityProjection.touch(eventId);
+        return event;
+    }
+
+    /**
+     * Estado actual del evento, con el conteo vivo si el inventario está en memoria
+     */
+    public Event current(Long eventId) {
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            return shardedInventory.view(sharded);
+        }
+        if (ticketInventory.isEnabled()) {
+            return ticketInventory.view(eventId);
+        }
+        return findEvent(eventId);
+    }
+
+    // ==================== INVENTARIO ====================
+
+    /**
+     * @param inTransaction null si no hay resultado que escribir junto a la venta
+     */
+    private Event takeFromInventory(Long eventId, int quantity, IntConsumer inTransaction) {
+        // Eventos muy grandes: inventario repartido en porciones
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            return shardedInventory.sell(sharded, quantity, inTransaction);
+        }
+
+        // Camino rápido: inventario en memoria sin ida y vuelta al repositorio
+        if (ticketInventory.isEnabled()) {
+            return inTransaction == null ? ticketInventory.sell(eventId, quantity)
+                    : ticketInventory.sell(eventId, quantity, inTransaction);
+        }
+
+        // Evento muy disputado: agrupar ventas concurrentes en una escritura por lote
+        if (sellCoalescer.isEnabled()) {
+            return sellCoalescer.sell(eventId, quantity, inTransaction);
+        }
+
+        return retryExecutor.execute(() -> takeWithStatement(eventId, quantity,
+                () -> ticketLedger.recordSale(eventId, quantity), inTransaction));
+    }
+
+    /**
+     * Descontar en una sola sentencia (activo, no pasado, suficientes tickets)
+     * y asentar 'movement' en la misma transacción
+     */
+    private Event takeWithStatement(Long eventId, int quantity, Runnable movement, IntConsumer inTransaction) {
+        for (int attempt = 1; ; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            if (eventRepository.decrementAvailableTickets(eventId, quantity, now) > 0) {
+                movement.run();
+                return written(findEvent(eventId), inTransaction);
+            }
+
+            // Solo cuando falla: averiguar qué condición no se cumplió
+            Event event = findEvent(eventId);
+            TicketRules.checkSale(event, quantity, now);
+
+            // La fila cambió entre la sentencia y la relectura: volver a intentar
+            if (attempt >= MAX_CONDITIONAL_ATTEMPTS) {
+                throw new InsufficientTicketsException(quantity, event.getAvailableTickets());
+            }
+        }
+    }
+
+    private Event giveBackToInventory(Long eventId, int quantity, IntConsumer inTransaction) {
+        Event sharded = shardedInventory.managedEvent(eventId);
+        if (sharded != null) {
+            return shardedInventory.refund(sharded, quantity, inTransaction);
+        }
+
+        if (ticketInventory.isEnabled()) {
+            return inTransaction == null ? ticketInventory.refund(eventId, quantity)
+                    : ticketInventory.refund(eventId, quantity, inTransaction);
+        }
+
+        return retryExecutor.execute(() -> giveBackWithStatement(eventId, quantity,
+                () -> ticketLedger.recordRefund(eventId, quantity), inTransaction));
+    }
+
+    /**
+     * Incrementar sin exceder la capacidad total en una sola sentencia y
+     * asentar 'movement' en la misma transacción
+     */
+    private Event giveBackWithStatement(Long eventId, int quantity, Runnable movement, IntConsumer inTransaction) {
+        if (eventRepository.incrementAvailableTickets(eventId, quantity, LocalDateTime.now()) > 0) {
+            movement.run();
+            return written(findEvent(eventId), inTransaction);
+        }
+
+        // Solo cuando falla: distinguir evento inexistente de capacidad excedida
+        findEvent(eventId);
+        throw TicketRules.refundExceedsCapacity();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Event written(Event event, IntConsumer inTransaction) {
+        if (inTransaction != null) {
+            inTransaction.accept(event.getAvailableTickets());
+        }
+        return event;
+    }
+
+    private Event findEvent(Long eventId) {
+        return eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+    }
+}
@@ -0,0 +1,671 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.application.support.LocalEpochClock;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.exceptions.*;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Motor de inventario de tickets en memoria
+ * CAPA DE APLICACIÓN - Mantiene los tickets disponibles de cada evento en
+ * contadores atómicos (CAS) para que vender/devolver no requiera ir al repositorio.
+ *
+ * El contador nunca baja de cero ni supera totalCapacity: cada operación
+ * es un compareAndSet sobre el valor leído, así que dos ventas concurrentes
+ * nunca pueden consumir el mismo ticket. Los conteos se escriben en el
+ * EventRepository de forma asíncrona (write-behind) en {@link #flush()}.
+ *
+ * Cada venta o devolución suma además a los totales pendientes del evento;
+ * el flush los escribe como movimientos del libro de tickets (y sus hechos
+ * en el outbox) en la MISMA transacción que el conteo, y el conteo escrito
+ * es el anterior más esos totales: fila y libro nunca difieren. El libro
+ * recibe así un movimiento SELL y uno REFUND por evento y pasada, no uno
+ * por venta, y vender sigue sin crear objetos. Es una desviación
+ * deliberada del hecho por venta: cada movimiento (y su hecho en el
+ * outbox) dice cuántas operaciones suma y la ventana que cubre.
+ *
+ * Las ventas y devoluciones con resultado que escribir (clave de
+ * idempotencia) y los cambios de las reservas temporales (apartar,
+ * devolver o confirmar, con su fila de reserva) van en una cola aparte
+ * junto con su cantidad: el flush los suma a los totales y escribe sus
+ * resultados en esa misma transacción, así que un resultado nunca queda
+ * escrito sin su cambio de stock ni al revés. Lo apartado se asienta como
+ * HOLD/RELEASE, nunca como venta o devolución.
+ *
+ * Cada evento ocupa solo lo que necesitan las ventas: contador, capacidad,
+ * activo, cierre en segundos y versión (ver {@link Limits}); las validaciones
+ * leen esos primitivos y la hora de {@link LocalEpochClock}. Los datos
+ * descriptivos no se guardan: el Event de respuesta se pide al repositorio
+ * (la caché de eventos delante de la base) y solo se le pone el conteo vivo.
+ *
+ * El estado es local a la instancia: con varias réplicas de la aplicación
+ * debe desactivarse (tickets.inventory.enabled=false).
+ */
+@Component
+public class TicketInventoryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketInventoryEngine.class);
+
+    /**
+     * Valor de {@link #availableIfLoaded(Long)} cuando el evento no está en memoria
+     */
+    public static final int NOT_LOADED = -1;
+
+    private final EventRepository eventRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TicketLedger ticketLedger;
+    private final boolean enabled;
+
+    private final ConcurrentHashMap<Long, InventorySlot> slots = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyEventIds = ConcurrentHashMap.newKeySet();
+    // Un solo flush a la vez (el programado o uno pedido): sin JDBC dentro de synchronized
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public TicketInventoryEngine(EventRepository eventRepository,
+                                 OptimisticRetryExecutor retryExecutor,
+                                 TicketLedger ticketLedger,
+                                 @Value("${tickets.inventory.enabled:true}") boolean enabled) {
+        this.eventRepository = eventRepository;
+        this.retryExecutor = retryExecutor;
+        this.ticketLedger = ticketLedger;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ==================== VENTA / DEVOLUCIÓN ====================
+
+    /**
+     * Vender tickets de un evento
+     * Mantiene el orden de validaciones del caso de uso: inactivo, sin tickets, evento pasado
+     */
+    public Event sell(Long eventId, int quantity) {
+        InventorySlot slot = slotFor(eventId);
+        Event response = describe(eventId);
+        int available = take(eventId, slot, quantity);
+        slot.pendingSold.addAndGet(quantity);
+        slot.pendingSales.incrementAndGet();
+        markChanged(eventId, slot);
+        return toEvent(response, slot, available);
+    }
+
+    /**
+     * Igual que {@link #sell(Long, int)}; 'inTransaction' recibe los tickets
+     * que quedan en la transacción del flush que escribe esta venta
+     */
+    public Event sell(Long eventId, int quantity, IntConsumer inTransaction) {
+        InventorySlot slot = slotFor(eventId);
+        Event response = describe(eventId);
+        int available = take(eventId, slot, quantity);
+        slot.pendingQueued.add(new QueuedChange(quantity, 0, 0, 0, available, inTransaction));
+        markChanged(eventId, slot);
+        return toEvent(response, slot, available);
+    }
+
+    // ==================== RESERVAS TEMPORALES ====================
+
+    /**
+     * Apartar tickets con las mismas reglas que {@link #sell(Long, int)}, sin
+     * armar el Event de respuesta; 'inTransaction' escribe la reserva en la
+     * transacción del flush que asienta el HOLD
+     */
+    public void hold(Long eventId, int quantity, IntConsumer inTransaction) {
+        InventorySlot slot = slotFor(eventId);
+        int available = take(eventId, slot, quantity);
+        slot.pendingQueued.add(new QueuedChange(0, 0, quantity, 0, available, inTransaction));
+        markChanged(eventId, slot);
+    }
+
+    /**
+     * Devolver los tickets de una reserva vencida o liberada (RELEASE)
+     */
+    public void releaseHold(Long eventId, int quantity, IntConsumer inTransaction) {
+        InventorySlot slot = slotFor(eventId);
+        int available = TicketRules.giveBack(slot.available, quantity, slot.limits.capacity());
+        slot.pendingQueued.add(new QueuedChange(0, 0, 0, quantity, available, inTransaction));
+        markChanged(eventId, slot);
+    }
+
+    /**
+     * Convertir una reserva en venta: el contador no cambia; el flush asienta
+     * RELEASE y SELL juntos
+     */
+    public void confirmHold(Long eventId, int quantity, IntConsumer inTransaction) {
+        InventorySlot slot = slotFor(eventId);
+        slot.pendingQueued.add(new QueuedChange(quantity, 0, 0, quantity, slot.available.get(), inTransaction));
+        markChanged(eventId, slot);
+    }
+
+    /**
+     * Vender varias líneas de forma atómica (todo o nada)
+     * Si una línea falla se devuelven los tickets ya descontados de las anteriores
+     */
+    public List<Event> sellAll(Map<Long, Integer> quantitiesByEvent) {
+        List<Event> sold = takeAll(quantitiesByEvent);
+        confirmTaken(quantitiesByEvent);
+        return sold;
+    }
+
+    /**
+     * Descontar varias líneas de forma atómica (todo o nada) sin contarlas
+     * aún como vendidas: quien llama termina con {@link #confirmTaken(Map)}
+     * o las deshace con {@link #undoTake(Map)}. Hasta entonces el flush no
+     * las escribe, así que deshacerlas no deja movimientos en el libro.
+     */
+    public List<Event> takeAll(Map<Long, Integer> quantitiesByEvent) {
+        Map<Long, Event> described = warm(quantitiesByEvent.keySet());
+
+        List<Long> taken = new ArrayList<>(quantitiesByEvent.size());
+        List<InventorySlot> takenSlots = new ArrayList<>(quantitiesByEvent.size());
+        List<Event> sold = new ArrayList<>(quantitiesByEvent.size());
+        try {
+            for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+                Long eventId = line.getKey();
+                InventorySlot slot = slots.get(eventId);
+                Event response = described.get(eventId);
+                if (slot == null || response == null) {
+                    throw new EventNotFoundException(eventId);
+                }
+                int available = take(eventId, slot, line.getValue());
+                taken.add(eventId);
+                takenSlots.add(slot);
+                sold.add(toEvent(response, slot, available));
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < taken.size(); i++) {
+                takenSlots.get(i).available.addAndGet(quantitiesByEvent.get(taken.get(i)));
+            }
+            throw e;
+        }
+        return sold;
+    }
+
+    /**
+     * Contar como vendidas las líneas de {@link #takeAll(Map)}: desde aquí
+     * el flush las asienta en el libro
+     */
+    public void confirmTaken(Map<Long, Integer> quantitiesByEvent) {
+        for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+            InventorySlot slot = slots.get(line.getKey());
+            if (slot != null) {
+                slot.pendingSold.addAndGet(line.getValue());
+                slot.pendingSales.incrementAndGet();
+                markChanged(line.getKey(), slot);
+            }
+        }
+    }
+
+    /**
+     * Deshacer {@link #takeAll(Map)}: solo vuelve el contador, sin venta ni
+     * devolución que asentar. No falla, para poder llamarse desde un finally.
+     */
+    public void undoTake(Map<Long, Integer> quantitiesByEvent) {
+        for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+            InventorySlot slot = slots.get(line.getKey());
+            if (slot != null) {
+                slot.available.addAndGet(line.getValue());
+            }
+        }
+    }
+
+    private int take(Long eventId, InventorySlot slot, int quantity) {
+        Limits limits = slot.limits;
+        return TicketRules.take(eventId, slot.available, quantity,
+                limits.active(), limits.closesAt() <= LocalEpochClock.nowSeconds());
+    }
+
+    /**
+     * Devolver tickets de un evento sin superar totalCapacity
+     */
+    public Event refund(Long eventId, int quantity) {
+        InventorySlot slot = slotFor(eventId);
+        Event response = describe(eventId);
+        int updated = TicketRules.giveBack(slot.available, quantity, slot.limits.capacity());
+        slot.pendingRefunded.addAndGet(quantity);
+        slot.pendingRefunds.incrementAndGet();
+        markChanged(eventId, slot);
+        return toEvent(response, slot, updated);
+    }
+
+    /**
+     * Igual que {@link #refund(Long, int)}; 'inTransaction' recibe los tickets
+     * que quedan en la transacción del flush que escribe esta devolución
+     */
+    public Event refund(Long eventId, int quantity, IntConsumer inTransaction) {
+        InventorySlot slot = slotFor(eventId);
+        Event response = describe(eventId);
+        int updated = TicketRules.giveBack(slot.available, quantity, slot.limits.capacity());
+        slot.pendingQueued.add(new QueuedChange(0, quantity, 0, 0, updated, inTransaction));
+        markChanged(eventId, slot);
+        return toEvent(response, slot, updated);
+    }
+
+    /**
+     * Foto del evento con el conteo vivo en memoria
+     */
+    public Event view(Long eventId) {
+        InventorySlot slot = slotFor(eventId);
+        return toEvent(describe(eventId), slot, slot.available.get());
+    }
+
+    /**
+     * Conteo vivo si el evento ya está en memoria; {@link #NOT_LOADED} si no
+     * (sin cargarlo ni crear objetos)
+     */
+    public int availableIfLoaded(Long eventId) {
+        InventorySlot slot = slots.get(eventId);
+        return slot != null ? slot.available.get() : NOT_LOADED;
+    }
+
+    // ==================== SINCRONIZACIÓN CON EL CATÁLOGO ====================
+
+    /**
+     * Reemplazar los límites del evento (fechas, estado, capacidad) tras una
+     * actualización, conservando el contador vivo; una versión anterior a la
+     * guardada no los pisa
+     */
+    public void refresh(Event event) {
+        Limits fresh = Limits.of(event);
+        // computeIfPresent ordena dos refrescos simultáneos (sin JDBC adentro)
+        slots.computeIfPresent(event.getId(), (id, slot) -> {
+            if (fresh.version() >= slot.limits.version()) {
+                slot.limits = fresh;
+            }
+            return slot;
+        });
+    }
+
+    /**
+     * Copiar al evento el conteo ya escrito junto con sus movimientos, para
+     * que una escritura del agregado completo no adelante ventas cuyo
+     * movimiento aún no está en el libro
+     */
+    public void applyAvailableTickets(Event event) {
+        InventorySlot slot = slots.get(event.getId());
+        if (slot != null) {
+            event.setAvailableTickets(slot.flushedAvailable);
+        }
+    }
+
+    /**
+     * Soltar un evento que se elimina, dentro de la transacción del borrado
+     * Devuelve sus ventas y devoluciones aún no escritas para asentarlas
+     * antes de EVENT_DELETED; el evento se olvida al confirmar y, si el
+     * borrado se revierte, los totales vuelven a quedar pendientes
+     */
+    public List<TicketMovement> release(Long eventId) {
+        InventorySlot slot = slots.get(eventId);
+        if (slot == null) {
+            return List.of();
+        }
+
+        // Bajo flushLock: un flush en curso no puede tomar los mismos totales
+        Pending pending;
+        flushLock.lock();
+        try {
+            pending = Pending.take(slot);
+        } finally {
+            flushLock.unlock();
+        }
+        AfterCommit.onRollback(() -> pending.restore(slot));
+        pending.writeResults();
+        AfterCommit.run(() -> {
+            slots.remove(eventId, slot);
+            dirtyEventIds.remove(eventId);
+        });
+        return pending.movements(eventId, slot.lastChange());
+    }
+
+    /**
+     * Escribir en el repositorio los conteos modificados desde la última sincronización
+     */
+    @Scheduled(fixedDelayString = "${tickets.inventory.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushDirty();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void flushDirty() {
+        Iterator<Long> iterator = dirtyEventIds.iterator();
+        while (iterator.hasNext()) {
+            Long eventId = iterator.next();
+            iterator.remove();
+
+            InventorySlot slot = slots.get(eventId);
+            if (slot == null) {
+                continue;
+            }
+
+            try {
+                writeThrough(eventId, slot);
+            } catch (RuntimeException e) {
+                // Se reintenta en la siguiente pasada
+                dirtyEventIds.add(eventId);
+                log.warn("Could not flush ticket inventory for event {}", eventId, e);
+            }
+        }
+    }
+
+    /**
+     * Leer con una sola consulta los eventos del carrito (sus Event de
+     * respuesta) y cargar en memoria los que aún no están
+     */
+    private Map<Long, Event> warm(Collection<Long> eventIds) {
+        Map<Long, Event> described = new HashMap<>();
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            described.put(event.getId(), event);
+            if (!slots.containsKey(event.getId())) {
+                slots.putIfAbsent(event.getId(), new InventorySlot(event));
+            }
+        }
+        return described;
+    }
+
+    /**
+     * Event de respuesta: el repositorio devuelve una copia propia (de la
+     * caché si está), así que se le puede poner el conteo vivo
+     */
+    private Event describe(Long eventId) {
+        return eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+    }
+
+    /**
+     * La carga se hace fuera de computeIfAbsent: ConcurrentHashMap bloquea el
+     * bucket con synchronized y una llamada JDBC dentro fijaría (pin) el hilo
+     * virtual a su carrier. Si dos hilos cargan a la vez gana el primero.
+     */
+    private InventorySlot slotFor(Long eventId) {
+        InventorySlot slot = slots.get(eventId);
+        if (slot != null) {
+            return slot;
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        InventorySlot loaded = new InventorySlot(event);
+        InventorySlot existing = slots.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Se marca después de sumar a los totales pendientes: un flush que
+     * retira el evento de los modificados ya ve esa venta
+     */
+    private void markChanged(Long eventId, InventorySlot slot) {
+        long now = System.currentTimeMillis();
+        slot.windowStartMillis.compareAndSet(0L, now);
+        slot.lastChangeMillis = now;
+        dirtyEventIds.add(eventId);
+    }
+
+    /**
+     * Escribe el conteo anterior más los totales pendientes, y esos totales
+     * como movimientos del libro, en una sola transacción. Relee el evento en
+     * cada intento: si un updateEvent concurrente cambió la versión, el
+     * guardado falla por bloqueo optimista y se reintenta. Si todo falla, los
+     * totales vuelven a quedar pendientes.
+     */
+    private void writeThrough(Long eventId, InventorySlot slot) {
+        Pending pending = Pending.take(slot);
+        if (pending.isEmpty()) {
+            return;
+        }
+        int available = slot.flushedAvailable + pending.delta();
+        LocalDateTime changedAt = slot.lastChange();
+        List<TicketMovement> movements = pending.movements(eventId, changedAt);
+
+        try {
+            retryExecutor.run(() -> {
+                eventRepository.findById(eventId).ifPresentOrElse(event -> {
+                    // El guardado verifica la versión: si un borrado se confirmó antes, el
+                    // intento falla y el siguiente ya no encuentra el evento
+                    event.setAvailableTickets(available);
+                    event.setUpdatedAt(changedAt);
+                    eventRepository.save(event);
+                    ticketLedger.record(movements);
+                }, () -> ticketLedger.recordRemoved(movements));
+                pending.writeResults();
+            });
+        } catch (RuntimeException e) {
+            pending.restore(slot);
+            throw e;
+        }
+        slot.flushedAvailable = available;
+    }
+
+    /**
+     * Borde: el Event leído con los límites y el conteo de memoria
+     */
+    private static Event toEvent(Event response, InventorySlot slot, int available) {
+        Limits limits = slot.limits;
+        response.setAvailableTickets(available);
+        response.setTotalCapacity(limits.capacity());
+        response.setActive(limits.active());
+        if (slot.lastChangeMillis != 0L) {
+            response.setUpdatedAt(slot.lastChange());
+        }
+        return response;
+    }
+
+    /**
+     * Estado en memoria de un evento: contador atómico, totales aún no
+     * escritos en el libro, conteo ya escrito en la fila y límites de venta
+     */
+    private static final class InventorySlot {
+        private final AtomicInteger available;
+        private final AtomicInteger pendingSold = new AtomicInteger();
+        private final AtomicInteger pendingRefunded = new AtomicInteger();
+        // Cuántas ventas/devoluciones suman esos totales y desde cuándo (0 = nada pendiente)
+        private final AtomicInteger pendingSales = new AtomicInteger();
+        private final AtomicInteger pendingRefunds = new AtomicInteger();
+        private final AtomicLong windowStartMillis = new AtomicLong();
+        // Cambios cuyo resultado se escribe con ellos (claves de idempotencia, reservas)
+        private final ConcurrentLinkedQueue<QueuedChange> pendingQueued = new ConcurrentLinkedQueue<>();
+        // Solo lo cambia el flush (bajo flushLock)
+        private volatile int flushedAvailable;
+        private volatile Limits limits;
+        // 0 = sin cambios desde la carga
+        private volatile long lastChangeMillis;
+
+        private InventorySlot(Event event) {
+            int loaded = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+            this.available = new AtomicInteger(loaded);
+            this.flushedAvailable = loaded;
+            this.limits = Limits.of(event);
+        }
+
+        private LocalDateTime lastChange() {
+            return toLocal(lastChangeMillis);
+        }
+
+        private static LocalDateTime toLocal(long millis) {
+            return millis == 0L ? LocalDateTime.now()
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        }
+    }
+
+    /**
+     * Cambio aún no escrito (vendido, devuelto, apartado, liberado), con los
+     * tickets que quedaron tras él y con qué escribir su resultado
+     */
+    private record QueuedChange(int sold, int refunded, int held, int released, int available,
+                                IntConsumer inTransaction) {
+    }
+
+    /**
+     * Lo que un flush (o el borrado del evento) retira de un evento: los
+     * totales sin resultado y la cola de cambios con resultado, sumados, con
+     * cuántas operaciones de cada tipo suman y desde cuándo
+     */
+    private static final class Pending {
+        private final int plainSold;
+        private final int plainRefunded;
+        private final int plainSales;
+        private final int plainRefunds;
+        private final long windowStartMillis;
+        private final List<QueuedChange> queued = new ArrayList<>();
+        private int sold;
+        private int refunded;
+        private int held;
+        private int released;
+        private int sales;
+        private int refunds;
+        private int holds;
+        private int releases;
+
+        private Pending(int plainSold, int plainRefunded, int plainSales, int plainRefunds,
+                        long windowStartMillis) {
+            this.plainSold = plainSold;
+            this.plainRefunded = plainRefunded;
+            this.plainSales = plainSales;
+            this.plainRefunds = plainRefunds;
+            this.windowStartMillis = windowStartMillis;
+            this.sold = plainSold;
+            this.refunded = plainRefunded;
+            this.sales = plainSales;
+            this.refunds = plainRefunds;
+        }
+
+        /**
+         * La ventana se reinicia antes de tomar los totales: una venta que
+         * llega entre ambos pasos abre la siguiente un poco antes, nunca queda
+         * fuera de una
+         */
+        private static Pending take(InventorySlot slot) {
+            long windowStart = slot.windowStartMillis.getAndSet(0L);
+            Pending pending = new Pending(slot.pendingSold.getAndSet(0), slot.pendingRefunded.getAndSet(0),
+                    slot.pendingSales.getAndSet(0), slot.pendingRefunds.getAndSet(0), windowStart);
+            QueuedChange change;
+            while ((change = slot.pendingQueued.poll()) != null) {
+                pending.queued.add(change);
+                pending.sold += change.sold();
+                pending.refunded += change.refunded();
+                pending.held += change.held();
+                pending.released += change.released();
+                pending.sales += change.sold() > 0 ? 1 : 0;
+                pending.refunds += change.refunded() > 0 ? 1 : 0;
+                pending.holds += change.held() > 0 ? 1 : 0;
+                pending.releases += change.released() > 0 ? 1 : 0;
+            }
+            return pending;
+        }
+
+        private boolean isEmpty() {
+            return sold == 0 && refunded == 0 && held == 0 && released == 0;
+        }
+
+        private int delta() {
+            return -sold + refunded - held + released;
+        }
+
+        /**
+         * Un movimiento por tipo y pasada; confirmar una reserva suma a RELEASE y a SELL
+         */
+        private List<TicketMovement> movements(Long eventId, LocalDateTime changedAt) {
+            LocalDateTime windowStart = windowStartMillis == 0L ? changedAt
+                    : InventorySlot.toLocal(windowStartMillis);
+            if (windowStart.isAfter(changedAt)) {
+                windowStart = changedAt;
+            }
+            List<TicketMovement> movements = new ArrayList<>(4);
+            if (held > 0) {
+                movements.add(new TicketMovement(null, eventId, TicketMovementType.HOLD, -held, changedAt,
+                        holds, windowStart));
+            }
+            if (released > 0) {
+                movements.add(new TicketMovement(null, eventId, TicketMovementType.RELEASE, released, changedAt,
+                        releases, windowStart));
+            }
+            if (sold > 0) {
+                movements.add(new TicketMovement(null, eventId, TicketMovementType.SELL, -sold, changedAt,
+                        sales, windowStart));
+            }
+            if (refunded > 0) {
+                movements.add(new TicketMovement(null, eventId, TicketMovementType.REFUND, refunded, changedAt,
+                        refunds, windowStart));
+            }
+            return movements;
+        }
+
+        /**
+         * Dentro de la transacción que escribe el conteo, en el orden en que ocurrieron
+         */
+        private void writeResults() {
+            for (QueuedChange change : queued) {
+                change.inTransaction().accept(change.available());
+            }
+        }
+
+        /**
+         * La escritura falló: todo vuelve a quedar pendiente
+         */
+        private void restore(InventorySlot slot) {
+            slot.pendingQueued.addAll(queued);
+            slot.pendingSold.addAndGet(plainSold);
+            slot.pendingRefunded.addAndGet(plainRefunded);
+            slot.pendingSales.addAndGet(plainSales);
+            slot.pendingRefunds.addAndGet(plainRefunds);
+            if (windowStartMillis != 0L) {
+                slot.windowStartMillis.accumulateAndGet(windowStartMillis,
+                        (current, restored) -> current == 0L ? restored : Math.min(current, restored));
+            }
+        }
+    }
+
+    /**
+     * Lo que las ventas necesitan del agregado, en primitivos: capacidad,
+     * activo, cierre (segundos de época, mismo criterio que la venta
+     * condicional) y la versión de la que salieron. Se reemplaza entero.
+     */
+    private record Limits(int capacity, boolean active, long closesAt, long version) {
+
+        private static Limits of(Event event) {
+            EventInventoryView view = EventInventoryView.from(event);
+            return new Limits(view.getTotalCapacity(), view.isActive(), view.getClosesAt(),
+                    event.getVersion() != null ? event.getVersion() : 0L);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.domain.exceptions.EventInactiveException;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.exceptions.PastEventException;
+import com.riwi.architecture.domain.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reglas de venta y devolución de tickets
+ * CAPA DE APLICACIÓN - Un único lugar para el orden de las validaciones
+ * (inactivo, sin tickets suficientes, evento pasado) y para descontar o
+ * devolver sobre un contador atómico sin bajar de cero ni superar la capacidad.
+ *
+ * Lo usan el inventario en memoria, las porciones, el agrupador de ventas,
+ * el camino por sentencia condicional de TicketAllocator y el carrito, para
+ * que todos fallen igual ante el mismo estado.
+ */
+public final class TicketRules {
+
+    private TicketRules() {
+    }
+
+    // ==================== VALIDACIONES ====================
+
+    /**
+     * Validar una venta sobre el agregado
+     */
+    public static void checkSale(Event event, int quantity, LocalDateTime now) {
+        checkSale(event.getId(), Boolean.TRUE.equals(event.getActive()),
+                event.getAvailableTickets() != null ? event.getAvailableTickets() : 0,
+                quantity, isPast(event, now));
+    }
+
+    /**
+     * Validar una venta sobre valores primitivos (sin crear objetos en el camino exitoso)
+     */
+    public static void checkSale(long eventId, boolean active, int available, int quantity, boolean past) {
+        if (!active) {
+            throw new EventInactiveException(eventId);
+        }
+        if (available < quantity) {
+            throw new InsufficientTicketsException(quantity, available);
+        }
+        if (past) {
+            throw new PastEventException(eventId);
+        }
+    }
+
+    /**
+     * Mismo criterio que la sentencia condicional: el evento sigue vigente
+     * solo si su fin (o su inicio, si no tiene fin) es posterior a 'now'
+     */
+    public static boolean isPast(Event event, LocalDateTime now) {
+        if (event.getEventEndDate() != null) {
+            return !event.getEventEndDate().isAfter(now);
+        }
+        return event.getEventDate() != null &&
+               !event.getEventDate().isAfter(now);
+    }
+
+    // ==================== CONTADORES ====================
+
+    /**
+     * Validar y descontar con CAS: solo se descuenta si el valor leído sigue
+     * vigente y alcanza, así dos ventas concurrentes nunca toman el mismo ticket
+     *
+     * @return tickets que quedan
+     */
+    public static int take(long eventId, AtomicInteger available, int quantity, boolean active, boolean past) {
+        int current = available.get();
+        checkSale(eventId, active, current, quantity, past);
+
+        while (!available.compareAndSet(current, current - quantity)) {
+            current = available.get();
+            if (current < quantity) {
+                throw new InsufficientTicketsException(quantity, current);
+            }
+        }
+        return current - quantity;
+    }
+
+    /**
+     * Devolver con CAS sin superar 'capacity'
+     *
+     * @return tickets disponibles tras la devolución
+     */
+    public static int giveBack(AtomicInteger available, int quantity, int capacity) {
+        int current;
+        int updated;
+        do {
+            current = available.get();
+            updated = current + quantity;
+            if (updated > capacity) {
+                throw refundExceedsCapacity();
+            }
+        } while (!available.compareAndSet(current, updated));
+        return updated;
+    }
+
+    // ==================== RESPUESTA ====================
+
+    /**
+     * Copia del agregado con otro conteo de disponibles (el Event de respuesta
+     * de una venta o devolución; el original puede estar compartido)
+     */
+    public static Event withAvailableTickets(Event source, int available, LocalDateTime updatedAt) {
+        Event copy = new Event(source.getId(), source.getName(), source.getDescription(),
+                source.getEventDate(), source.getEventEndDate(), source.getCategory(),
+                source.getTicketPrice(), available, source.getTotalCapacity(),
+                source.getActive(), source.getVenueId(), source.getCreatedAt(), updatedAt);
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+
+    public static InvalidEventDataException refundExceedsCapacity() {
+        return new InvalidEventDataException("refund",
+            "Refund exceeds total capacity of the event");
+    }
+}
@@ -0,0 +1,202 @@
+package com.riwi.architecture.application.ledger;
+
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketLedgerSnapshot;
+import com.riwi.architecture.domain.model.TicketLedgerTail;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.domain.ports.out.TicketLedgerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Libro de movimientos de tickets (append-only) con fotos periódicas
+ * CAPA DE APLICACIÓN - Cada método agrega filas DENTRO de la transacción de
+ * quien llama, la misma que cambia el stock: el movimiento existe si y solo
+ * si la venta o devolución se confirmó. Junto con cada venta o devolución
+ * se agrega su hecho TICKETS_SOLD/TICKETS_REFUNDED al outbox; apartar y
+ * devolver tickets de una reserva (HOLD/RELEASE) no publica nada.
+ *
+ * El saldo de un evento se deriva como: última foto + suma de los
+ * movimientos posteriores. Cada 'snapshot-every' movimientos se toma una
+ * foto nueva, así reconstruir el estado nunca recorre el libro completo.
+ *
+ * Las transacciones concurrentes pueden confirmarse en otro orden que su
+ * número de secuencia: una foto solo cubre movimientos con más de
+ * 'snapshot-grace-ms' de antigüedad, que ya no pueden seguir en curso.
+ */
+@Component
+public class TicketLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketLedger.class);
+
+    private final TicketLedgerRepository ledgerRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final int snapshotEvery;
+    private final long snapshotGraceMillis;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> movementsSinceSnapshot = new ConcurrentHashMap<>();
+
+    public TicketLedger(TicketLedgerRepository ledgerRepository,
+                        DomainEventOutbox domainEventOutbox,
+                        @Value("${tickets.ledger.snapshot-every:1000}") int snapshotEvery,
+                        @Value("${tickets.ledger.snapshot-grace-ms:60000}") long snapshotGraceMillis) {
+        this.ledgerRepository = ledgerRepository;
+        this.domainEventOutbox = domainEventOutbox;
+        this.snapshotEvery = snapshotEvery;
+        this.snapshotGraceMillis = snapshotGraceMillis;
+    }
+
+    /**
+     * Saldo inicial de un evento recién creado (lo publica EVENT_CREATED)
+     */
+    public void recordOpening(Event event) {
+        int available = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+        append(List.of(movement(event.getId(), TicketMovementType.OPEN, available)), false);
+    }
+
+    public void recordSale(Long eventId, int quantity) {
+        append(List.of(movement(eventId, TicketMovementType.SELL, -quantity)), true);
+    }
+
+    public void recordRefund(Long eventId, int quantity) {
+        append(List.of(movement(eventId, TicketMovementType.REFUND, quantity)), true);
+    }
+
+    public void recordHold(Long eventId, int quantity) {
+        append(List.of(movement(eventId, TicketMovementType.HOLD, -quantity)), true);
+    }
+
+    public void recordHoldReleased(Long eventId, int quantity) {
+        append(List.of(movement(eventId, TicketMovementType.RELEASE, quantity)), true);
+    }
+
+    /**
+     * La reserva pasa a ser venta: se devuelve lo apartado y se vende (saldo
+     * sin cambios); solo la venta publica su hecho
+     */
+    public void recordHoldConfirmed(Long eventId, int quantity) {
+        append(List.of(movement(eventId, TicketMovementType.RELEASE, quantity),
+                movement(eventId, TicketMovementType.SELL, -quantity)), true);
+    }
+
+    /**
+     * Varias ventas o devoluciones ya aplicadas, en el orden en que ocurrieron
+     * (un lote del agrupador de ventas o la cola del inventario en memoria)
+     */
+    public void record(List<TicketMovement> movements) {
+        if (!movements.isEmpty()) {
+            append(movements, true);
+        }
+    }
+
+    /**
+     * Movimientos de un evento que ya se eliminó: quedan en el libro pero no
+     * se publican, porque EVENT_DELETED ya salió antes que ellos
+     */
+    public void recordRemoved(List<TicketMovement> movements) {
+        if (!movements.isEmpty()) {
+            append(movements, false);
+        }
+    }
+
+    /**
+     * Saldo derivado del libro: foto más reciente + cola de movimientos
+     */
+    public LedgerBalance balance(Long eventId) {
+        Optional<TicketLedgerSnapshot> snapshot = ledgerRepository.findLatestSnapshot(eventId);
+        long after = snapshot.map(TicketLedgerSnapshot::getLastSequence).orElse(0L);
+        int base = snapshot.map(TicketLedgerSnapshot::getAvailableTickets).orElse(0);
+
+        TicketLedgerTail tail = ledgerRepository.summarizeAfter(eventId, after);
+        boolean empty = snapshot.isEmpty() && tail.getMovements() == 0;
+        return new LedgerBalance((int) (base + tail.getDelta()), tail.getLastSequence(), empty);
+    }
+
+    /**
+     * Movimientos posteriores a 'afterSequence' en orden del libro
+     */
+    public List<TicketMovement> movements(Long eventId, long afterSequence, int limit) {
+        return ledgerRepository.findMovements(eventId, afterSequence, limit);
+    }
+
+    /**
+     * Tomar fotos de los eventos con muchos movimientos nuevos
+     */
+    @Scheduled(fixedDelayString = "${tickets.ledger.snapshot-interval-ms:5000}")
+    public void takeDueSnapshots() {
+        for (Map.Entry<Long, AtomicInteger> entry : movementsSinceSnapshot.entrySet()) {
+            if (entry.getValue().get() < snapshotEvery) {
+                continue;
+            }
+            Long eventId = entry.getKey();
+            try {
+                snapshot(eventId);
+            } catch (RuntimeException e) {
+                log.warn("Could not snapshot ticket ledger for event {}", eventId, e);
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static TicketMovement movement(Long eventId, TicketMovementType type, int delta) {
+        return new TicketMovement(null, eventId, type, delta, LocalDateTime.now());
+    }
+
+    private void append(List<TicketMovement> movements, boolean publish) {
+        ledgerRepository.appendAll(movements);
+        if (publish) {
+            domainEventOutbox.ticketMovements(movements);
+        }
+        // Solo lo confirmado cuenta para la próxima foto
+        AfterCommit.run(() -> {
+            for (TicketMovement written : movements) {
+                movementsSinceSnapshot.computeIfAbsent(written.getEventId(), id -> new AtomicInteger())
+                        .incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * La foto nueva suma a la anterior solo los movimientos asentados
+     * (anteriores a la ventana de gracia); los más recientes quedan para la siguiente
+     */
+    private void snapshot(Long eventId) {
+        Optional<TicketLedgerSnapshot> previous = ledgerRepository.findLatestSnapshot(eventId);
+        long after = previous.map(TicketLedgerSnapshot::getLastSequence).orElse(0L);
+        int base = previous.map(TicketLedgerSnapshot::getAvailableTickets).orElse(0);
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(snapshotGraceMillis));
+        TicketLedgerTail settled = ledgerRepository.summarizeSettled(eventId, after, settledBefore);
+        if (settled.getMovements() == 0) {
+            return;
+        }
+
+        ledgerRepository.saveSnapshot(new TicketLedgerSnapshot(eventId, settled.getLastSequence(),
+                (int) (base + settled.getDelta()), LocalDateTime.now()));
+        AtomicInteger counter = movementsSinceSnapshot.get(eventId);
+        if (counter != null && counter.addAndGet((int) -settled.getMovements()) <= 0) {
+            movementsSinceSnapshot.remove(eventId, counter);
+        }
+    }
+
+    /**
+     * Saldo derivado, último movimiento incluido y si el evento aún no tiene libro
+     */
+    public record LedgerBalance(int available, long lastSequence, boolean empty) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.riwi.architecture.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.domain.model.DomainEventType;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro de hechos del dominio en la tabla outbox
+ * CAPA DE APLICACIÓN - Cada método agrega filas DENTRO de la transacción de
+ * quien llama, así el hecho queda registrado si y solo si el cambio se
+ * confirma. {@link OutboxRelay} las publica después, fuera del camino de la
+ * petición.
+ *
+ * Las ventas y devoluciones llegan desde el libro de tickets, junto con
+ * cada movimiento y en la misma transacción que cambia el stock.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutbox(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void eventCreated(Event event) {
+        eventsCreated(List.of(event));
+    }
+
+    public void eventsCreated(List<Event> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("eventId", event.getId());
+            payload.put("name", event.getName());
+            payload.put("category", event.getCategory());
+            payload.put("eventDate", text(event.getEventDate()));
+            payload.put("eventEndDate", text(event.getEventEndDate()));
+            payload.put("ticketPrice", event.getTicketPrice());
+            payload.put("totalCapacity", event.getTotalCapacity());
+            payload.put("venueId", event.getVenueId());
+            messages.add(message(DomainEventType.EVENT_CREATED, event.getId(), payload, now));
+        }
+        outboxRepository.appendAll(messages);
+    }
+
+    public void eventDeleted(Long eventId) {
+        outboxRepository.appendAll(List.of(message(DomainEventType.EVENT_DELETED, eventId,
+                Map.of("eventId", eventId), LocalDateTime.now())));
+    }
+
+    public void venueDeleted(Long venueId) {
+        outboxRepository.appendAll(List.of(message(DomainEventType.VENUE_DELETED, venueId,
+                Map.of("venueId", venueId), LocalDateTime.now())));
+    }
+
+    /**
+     * Ventas y devoluciones de una tanda del libro, en el orden del libro
+     * Las aperturas no se publican: ya las cubre EVENT_CREATED
+     *
+     * Un hecho por movimiento, no por venta: si el movimiento suma varias
+     * (inventario en memoria), el payload lo dice con 'operations' y la
+     * ventana 'windowStart'..'windowEnd'. Quien necesite cada venta por
+     * separado debe apagar tickets.inventory.enabled.
+     */
+    public void ticketMovements(List<TicketMovement> movements) {
+        List<OutboxMessage> messages = new ArrayList<>(movements.size());
+        for (TicketMovement movement : movements) {
+            DomainEventType type = switch (movement.getType()) {
+                case SELL -> DomainEventType.TICKETS_SOLD;
+                case REFUND -> DomainEventType.TICKETS_REFUNDED;
+                // Apartar y devolver reservas no son ventas: sin hecho publicado
+                case OPEN, HOLD, RELEASE -> null;
+            };
+            if (type == null) {
+                continue;
+            }
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("eventId", movement.getEventId());
+            payload.put("quantity", Math.abs(movement.getDelta()));
+            payload.put("operations", movement.getOperations() != null ? movement.getOperations() : 1);
+            payload.put("windowStart", text(movement.getFirstOccurredAt() != null
+                    ? movement.getFirstOccurredAt() : movement.getOccurredAt()));
+            payload.put("windowEnd", text(movement.getOccurredAt()));
+            messages.add(message(type, movement.getEventId(), payload, movement.getOccurredAt()));
+        }
+        if (!messages.isEmpty()) {
+            outboxRepository.appendAll(messages);
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private OutboxMessage message(DomainEventType type, Long aggregateId,
+                                  Map<String, Object> payload, LocalDateTime occurredAt) {
+        try {
+            return new OutboxMessage(null, type, aggregateId, objectMapper.writeValueAsString(payload),
+                    occurredAt, null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " payload", e);
+        }
+    }
+
+    private static String text(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
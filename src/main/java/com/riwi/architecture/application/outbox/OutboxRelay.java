@@ -0,0 +1,142 @@
+package com.riwi.architecture.application.outbox;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.DomainEventPublisher;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publicación en segundo plano de la tabla outbox
+ * CAPA DE APLICACIÓN - Lee los mensajes pendientes en orden de secuencia,
+ * los entrega en tandas al {@link DomainEventPublisher} y solo después los
+ * marca como publicados.
+ *
+ * Entrega al menos una vez: si la instancia cae entre publicar y marcar, la
+ * tanda se vuelve a entregar. Una tanda fallida detiene la pasada, así
+ * ningún mensaje se adelanta a uno anterior del mismo evento o venue.
+ *
+ * El orden se garantiza con un solo relay activo: todas las instancias
+ * corren la pasada, pero solo publica la que tiene el turno (lease) en la
+ * base; se renueva antes de cada tanda y, si la instancia cae, otra lo toma
+ * al vencer 'lease-ms'. Una tanda debe publicarse en menos que ese plazo.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher publisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration leaseDuration;
+    private final String owner = UUID.randomUUID().toString();
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       DomainEventPublisher publisher,
+                       @Value("${outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.retention-hours:24}") long retentionHours,
+                       @Value("${outbox.relay.lease-ms:15000}") long leaseMillis) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * Publicar tandas hasta vaciar los pendientes o hasta el primer fallo
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        relayLock.lock();
+        try {
+            List<OutboxMessage> batch;
+            do {
+                if (!holdsLease()) {
+                    return;
+                }
+                batch = outboxRepository.findUnpublished(batchSize);
+                if (batch.isEmpty() || !publish(batch)) {
+                    return;
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    /**
+     * Ceder el turno al apagar para que otra instancia no espere a que venza
+     */
+    @PreDestroy
+    void releaseLease() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            outboxRepository.releaseRelayLease(owner, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.debug("Could not release the outbox relay lease", e);
+        }
+    }
+
+    /**
+     * Borrar los mensajes publicados más antiguos que la retención
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("Purged {} published outbox messages", deleted);
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private boolean holdsLease() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return outboxRepository.tryAcquireRelayLease(owner, now, now.plus(leaseDuration));
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire the outbox relay lease", e);
+            return false;
+        }
+    }
+
+    private boolean publish(List<OutboxMessage> batch) {
+        try {
+            publisher.publish(batch);
+        } catch (RuntimeException e) {
+            // Nada se marca: la misma tanda se reintenta en la siguiente pasada
+            log.warn("Could not publish {} outbox messages", batch.size(), e);
+            return false;
+        }
+
+        List<Long> sequences = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            sequences.add(message.getSequence());
+        }
+        outboxRepository.markPublished(sequences, LocalDateTime.now());
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+package com.riwi.architecture.application.reservation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Rueda de temporización (hashed timing wheel) para vencimientos masivos
+ * CAPA DE APLICACIÓN - Programar y cancelar son O(1); avanzar la rueda solo
+ * recorre el cubo del tick actual, nunca todas las entradas pendientes.
+ *
+ * Cualquier hilo puede programar o cancelar: las altas entran por una cola
+ * concurrente y solo el hilo que llama a {@link #advance(Consumer)} toca
+ * los cubos. Las cancelaciones son perezosas: la entrada se descarta la
+ * próxima vez que su cubo pasa por el cursor.
+ *
+ * Las entradas vencidas se juntan bajo el candado y se entregan después de
+ * soltarlo: 'onExpired' puede ir al repositorio o volver a programar en la
+ * rueda sin bloquear a nadie.
+ *
+ * Resolución: un vencimiento se dispara entre 0 y un tick después de su plazo.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final ConcurrentLinkedQueue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        // Potencia de dos para ubicar el cubo con una máscara
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArrayDeque<Timeout<T>>[] created = new ArrayDeque[size];
+        this.buckets = created;
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Programar un vencimiento dentro de 'delayMillis'
+     */
+    public Timeout<T> schedule(T payload, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout<T> timeout = new Timeout<>(payload, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Avanzar el cursor hasta el instante actual entregando las entradas vencidas
+     *
+     * @return número de entradas entregadas a 'onExpired'
+     */
+    public int advance(Consumer<T> onExpired) {
+        List<T> expired = collectExpired();
+        for (T payload : expired) {
+            onExpired.accept(payload);
+        }
+        return expired.size();
+    }
+
+    /**
+     * Entradas programadas y no canceladas (aproximado: incluye canceladas aún no barridas)
+     */
+    public synchronized int size() {
+        int size = pending.size();
+        for (ArrayDeque<Timeout<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Procesar cada tick cuyo fin ya pasó y devolver lo vencido
+     */
+    private synchronized List<T> collectExpired() {
+        long elapsed = System.nanoTime() - startNanos;
+        List<T> expired = new ArrayList<>();
+        while ((currentTick + 1) * tickNanos <= elapsed) {
+            transferPending();
+            expireBucket(buckets[(int) (currentTick & mask)], expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // Nunca en un tick ya procesado: lo atrasado vence en el tick actual
+            long targetTick = Math.max(timeout.deadlineNanos / tickNanos, currentTick);
+            timeout.remainingRounds = (targetTick - currentTick) / buckets.length;
+            buckets[(int) (targetTick & mask)].addLast(timeout);
+        }
+    }
+
+    private void expireBucket(ArrayDeque<Timeout<T>> bucket, List<T> expired) {
+        // Rotar el cubo completo una vez: las que aún no tocan vuelven al final
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            Timeout<T> timeout = bucket.pollFirst();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.addLast(timeout);
+            } else {
+                expired.add(timeout.payload);
+            }
+        }
+    }
+
+    /**
+     * Entrada programada en la rueda
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T payload, long deadlineNanos) {
+            this.payload = payload;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.riwi.architecture.application.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Árbol de intervalos inmutable de los eventos de un venue
+ * Los intervalos [start, end) se guardan ordenados por inicio en arreglos
+ * paralelos; el árbol es implícito (la raíz de [lo, hi] es su punto medio)
+ * y maxEnd[mid] guarda el mayor fin de ese subárbol, lo que permite
+ * descartar ramas completas: buscar un solape cuesta O(log n).
+ *
+ * Los cambios devuelven un árbol nuevo (copia O(n)); las lecturas
+ * concurrentes nunca ven un árbol a medio construir.
+ */
+final class VenueIntervalTree {
+
+    static final long NONE = -1L;
+
+    private static final VenueIntervalTree EMPTY =
+            new VenueIntervalTree(new long[0], new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnd;
+
+    private VenueIntervalTree(long[] ids, long[] starts, long[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new long[ids.length];
+        build(0, ids.length - 1);
+    }
+
+    static VenueIntervalTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Árbol a partir de intervalos en cualquier orden
+     */
+    static VenueIntervalTree of(long[] ids, long[] starts, long[] ends) {
+        Integer[] order = new Integer[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+
+        long[] sortedIds = new long[ids.length];
+        long[] sortedStarts = new long[ids.length];
+        long[] sortedEnds = new long[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+        }
+        return new VenueIntervalTree(sortedIds, sortedStarts, sortedEnds);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Algún intervalo que se solape con [start, end), ignorando 'excludeId'
+     * @return su id, o NONE si no hay solape
+     */
+    long findOverlap(long start, long end, long excludeId) {
+        return find(0, ids.length - 1, start, end, excludeId);
+    }
+
+    /**
+     * Copia con el intervalo de 'id' agregado (o reemplazado si ya estaba)
+     */
+    VenueIntervalTree with(long id, long start, long end) {
+        int existing = indexOf(id);
+        int size = existing >= 0 ? ids.length : ids.length + 1;
+        long[] newIds = new long[size];
+        long[] newStarts = new long[size];
+        long[] newEnds = new long[size];
+
+        // Mezcla ordenada: se salta la versión anterior y se inserta la nueva en su lugar
+        int target = 0;
+        boolean inserted = false;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == existing) {
+                continue;
+            }
+            if (!inserted && starts[i] > start) {
+                newIds[target] = id;
+                newStarts[target] = start;
+                newEnds[target++] = end;
+                inserted = true;
+            }
+            newIds[target] = ids[i];
+            newStarts[target] = starts[i];
+            newEnds[target++] = ends[i];
+        }
+        if (!inserted) {
+            newIds[target] = id;
+            newStarts[target] = start;
+            newEnds[target] = end;
+        }
+        return new VenueIntervalTree(newIds, newStarts, newEnds);
+    }
+
+    /**
+     * Copia sin el intervalo de 'id' (el mismo árbol si no estaba)
+     */
+    VenueIntervalTree without(long id) {
+        int existing = indexOf(id);
+        if (existing < 0) {
+            return this;
+        }
+        long[] newIds = new long[ids.length - 1];
+        long[] newStarts = new long[ids.length - 1];
+        long[] newEnds = new long[ids.length - 1];
+        int target = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i != existing) {
+                newIds[target] = ids[i];
+                newStarts[target] = starts[i];
+                newEnds[target++] = ends[i];
+            }
+        }
+        return new VenueIntervalTree(newIds, newStarts, newEnds);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private long build(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(build(lo, mid - 1), build(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private long find(int lo, int hi, long start, long end, long excludeId) {
+        if (lo > hi) {
+            return NONE;
+        }
+        int mid = (lo + hi) >>> 1;
+        // Ningún intervalo del subárbol termina después de 'start'
+        if (maxEnd[mid] <= start) {
+            return NONE;
+        }
+        long left = find(lo, mid - 1, start, end, excludeId);
+        if (left != NONE) {
+            return left;
+        }
+        if (starts[mid] < end && start < ends[mid] && ids[mid] != excludeId) {
+            return ids[mid];
+        }
+        // A la derecha todos empiezan en starts[mid] o después
+        if (starts[mid] >= end) {
+            return NONE;
+        }
+        return find(mid + 1, hi, start, end, excludeId);
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
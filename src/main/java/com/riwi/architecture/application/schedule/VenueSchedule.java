@@ -0,0 +1,265 @@
+package com.riwi.architecture.application.schedule;
+
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.exceptions.VenueNotFoundException;
+import com.riwi.architecture.domain.exceptions.VenueScheduleConflictException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agenda de cada venue: capacidad y solapes de horario
+ * CAPA DE APLICACIÓN - Un evento no puede superar la capacidad de su venue
+ * ni coincidir en horario (eventDate..eventEndDate) con otro evento activo
+ * del mismo venue.
+ *
+ * Los horarios de un venue se cargan una vez (una consulta por índice) en
+ * un {@link VenueIntervalTree}; después cada verificación es O(log n) sin ir
+ * al repositorio. Las escrituras de esta instancia actualizan el árbol al
+ * confirmar su transacción; las de otras instancias se ven cuando el árbol
+ * vence ('events.schedule.ttl-ms') y se vuelve a cargar.
+ *
+ * Los eventos que ya terminaron no se cargan: no pueden solaparse con un
+ * alta nueva y solo agrandarían el árbol.
+ *
+ * Dos altas simultáneas en el mismo horario pueden pasar ambas la
+ * verificación: es una validación de negocio, no una restricción de la base.
+ * Dentro de una importación, {@link Batch} sí detecta los solapes entre
+ * líneas del mismo lote que todavía no se guardaron.
+ */
+@Component
+public class VenueSchedule {
+
+    private final EventRepository eventRepository;
+    private final VenueRepository venueRepository;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<Long, Loaded> schedules = new ConcurrentHashMap<>();
+    // Cambios confirmados por venue: una carga que se cruzó con alguno no se guarda
+    private final ConcurrentHashMap<Long, AtomicLong> changes = new ConcurrentHashMap<>();
+
+    public VenueSchedule(EventRepository eventRepository,
+                         VenueRepository venueRepository,
+                         @Value("${events.schedule.ttl-ms:60000}") long ttlMillis) {
+        this.eventRepository = eventRepository;
+        this.venueRepository = venueRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Verificar capacidad y horario antes de crear o actualizar 'event'
+     * En una actualización el propio evento (mismo id) no cuenta como solape
+     */
+    public void validate(Event event) {
+        Long venueId = event.getVenueId();
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new VenueNotFoundException(venueId));
+
+        if (venue.getCapacity() != null && event.getTotalCapacity() != null
+                && event.getTotalCapacity() > venue.getCapacity()) {
+            throw new InvalidEventDataException("totalCapacity",
+                "Cannot exceed venue capacity of " + venue.getCapacity());
+        }
+
+        long start = start(event);
+        long conflict = tree(venueId).findOverlap(start, end(event, start),
+                event.getId() != null ? event.getId() : VenueIntervalTree.NONE);
+        if (conflict != VenueIntervalTree.NONE) {
+            throw new VenueScheduleConflictException(venueId, conflict);
+        }
+    }
+
+    /**
+     * El evento se guardó: su horario entra (o se mueve) en la agenda al confirmar
+     */
+    public void eventSaved(Event event) {
+        Long venueId = event.getVenueId();
+        Long eventId = event.getId();
+        boolean active = Boolean.TRUE.equals(event.getActive()) && event.getEventDate() != null;
+        long start = active ? start(event) : 0;
+        long end = active ? end(event, start) : 0;
+
+        AfterCommit.run(() -> {
+            changed(venueId);
+            schedules.computeIfPresent(venueId, (id, loaded) -> new Loaded(
+                    active ? loaded.tree.with(eventId, start, end) : loaded.tree.without(eventId),
+                    loaded.loadedAtNanos));
+        });
+    }
+
+    public void eventsSaved(List<Event> events) {
+        for (Event event : events) {
+            eventSaved(event);
+        }
+    }
+
+    /**
+     * El evento se eliminó: su horario sale de la agenda al confirmar
+     */
+    public void eventRemoved(Long venueId, Long eventId) {
+        AfterCommit.run(() -> {
+            changed(venueId);
+            schedules.computeIfPresent(venueId, (id, loaded) ->
+                    new Loaded(loaded.tree.without(eventId), loaded.loadedAtNanos));
+        });
+    }
+
+    /**
+     * El venue se eliminó: su agenda se descarta
+     */
+    public void venueRemoved(Long venueId) {
+        AfterCommit.run(() -> {
+            changed(venueId);
+            schedules.remove(venueId);
+            changes.remove(venueId);
+        });
+    }
+
+    /**
+     * Lote de importación: horarios aceptados que aún no se guardaron
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Horarios de las líneas aceptadas desde el último guardado, por venue
+     * Se descarta con {@link #clear()} al guardar (o rechazar) el lote: desde
+     * ahí los horarios guardados ya están en la agenda confirmada.
+     */
+    public final class Batch {
+
+        private final Map<Long, VenueIntervalTree> pending = new HashMap<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Verificar 'event' contra la agenda confirmada y contra las líneas
+         * ya aceptadas del lote; si pasa, su horario queda reservado en el lote
+         */
+        public void validate(Event event, long lineNumber) {
+            VenueSchedule.this.validate(event);
+
+            Long venueId = event.getVenueId();
+            long start = start(event);
+            long end = end(event, start);
+            VenueIntervalTree tree = pending.getOrDefault(venueId, VenueIntervalTree.empty());
+            long conflict = tree.findOverlap(start, end, VenueIntervalTree.NONE);
+            if (conflict != VenueIntervalTree.NONE) {
+                throw new VenueScheduleConflictException("Venue with ID " + venueId
+                        + " is already booked by line " + conflict + " of this import during that time");
+            }
+            pending.put(venueId, tree.with(lineNumber, start, end));
+        }
+
+        public void clear() {
+            pending.clear();
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Árbol vigente del venue
+     * La consulta corre fuera del mapa (sin bloquear su segmento mientras
+     * espera a la base). Si un cambio se confirmó mientras tanto, el árbol
+     * cargado puede no incluirlo: sirve para esta verificación pero no se
+     * guarda, y la próxima lectura vuelve a cargar.
+     */
+    private VenueIntervalTree tree(Long venueId) {
+        Loaded current = schedules.get(venueId);
+        if (current != null && !isStale(current)) {
+            return current.tree;
+        }
+        AtomicLong counter = changes.computeIfAbsent(venueId, id -> new AtomicLong());
+        long before = counter.get();
+        Loaded fresh = load(venueId);
+
+        if (current == null) {
+            schedules.putIfAbsent(venueId, fresh);
+        } else {
+            schedules.replace(venueId, current, fresh);
+        }
+        if (counter.get() != before) {
+            schedules.remove(venueId, fresh);
+        }
+        return fresh.tree;
+    }
+
+    private void changed(Long venueId) {
+        AtomicLong counter = changes.get(venueId);
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    private Loaded load(Long venueId) {
+        List<Event> events = eventRepository.findActiveByVenueId(venueId);
+        long now = epochSeconds(LocalDateTime.now());
+        long[] ids = new long[events.size()];
+        long[] starts = new long[events.size()];
+        long[] ends = new long[events.size()];
+        int count = 0;
+        for (Event event : events) {
+            if (event.getEventDate() == null) {
+                continue;
+            }
+            long start = start(event);
+            long end = end(event, start);
+            // Ya terminó: ningún alta nueva puede solaparse con él
+            if (end <= now) {
+                continue;
+            }
+            ids[count] = event.getId();
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+        VenueIntervalTree tree = count == 0 ? VenueIntervalTree.empty()
+                : VenueIntervalTree.of(trim(ids, count), trim(starts, count), trim(ends, count));
+        return new Loaded(tree, System.nanoTime());
+    }
+
+    private boolean isStale(Loaded loaded) {
+        return System.nanoTime() - loaded.loadedAtNanos > ttlNanos;
+    }
+
+    private static long start(Event event) {
+        return epochSeconds(event.getEventDate());
+    }
+
+    /**
+     * Sin fecha de fin el evento ocupa su instante de inicio: dos eventos
+     * que empiezan a la misma hora siempre se solapan
+     */
+    private static long end(Event event, long start) {
+        long end = event.getEventEndDate() != null ? epochSeconds(event.getEventEndDate()) : start;
+        return Math.max(end, start + 1);
+    }
+
+    private static long epochSeconds(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long[] trim(long[] values, int count) {
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    private record Loaded(VenueIntervalTree tree, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,449 @@
+package com.riwi.architecture.application.search;
+
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Índice de texto completo de eventos (nombre, descripción, categoría y
+ * ciudad del venue) embebido en la aplicación
+ * CAPA DE APLICACIÓN - Evita los LIKE '%x%' sobre description: la búsqueda
+ * se resuelve en memoria con un {@link InvertedIndex} y solo los eventos
+ * encontrados se leen del repositorio.
+ *
+ * Solo se indexan eventos activos. Altas, cambios y bajas llegan al
+ * confirmar su transacción: se tokenizan en el hilo que los produce y se
+ * encolan; {@link #applyPending()} los aplica en tanda con el candado de
+ * escritura, así las escrituras nunca esperan a una consulta o al guardado.
+ *
+ * Disco: el índice se guarda (con CRC) cada 'persist-interval-ms' y al
+ * apagar. Al arrancar se lee el archivo (sin tokenizar nada) y luego solo
+ * se recorren las filas cambiadas desde la marca guardada; sin archivo
+ * válido se reconstruye con una pasada del cursor del catálogo.
+ * La misma puesta al día periódica recoge cambios de otras instancias.
+ */
+@Component
+public class EventTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventTextIndex.class);
+
+    private static final int NAME_WEIGHT = 8;
+    private static final int CATEGORY_WEIGHT = 4;
+    private static final int CITY_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Transacciones en curso al tomar la marca aún pueden confirmar filas más viejas
+    private static final long CATCH_UP_MARGIN_SECONDS = 300;
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final VenueRepository venueRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path indexPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex(1024);
+
+    private final ConcurrentLinkedQueue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Long, String> venueCities = new ConcurrentHashMap<>();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private volatile boolean dirty;
+    private volatile LocalDateTime watermark;
+
+    public EventTextIndex(EventRepository eventRepository,
+                          VenueRepository venueRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${events.search.index-path:${java.io.tmpdir}/event-search.idx}") String indexPath) {
+        this.eventRepository = eventRepository;
+        this.venueRepository = venueRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexPath = Paths.get(indexPath);
+    }
+
+    /**
+     * Cargar o reconstruir en segundo plano: el arranque no espera al índice
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread loader = new Thread(this::warmUp, "event-text-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * IDs de los eventos que coinciden, de mayor a menor relevancia
+     */
+    public long[] search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== CAMBIOS DEL CATÁLOGO ====================
+
+    /**
+     * Evento creado o actualizado (al confirmar); si quedó inactivo sale del índice
+     */
+    public void eventSaved(Event event) {
+        AfterCommit.run(() -> enqueue(event.getId(), Boolean.TRUE.equals(event.getActive())
+                ? weights(event.getName(), event.getDescription(), event.getCategory(), cityOf(event.getVenueId()))
+                : null));
+    }
+
+    public void eventsSaved(List<Event> events) {
+        for (Event event : events) {
+            eventSaved(event);
+        }
+    }
+
+    public void eventRemoved(Long eventId) {
+        AfterCommit.run(() -> enqueue(eventId, null));
+    }
+
+    /**
+     * Sacar un evento que ya no existe o no está activo (detectado al leer resultados)
+     */
+    public void forget(Long eventId) {
+        enqueue(eventId, null);
+    }
+
+    /**
+     * El venue cambió: si cambió su ciudad se reindexan sus eventos activos
+     */
+    public void venueChanged(Venue venue) {
+        AfterCommit.run(() -> {
+            String city = venue.getCity() != null ? venue.getCity() : "";
+            String previous = venueCities.put(venue.getId(), city);
+            if (city.equals(previous)) {
+                return;
+            }
+            for (Event event : eventRepository.findActiveByVenueId(venue.getId())) {
+                enqueue(event.getId(), weights(event.getName(), event.getDescription(), event.getCategory(), city));
+            }
+        });
+    }
+
+    /**
+     * Aplicar los cambios encolados en una sola toma del candado
+     * Si el índice se está guardando no se espera: las consultas quedarían
+     * detrás del candado de escritura; los cambios siguen en la cola
+     */
+    @Scheduled(fixedDelayString = "${events.search.apply-interval-ms:200}")
+    public void applyPending() {
+        if (pending.isEmpty() || !lock.writeLock().tryLock()) {
+            return;
+        }
+        try {
+            Change change;
+            while ((change = pending.poll()) != null) {
+                if (change.termWeights == null) {
+                    index.remove(change.eventId);
+                } else {
+                    index.put(change.eventId, change.termWeights);
+                }
+                if (rebuilding) {
+                    changedDuringRebuild.add(change.eventId);
+                }
+            }
+            if (index.needsCompaction()) {
+                index.compact();
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== CARGA Y PUESTA AL DÍA ====================
+
+    /**
+     * Recorrer las filas cambiadas desde la última marca
+     */
+    @Scheduled(fixedDelayString = "${events.search.catch-up-interval-ms:300000}")
+    public void catchUp() {
+        if (!ready || rebuilding) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            int changed = readOnlyTransaction.execute(status -> {
+                try (Stream<EventCatalogEntry> changes = eventRepository.streamCatalogChangedSince(watermark)) {
+                    int[] count = {0};
+                    changes.forEach(entry -> {
+                        rememberCity(entry);
+                        enqueue(entry.getEventId(), weightsOf(entry));
+                        count[0]++;
+                    });
+                    return count[0];
+                }
+            });
+            applyPending();
+            watermark = startedAt.minusSeconds(CATCH_UP_MARGIN_SECONDS);
+            if (changed > 0) {
+                log.debug("Search index caught up with {} changed events", changed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not catch up the search index", e);
+        }
+    }
+
+    /**
+     * Reconstruir desde cero con una pasada del cursor del catálogo; las
+     * consultas siguen usando el índice anterior hasta el reemplazo
+     */
+    public void rebuild() {
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            InvertedIndex fresh = new InvertedIndex(Math.max(1024, currentSize()));
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<EventCatalogEntry> catalog = eventRepository.streamCatalog(null)) {
+                    catalog.forEach(entry -> {
+                        rememberCity(entry);
+                        Map<String, Integer> termWeights = weightsOf(entry);
+                        if (termWeights != null) {
+                            fresh.put(entry.getEventId(), termWeights);
+                        }
+                    });
+                }
+            });
+
+            applyPending();
+            lock.writeLock().lock();
+            try {
+                index = fresh;
+                watermark = startedAt.minusSeconds(CATCH_UP_MARGIN_SECONDS);
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Search index rebuilt with {} events", fresh.size());
+        } finally {
+            rebuilding = false;
+        }
+        // Lo que cambió mientras se recorría el cursor puede no estar en el índice nuevo
+        reload(new ArrayList<>(changedDuringRebuild));
+        changedDuringRebuild.clear();
+    }
+
+    /**
+     * Guardar el índice si cambió: archivo temporal + renombrado atómico
+     */
+    @Scheduled(fixedDelayString = "${events.search.persist-interval-ms:300000}")
+    public void persist() {
+        if (!ready || !dirty) {
+            return;
+        }
+        Path temporary = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            if (indexPath.getParent() != null) {
+                Files.createDirectories(indexPath.getParent());
+            }
+            CRC32 checksum = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 20), checksum))) {
+                out.writeLong(watermark.toEpochSecond(ZoneOffset.UTC));
+                index.writeTo(out);
+                out.flush();
+                out.writeLong(checksum.getValue());
+            }
+            Files.move(temporary, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Could not persist search index to {}", indexPath, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    void persistOnShutdown() {
+        applyPending();
+        persist();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void warmUp() {
+        try {
+            if (load()) {
+                ready = true;
+                catchUp();
+            } else {
+                rebuild();
+                ready = true;
+                persist();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not build search index", e);
+        }
+    }
+
+    /**
+     * Leer el archivo guardado; false si no existe o no es válido
+     */
+    private boolean load() {
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(indexPath), 1 << 20), checksum))) {
+            LocalDateTime savedWatermark = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+            InvertedIndex loaded = InvertedIndex.readFrom(in);
+            long expected = checksum.getValue();
+            if (in.readLong() != expected) {
+                log.warn("Search index file {} is corrupt, rebuilding", indexPath);
+                return false;
+            }
+
+            lock.writeLock().lock();
+            try {
+                index = loaded;
+                watermark = savedWatermark;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Search index loaded from {} with {} events", indexPath, loaded.size());
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Could not read search index file {}, rebuilding", indexPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Volver a leer eventos puntuales: los que ya no existen o están inactivos salen
+     */
+    private void reload(List<Long> eventIds) {
+        for (int from = 0; from < eventIds.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = eventIds.subList(from, Math.min(from + RELOAD_BATCH_SIZE, eventIds.size()));
+            Map<Long, Event> found = new HashMap<>();
+            for (Event event : eventRepository.findAllById(batch)) {
+                found.put(event.getId(), event);
+            }
+            for (Long eventId : batch) {
+                Event event = found.get(eventId);
+                enqueue(eventId, event != null && Boolean.TRUE.equals(event.getActive())
+                        ? weights(event.getName(), event.getDescription(), event.getCategory(),
+                                  cityOf(event.getVenueId()))
+                        : null);
+            }
+        }
+        applyPending();
+    }
+
+    private int currentSize() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void enqueue(Long eventId, Map<String, Integer> termWeights) {
+        pending.add(new Change(eventId, termWeights));
+    }
+
+    private Map<String, Integer> weightsOf(EventCatalogEntry entry) {
+        if (!Boolean.TRUE.equals(entry.getActive())) {
+            return null;
+        }
+        String city = entry.getVenueCity() != null ? entry.getVenueCity() : cityOf(entry.getVenueId());
+        return weights(entry.getName(), entry.getDescription(), entry.getCategory(), city);
+    }
+
+    /**
+     * Peso de cada término: suma de los pesos de los campos donde aparece
+     */
+    private static Map<String, Integer> weights(String name, String description, String category, String city) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        TextTokenizer.tokenize(name, token -> termWeights.merge(token, NAME_WEIGHT, Integer::sum));
+        TextTokenizer.tokenize(category, token -> termWeights.merge(token, CATEGORY_WEIGHT, Integer::sum));
+        TextTokenizer.tokenize(city, token -> termWeights.merge(token, CITY_WEIGHT, Integer::sum));
+        TextTokenizer.tokenize(description, token -> termWeights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+        return termWeights;
+    }
+
+    private void rememberCity(EventCatalogEntry entry) {
+        if (entry.getVenueId() != null && entry.getVenueCity() != null) {
+            venueCities.put(entry.getVenueId(), entry.getVenueCity());
+        }
+    }
+
+    /**
+     * La consulta corre fuera del mapa; si otro hilo guardó la ciudad
+     * mientras tanto (un cambio del venue), gana la suya
+     */
+    private String cityOf(Long venueId) {
+        if (venueId == null) {
+            return "";
+        }
+        String city = venueCities.get(venueId);
+        if (city != null) {
+            return city;
+        }
+        String loaded = venueRepository.findById(venueId)
+                .map(Venue::getCity)
+                .orElse("");
+        String previous = venueCities.putIfAbsent(venueId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Cambio pendiente: términos con su peso, o null para sacar el evento
+     */
+    private record Change(Long eventId, Map<String, Integer> termWeights) {
+    }
+}
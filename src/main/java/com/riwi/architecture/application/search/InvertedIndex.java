@@ -0,0 +1,535 @@
+package com.riwi.architecture.application.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Índice invertido término -> documentos con su peso
+ * Cada documento (evento) recibe un ordinal creciente; las listas de un
+ * término son arreglos int[] de ordinales ordenados + short[] de pesos, así
+ * que agregar un documento es anexar al final de cada lista.
+ *
+ * Reindexar o borrar marca el ordinal anterior como eliminado (BitSet) y
+ * {@link #compact()} lo quita de las listas cuando los eliminados pesan.
+ *
+ * Consultas: todos los términos deben coincidir (AND). El último término
+ * también busca por prefijo ("conci" -> "concierto") y los de 4+ letras
+ * admiten errores de tipeo (distancia de edición 1, o 2 desde 8 letras,
+ * con la primera letra correcta). Puntaje: suma de peso * idf por término.
+ *
+ * No es seguro entre hilos: EventTextIndex lo protege con un candado.
+ */
+final class InvertedIndex {
+
+    private static final float PREFIX_FACTOR = 0.8f;
+    private static final float FUZZY_FACTOR = 0.6f;
+
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int COMPACT_MIN_REMOVED = 16_384;
+
+    private static final int MAGIC = 0x45564958; // "EVIX"
+    private static final int FORMAT_VERSION = 1;
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final BitSet removed = new BitSet();
+    private final LongIntHashMap ordinals;
+    private long[] documents;
+    private int documentCount;
+    private int removedCount;
+
+    InvertedIndex(int expectedDocuments) {
+        ordinals = new LongIntHashMap(expectedDocuments);
+        documents = new long[Math.max(16, expectedDocuments)];
+    }
+
+    /**
+     * Documentos vigentes
+     */
+    int size() {
+        return documentCount - removedCount;
+    }
+
+    boolean contains(long eventId) {
+        return ordinals.get(eventId) != LongIntHashMap.MISSING;
+    }
+
+    /**
+     * Indexar (o reindexar) un evento con el peso de cada uno de sus términos
+     */
+    void put(long eventId, Map<String, Integer> termWeights) {
+        remove(eventId);
+        if (documentCount == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        int ordinal = documentCount++;
+        documents[ordinal] = eventId;
+        ordinals.put(eventId, ordinal);
+        for (Map.Entry<String, Integer> term : termWeights.entrySet()) {
+            terms.computeIfAbsent(term.getKey(), key -> new Postings())
+                    .add(ordinal, (short) Math.min(term.getValue(), Short.MAX_VALUE));
+        }
+    }
+
+    boolean remove(long eventId) {
+        int ordinal = ordinals.remove(eventId);
+        if (ordinal == LongIntHashMap.MISSING) {
+            return false;
+        }
+        removed.set(ordinal);
+        removedCount++;
+        return true;
+    }
+
+    boolean needsCompaction() {
+        return removedCount >= COMPACT_MIN_REMOVED && removedCount * 4 >= documentCount;
+    }
+
+    /**
+     * Quitar de las listas los ordinales eliminados y renumerar los vigentes
+     * (el orden relativo se conserva, así que las listas siguen ordenadas)
+     */
+    void compact() {
+        int[] remap = liveRemap();
+        long[] kept = new long[Math.max(16, size())];
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            if (remap[ordinal] >= 0) {
+                kept[remap[ordinal]] = documents[ordinal];
+            }
+        }
+        Iterator<Postings> postings = terms.values().iterator();
+        while (postings.hasNext()) {
+            Postings list = postings.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                postings.remove();
+            }
+        }
+
+        documentCount = size();
+        documents = kept;
+        removed.clear();
+        removedCount = 0;
+        ordinals.clear();
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            ordinals.put(documents[ordinal], ordinal);
+        }
+    }
+
+    // ==================== CONSULTA ====================
+
+    /**
+     * IDs de los eventos que coinciden con todos los términos, de mayor a menor puntaje
+     */
+    long[] search(String query, int limit) {
+        List<String> tokens = new ArrayList<>();
+        TextTokenizer.tokenize(query, token -> {
+            if (tokens.size() < MAX_QUERY_TOKENS && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        });
+        if (tokens.isEmpty() || size() == 0) {
+            return new long[0];
+        }
+
+        Matches[] perToken = new Matches[tokens.size()];
+        for (int i = 0; i < perToken.length; i++) {
+            perToken[i] = matches(tokens.get(i), i == perToken.length - 1);
+            if (perToken[i].size == 0) {
+                return new long[0];
+            }
+        }
+
+        // Intersectar desde la lista más corta
+        Arrays.sort(perToken, Comparator.comparingInt(m -> m.size));
+        Matches result = perToken[0];
+        for (int i = 1; i < perToken.length && result.size > 0; i++) {
+            result = intersect(result, perToken[i]);
+        }
+        return top(result, limit);
+    }
+
+    /**
+     * Documentos de un término de la consulta: exacto, prefijo y variantes con error de tipeo
+     * Un documento que coincide por varias variantes se queda con el mejor puntaje
+     */
+    private Matches matches(String token, boolean lastToken) {
+        List<Postings> expansions = new ArrayList<>();
+        List<Float> factors = new ArrayList<>();
+
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            expansions.add(exact);
+            factors.add(1f);
+        }
+        if (lastToken && token.length() >= MIN_PREFIX_LENGTH) {
+            for (Postings prefixed : mostFrequent(terms.subMap(token, false, token + Character.MAX_VALUE, false)
+                    .values())) {
+                expansions.add(prefixed);
+                factors.add(PREFIX_FACTOR);
+            }
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            for (Postings similar : mostFrequent(similarTerms(token))) {
+                expansions.add(similar);
+                factors.add(FUZZY_FACTOR);
+            }
+        }
+
+        int live = size();
+        if (expansions.size() == 1) {
+            return single(expansions.get(0), idf(expansions.get(0), live) * factors.get(0));
+        }
+
+        // Varias listas: (ordinal, puntaje) empaquetados en un long y ordenados;
+        // con puntajes positivos los bits del float ordenan igual que el valor
+        int total = 0;
+        for (Postings expansion : expansions) {
+            total += expansion.size;
+        }
+        long[] packed = new long[total];
+        int n = 0;
+        for (int e = 0; e < expansions.size(); e++) {
+            Postings expansion = expansions.get(e);
+            float factor = idf(expansion, live) * factors.get(e);
+            for (int i = 0; i < expansion.size; i++) {
+                int ordinal = expansion.ordinals[i];
+                if (!removed.get(ordinal)) {
+                    float score = expansion.weights[i] * factor;
+                    packed[n++] = ((long) ordinal << 32) | (Float.floatToIntBits(score) & 0xFFFFFFFFL);
+                }
+            }
+        }
+        Arrays.sort(packed, 0, n);
+
+        Matches merged = new Matches(n);
+        for (int i = 0; i < n; i++) {
+            // El último de cada ordinal es el de mayor puntaje
+            if (i + 1 < n && (packed[i + 1] >>> 32) == (packed[i] >>> 32)) {
+                continue;
+            }
+            merged.add((int) (packed[i] >>> 32), Float.intBitsToFloat((int) packed[i]));
+        }
+        return merged;
+    }
+
+    private Matches single(Postings postings, float factor) {
+        Matches matches = new Matches(postings.size);
+        for (int i = 0; i < postings.size; i++) {
+            if (!removed.get(postings.ordinals[i])) {
+                matches.add(postings.ordinals[i], postings.weights[i] * factor);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Términos a distancia de edición 1 (2 desde 8 letras) con la misma primera letra
+     */
+    private List<Postings> similarTerms(String token) {
+        int maxDistance = token.length() >= 8 ? 2 : 1;
+        String first = token.substring(0, 1);
+        List<Postings> similar = new ArrayList<>();
+        for (Map.Entry<String, Postings> term : terms.subMap(first, true, first + Character.MAX_VALUE, true)
+                .entrySet()) {
+            String candidate = term.getKey();
+            if (Math.abs(candidate.length() - token.length()) <= maxDistance
+                    && !candidate.equals(token)
+                    && editDistance(token, candidate, maxDistance) <= maxDistance) {
+                similar.add(term.getValue());
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * Las expansiones más frecuentes primero, hasta MAX_EXPANSIONS
+     */
+    private static List<Postings> mostFrequent(Iterable<Postings> candidates) {
+        List<Postings> result = new ArrayList<>();
+        for (Postings candidate : candidates) {
+            result.add(candidate);
+        }
+        if (result.size() > MAX_EXPANSIONS) {
+            result.sort(Comparator.comparingInt((Postings p) -> p.size).reversed());
+            return result.subList(0, MAX_EXPANSIONS);
+        }
+        return result;
+    }
+
+    /**
+     * Intersección de dos listas ordenadas; la más corta avanza sobre la
+     * larga con búsqueda exponencial (no recorre toda la larga)
+     */
+    private static Matches intersect(Matches shorter, Matches longer) {
+        Matches result = new Matches(shorter.size);
+        int j = 0;
+        for (int i = 0; i < shorter.size && j < longer.size; i++) {
+            int target = shorter.ordinals[i];
+            j = gallop(longer.ordinals, j, longer.size, target);
+            if (j < longer.size && longer.ordinals[j] == target) {
+                result.add(target, shorter.scores[i] + longer.scores[j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Primera posición desde 'from' con valor >= target
+     */
+    private static int gallop(int[] values, int from, int size, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && values[high] < target) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(values, low, Math.min(high + 1, size), target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Los 'limit' mejores: puntaje en los 32 bits altos y, a igual puntaje,
+     * el ordinal más antiguo primero
+     */
+    private long[] top(Matches matches, int limit) {
+        PriorityQueue<Long> best = new PriorityQueue<>(limit + 1);
+        for (int i = 0; i < matches.size; i++) {
+            long key = ((long) Float.floatToIntBits(matches.scores[i]) << 32)
+                    | (Integer.MAX_VALUE - matches.ordinals[i]);
+            if (best.size() < limit) {
+                best.add(key);
+            } else if (key > best.peek()) {
+                best.poll();
+                best.add(key);
+            }
+        }
+        long[] eventIds = new long[best.size()];
+        for (int i = eventIds.length - 1; i >= 0; i--) {
+            long key = best.poll();
+            eventIds[i] = documents[Integer.MAX_VALUE - (int) key];
+        }
+        return eventIds;
+    }
+
+    private static float idf(Postings postings, int live) {
+        return (float) Math.log(1.0 + (double) live / postings.size);
+    }
+
+    /**
+     * Distancia de edición con transposiciones (Damerau restringida), cortando
+     * en cuanto una fila completa supera 'max'
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    // ==================== DISCO ====================
+
+    /**
+     * Escribir solo lo vigente, ya renumerado: no modifica el índice, así que
+     * basta con el candado de lectura
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        int[] remap = liveRemap();
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(size());
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            if (remap[ordinal] >= 0) {
+                out.writeLong(documents[ordinal]);
+            }
+        }
+        for (Map.Entry<String, Postings> term : terms.entrySet()) {
+            Postings postings = term.getValue();
+            int live = 0;
+            for (int i = 0; i < postings.size; i++) {
+                if (remap[postings.ordinals[i]] >= 0) {
+                    live++;
+                }
+            }
+            if (live == 0) {
+                continue;
+            }
+            out.writeBoolean(true);
+            out.writeUTF(term.getKey());
+            out.writeInt(live);
+            // Ordinales como diferencias en varint: la mayoría ocupa 1-2 bytes
+            int previous = 0;
+            for (int i = 0; i < postings.size; i++) {
+                int ordinal = remap[postings.ordinals[i]];
+                if (ordinal >= 0) {
+                    writeVarInt(out, ordinal - previous);
+                    out.writeShort(postings.weights[i]);
+                    previous = ordinal;
+                }
+            }
+        }
+        out.writeBoolean(false);
+    }
+
+    static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported search index format");
+        }
+        int documentCount = in.readInt();
+        InvertedIndex index = new InvertedIndex(documentCount);
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            long eventId = in.readLong();
+            index.documents[ordinal] = eventId;
+            index.ordinals.put(eventId, ordinal);
+        }
+        index.documentCount = documentCount;
+
+        while (in.readBoolean()) {
+            String term = in.readUTF();
+            int size = in.readInt();
+            Postings postings = new Postings(size);
+            int ordinal = 0;
+            for (int i = 0; i < size; i++) {
+                ordinal += readVarInt(in);
+                if (ordinal >= documentCount) {
+                    throw new IOException("Corrupt search index postings for term " + term);
+                }
+                postings.add(ordinal, in.readShort());
+            }
+            index.terms.put(term, postings);
+        }
+        return index;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Ordinal nuevo de cada ordinal vigente; -1 para los eliminados
+     */
+    private int[] liveRemap() {
+        int[] remap = new int[documentCount];
+        int next = 0;
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            remap[ordinal] = removed.get(ordinal) ? -1 : next++;
+        }
+        return remap;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in search index");
+    }
+
+    /**
+     * Lista de un término: ordinales crecientes y su peso
+     */
+    private static final class Postings {
+        private int[] ordinals;
+        private short[] weights;
+        private int size;
+
+        private Postings() {
+            this(4);
+        }
+
+        private Postings(int capacity) {
+            ordinals = new int[Math.max(1, capacity)];
+            weights = new short[Math.max(1, capacity)];
+        }
+
+        private void add(int ordinal, short weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size + (size >> 1) + 1);
+                weights = Arrays.copyOf(weights, ordinals.length);
+            }
+            ordinals[size] = ordinal;
+            weights[size] = weight;
+            size++;
+        }
+
+        private void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[kept] = ordinal;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    /**
+     * Coincidencias de un término (o de la intersección): ordinales crecientes y puntaje
+     */
+    private static final class Matches {
+        private final int[] ordinals;
+        private final float[] scores;
+        private int size;
+
+        private Matches(int capacity) {
+            ordinals = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        private void add(int ordinal, float score) {
+            ordinals[size] = ordinal;
+            scores[size] = score;
+            size++;
+        }
+    }
+}
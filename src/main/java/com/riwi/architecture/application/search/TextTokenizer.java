@@ -0,0 +1,43 @@
+package com.riwi.architecture.application.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Normalización de texto para el índice y las consultas
+ * Minúsculas, sin tildes (NFD sin marcas combinantes) y cortado en todo lo
+ * que no sea letra o dígito: "Café Tacuba" -> "cafe", "tacuba"
+ */
+final class TextTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 32;
+
+    private TextTokenizer() {
+    }
+
+    static void tokenize(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.append(c);
+                }
+            } else if (!token.isEmpty()) {
+                sink.accept(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            sink.accept(token.toString());
+        }
+    }
+}
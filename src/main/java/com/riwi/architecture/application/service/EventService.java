@@ -1,13 +1,27 @@
 package com.riwi.architecture.application.service;
 
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.idempotency.IdempotencyStore;
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.validation.EventValidator;
+import com.riwi.architecture.application.validation.Violation;
 import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketOperation;
 import com.riwi.architecture.domain.ports.in.*;
 import com.riwi.architecture.domain.ports.out.EventRepository;
 import com.riwi.architecture.domain.exceptions.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
 
 /**
  * Servicio de aplicación para Event
@@ -22,9 +36,36 @@ public class EventService implements
         DeleteEventUseCase {
     
     private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+    private final TicketAllocator ticketAllocator;
+    private final ShardedInventory shardedInventory;
+    private final IdempotencyStore idempotencyStore;
+    private final TicketLedger ticketLedger;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final AvailabilityProjection availabilityProjection;
+    private final EventTextIndex eventTextIndex;
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        TicketInventoryEngine ticketInventory,
+                        TicketAllocator ticketAllocator,
+                        ShardedInventory shardedInventory,
+                        IdempotencyStore idempotencyStore,
+                        TicketLedger ticketLedger,
+                        DomainEventOutbox domainEventOutbox,
+                        VenueSchedule venueSchedule,
+                        AvailabilityProjection availabilityProjection,
+                        EventTextIndex eventTextIndex) {
         this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+        this.ticketAllocator = ticketAllocator;
+        this.shardedInventory = shardedInventory;
+        this.idempotencyStore = idempotencyStore;
+        this.ticketLedger = ticketLedger;
+        this.domainEventOutbox = domainEventOutbox;
+        this.venueSchedule = venueSchedule;
+        this.availabilityProjection = availabilityProjection;
+        this.eventTextIndex = eventTextIndex;
     }
 
     // ==================== CREATE ====================
@@ -33,6 +74,7 @@ public class EventService implements
     public Event createEvent(Event event) {
         // LÓGICA DE NEGOCIO: Validaciones
         validateEventForCreation(event);
+        validateVenueSchedule(event);
         
         // LÓGICA DE NEGOCIO: Establecer valores por defecto
         event.setActive(true);
@@ -44,7 +86,12 @@ public class EventService implements
             event.setAvailableTickets(event.getTotalCapacity());
         }
         
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        ticketLedger.recordOpening(savedEvent);
+        domainEventOutbox.eventCreated(savedEvent);
+        venueSchedule.eventSaved(savedEvent);
+        eventTextIndex.eventSaved(savedEvent);
+        return savedEvent;
     }
     
     // ==================== UPDATE ====================
@@ -66,80 +113,77 @@ public class EventService implements
         existingEvent.setCategory(event.getCategory());
         existingEvent.setTicketPrice(event.getTicketPrice());
         existingEvent.setUpdatedAt(LocalDateTime.now());
+        validateVenueSchedule(existingEvent);
+        ticketInventory.applyAvailableTickets(existingEvent);
         
-        return eventRepository.save(existingEvent);
+        Event savedEvent = eventRepository.save(existingEvent);
+        ticketInventory.refresh(savedEvent);
+        venueSchedule.eventSaved(savedEvent);
+        eventTextIndex.eventSaved(savedEvent);
+        availabilityProjection.describe(savedEvent);
+        return savedEvent;
     }
     
+    /**
+     * Misma venta que el caso de uso (TicketAllocator: porciones, inventario
+     * en memoria, agrupador o sentencia condicional); solo cambia el tipo de
+     * excepción que ve quien llama
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Event sellTickets(Long eventId, Integer quantity) {
         validateId(eventId);
+        validateQuantity(quantity);
         
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Event not found " + eventId));
-        
-        // ========== LÓGICA DE NEGOCIO: VENDER TICKETS ==========
-        
-        // Validación 1: Cantidad válida
-        if (quantity == null || quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be greater than zero");
-        }
-        
-        // Validación 2: Evento activo y con tickets disponibles
-        if (event.getActive() == null || !event.getActive()) {
-            throw new IllegalArgumentException("Event is inactive");
-        }
-        
-        if (event.getAvailableTickets() == null || event.getAvailableTickets() <= 0) {
-            throw new IllegalArgumentException("No tickets available for this event");
-        }
-        
-        // Validación 3: Suficientes tickets
-        if (event.getAvailableTickets() < quantity) {
-            throw new IllegalArgumentException(
-                "No enough tickets availables: This is the quantity " + 
-                event.getAvailableTickets());
-        }
-        
-        // Validación 4: Evento no pasado
-        if (isEventPast(event)) {
-            throw new IllegalArgumentException("Event has already passed");
-        }
-        
-        // Acción: Reducir tickets disponibles
-        event.setAvailableTickets(event.getAvailableTickets() - quantity);
-        event.setUpdatedAt(LocalDateTime.now());
-        
-        return eventRepository.save(event);
+        return take(eventId, quantity, null);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Event refundTickets(Long eventId, Integer quantity) {
         validateId(eventId);
+        validateQuantity(quantity);
         
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Event not found " + eventId));
+        return giveBack(eventId, quantity, null);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Event sellTickets(Long eventId, Integer quantity, String idempotencyKey) {
+        validateId(eventId);
+        validateQuantity(quantity);
         
-        // ========== LÓGICA DE NEGOCIO: DEVOLVER TICKETS ==========
+        return idempotencyStore.execute(idempotencyKey, TicketOperation.SELL, eventId, quantity,
+                inTransaction -> take(eventId, quantity, inTransaction));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Event refundTickets(Long eventId, Integer quantity, String idempotencyKey) {
+        validateId(eventId);
+        validateQuantity(quantity);
         
-        // Validación 1: Cantidad válida
-        if (quantity == null || quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be greater than zero");
+        return idempotencyStore.execute(idempotencyKey, TicketOperation.REFUND, eventId, quantity,
+                inTransaction -> giveBack(eventId, quantity, inTransaction));
+    }
+
+    // ========== LÓGICA DE NEGOCIO: VENDER / DEVOLVER TICKETS ==========
+
+    private Event take(Long eventId, int quantity, IntConsumer inTransaction) {
+        try {
+            return ticketAllocator.take(eventId, quantity, inTransaction);
+        } catch (EventNotFoundException | EventInactiveException
+                 | InsufficientTicketsException | PastEventException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-        
-        // Validación 2: No exceder capacidad total
-        int newAvailable = event.getAvailableTickets() + quantity;
-        if (newAvailable > event.getTotalCapacity()) {
-            throw new IllegalArgumentException(
-                "Refund exceeds total capacity of the event");
+    }
+
+    private Event giveBack(Long eventId, int quantity, IntConsumer inTransaction) {
+        try {
+            return ticketAllocator.giveBack(eventId, quantity, inTransaction);
+        } catch (EventNotFoundException | InvalidEventDataException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-        
-        // Acción: Incrementar tickets disponibles
-        event.setAvailableTickets(newAvailable);
-        event.setUpdatedAt(LocalDateTime.now());
-        
-        return eventRepository.save(event);
     }
     
     // ==================== DELETE ====================
@@ -148,73 +192,56 @@ public class EventService implements
     public void deleteEvent(Long id) {
         validateId(id);
         
-        if (!eventRepository.existsById(id)) {
-            throw new IllegalArgumentException("Event not found " + id);
-        }
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Event not found " + id));
+        
+        // Antes de EVENT_DELETED: las porciones se bloquean (una venta en curso
+        // termina antes) y las ventas en memoria se asientan, así ningún
+        // TICKETS_SOLD del evento queda detrás de su borrado en el outbox
+        shardedInventory.evict(id);
+        ticketLedger.record(ticketInventory.release(id));
         
         eventRepository.deleteById(id);
+        domainEventOutbox.eventDeleted(id);
+        venueSchedule.eventRemoved(event.getVenueId(), id);
+        eventTextIndex.eventRemoved(id);
+        availabilityProjection.remove(id);
     }
     
     // ==================== MÉTODOS AUXILIARES (LÓGICA DE NEGOCIO) ====================
     
     /**
-     * LÓGICA DE NEGOCIO: Verificar si el evento ya pasó
+     * LÓGICA DE NEGOCIO: Capacidad del venue y horario sin solapes
      */
-    private boolean isEventPast(Event event) {
-        if (event.getEventEndDate() != null) {
-            return LocalDateTime.now().isAfter(event.getEventEndDate());
+    private void validateVenueSchedule(Event event) {
+        try {
+            venueSchedule.validate(event);
+        } catch (VenueNotFoundException | VenueScheduleConflictException | InvalidEventDataException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-        return event.getEventDate() != null && 
-               LocalDateTime.now().isAfter(event.getEventDate());
     }
     
     /**
-     * LÓGICA DE NEGOCIO: Validar evento para creación
+     * LÓGICA DE NEGOCIO: Validar evento para creación (todas las reglas incumplidas juntas)
      */
     private void validateEventForCreation(Event event) {
-        if (event == null) {
-            throw new IllegalArgumentException("Event cant be null");
-        }
-        
-        validateEventBasicFields(event);
-        
-        if (event.getTotalCapacity() == null || event.getTotalCapacity() <= 0) {
-            throw new IllegalArgumentException(
-                "Total capacity must be greater than zero");
-        }
-        
-        if (event.getVenueId() == null) {
-            throw new IllegalArgumentException("Venue ID is mandatory");
-        }
+        EventValidator.CREATION.validate(event, violations -> new IllegalArgumentException(Violation.describe(violations)));
     }
     
     /**
      * LÓGICA DE NEGOCIO: Validar evento para actualización
      */
     private void validateEventForUpdate(Event event) {
-        if (event == null) {
-            throw new IllegalArgumentException("Event cant be null");
-        }
-        
-        validateEventBasicFields(event);
+        EventValidator.UPDATE.validate(event, violations -> new IllegalArgumentException(Violation.describe(violations)));
     }
     
     /**
-     * LÓGICA DE NEGOCIO: Validaciones básicas de campos
+     * Validar cantidad de tickets
      */
-    private void validateEventBasicFields(Event event) {
-        if (event.getName() == null || event.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("The name is mandatory");
-        }
-        
-        if (event.getEventDate() == null) {
-            throw new IllegalArgumentException("The event date is mandatory");
-        }
-        
-        if (event.getTicketPrice() == null || 
-            event.getTicketPrice().doubleValue() < 0) {
-            throw new IllegalArgumentException(
-                "The ticket price needs to be zero or positive");
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than zero");
         }
     }
     
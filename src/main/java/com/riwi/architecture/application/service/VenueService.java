@@ -1,8 +1,14 @@
 package com.riwi.architecture.application.service;
 
-
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.validation.VenueValidator;
+import com.riwi.architecture.application.validation.Violation;
 import com.riwi.architecture.domain.model.Venue;
 import com.riwi.architecture.domain.ports.in.*;
+import com.riwi.architecture.domain.ports.out.EventRepository;
 import com.riwi.architecture.domain.ports.out.VenueRepository;
 import com.riwi.architecture.domain.exceptions.*;
 import org.springframework.stereotype.Service;
@@ -23,9 +29,24 @@ public class VenueService implements
         DeleteVenueUseCase {
     
     private final VenueRepository venueRepository;
+    private final EventRepository eventRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final EventTextIndex eventTextIndex;
+    private final VenueGeoIndex venueGeoIndex;
 
-    public VenueService(VenueRepository venueRepository) {
+    public VenueService(VenueRepository venueRepository,
+                        EventRepository eventRepository,
+                        DomainEventOutbox domainEventOutbox,
+                        VenueSchedule venueSchedule,
+                        EventTextIndex eventTextIndex,
+                        VenueGeoIndex venueGeoIndex) {
         this.venueRepository = venueRepository;
+        this.eventRepository = eventRepository;
+        this.domainEventOutbox = domainEventOutbox;
+        this.venueSchedule = venueSchedule;
+        this.eventTextIndex = eventTextIndex;
+        this.venueGeoIndex = venueGeoIndex;
     }
 
     // ==================== CREATE ====================
@@ -40,7 +61,9 @@ public class VenueService implements
         venue.setCreatedAt(LocalDateTime.now());
         venue.setUpdatedAt(LocalDateTime.now());
         
-        return venueRepository.save(venue);
+        Venue savedVenue = venueRepository.save(venue);
+        venueGeoIndex.venueSaved(savedVenue);
+        return savedVenue;
     }
     
     // ==================== UPDATE ====================
@@ -62,9 +85,14 @@ public class VenueService implements
         existingVenue.setCapacity(venue.getCapacity());
         existingVenue.setType(venue.getType());
         existingVenue.setFacilities(venue.getFacilities());
+        existingVenue.setLatitude(venue.getLatitude());
+        existingVenue.setLongitude(venue.getLongitude());
         existingVenue.setUpdatedAt(LocalDateTime.now());
         
-        return venueRepository.save(existingVenue);
+        Venue savedVenue = venueRepository.save(existingVenue);
+        eventTextIndex.venueChanged(savedVenue);
+        venueGeoIndex.venueSaved(savedVenue);
+        return savedVenue;
     }
     
     // ==================== DELETE ====================
@@ -77,60 +105,31 @@ public class VenueService implements
             throw new IllegalArgumentException("Venue no encontrado con ID: " + id);
         }
         
-        // TODO: LÓGICA DE NEGOCIO adicional
-        // Verificar que no haya eventos activos asociados a este venue
-        // antes de eliminarlo
+        // LÓGICA DE NEGOCIO: no eliminar un venue con eventos activos
+        if (eventRepository.existsActiveByVenueId(id)) {
+            throw new VenueHasActiveEventsException(id);
+        }
         
         venueRepository.deleteById(id);
+        domainEventOutbox.venueDeleted(id);
+        venueSchedule.venueRemoved(id);
+        venueGeoIndex.venueRemoved(id);
     }
     
     // ==================== MÉTODOS AUXILIARES (LÓGICA DE NEGOCIO) ====================
     
     /**
-     * LÓGICA DE NEGOCIO: Validar venue para creación
+     * LÓGICA DE NEGOCIO: Validar venue para creación (todas las reglas incumplidas juntas)
      */
     private void validateVenueForCreation(Venue venue) {
-        if (venue == null) {
-            throw new IllegalArgumentException("El venue no puede ser nulo");
-        }
-        
-        validateVenueBasicFields(venue);
-        
-        if (venue.getCapacity() == null || venue.getCapacity() <= 0) {
-            throw new IllegalArgumentException("La capacidad debe ser mayor a cero");
-        }
+        VenueValidator.CREATION.validate(venue, violations -> new IllegalArgumentException(Violation.describe(violations)));
     }
     
     /**
      * LÓGICA DE NEGOCIO: Validar venue para actualización
      */
     private void validateVenueForUpdate(Venue venue) {
-        if (venue == null) {
-            throw new IllegalArgumentException("El venue no puede ser nulo");
-        }
-        
-        validateVenueBasicFields(venue);
-    }
-    
-    /**
-     * LÓGICA DE NEGOCIO: Validaciones básicas de campos
-     */
-    private void validateVenueBasicFields(Venue venue) {
-        if (venue.getName() == null || venue.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("El nombre del venue es obligatorio");
-        }
-        
-        if (venue.getAddress() == null || venue.getAddress().trim().isEmpty()) {
-            throw new IllegalArgumentException("La dirección es obligatoria");
-        }
-        
-        if (venue.getCity() == null || venue.getCity().trim().isEmpty()) {
-            throw new IllegalArgumentException("La ciudad es obligatoria");
-        }
-        
-        if (venue.getCountry() == null || venue.getCountry().trim().isEmpty()) {
-            throw new IllegalArgumentException("El país es obligatorio");
-        }
+        VenueValidator.UPDATE.validate(venue, violations -> new IllegalArgumentException(Violation.describe(violations)));
     }
     
     /**
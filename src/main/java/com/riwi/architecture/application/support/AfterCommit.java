@@ -0,0 +1,48 @@
+package com.riwi.architecture.application.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplicar un cambio en memoria solo si la transacción en curso se confirma
+ *
+ * Con una transacción activa el cambio se registra para después del commit
+ * (si se revierte, nunca se aplica); sin transacción se aplica en el acto.
+ * Lo usan las estructuras en memoria (agendas, índices, proyecciones,
+ * cachés) que deben reflejar solo lo que quedó escrito en la base.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Deshacer un cambio en memoria si la transacción en curso se revierte
+     * (sin transacción no hay nada que deshacer)
+     */
+    public static void onRollback(Runnable undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.run();
+                    }
+                }
+            });
+        }
+    }
+
+    public static void run(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.riwi.architecture.application.support;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Hora local actual como segundos de época, sin reservar memoria
+ *
+ * Equivale a LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) (el criterio
+ * de {@link com.riwi.architecture.domain.model.EventInventoryView}), pero
+ * LocalDateTime.now() crea varios objetos en cada llamada. Aquí se suma
+ * a currentTimeMillis el desfase de la zona, que se recalcula como mucho
+ * una vez por minuto (un cambio de horario se nota con ese retraso).
+ */
+public final class LocalEpochClock {
+
+    private static final long OFFSET_REFRESH_MILLIS = 60_000L;
+
+    private static volatile Offset offset = computeOffset(System.currentTimeMillis());
+
+    private LocalEpochClock() {
+    }
+
+    public static long nowSeconds() {
+        long millis = System.currentTimeMillis();
+        Offset current = offset;
+        if (millis >= current.validUntilMillis) {
+            current = computeOffset(millis);
+            offset = current;
+        }
+        return Math.floorDiv(millis, 1000L) + current.seconds;
+    }
+
+    private static Offset computeOffset(long millis) {
+        int seconds = ZoneId.systemDefault().getRules()
+                .getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds();
+        return new Offset(seconds, millis + OFFSET_REFRESH_MILLIS);
+    }
+
+    private record Offset(long seconds, long validUntilMillis) {
+    }
+}
@@ -1,9 +1,13 @@
 package com.riwi.architecture.application.usecase;
 
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.validation.EventValidator;
 import com.riwi.architecture.domain.model.Event;
 import com.riwi.architecture.domain.ports.in.CreateEventUseCase;
 import com.riwi.architecture.domain.ports.out.EventRepository;
-import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +22,21 @@ import java.time.LocalDateTime;
 public class CreateEventUseCaseImpl implements CreateEventUseCase {
     
     private final EventRepository eventRepository;
+    private final TicketLedger ticketLedger;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final EventTextIndex eventTextIndex;
 
-    public CreateEventUseCaseImpl(EventRepository eventRepository) {
+    public CreateEventUseCaseImpl(EventRepository eventRepository,
+                                  TicketLedger ticketLedger,
+                                  DomainEventOutbox domainEventOutbox,
+                                  VenueSchedule venueSchedule,
+                                  EventTextIndex eventTextIndex) {
         this.eventRepository = eventRepository;
+        this.ticketLedger = ticketLedger;
+        this.domainEventOutbox = domainEventOutbox;
+        this.venueSchedule = venueSchedule;
+        this.eventTextIndex = eventTextIndex;
     }
 
     @Override
@@ -28,6 +44,9 @@ public class CreateEventUseCaseImpl implements CreateEventUseCase {
         // LÓGICA DE NEGOCIO: Validations
         validateEventForCreation(event);
         
+        // LÓGICA DE NEGOCIO: capacidad del venue y horario libre
+        venueSchedule.validate(event);
+        
         // LÓGICA DE NEGOCIO: Set default values
         event.setActive(true);
         event.setCreatedAt(LocalDateTime.now());
@@ -38,34 +57,17 @@ public class CreateEventUseCaseImpl implements CreateEventUseCase {
             event.setAvailableTickets(event.getTotalCapacity());
         }
         
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        ticketLedger.recordOpening(savedEvent);
+        domainEventOutbox.eventCreated(savedEvent);
+        venueSchedule.eventSaved(savedEvent);
+        eventTextIndex.eventSaved(savedEvent);
+        return savedEvent;
     }
     
     // ==================== VALIDATIONS ====================
     
     private void validateEventForCreation(Event event) {
-        if (event == null) {
-            throw new InvalidEventDataException("event", "cant be null");
-        }
-        
-        if (event.getName() == null || event.getName().trim().isEmpty()) {
-            throw new InvalidEventDataException("name", "is mandatory");
-        }
-        
-        if (event.getEventDate() == null) {
-            throw new InvalidEventDataException("eventDate", "is mandatory");
-        }
-        
-        if (event.getTicketPrice() == null || event.getTicketPrice().doubleValue() < 0) {
-            throw new InvalidEventDataException("ticketPrice", "needs to be zero or positive");
-        }
-        
-        if (event.getTotalCapacity() == null || event.getTotalCapacity() <= 0) {
-            throw new InvalidEventDataException("totalCapacity", "must be greater than zero");
-        }
-        
-        if (event.getVenueId() == null) {
-            throw new InvalidEventDataException("venueId", "is mandatory");
-        }
+        EventValidator.validateForCreation(event);
     }
 }
@@ -1,5 +1,13 @@
 package com.riwi.architecture.application.usecase;
 
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.domain.model.Event;
 import com.riwi.architecture.domain.ports.in.DeleteEventUseCase;
 import com.riwi.architecture.domain.ports.out.EventRepository;
 import com.riwi.architecture.domain.exceptions.EventNotFoundException;
@@ -16,20 +24,50 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteEventUseCaseImpl implements DeleteEventUseCase {
     
     private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+    private final ShardedInventory shardedInventory;
+    private final TicketLedger ticketLedger;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final AvailabilityProjection availabilityProjection;
+    private final EventTextIndex eventTextIndex;
 
-    public DeleteEventUseCaseImpl(EventRepository eventRepository) {
+    public DeleteEventUseCaseImpl(EventRepository eventRepository,
+                                  TicketInventoryEngine ticketInventory,
+                                  ShardedInventory shardedInventory,
+                                  TicketLedger ticketLedger,
+                                  DomainEventOutbox domainEventOutbox,
+                                  VenueSchedule venueSchedule,
+                                  AvailabilityProjection availabilityProjection,
+                                  EventTextIndex eventTextIndex) {
         this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+        this.shardedInventory = shardedInventory;
+        this.ticketLedger = ticketLedger;
+        this.domainEventOutbox = domainEventOutbox;
+        this.venueSchedule = venueSchedule;
+        this.availabilityProjection = availabilityProjection;
+        this.eventTextIndex = eventTextIndex;
     }
 
     @Override
     public void deleteEvent(Long id) {
         validateId(id);
         
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new EventNotFoundException(id));
+        
+        // Antes de EVENT_DELETED: las porciones se bloquean (una venta en curso
+        // termina antes) y las ventas en memoria se asientan, así ningún
+        // TICKETS_SOLD del evento queda detrás de su borrado en el outbox
+        shardedInventory.evict(id);
+        ticketLedger.record(ticketInventory.release(id));
         
         eventRepository.deleteById(id);
+        domainEventOutbox.eventDeleted(id);
+        venueSchedule.eventRemoved(event.getVenueId(), id);
+        eventTextIndex.eventRemoved(id);
+        availabilityProjection.remove(id);
     }
     
     // ==================== VALIDACIONES ====================
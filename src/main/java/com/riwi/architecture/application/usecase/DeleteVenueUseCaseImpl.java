@@ -1,8 +1,13 @@
 package com.riwi.architecture.application.usecase;
 
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
 import com.riwi.architecture.domain.ports.in.DeleteVenueUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
 import com.riwi.architecture.domain.ports.out.VenueRepository;
 import com.riwi.architecture.domain.exceptions.InvalidVenueDataException;
+import com.riwi.architecture.domain.exceptions.VenueHasActiveEventsException;
 import com.riwi.architecture.domain.exceptions.VenueNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,9 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteVenueUseCaseImpl implements DeleteVenueUseCase {
     
     private final VenueRepository venueRepository;
+    private final EventRepository eventRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final VenueSchedule venueSchedule;
+    private final VenueGeoIndex venueGeoIndex;
 
-    public DeleteVenueUseCaseImpl(VenueRepository venueRepository) {
+    public DeleteVenueUseCaseImpl(VenueRepository venueRepository,
+                                  EventRepository eventRepository,
+                                  DomainEventOutbox domainEventOutbox,
+                                  VenueSchedule venueSchedule,
+                                  VenueGeoIndex venueGeoIndex) {
         this.venueRepository = venueRepository;
+        this.eventRepository = eventRepository;
+        this.domainEventOutbox = domainEventOutbox;
+        this.venueSchedule = venueSchedule;
+        this.venueGeoIndex = venueGeoIndex;
     }
 
     @Override
@@ -29,11 +46,15 @@ public class DeleteVenueUseCaseImpl implements DeleteVenueUseCase {
             throw new VenueNotFoundException(id);
         }
         
-        // TODO: LÓGICA DE NEGOCIO adicional
-        // Verificar que no haya eventos activos asociados a este venue
-        // antes de eliminarlo
+        // LÓGICA DE NEGOCIO: no eliminar un venue con eventos activos
+        if (eventRepository.existsActiveByVenueId(id)) {
+            throw new VenueHasActiveEventsException(id);
+        }
         
         venueRepository.deleteById(id);
+        domainEventOutbox.venueDeleted(id);
+        venueSchedule.venueRemoved(id);
+        venueGeoIndex.venueRemoved(id);
     }
     
     // ==================== VALIDACIONES ====================
@@ -0,0 +1,83 @@
+package com.riwi.architecture.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.application.exporter.CatalogWriter;
+import com.riwi.architecture.application.exporter.CsvCatalogWriter;
+import com.riwi.architecture.application.exporter.NdjsonCatalogWriter;
+import com.riwi.architecture.domain.model.CatalogExportFormat;
+import com.riwi.architecture.domain.model.CatalogExportResult;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.ports.in.ExportCatalogUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del caso de uso: Exportar el catálogo completo
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Recorre el cursor del repositorio y escribe cada fila en el destino a
+ * medida que llega: la memoria usada no depende del tamaño del catálogo.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportCatalogUseCaseImpl implements ExportCatalogUseCase {
+    
+    private static final int FLUSH_EVERY = 1000;
+    
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+
+    public ExportCatalogUseCaseImpl(EventRepository eventRepository, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public CatalogExportResult exportCatalog(Writer target, CatalogExportFormat format, Long afterId) {
+        if (target == null) {
+            throw new InvalidEventDataException("target", "Cant be null");
+        }
+        if (afterId != null && afterId < 0) {
+            throw new InvalidEventDataException("afterId", "Cant be negative");
+        }
+        
+        long exported = 0;
+        Long lastExportedId = afterId;
+        
+        try (Stream<EventCatalogEntry> catalog = eventRepository.streamCatalog(afterId)) {
+            CatalogWriter writer = writerFor(format, target);
+            writer.writeHeader();
+            
+            Iterator<EventCatalogEntry> entries = catalog.iterator();
+            while (entries.hasNext()) {
+                EventCatalogEntry entry = entries.next();
+                writer.write(entry);
+                lastExportedId = entry.getEventId();
+                
+                if (++exported % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Catalog export interrupted after event " + lastExportedId, e);
+        }
+        
+        return new CatalogExportResult(exported, lastExportedId);
+    }
+    
+    private CatalogWriter writerFor(CatalogExportFormat format, Writer target) throws IOException {
+        if (format == CatalogExportFormat.CSV) {
+            return new CsvCatalogWriter(target);
+        }
+        return new NdjsonCatalogWriter(objectMapper, target);
+    }
+}
@@ -0,0 +1,134 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.NearbyVenue;
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.ports.in.FindNearbyVenuesUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import com.riwi.architecture.domain.exceptions.InvalidVenueDataException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación del caso de uso: Buscar Venues cercanos
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Los candidatos y su distancia salen de VenueGeoIndex; del repositorio
+ * solo se leen los venues encontrados y sus próximos eventos, con una
+ * consulta para cada uno de los dos.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FindNearbyVenuesUseCaseImpl implements FindNearbyVenuesUseCase {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final double MAX_RADIUS_KM = 1000.0;
+    private static final int MAX_EVENTS_PER_VENUE = 10;
+
+    private final VenueGeoIndex venueGeoIndex;
+    private final VenueRepository venueRepository;
+    private final EventRepository eventRepository;
+
+    public FindNearbyVenuesUseCaseImpl(VenueGeoIndex venueGeoIndex,
+                                       VenueRepository venueRepository,
+                                       EventRepository eventRepository) {
+        this.venueGeoIndex = venueGeoIndex;
+        this.venueRepository = venueRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public List<NearbyVenue> findWithinRadius(double latitude, double longitude, double radiusKm, Integer limit) {
+        validateLatitude("latitude", latitude);
+        validateLongitude("longitude", longitude);
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new InvalidVenueDataException("radiusKm", "debe estar entre 0 y " + MAX_RADIUS_KM);
+        }
+        int effectiveLimit = validateLimit(limit);
+
+        return hydrate(venueGeoIndex.withinRadius(latitude, longitude, radiusKm, effectiveLimit));
+    }
+
+    @Override
+    public List<NearbyVenue> findWithinBox(double south, double west, double north, double east, Integer limit) {
+        validateLatitude("south", south);
+        validateLatitude("north", north);
+        validateLongitude("west", west);
+        validateLongitude("east", east);
+        if (south > north) {
+            throw new InvalidVenueDataException("south", "no puede ser mayor que north");
+        }
+        int effectiveLimit = validateLimit(limit);
+
+        return hydrate(venueGeoIndex.withinBox(south, west, north, east, effectiveLimit));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Leer venues y eventos de los candidatos conservando el orden por distancia
+     */
+    private List<NearbyVenue> hydrate(List<VenueGeoIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (VenueGeoIndex.Hit hit : hits) {
+            ids.add(hit.venueId());
+        }
+        Map<Long, Venue> venuesById = new HashMap<>();
+        for (Venue venue : venueRepository.findAllById(ids)) {
+            venuesById.put(venue.getId(), venue);
+        }
+        Map<Long, List<Event>> eventsByVenue = new HashMap<>();
+        for (Event event : eventRepository.findUpcomingActiveByVenueIds(ids, LocalDateTime.now(),
+                MAX_EVENTS_PER_VENUE)) {
+            eventsByVenue.computeIfAbsent(event.getVenueId(), id -> new ArrayList<>()).add(event);
+        }
+
+        List<NearbyVenue> nearby = new ArrayList<>(hits.size());
+        for (VenueGeoIndex.Hit hit : hits) {
+            Venue venue = venuesById.get(hit.venueId());
+            // El índice puede ir un poco atrasado respecto a otras instancias
+            if (venue != null && Boolean.TRUE.equals(venue.getActive())) {
+                nearby.add(new NearbyVenue(venue, hit.distanceKm(),
+                        eventsByVenue.getOrDefault(hit.venueId(), List.of())));
+            }
+        }
+        return nearby;
+    }
+
+    // ==================== VALIDACIONES ====================
+
+    private void validateLatitude(String field, double latitude) {
+        if (!(latitude >= -90.0 && latitude <= 90.0)) {
+            throw new InvalidVenueDataException(field, "debe estar entre -90 y 90");
+        }
+    }
+
+    private void validateLongitude(String field, double longitude) {
+        if (!(longitude >= -180.0 && longitude <= 180.0)) {
+            throw new InvalidVenueDataException(field, "debe estar entre -180 y 180");
+        }
+    }
+
+    private int validateLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidVenueDataException("limit", "debe estar entre 1 y " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,54 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.domain.model.AvailabilitySnapshot;
+import com.riwi.architecture.domain.ports.in.GetAvailabilityUseCase;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso: Consultar disponibilidad de varios eventos
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Sin transacción: la respuesta sale de AvailabilityProjection y solo los
+ * eventos que esta aún no conoce se leen del repositorio.
+ */
+@Service
+public class GetAvailabilityUseCaseImpl implements GetAvailabilityUseCase {
+
+    private static final int MAX_IDS = 500;
+
+    private final AvailabilityProjection availabilityProjection;
+
+    public GetAvailabilityUseCaseImpl(AvailabilityProjection availabilityProjection) {
+        this.availabilityProjection = availabilityProjection;
+    }
+
+    @Override
+    public AvailabilitySnapshot getAvailability(List<Long> eventIds, String ifNoneMatch) {
+        return availabilityProjection.snapshot(validateIds(eventIds), ifNoneMatch);
+    }
+
+    // ==================== VALIDACIONES ====================
+
+    private long[] validateIds(List<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            throw new InvalidEventDataException("ids", "Is mandatory");
+        }
+        if (eventIds.size() > MAX_IDS) {
+            throw new InvalidEventDataException("ids", "Cannot exceed " + MAX_IDS + " events");
+        }
+
+        long[] ids = new long[eventIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Long id = eventIds.get(i);
+            if (id == null || id <= 0) {
+                throw new InvalidEventDataException("ids", "must be positive values");
+            }
+            ids[i] = id;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,212 @@
+package com.riwi.architecture.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.application.importer.CsvEventLineParser;
+import com.riwi.architecture.application.importer.EventLineParser;
+import com.riwi.architecture.application.importer.NdjsonEventLineParser;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.outbox.DomainEventOutbox;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.application.validation.EventValidator;
+import com.riwi.architecture.application.validation.Violation;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventImportFormat;
+import com.riwi.architecture.domain.model.EventImportReport;
+import com.riwi.architecture.domain.ports.in.ImportEventsUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del caso de uso: Importar Events de forma masiva
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Lee el archivo línea a línea y guarda en lotes de tamaño fijo, así la
+ * memoria usada depende del tamaño del lote y no del archivo. Una línea
+ * inválida se reporta (con todas sus reglas incumplidas) y no detiene la
+ * importación; una cabecera inválida se reporta como error de su línea y
+ * termina la importación sin escribir nada. Las líneas leídas se validan por tramos de
+ * VALIDATION_CHUNK_SIZE, en paralelo con las reglas de EventValidator.
+ *
+ * Sin @Transactional de clase: cada lote se confirma en su propia
+ * transacción (junto con sus EVENT_CREATED del outbox) y el contexto de
+ * persistencia no acumula todas las entidades del archivo.
+ */
+@Service
+public class ImportEventsUseCaseImpl implements ImportEventsUseCase {
+    
+    private static final int VALIDATION_CHUNK_SIZE = 8192;
+    
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final TicketLedger ticketLedger;
+    private final DomainEventOutbox domainEventOutbox;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final VenueSchedule venueSchedule;
+    private final EventTextIndex eventTextIndex;
+
+    public ImportEventsUseCaseImpl(EventRepository eventRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${events.import.batch-size:500}") int batchSize,
+                                   TicketLedger ticketLedger,
+                                   DomainEventOutbox domainEventOutbox,
+                                   OptimisticRetryExecutor retryExecutor,
+                                   VenueSchedule venueSchedule,
+                                   EventTextIndex eventTextIndex) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.ticketLedger = ticketLedger;
+        this.domainEventOutbox = domainEventOutbox;
+        this.retryExecutor = retryExecutor;
+        this.venueSchedule = venueSchedule;
+        this.eventTextIndex = eventTextIndex;
+    }
+
+    @Override
+    public EventImportReport importEvents(Reader source, EventImportFormat format) {
+        if (source == null) {
+            throw new InvalidEventDataException("source", "Cant be null");
+        }
+        if (format == null) {
+            throw new InvalidEventDataException("format", "Is mandatory");
+        }
+        
+        EventLineParser parser = format == EventImportFormat.CSV
+                ? new CsvEventLineParser()
+                : new NdjsonEventLineParser(objectMapper);
+        EventImportReport report = new EventImportReport();
+        
+        List<Event> parsed = new ArrayList<>(Math.min(VALIDATION_CHUNK_SIZE, batchSize * 4));
+        List<Long> parsedLines = new ArrayList<>(Math.min(VALIDATION_CHUNK_SIZE, batchSize * 4));
+        List<Event> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        VenueSchedule.Batch schedule = venueSchedule.batch();
+        
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    if (parser.consumeHeader(line)) {
+                        continue;
+                    }
+                } catch (InvalidEventDataException e) {
+                    // Sin una cabecera válida no se puede leer ninguna línea
+                    report.recordError(lineNumber, e.getMessage());
+                    return report;
+                }
+                
+                report.recordProcessed();
+                try {
+                    parsed.add(parser.parse(line));
+                    parsedLines.add(lineNumber);
+                } catch (RuntimeException e) {
+                    report.recordError(lineNumber, e.getMessage());
+                }
+                
+                if (parsed.size() >= VALIDATION_CHUNK_SIZE) {
+                    validateChunk(parsed, parsedLines, batch, batchLines, schedule, report);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import source", e);
+        }
+        
+        validateChunk(parsed, parsedLines, batch, batchLines, schedule, report);
+        flushBatch(batch, batchLines, schedule, report);
+        return report;
+    }
+    
+    // ==================== MÉTODOS AUXILIARES ====================
+    
+    /**
+     * Validar un tramo de líneas leídas (en paralelo) y pasar las válidas a
+     * los lotes de escritura; la agenda del venue se consulta en orden
+     */
+    private void validateChunk(List<Event> parsed, List<Long> parsedLines,
+                               List<Event> batch, List<Long> batchLines,
+                               VenueSchedule.Batch schedule, EventImportReport report) {
+        List<List<Violation>> results = EventValidator.CREATION.checkAll(parsed);
+        for (int i = 0; i < parsed.size(); i++) {
+            Event event = parsed.get(i);
+            Long lineNumber = parsedLines.get(i);
+            if (!results.get(i).isEmpty()) {
+                report.recordError(lineNumber, EventValidator.invalidData(results.get(i)).getMessage());
+                continue;
+            }
+            try {
+                prepareForCreation(event);
+                // Contra la agenda confirmada y contra las líneas del lote aún sin guardar
+                schedule.validate(event, lineNumber);
+                batch.add(event);
+                batchLines.add(lineNumber);
+            } catch (RuntimeException e) {
+                report.recordError(lineNumber, e.getMessage());
+            }
+            
+            if (batch.size() >= batchSize) {
+                flushBatch(batch, batchLines, schedule, report);
+            }
+        }
+        parsed.clear();
+        parsedLines.clear();
+    }
+    
+    /**
+     * LÓGICA DE NEGOCIO: mismos valores por defecto que createEvent
+     */
+    private void prepareForCreation(Event event) {
+        LocalDateTime now = LocalDateTime.now();
+        event.setId(null);
+        event.setVersion(null);
+        event.setActive(true);
+        event.setCreatedAt(now);
+        event.setUpdatedAt(now);
+        event.setAvailableTickets(event.getTotalCapacity());
+    }
+    
+    /**
+     * Guardar el lote; si la base de datos lo rechaza se reportan todas sus líneas
+     */
+    private void flushBatch(List<Event> batch, List<Long> batchLines,
+                            VenueSchedule.Batch schedule, EventImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Event> saved = retryExecutor.execute(() -> {
+                List<Event> events = eventRepository.saveAll(batch);
+                domainEventOutbox.eventsCreated(events);
+                events.forEach(ticketLedger::recordOpening);
+                return events;
+            });
+            venueSchedule.eventsSaved(saved);
+            eventTextIndex.eventsSaved(saved);
+            report.recordImported(batch.size());
+        } catch (RuntimeException e) {
+            for (Long line : batchLines) {
+                report.recordError(line, "Batch rejected: " + e.getMessage());
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+        schedule.clear();
+    }
+}
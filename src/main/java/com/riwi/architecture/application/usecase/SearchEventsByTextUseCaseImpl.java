@@ -0,0 +1,89 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.ports.in.SearchEventsByTextUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación del caso de uso: Buscar Events por palabras clave
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * El ranking sale de EventTextIndex; del repositorio solo se leen los
+ * eventos encontrados, con un findAllById. Los que ya no existen o
+ * quedaron inactivos se descartan y se sacan del índice.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchEventsByTextUseCaseImpl implements SearchEventsByTextUseCase {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    
+    private final EventRepository eventRepository;
+    private final EventTextIndex eventTextIndex;
+
+    public SearchEventsByTextUseCaseImpl(EventRepository eventRepository, EventTextIndex eventTextIndex) {
+        this.eventRepository = eventRepository;
+        this.eventTextIndex = eventTextIndex;
+    }
+
+    @Override
+    public List<Event> searchByText(String query, Integer limit) {
+        int effectiveLimit = validateQuery(query, limit);
+        
+        long[] ranked = eventTextIndex.search(query, effectiveLimit);
+        if (ranked.length == 0) {
+            return List.of();
+        }
+        
+        List<Long> ids = new ArrayList<>(ranked.length);
+        for (long id : ranked) {
+            ids.add(id);
+        }
+        Map<Long, Event> eventsById = new HashMap<>();
+        for (Event event : eventRepository.findAllById(ids)) {
+            eventsById.put(event.getId(), event);
+        }
+        
+        // Conservar el orden del ranking
+        List<Event> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Event event = eventsById.get(id);
+            if (event != null && Boolean.TRUE.equals(event.getActive())) {
+                events.add(event);
+            } else {
+                eventTextIndex.forget(id);
+            }
+        }
+        return events;
+    }
+    
+    // ==================== VALIDACIONES ====================
+    
+    private int validateQuery(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidEventDataException("query", "Is mandatory");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidEventDataException("query", "Cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidEventDataException("limit", "Must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,92 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventPage;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import com.riwi.architecture.domain.ports.in.SearchEventsUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del caso de uso: Buscar/listar Events
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchEventsUseCaseImpl implements SearchEventsUseCase {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    
+    private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+
+    public SearchEventsUseCaseImpl(EventRepository eventRepository, TicketInventoryEngine ticketInventory) {
+        this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+    }
+
+    @Override
+    public EventPage searchEvents(EventSearchCriteria criteria) {
+        EventSearchCriteria effective = criteria != null ? criteria : new EventSearchCriteria();
+        int limit = validateCriteria(effective);
+        
+        // Se pide uno de más para saber si existe una página siguiente
+        List<EventListing> events = eventRepository.search(effective, limit + 1);
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+        }
+        events = applyLiveAvailability(events);
+        
+        if (!hasMore || events.isEmpty()) {
+            return new EventPage(events, false, null, null);
+        }
+        EventListing last = events.get(events.size() - 1);
+        return new EventPage(events, true, last.getEventDate(), last.getId());
+    }
+    
+    /**
+     * El repositorio va hasta un flush detrás de las ventas en memoria:
+     * los eventos ya cargados en el motor muestran su conteo vivo (solo se
+     * crea una fila nueva si el conteo cambió)
+     */
+    private List<EventListing> applyLiveAvailability(List<EventListing> events) {
+        if (!ticketInventory.isEnabled()) {
+            return events;
+        }
+        List<EventListing> live = new ArrayList<>(events.size());
+        for (EventListing event : events) {
+            int available = ticketInventory.availableIfLoaded(event.getId());
+            live.add(available != TicketInventoryEngine.NOT_LOADED ? event.withAvailableTickets(available) : event);
+        }
+        return live;
+    }
+    
+    // ==================== VALIDACIONES ====================
+    
+    private int validateCriteria(EventSearchCriteria criteria) {
+        if (criteria.getFromDate() != null && criteria.getToDate() != null
+                && criteria.getFromDate().isAfter(criteria.getToDate())) {
+            throw new InvalidEventDataException("fromDate", "Must be before toDate");
+        }
+        
+        if ((criteria.getAfterEventDate() == null) != (criteria.getAfterId() == null)) {
+            throw new InvalidEventDataException("cursor", "afterEventDate and afterId go together");
+        }
+        
+        if (criteria.getLimit() == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (criteria.getLimit() <= 0 || criteria.getLimit() > MAX_LIMIT) {
+            throw new InvalidEventDataException("limit", "Must be between 1 and " + MAX_LIMIT);
+        }
+        return criteria.getLimit();
+    }
+}
@@ -0,0 +1,226 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.inventory.TicketRules;
+import com.riwi.architecture.application.support.OptimisticRetryExecutor;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketOrderLine;
+import com.riwi.architecture.domain.ports.in.SellTicketsBatchUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.exceptions.*;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación del caso de uso: Vender tickets de varios eventos (carrito)
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Todas las líneas se validan antes de descontar nada (todo o nada) y los
+ * eventos se leen con un solo findAllById. Cada línea descuenta solo la
+ * columna de disponibles con una sentencia condicional (todas enviadas en
+ * un solo lote JDBC) y asienta su venta en el libro de tickets, todo en la
+ * transacción del carrito.
+ *
+ * Con el inventario en memoria activo, las líneas de eventos normales se
+ * venden siempre desde él (tiene el conteo vivo) y solo las de eventos
+ * repartidos van a sus porciones. Los tickets del inventario en memoria se
+ * cuentan como vendidos solo si las porciones se venden; si no, vuelven a
+ * su contador sin asentar venta ni devolución.
+ */
+@Service
+@Transactional
+public class SellTicketsBatchUseCaseImpl implements SellTicketsBatchUseCase {
+    
+    private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final ShardedInventory shardedInventory;
+    private final TicketLedger ticketLedger;
+    private final AvailabilityProjection availabilityProjection;
+
+    public SellTicketsBatchUseCaseImpl(EventRepository eventRepository,
+                                       TicketInventoryEngine ticketInventory,
+                                       OptimisticRetryExecutor retryExecutor,
+                                       ShardedInventory shardedInventory,
+                                       TicketLedger ticketLedger,
+                                       AvailabilityProjection availabilityProjection) {
+        this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+        this.retryExecutor = retryExecutor;
+        this.shardedInventory = shardedInventory;
+        this.ticketLedger = ticketLedger;
+        this.availabilityProjection = availabilityProjection;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Event> sellTickets(List<TicketOrderLine> lines) {
+        Map<Long, Integer> quantitiesByEvent = mergeLines(lines);
+        
+        List<Event> sold;
+        if (!ticketInventory.isEnabled()) {
+            sold = retryExecutor.execute(() -> sellFromRepository(quantitiesByEvent));
+        } else if (!shardedInventory.isEnabled()) {
+            sold = ticketInventory.sellAll(quantitiesByEvent);
+        } else {
+            sold = sellFromInventoryAndShards(quantitiesByEvent);
+        }
+        
+        quantitiesByEvent.keySet().forEach(availabilityProjection::touch);
+        return sold;
+    }
+    
+    /**
+     * Separar las líneas de eventos repartidos: el resto se toma del
+     * inventario en memoria (todo o nada) y se confirma o se deshace según
+     * se vendan las porciones; la excepción original siempre se propaga
+     */
+    private List<Event> sellFromInventoryAndShards(Map<Long, Integer> quantitiesByEvent) {
+        Map<Long, Event> shardedEvents = new LinkedHashMap<>();
+        Map<Long, Integer> plainLines = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+            Event sharded = shardedInventory.managedEvent(line.getKey());
+            if (sharded != null) {
+                shardedEvents.put(line.getKey(), sharded);
+            } else {
+                plainLines.put(line.getKey(), line.getValue());
+            }
+        }
+        if (shardedEvents.isEmpty()) {
+            return ticketInventory.sellAll(quantitiesByEvent);
+        }
+        
+        Map<Long, Event> soldById = new HashMap<>();
+        if (!plainLines.isEmpty()) {
+            for (Event event : ticketInventory.takeAll(plainLines)) {
+                soldById.put(event.getId(), event);
+            }
+        }
+        boolean shardsSold = false;
+        try {
+            // Todas las porciones en una transacción: si una línea falla no queda ninguna descontada
+            retryExecutor.run(() -> {
+                for (Event event : shardedEvents.values()) {
+                    soldById.put(event.getId(), shardedInventory.sellInCurrentTransaction(event,
+                            quantitiesByEvent.get(event.getId())));
+                }
+            });
+            shardsSold = true;
+        } finally {
+            if (shardsSold) {
+                ticketInventory.confirmTaken(plainLines);
+            } else {
+                ticketInventory.undoTake(plainLines);
+            }
+        }
+        
+        // Respetar el orden del carrito
+        List<Event> result = new ArrayList<>(quantitiesByEvent.size());
+        for (Long eventId : quantitiesByEvent.keySet()) {
+            result.add(soldById.get(eventId));
+        }
+        return result;
+    }
+    
+    private List<Event> sellFromRepository(Map<Long, Integer> quantitiesByEvent) {
+        Map<Long, Event> eventsById = new HashMap<>();
+        for (Event event : eventRepository.findAllById(quantitiesByEvent.keySet())) {
+            eventsById.put(event.getId(), event);
+        }
+        
+        // ========== LÓGICA DE NEGOCIO: VALIDAR TODO EL CARRITO ==========
+        
+        List<Event> events = new ArrayList<>(quantitiesByEvent.size());
+        for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+            Event event = eventsById.get(line.getKey());
+            if (event == null) {
+                throw new EventNotFoundException(line.getKey());
+            }
+            // Los eventos repartidos se validan contra sus porciones al vender
+            if (!shardedInventory.manages(event)) {
+                TicketRules.checkSale(event, line.getValue(), LocalDateTime.now());
+            }
+            events.add(event);
+        }
+        
+        // Acción: Reducir tickets disponibles en todos los eventos
+        // Las porciones se descuentan dentro de esta misma transacción
+        Map<Long, Integer> plainLines = new LinkedHashMap<>();
+        Map<Long, Event> soldById = new HashMap<>();
+        for (Event event : events) {
+            int quantity = quantitiesByEvent.get(event.getId());
+            if (shardedInventory.manages(event)) {
+                soldById.put(event.getId(), shardedInventory.sellInCurrentTransaction(event, quantity));
+            } else {
+                plainLines.put(event.getId(), quantity);
+            }
+        }
+        
+        if (!plainLines.isEmpty()) {
+            // Una sentencia condicional por línea, enviadas en un solo lote
+            int[] affected = eventRepository.decrementAvailableTicketsAll(plainLines, LocalDateTime.now());
+            int line = 0;
+            for (Long eventId : plainLines.keySet()) {
+                // La fila cambió desde la lectura: se revierte el carrito y se reintenta
+                if (affected[line++] == 0) {
+                    throw new OptimisticLockingFailureException("Event " + eventId + " changed while selling");
+                }
+            }
+            plainLines.forEach(ticketLedger::recordSale);
+            
+            // Releer lo vendido con una consulta (conteo y versión que dejó cada sentencia)
+            for (Event sold : eventRepository.findAllById(plainLines.keySet())) {
+                soldById.put(sold.getId(), sold);
+            }
+        }
+        
+        // Respetar el orden del carrito
+        List<Event> result = new ArrayList<>(events.size());
+        for (Long eventId : quantitiesByEvent.keySet()) {
+            result.add(soldById.get(eventId));
+        }
+        return result;
+    }
+    
+    // ==================== VALIDACIONES ====================
+    
+    /**
+     * Agrupar las líneas por evento sumando cantidades, respetando el orden del carrito
+     */
+    private Map<Long, Integer> mergeLines(List<TicketOrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new InvalidEventDataException("lines", "Must contain at least one line");
+        }
+        
+        Map<Long, Integer> quantitiesByEvent = new LinkedHashMap<>();
+        for (TicketOrderLine line : lines) {
+            if (line == null) {
+                throw new InvalidEventDataException("line", "Cant be null");
+            }
+            validateId(line.getEventId());
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new InvalidEventDataException("quantity", "Needs to be greater than zero");
+            }
+            quantitiesByEvent.merge(line.getEventId(), line.getQuantity(), Integer::sum);
+        }
+        return quantitiesByEvent;
+    }
+    
+    private void validateId(Long id) {
+        if (id == null || id <= 0) {
+            throw new InvalidEventDataException("id", "Needs to be a positive number");
+        }
+    }
+}
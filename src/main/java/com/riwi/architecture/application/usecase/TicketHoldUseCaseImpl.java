@@ -0,0 +1,282 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.reservation.HashedTimingWheel;
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.exceptions.EventNotFoundException;
+import com.riwi.architecture.domain.exceptions.HoldNotFoundException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketHold;
+import com.riwi.architecture.domain.ports.in.TicketHoldUseCase;
+import com.riwi.architecture.domain.ports.out.TicketHoldRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementación del caso de uso: Reservas temporales de tickets
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * Crear una reserva aparta los tickets (availableTickets ya no los incluye)
+ * y guarda la reserva en la MISMA transacción que descuenta el stock; el
+ * libro lo asienta como HOLD, sin hecho de venta. Confirmarla borra la
+ * reserva y asienta la venta; expirarla o liberarla la borra y devuelve los
+ * tickets (RELEASE). Solo la transacción que logra borrar la fila vende o
+ * devuelve: si otra ya lo hizo, la suya se revierte.
+ *
+ * Los vencimientos se programan en una {@link HashedTimingWheel}, así que el
+ * barrido periódico solo visita las reservas que vencen en ese tick. Si
+ * devolver falla, la reserva se reprograma y se reintenta. Las reservas
+ * vencidas que esta instancia no conoce (se reinició, u otra instancia cayó)
+ * las encuentra {@link #adoptExpiredHolds()} en el repositorio.
+ */
+@Service
+public class TicketHoldUseCaseImpl implements TicketHoldUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketHoldUseCaseImpl.class);
+
+    private static final int ADOPT_BATCH_SIZE = 500;
+
+    private final TicketAllocator ticketAllocator;
+    private final TicketHoldRepository holdRepository;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final long retryDelayMillis;
+
+    // Reservas que esta instancia atiende, hasta confirmar el borrado de su fila
+    private final ConcurrentHashMap<String, ActiveHold> holds = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<ActiveHold> expirations;
+
+    public TicketHoldUseCaseImpl(TicketAllocator ticketAllocator,
+                                 TicketHoldRepository holdRepository,
+                                 @Value("${tickets.holds.default-ttl-seconds:600}") long defaultTtlSeconds,
+                                 @Value("${tickets.holds.max-ttl-seconds:3600}") long maxTtlSeconds,
+                                 @Value("${tickets.holds.tick-ms:100}") long tickMillis,
+                                 @Value("${tickets.holds.wheel-size:512}") int wheelSize,
+                                 @Value("${tickets.holds.retry-delay-ms:1000}") long retryDelayMillis) {
+        this.ticketAllocator = ticketAllocator;
+        this.holdRepository = holdRepository;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.retryDelayMillis = retryDelayMillis;
+        this.expirations = new HashedTimingWheel<>(tickMillis, wheelSize);
+    }
+
+    @Override
+    public TicketHold placeHold(Long eventId, Integer quantity, Duration ttl) {
+        validateId(eventId);
+        validateQuantity(quantity);
+        Duration effectiveTtl = ttl != null ? ttl : defaultTtl;
+        validateTtl(effectiveTtl);
+
+        LocalDateTime now = LocalDateTime.now();
+        TicketHold hold = new TicketHold(UUID.randomUUID().toString(), eventId, quantity,
+                now, now.plus(effectiveTtl));
+        // Conocida antes de escribirse: la adopción nunca la toma por huérfana
+        ActiveHold active = new ActiveHold(hold);
+        holds.put(hold.getId(), active);
+
+        // ========== LÓGICA DE NEGOCIO: APARTAR TICKETS ==========
+        // Mismas reglas que la venta: activo, no pasado y con suficientes tickets
+        try {
+            ticketAllocator.hold(eventId, quantity, available -> holdRepository.save(hold));
+        } catch (RuntimeException e) {
+            holds.remove(hold.getId(), active);
+            throw e;
+        }
+        schedule(active, effectiveTtl.toMillis());
+        return copyOf(hold);
+    }
+
+    @Override
+    public Event confirmHold(String holdId) {
+        // Quien logra reclamarla gana la carrera contra el vencimiento
+        ActiveHold active = claim(holdId);
+        TicketHold hold = active.hold;
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            // Vencida y aún sin devolver (cargada del repositorio): se devuelve
+            giveBack(active);
+            throw HoldNotFoundException.forHold(holdId);
+        }
+
+        // ========== LÓGICA DE NEGOCIO: CONFIRMAR VENTA ==========
+        // Los tickets ya se descontaron al reservar: la reserva pasa a ser venta
+        try {
+            return ticketAllocator.confirmHold(hold.getEventId(), hold.getQuantity(),
+                    available -> deleteRow(active));
+        } catch (HoldNotFoundException e) {
+            holds.remove(holdId, active);
+            throw e;
+        } catch (RuntimeException e) {
+            // Sigue reservada: vuelve a vencer a su hora
+            active.unclaim();
+            schedule(active, Duration.between(LocalDateTime.now(), hold.getExpiresAt()).toMillis());
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseHold(String holdId) {
+        ActiveHold active = claim(holdId);
+        giveBack(active);
+    }
+
+    /**
+     * Avanzar la rueda de vencimientos y devolver los tickets de las reservas vencidas
+     */
+    @Scheduled(fixedRateString = "${tickets.holds.tick-ms:100}")
+    public void expireHolds() {
+        int expired = expirations.advance(active -> {
+            if (active.claim()) {
+                giveBack(active);
+            }
+        });
+        if (expired > 0) {
+            log.debug("Expired {} ticket holds", expired);
+        }
+    }
+
+    /**
+     * Devolver las reservas vencidas que ninguna rueda de esta instancia
+     * atiende (quedaron de antes de un reinicio o de otra instancia caída)
+     */
+    @Scheduled(fixedDelayString = "${tickets.holds.adopt-interval-ms:60000}")
+    public void adoptExpiredHolds() {
+        for (TicketHold stored : holdRepository.findExpiredBefore(LocalDateTime.now(), ADOPT_BATCH_SIZE)) {
+            ActiveHold adopted = new ActiveHold(stored);
+            if (holds.putIfAbsent(stored.getId(), adopted) == null && adopted.claim()) {
+                log.info("Returning orphaned ticket hold {} of event {}", stored.getId(), stored.getEventId());
+                giveBack(adopted);
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Tomar la reserva para confirmarla o devolverla; si esta instancia no la
+     * conoce se busca en el repositorio
+     */
+    private ActiveHold claim(String holdId) {
+        if (holdId == null || holdId.isBlank()) {
+            throw new InvalidEventDataException("holdId", "Is mandatory");
+        }
+        ActiveHold active = holds.get(holdId);
+        if (active == null) {
+            TicketHold stored = holdRepository.findById(holdId)
+                    .orElseThrow(() -> HoldNotFoundException.forHold(holdId));
+            ActiveHold loaded = new ActiveHold(stored);
+            ActiveHold existing = holds.putIfAbsent(holdId, loaded);
+            active = existing != null ? existing : loaded;
+        }
+        if (!active.claim()) {
+            throw HoldNotFoundException.forHold(holdId);
+        }
+        return active;
+    }
+
+    /**
+     * Devolver los tickets; si falla, la reserva sigue en pie y se reintenta
+     * más tarde (un evento eliminado ya no tiene stock al que volver)
+     */
+    private void giveBack(ActiveHold active) {
+        TicketHold hold = active.hold;
+        try {
+            ticketAllocator.releaseHold(hold.getEventId(), hold.getQuantity(), available -> deleteRow(active));
+        } catch (HoldNotFoundException e) {
+            // Otra instancia ya la confirmó o devolvió
+            holds.remove(hold.getId(), active);
+        } catch (EventNotFoundException e) {
+            holdRepository.delete(hold.getId());
+            holds.remove(hold.getId(), active);
+        } catch (RuntimeException e) {
+            log.warn("Could not return {} held tickets to event {}, retrying in {} ms: {}",
+                    hold.getQuantity(), hold.getEventId(), retryDelayMillis, e.getMessage());
+            active.unclaim();
+            schedule(active, retryDelayMillis);
+        }
+    }
+
+    /**
+     * Dentro de la transacción que vende o devuelve: sin fila que borrar, la
+     * transacción se revierte y nada cambia
+     */
+    private void deleteRow(ActiveHold active) {
+        String holdId = active.hold.getId();
+        if (!holdRepository.delete(holdId)) {
+            throw HoldNotFoundException.forHold(holdId);
+        }
+        AfterCommit.run(() -> holds.remove(holdId, active));
+    }
+
+    private void schedule(ActiveHold active, long delayMillis) {
+        active.timeout = expirations.schedule(active, delayMillis);
+    }
+
+    private TicketHold copyOf(TicketHold hold) {
+        return new TicketHold(hold.getId(), hold.getEventId(), hold.getQuantity(),
+                hold.getCreatedAt(), hold.getExpiresAt());
+    }
+
+    private void validateTtl(Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new InvalidEventDataException("ttl", "Needs to be greater than zero");
+        }
+        if (ttl.compareTo(maxTtl) > 0) {
+            throw new InvalidEventDataException("ttl", "Cannot exceed " + maxTtl.toSeconds() + " seconds");
+        }
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InvalidEventDataException("quantity", "Needs to be greater than zero");
+        }
+    }
+
+    private void validateId(Long id) {
+        if (id == null || id <= 0) {
+            throw new InvalidEventDataException("id", "Needs to be a positive number");
+        }
+    }
+
+    /**
+     * Reserva que atiende esta instancia, su entrada en la rueda y si alguien
+     * ya la está confirmando o devolviendo
+     */
+    private static final class ActiveHold {
+        private final TicketHold hold;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile HashedTimingWheel.Timeout<ActiveHold> timeout;
+
+        private ActiveHold(TicketHold hold) {
+            this.hold = hold;
+        }
+
+        /**
+         * Solo uno la toma; su vencimiento pendiente deja de contar
+         */
+        private boolean claim() {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            HashedTimingWheel.Timeout<ActiveHold> scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            return true;
+        }
+
+        private void unclaim() {
+            claimed.set(false);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.ledger.TicketLedger;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.LedgerReconciliation;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso: Auditar y conciliar el libro de tickets
+ * CAPA DE APLICACIÓN - Contiene lógica de negocio
+ *
+ * La conciliación compara el saldo derivado del libro (foto + movimientos
+ * posteriores) con los tickets disponibles vigentes del evento. Cada camino
+ * de venta escribe su movimiento en la misma transacción que el stock, así
+ * que con ventas en curso una diferencia solo puede ser transitoria.
+ */
+@Service
+public class TicketLedgerUseCaseImpl implements TicketLedgerUseCase {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final TicketLedger ticketLedger;
+    private final TicketAllocator ticketAllocator;
+    private final TicketInventoryEngine ticketInventory;
+
+    public TicketLedgerUseCaseImpl(TicketLedger ticketLedger,
+                                   TicketAllocator ticketAllocator,
+                                   TicketInventoryEngine ticketInventory) {
+        this.ticketLedger = ticketLedger;
+        this.ticketAllocator = ticketAllocator;
+        this.ticketInventory = ticketInventory;
+    }
+
+    @Override
+    public List<TicketMovement> getMovements(Long eventId, Long afterSequence, Integer limit) {
+        validateId(eventId);
+        if (afterSequence != null && afterSequence < 0) {
+            throw new InvalidEventDataException("afterSequence", "Needs to be zero or positive");
+        }
+        int effectiveLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if (effectiveLimit <= 0 || effectiveLimit > MAX_LIMIT) {
+            throw new InvalidEventDataException("limit", "Needs to be between 1 and " + MAX_LIMIT);
+        }
+
+        return ticketLedger.movements(eventId, afterSequence == null ? 0L : afterSequence, effectiveLimit);
+    }
+
+    @Override
+    public LedgerReconciliation reconcile(Long eventId) {
+        validateId(eventId);
+
+        // Estado vigente del evento (con el conteo vivo si está en memoria)
+        Event event = ticketAllocator.current(eventId);
+        int eventAvailable = event.getAvailableTickets() != null ? event.getAvailableTickets() : 0;
+
+        // Escribir los movimientos que el inventario en memoria aún tiene en cola
+        ticketInventory.flush();
+        TicketLedger.LedgerBalance balance = ticketLedger.balance(eventId);
+
+        // Evento anterior al libro: se abre con su saldo actual
+        if (balance.empty()) {
+            ticketLedger.recordOpening(event);
+            return new LedgerReconciliation(eventId, eventAvailable, eventAvailable,
+                    ticketLedger.balance(eventId).lastSequence(), true);
+        }
+
+        return new LedgerReconciliation(eventId, balance.available(), eventAvailable,
+                balance.lastSequence(), false);
+    }
+
+    // ==================== VALIDACIONES ====================
+
+    private void validateId(Long id) {
+        if (id == null || id <= 0) {
+            throw new InvalidEventDataException("id", "Needs to be a positive number");
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.riwi.architecture.application.usecase;
 
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.idempotency.IdempotencyStore;
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.schedule.VenueSchedule;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.validation.EventValidator;
 import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketOperation;
 import com.riwi.architecture.domain.ports.in.UpdateEventUseCase;
 import com.riwi.architecture.domain.ports.out.EventRepository;
 import com.riwi.architecture.domain.exceptions.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -18,9 +27,27 @@ import java.time.LocalDateTime;
 public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
     
     private final EventRepository eventRepository;
+    private final TicketInventoryEngine ticketInventory;
+    private final TicketAllocator ticketAllocator;
+    private final IdempotencyStore idempotencyStore;
+    private final VenueSchedule venueSchedule;
+    private final AvailabilityProjection availabilityProjection;
+    private final EventTextIndex eventTextIndex;
 
-    public UpdateEventUseCaseImpl(EventRepository eventRepository) {
+    public UpdateEventUseCaseImpl(EventRepository eventRepository,
+                                  TicketInventoryEngine ticketInventory,
+                                  TicketAllocator ticketAllocator,
+                                  IdempotencyStore idempotencyStore,
+                                  VenueSchedule venueSchedule,
+                                  AvailabilityProjection availabilityProjection,
+                                  EventTextIndex eventTextIndex) {
         this.eventRepository = eventRepository;
+        this.ticketInventory = ticketInventory;
+        this.ticketAllocator = ticketAllocator;
+        this.idempotencyStore = idempotencyStore;
+        this.venueSchedule = venueSchedule;
+        this.availabilityProjection = availabilityProjection;
+        this.eventTextIndex = eventTextIndex;
     }
 
     @Override
@@ -40,103 +67,74 @@ public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
         existingEvent.setTicketPrice(event.getTicketPrice());
         existingEvent.setUpdatedAt(LocalDateTime.now());
         
-        return eventRepository.save(existingEvent);
+        // LÓGICA DE NEGOCIO: capacidad del venue y horario libre (sin contarse a sí mismo)
+        venueSchedule.validate(existingEvent);
+        ticketInventory.applyAvailableTickets(existingEvent);
+        
+        Event savedEvent = eventRepository.save(existingEvent);
+        ticketInventory.refresh(savedEvent);
+        venueSchedule.eventSaved(savedEvent);
+        eventTextIndex.eventSaved(savedEvent);
+        availabilityProjection.describe(savedEvent);
+        return savedEvent;
     }
 
+    /**
+     * Sin transacción propia: la sentencia condicional confirma sola y la
+     * relectura posterior ya no retiene el bloqueo de la fila
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Event sellTickets(Long eventId, Integer quantity) {
         validateId(eventId);
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException(eventId));
+        validateQuantity(quantity);
         
         // ========== LÓGICA DE NEGOCIO: VENDER TICKETS ==========
-        
-        // Validación 1: Cantidad válida
-        if (quantity == null || quantity <= 0) {
-            throw new InvalidEventDataException("quantity", "Needs to be greater than zero");
-        }
-        
-        // Validación 2: Evento activo
-        if (event.getActive() == null || !event.getActive()) {
-            throw new EventInactiveException(eventId);
-        }
-        
-        // Validación 3: Tickets disponibles
-        if (event.getAvailableTickets() == null || event.getAvailableTickets() <= 0) {
-            throw new InsufficientTicketsException(0, quantity);
-        }
-        
-        // Validación 4: Suficientes tickets
-        if (event.getAvailableTickets() < quantity) {
-            throw new InsufficientTicketsException(event.getAvailableTickets(), quantity);
-        }
-        
-        // Validación 5: Evento no pasado
-        if (isEventPast(event)) {
-            throw new PastEventException(eventId);
-        }
-        
-        // Acción: Reducir tickets disponibles
-        event.setAvailableTickets(event.getAvailableTickets() - quantity);
-        event.setUpdatedAt(LocalDateTime.now());
-        
-        return eventRepository.save(event);
+        return ticketAllocator.take(eventId, quantity);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Event refundTickets(Long eventId, Integer quantity) {
         validateId(eventId);
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException(eventId));
+        validateQuantity(quantity);
         
         // ========== LÓGICA DE NEGOCIO: DEVOLVER TICKETS ==========
+        return ticketAllocator.giveBack(eventId, quantity);
+    }
+
+    /**
+     * Reintento seguro del cliente: la misma clave nunca vende dos veces
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Event sellTickets(Long eventId, Integer quantity, String idempotencyKey) {
+        validateId(eventId);
+        validateQuantity(quantity);
         
-        // Validación 1: Cantidad válida
-        if (quantity == null || quantity <= 0) {
-            throw new InvalidEventDataException("quantity", "Needs to be greater than zero");
-        }
-        
-        // Validación 2: No exceder capacidad total
-        int newAvailable = event.getAvailableTickets() + quantity;
-        if (newAvailable > event.getTotalCapacity()) {
-            throw new InvalidEventDataException("refund", 
-                "Refund exceeds total capacity of the event");
-        }
-        
-        // Acción: Incrementar tickets disponibles
-        event.setAvailableTickets(newAvailable);
-        event.setUpdatedAt(LocalDateTime.now());
+        return idempotencyStore.execute(idempotencyKey, TicketOperation.SELL, eventId, quantity,
+                inTransaction -> ticketAllocator.take(eventId, quantity, inTransaction));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Event refundTickets(Long eventId, Integer quantity, String idempotencyKey) {
+        validateId(eventId);
+        validateQuantity(quantity);
         
-        return eventRepository.save(event);
+        return idempotencyStore.execute(idempotencyKey, TicketOperation.REFUND, eventId, quantity,
+                inTransaction -> ticketAllocator.giveBack(eventId, quantity, inTransaction));
     }
     
     // ==================== MÉTODOS AUXILIARES ====================
     
-    private boolean isEventPast(Event event) {
-        if (event.getEventEndDate() != null) {
-            return LocalDateTime.now().isAfter(event.getEventEndDate());
-        }
-        return event.getEventDate() != null && 
-               LocalDateTime.now().isAfter(event.getEventDate());
+    private void validateEventForUpdate(Event event) {
+        EventValidator.validateForUpdate(event);
     }
     
-    private void validateEventForUpdate(Event event) {
-        if (event == null) {
-            throw new InvalidEventDataException("event", "Cant be null");
-        }
-        
-        if (event.getName() == null || event.getName().trim().isEmpty()) {
-            throw new InvalidEventDataException("name", "Is mandatory");
-        }
-        
-        if (event.getEventDate() == null) {
-            throw new InvalidEventDataException("eventDate", "Is mandatory");
-        }
-        
-        if (event.getTicketPrice() == null || event.getTicketPrice().doubleValue() < 0) {
-            throw new InvalidEventDataException("ticketPrice", "Needs to be zero or positive");
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InvalidEventDataException("quantity", "Needs to be greater than zero");
         }
     }
     
@@ -1,6 +1,9 @@
 package com.riwi.architecture.application.usecase;
 
 
+import com.riwi.architecture.application.geo.VenueGeoIndex;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.application.validation.VenueValidator;
 import com.riwi.architecture.domain.model.Venue;
 import com.riwi.architecture.domain.ports.in.UpdateVenueUseCase;
 import com.riwi.architecture.domain.ports.out.VenueRepository;
@@ -20,9 +23,13 @@ import java.time.LocalDateTime;
 public class UpdateVenueUseCaseImpl implements UpdateVenueUseCase {
     
     private final VenueRepository venueRepository;
+    private final EventTextIndex eventTextIndex;
+    private final VenueGeoIndex venueGeoIndex;
 
-    public UpdateVenueUseCaseImpl(VenueRepository venueRepository) {
+    public UpdateVenueUseCaseImpl(VenueRepository venueRepository, EventTextIndex eventTextIndex, VenueGeoIndex venueGeoIndex) {
         this.venueRepository = venueRepository;
+        this.eventTextIndex = eventTextIndex;
+        this.venueGeoIndex = venueGeoIndex;
     }
 
     @Override
@@ -41,33 +48,20 @@ public class UpdateVenueUseCaseImpl implements UpdateVenueUseCase {
         existingVenue.setCapacity(venue.getCapacity());
         existingVenue.setType(venue.getType());
         existingVenue.setFacilities(venue.getFacilities());
+        existingVenue.setLatitude(venue.getLatitude());
+        existingVenue.setLongitude(venue.getLongitude());
         existingVenue.setUpdatedAt(LocalDateTime.now());
         
-        return venueRepository.save(existingVenue);
+        Venue savedVenue = venueRepository.save(existingVenue);
+        eventTextIndex.venueChanged(savedVenue);
+        venueGeoIndex.venueSaved(savedVenue);
+        return savedVenue;
     }
     
     // ==================== VALIDACIONES ====================
     
     private void validateVenueForUpdate(Venue venue) {
-        if (venue == null) {
-            throw new InvalidVenueDataException("venue", "cant be null");
-        }
-        
-        if (venue.getName() == null || venue.getName().trim().isEmpty()) {
-            throw new InvalidVenueDataException("name", "is mandatory");
-        }
-        
-        if (venue.getAddress() == null || venue.getAddress().trim().isEmpty()) {
-            throw new InvalidVenueDataException("address", "is mandatory");
-        }
-        
-        if (venue.getCity() == null || venue.getCity().trim().isEmpty()) {
-            throw new InvalidVenueDataException("city", "is mandatory");
-        }
-        
-        if (venue.getCountry() == null || venue.getCountry().trim().isEmpty()) {
-            throw new InvalidVenueDataException("country", "is mandatory");
-        }
+        VenueValidator.validateForUpdate(venue);
     }
     
     private void validateId(Long id) {
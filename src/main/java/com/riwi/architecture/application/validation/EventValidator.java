@@ -0,0 +1,52 @@
+package com.riwi.architecture.application.validation;
+
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+
+import java.util.List;
+
+/**
+ * Reglas de validación de Event compartidas por los casos de uso, el
+ * servicio y la importación masiva
+ * Cada chequeo informa todas las reglas incumplidas, no solo la primera.
+ */
+public final class EventValidator {
+
+    public static final RuleSet<Event> UPDATE = RuleSet.<Event>forSubject("event", "cant be null")
+            .require("name", "is mandatory", event -> RuleSet.hasText(event.getName()))
+            .require("eventDate", "is mandatory", event -> event.getEventDate() != null)
+            .require("ticketPrice", "needs to be zero or positive",
+                     event -> event.getTicketPrice() != null && event.getTicketPrice().signum() >= 0)
+            .build();
+
+    public static final RuleSet<Event> CREATION = RuleSet.<Event>forSubject("event", "cant be null")
+            .require("name", "is mandatory", event -> RuleSet.hasText(event.getName()))
+            .require("eventDate", "is mandatory", event -> event.getEventDate() != null)
+            .require("ticketPrice", "needs to be zero or positive",
+                     event -> event.getTicketPrice() != null && event.getTicketPrice().signum() >= 0)
+            .require("totalCapacity", "must be greater than zero",
+                     event -> event.getTotalCapacity() != null && event.getTotalCapacity() > 0)
+            .require("venueId", "is mandatory", event -> event.getVenueId() != null)
+            .build();
+
+    private EventValidator() {
+    }
+
+    public static void validateForCreation(Event event) {
+        CREATION.validate(event, EventValidator::invalidData);
+    }
+
+    public static void validateForUpdate(Event event) {
+        UPDATE.validate(event, EventValidator::invalidData);
+    }
+
+    /**
+     * Con una sola regla incumplida el mensaje es el mismo de siempre
+     */
+    public static InvalidEventDataException invalidData(List<Violation> violations) {
+        if (violations.size() == 1) {
+            return new InvalidEventDataException(violations.get(0).field(), violations.get(0).reason());
+        }
+        return new InvalidEventDataException("Invalid event data: " + Violation.describe(violations));
+    }
+}
@@ -0,0 +1,177 @@
+package com.riwi.architecture.application.validation;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reglas de validación armadas una sola vez (al cargar la clase que las
+ * declara) y guardadas en arreglos: validar es recorrer esos arreglos.
+ *
+ * - Se evalúan todas las reglas y se acumulan todas las que fallan, en vez
+ *   de cortar en la primera.
+ * - Un objeto válido no reserva memoria: las reglas son lambdas sin estado
+ *   y el resultado es la lista vacía compartida; la lista de violaciones
+ *   solo se crea con la primera regla incumplida.
+ * - {@link #checkAll(List)} valida lotes grandes en paralelo (fork-join).
+ *
+ * Inmutable y seguro entre hilos.
+ */
+public final class RuleSet<T> {
+
+    // Por debajo de esto dividir el trabajo cuesta más que validar
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final int LEAF_SIZE = 512;
+
+    private final String subject;
+    private final String nullReason;
+    private final String[] fields;
+    private final String[] reasons;
+    private final List<Predicate<? super T>> checks;
+
+    private RuleSet(Builder<T> builder) {
+        this.subject = builder.subject;
+        this.nullReason = builder.nullReason;
+        this.fields = builder.fields.toArray(new String[0]);
+        this.reasons = builder.reasons.toArray(new String[0]);
+        // Lista inmutable respaldada por un arreglo: get(i) es un acceso directo
+        this.checks = List.copyOf(builder.checks);
+    }
+
+    /**
+     * @param subject    campo que se reporta si el objeto es null ("event", "venue")
+     * @param nullReason motivo que se reporta en ese caso
+     */
+    public static <T> Builder<T> forSubject(String subject, String nullReason) {
+        return new Builder<>(subject, nullReason);
+    }
+
+    /**
+     * Todas las reglas incumplidas, en el orden en que se declararon;
+     * lista vacía (sin reservar memoria) si el objeto es válido
+     */
+    public List<Violation> check(T target) {
+        if (target == null) {
+            return List.of(new Violation(subject, nullReason));
+        }
+        List<Violation> violations = null;
+        for (int i = 0; i < fields.length; i++) {
+            if (!checks.get(i).test(target)) {
+                if (violations == null) {
+                    violations = new ArrayList<>(fields.length - i);
+                }
+                violations.add(new Violation(fields[i], reasons[i]));
+            }
+        }
+        return violations != null ? violations : List.of();
+    }
+
+    /**
+     * Lanzar la excepción que arma 'failure' si alguna regla no se cumple
+     */
+    public void validate(T target, Function<List<Violation>, ? extends RuntimeException> failure) {
+        List<Violation> violations = check(target);
+        if (!violations.isEmpty()) {
+            throw failure.apply(violations);
+        }
+    }
+
+    /**
+     * Validar un lote: el resultado de cada elemento en su misma posición
+     * Los lotes grandes se reparten en el pool fork-join común
+     */
+    public List<List<Violation>> checkAll(List<? extends T> targets) {
+        // Cada tarea escribe solo sus posiciones; invoke() publica las escrituras
+        List<List<Violation>> results = new ArrayList<>(Collections.nCopies(targets.size(), List.of()));
+        CheckRange task = new CheckRange(targets, results, 0, results.size());
+        if (results.size() < PARALLEL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return results;
+    }
+
+    /**
+     * Texto no vacío (mismo criterio que trim().isEmpty(), sin crear el String recortado)
+     */
+    static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mitad y mitad hasta llegar a tramos de LEAF_SIZE elementos
+     * (RecursiveAction es Serializable, pero la tarea nunca sale del proceso)
+     */
+    private final class CheckRange extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<? extends T> targets;
+        private final transient List<List<Violation>> results;
+        private final int from;
+        private final int to;
+
+        CheckRange(List<? extends T> targets, List<List<Violation>> results, int from, int to) {
+            this.targets = targets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE || results.size() < PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results.set(i, check(targets.get(i)));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CheckRange(targets, results, from, middle),
+                      new CheckRange(targets, results, middle, to));
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final String subject;
+        private final String nullReason;
+        private final List<String> fields = new ArrayList<>();
+        private final List<String> reasons = new ArrayList<>();
+        private final List<Predicate<? super T>> checks = new ArrayList<>();
+
+        private Builder(String subject, String nullReason) {
+            this.subject = subject;
+            this.nullReason = nullReason;
+        }
+
+        /**
+         * Regla: 'check' devuelve true si el objeto la cumple
+         */
+        public Builder<T> require(String field, String reason, Predicate<? super T> check) {
+            fields.add(field);
+            reasons.add(reason);
+            checks.add(check);
+            return this;
+        }
+
+        public RuleSet<T> build() {
+            return new RuleSet<>(this);
+        }
+    }
+}
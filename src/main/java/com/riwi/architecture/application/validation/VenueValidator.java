@@ -0,0 +1,79 @@
+package com.riwi.architecture.application.validation;
+
+import com.riwi.architecture.domain.exceptions.InvalidVenueDataException;
+import com.riwi.architecture.domain.model.Venue;
+
+import java.util.List;
+
+/**
+ * Reglas de validación de Venue compartidas por los casos de uso y el servicio
+ * Cada chequeo informa todas las reglas incumplidas, no solo la primera.
+ * Las reglas son las mismas en todos lados; los mensajes no: UpdateVenueUseCase
+ * siempre respondió en inglés y conserva esos textos.
+ */
+public final class VenueValidator {
+
+    private static final Reasons SPANISH = new Reasons("no puede ser nulo",
+            "es obligatorio", "es obligatoria", "es obligatoria", "es obligatorio",
+            "latitud y longitud van juntas", "debe estar entre -90 y 90", "debe estar entre -180 y 180");
+
+    private static final Reasons ENGLISH = new Reasons("cant be null",
+            "is mandatory", "is mandatory", "is mandatory", "is mandatory",
+            "latitude and longitude go together", "must be between -90 and 90", "must be between -180 and 180");
+
+    public static final RuleSet<Venue> UPDATE = basicRules(SPANISH).build();
+
+    /**
+     * Mismas reglas que UPDATE con los mensajes de UpdateVenueUseCase
+     */
+    public static final RuleSet<Venue> UPDATE_USE_CASE = basicRules(ENGLISH).build();
+
+    public static final RuleSet<Venue> CREATION = basicRules(SPANISH)
+            .require("capacity", "debe ser mayor a cero",
+                     venue -> venue.getCapacity() != null && venue.getCapacity() > 0)
+            .build();
+
+    private VenueValidator() {
+    }
+
+    public static void validateForCreation(Venue venue) {
+        CREATION.validate(venue, VenueValidator::invalidData);
+    }
+
+    public static void validateForUpdate(Venue venue) {
+        UPDATE_USE_CASE.validate(venue, VenueValidator::invalidData);
+    }
+
+    /**
+     * Con una sola regla incumplida el mensaje es el mismo de siempre
+     */
+    public static InvalidVenueDataException invalidData(List<Violation> violations) {
+        if (violations.size() == 1) {
+            return new InvalidVenueDataException(violations.get(0).field(), violations.get(0).reason());
+        }
+        return new InvalidVenueDataException("Invalid venue data: " + Violation.describe(violations));
+    }
+
+    private static RuleSet.Builder<Venue> basicRules(Reasons reasons) {
+        return RuleSet.<Venue>forSubject("venue", reasons.nullVenue())
+                .require("name", reasons.name(), venue -> RuleSet.hasText(venue.getName()))
+                .require("address", reasons.address(), venue -> RuleSet.hasText(venue.getAddress()))
+                .require("city", reasons.city(), venue -> RuleSet.hasText(venue.getCity()))
+                .require("country", reasons.country(), venue -> RuleSet.hasText(venue.getCountry()))
+                .require("latitude", reasons.pairedCoordinates(),
+                         venue -> (venue.getLatitude() == null) == (venue.getLongitude() == null))
+                .require("latitude", reasons.latitudeRange(),
+                         venue -> venue.getLatitude() == null
+                                 || (venue.getLatitude() >= -90 && venue.getLatitude() <= 90))
+                .require("longitude", reasons.longitudeRange(),
+                         venue -> venue.getLongitude() == null
+                                 || (venue.getLongitude() >= -180 && venue.getLongitude() <= 180));
+    }
+
+    /**
+     * Texto de cada regla en un idioma
+     */
+    private record Reasons(String nullVenue, String name, String address, String city, String country,
+                           String pairedCoordinates, String latitudeRange, String longitudeRange) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.riwi.architecture.application.validation;
+
+import java.util.List;
+
+/**
+ * Regla incumplida: el campo y el motivo
+ */
+public record Violation(String field, String reason) {
+
+    /**
+     * Texto con todas las reglas incumplidas: "'name': is mandatory; 'venueId': is mandatory"
+     */
+    public static String describe(List<Violation> violations) {
+        StringBuilder text = new StringBuilder();
+        for (Violation violation : violations) {
+            if (!text.isEmpty()) {
+                text.append("; ");
+            }
+            text.append('\'').append(violation.field).append("': ").append(violation.reason);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.riwi.architecture.domain.exceptions;
+
+public class HoldNotFoundException extends RuntimeException {
+    public HoldNotFoundException(String message) {
+        super(message);
+    }
+
+    public HoldNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static HoldNotFoundException forHold(String holdId) {
+        return new HoldNotFoundException("Ticket hold not found or expired with ID: " + holdId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.riwi.architecture.domain.exceptions;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static IdempotencyKeyConflictException reusedKey(String key) {
+        return new IdempotencyKeyConflictException(
+                "Idempotency key already used for a different request: " + key);
+    }
+
+    public static IdempotencyKeyConflictException inProgress(String key) {
+        return new IdempotencyKeyConflictException(
+                "A request with this idempotency key is still in progress: " + key);
+    }
+
+    public static IdempotencyKeyConflictException outcomeUnknown(String key) {
+        return new IdempotencyKeyConflictException(
+                "The outcome of the request with this idempotency key is unknown; "
+                        + "check the event before retrying with a new key: " + key);
+    }
+}
@@ -0,0 +1,15 @@
+package com.riwi.architecture.domain.exceptions;
+
+public class VenueHasActiveEventsException extends RuntimeException {
+    public VenueHasActiveEventsException(String message) {
+        super(message);
+    }
+
+    public VenueHasActiveEventsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public VenueHasActiveEventsException(Long venueId) {
+        super("Venue with ID " + venueId + " still has active events and cannot be deleted");
+    }
+}
@@ -0,0 +1,16 @@
+package com.riwi.architecture.domain.exceptions;
+
+public class VenueScheduleConflictException extends RuntimeException {
+    public VenueScheduleConflictException(String message) {
+        super(message);
+    }
+
+    public VenueScheduleConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public VenueScheduleConflictException(Long venueId, Long conflictingEventId) {
+        super("Venue with ID " + venueId + " is already booked by event " + conflictingEventId
+                + " during that time");
+    }
+}
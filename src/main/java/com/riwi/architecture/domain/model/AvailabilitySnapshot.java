@@ -0,0 +1,41 @@
+package com.riwi.architecture.domain.model;
+
+import java.util.List;
+
+/**
+ * Disponibilidad de un conjunto de eventos junto con su ETag
+ * Si el cliente ya tiene esta versión (If-None-Match) no se arman las entradas
+ */
+public class AvailabilitySnapshot {
+
+    private final String etag;
+    private final List<EventAvailability> entries;
+
+    private AvailabilitySnapshot(String etag, List<EventAvailability> entries) {
+        this.etag = etag;
+        this.entries = entries;
+    }
+
+    public static AvailabilitySnapshot of(String etag, List<EventAvailability> entries) {
+        return new AvailabilitySnapshot(etag, entries);
+    }
+
+    public static AvailabilitySnapshot notModified(String etag) {
+        return new AvailabilitySnapshot(etag, null);
+    }
+
+    public boolean isNotModified() {
+        return entries == null;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Entradas en el orden pedido; los IDs inexistentes se omiten
+     */
+    public List<EventAvailability> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,9 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Formatos de salida de la exportación del catálogo
+ */
+public enum CatalogExportFormat {
+    CSV,
+    NDJSON
+}
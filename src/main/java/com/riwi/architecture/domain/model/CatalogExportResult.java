@@ -0,0 +1,24 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Resultado de una exportación del catálogo
+ * lastExportedId permite reanudar una exportación interrumpida (afterId)
+ */
+public class CatalogExportResult {
+
+    private final long exported;
+    private final Long lastExportedId;
+
+    public CatalogExportResult(long exported, Long lastExportedId) {
+        this.exported = exported;
+        this.lastExportedId = lastExportedId;
+    }
+
+    public long getExported() {
+        return exported;
+    }
+
+    public Long getLastExportedId() {
+        return lastExportedId;
+    }
+}
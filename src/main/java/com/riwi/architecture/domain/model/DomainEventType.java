@@ -0,0 +1,12 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Hechos del dominio que se publican a otros sistemas a través del outbox
+ */
+public enum DomainEventType {
+    EVENT_CREATED,
+    TICKETS_SOLD,
+    TICKETS_REFUNDED,
+    EVENT_DELETED,
+    VENUE_DELETED
+}
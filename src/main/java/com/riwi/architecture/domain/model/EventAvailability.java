@@ -0,0 +1,43 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Disponibilidad de un evento tal como la consultan las tiendas
+ * Solo los campos que cambian con las ventas o el calendario
+ */
+public class EventAvailability {
+
+    private final Long eventId;
+    private final int availableTickets;
+    private final int totalCapacity;
+    private final boolean active;
+    private final boolean past;
+
+    public EventAvailability(Long eventId, int availableTickets, int totalCapacity,
+                             boolean active, boolean past) {
+        this.eventId = eventId;
+        this.availableTickets = availableTickets;
+        this.totalCapacity = totalCapacity;
+        this.active = active;
+        this.past = past;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public int getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public int getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isPast() {
+        return past;
+    }
+}
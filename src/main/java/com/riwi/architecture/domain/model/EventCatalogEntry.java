@@ -0,0 +1,101 @@
+package com.riwi.architecture.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila del catálogo exportado: evento + ciudad/país de su venue
+ */
+public class EventCatalogEntry {
+
+    private final Long eventId;
+    private final String name;
+    private final String description;
+    private final String category;
+    private final LocalDateTime eventDate;
+    private final LocalDateTime eventEndDate;
+    private final BigDecimal ticketPrice;
+    private final Integer availableTickets;
+    private final Integer totalCapacity;
+    private final Boolean active;
+    private final Long venueId;
+    private final String venueName;
+    private final String venueCity;
+    private final String venueCountry;
+
+    public EventCatalogEntry(Long eventId, String name, String description, String category,
+            LocalDateTime eventDate, LocalDateTime eventEndDate, BigDecimal ticketPrice,
+            Integer availableTickets, Integer totalCapacity, Boolean active, Long venueId,
+            String venueName, String venueCity, String venueCountry) {
+        this.eventId = eventId;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.eventDate = eventDate;
+        this.eventEndDate = eventEndDate;
+        this.ticketPrice = ticketPrice;
+        this.availableTickets = availableTickets;
+        this.totalCapacity = totalCapacity;
+        this.active = active;
+        this.venueId = venueId;
+        this.venueName = venueName;
+        this.venueCity = venueCity;
+        this.venueCountry = venueCountry;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LocalDateTime getEventDate() {
+        return eventDate;
+    }
+
+    public LocalDateTime getEventEndDate() {
+        return eventEndDate;
+    }
+
+    public BigDecimal getTicketPrice() {
+        return ticketPrice;
+    }
+
+    public Integer getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public Integer getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getVenueName() {
+        return venueName;
+    }
+
+    public String getVenueCity() {
+        return venueCity;
+    }
+
+    public String getVenueCountry() {
+        return venueCountry;
+    }
+}
@@ -0,0 +1,23 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Error de una línea concreta del archivo importado
+ */
+public class EventImportError {
+
+    private final long line;
+    private final String message;
+
+    public EventImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
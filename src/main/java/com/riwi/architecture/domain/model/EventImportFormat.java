@@ -0,0 +1,11 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Formatos aceptados por la importación masiva de eventos
+ * CSV    : primera línea con cabecera (nombres de campo de Event)
+ * NDJSON : un objeto JSON por línea
+ */
+public enum EventImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,51 @@
+package com.riwi.architecture.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva
+ * Solo se conservan los primeros MAX_REPORTED_ERRORS errores para que el
+ * reporte no crezca con el archivo; 'failed' siempre cuenta todos.
+ */
+public class EventImportReport {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long processed;
+    private long imported;
+    private long failed;
+    private final List<EventImportError> errors = new ArrayList<>();
+
+    public void recordProcessed() {
+        processed++;
+    }
+
+    public void recordImported(long count) {
+        imported += count;
+    }
+
+    public void recordError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new EventImportError(line, message));
+        }
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<EventImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
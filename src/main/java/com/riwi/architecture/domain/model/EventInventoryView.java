@@ -0,0 +1,142 @@
+package com.riwi.architecture.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Vista compacta de un evento para los caminos calientes (venta,
+ * disponibilidad, listados): solo tipos primitivos, sin objetos envueltos.
+ *
+ * - Precio en unidades menores (centavos, escala 2 como la columna ticket_price)
+ * - Fechas como segundos de época de la hora local (LocalDateTime leído en UTC),
+ *   el mismo criterio que usa la proyección de disponibilidad
+ * - closesAt es el fin del evento, o su inicio si no tiene fin, o
+ *   {@link #NO_DATE} si no tiene fechas
+ *
+ * Inmutable. El Event completo se arma solo en el borde (respuesta del caso de uso).
+ */
+public final class EventInventoryView {
+
+    public static final long NO_DATE = Long.MAX_VALUE;
+
+    private final long id;
+    private final long venueId;
+    private final boolean active;
+    private final int totalCapacity;
+    private final int availableTickets;
+    private final long ticketPriceMinor;
+    private final long startsAt;
+    private final long closesAt;
+
+    public EventInventoryView(long id, long venueId, boolean active, int totalCapacity,
+                              int availableTickets, long ticketPriceMinor,
+                              long startsAt, long closesAt) {
+        this.id = id;
+        this.venueId = venueId;
+        this.active = active;
+        this.totalCapacity = totalCapacity;
+        this.availableTickets = availableTickets;
+        this.ticketPriceMinor = ticketPriceMinor;
+        this.startsAt = startsAt;
+        this.closesAt = closesAt;
+    }
+
+    public static EventInventoryView from(Event event) {
+        return of(event.getId(), event.getVenueId(), event.getActive(), event.getTotalCapacity(),
+                  event.getAvailableTickets(), event.getTicketPrice(),
+                  event.getEventDate(), event.getEventEndDate());
+    }
+
+    /**
+     * A partir de los valores tal como están en el agregado o en la fila
+     * Los nulos quedan como 0 / false / NO_DATE
+     */
+    public static EventInventoryView of(Long id, Long venueId, Boolean active, Integer totalCapacity,
+                                        Integer availableTickets, BigDecimal ticketPrice,
+                                        LocalDateTime eventDate, LocalDateTime eventEndDate) {
+        long startsAt = epochSeconds(eventDate);
+        long endsAt = epochSeconds(eventEndDate);
+        return new EventInventoryView(
+                id != null ? id : 0L,
+                venueId != null ? venueId : 0L,
+                Boolean.TRUE.equals(active),
+                totalCapacity != null ? totalCapacity : 0,
+                availableTickets != null ? availableTickets : 0,
+                toMinorUnits(ticketPrice),
+                startsAt,
+                endsAt != NO_DATE ? endsAt : startsAt);
+    }
+
+    public EventInventoryView withAvailableTickets(int available) {
+        if (available == availableTickets) {
+            return this;
+        }
+        return new EventInventoryView(id, venueId, active, totalCapacity, available,
+                                      ticketPriceMinor, startsAt, closesAt);
+    }
+
+    /**
+     * Mismo criterio que la sentencia condicional de venta: el evento sigue
+     * vigente solo si su cierre es posterior a 'nowSeconds'
+     */
+    public boolean isPastAt(long nowSeconds) {
+        return closesAt <= nowSeconds;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getVenueId() {
+        return venueId;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public int getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public long getTicketPriceMinor() {
+        return ticketPriceMinor;
+    }
+
+    public long getStartsAt() {
+        return startsAt;
+    }
+
+    public long getClosesAt() {
+        return closesAt;
+    }
+
+    /**
+     * Precio como BigDecimal, solo para el borde
+     */
+    public BigDecimal getTicketPrice() {
+        return BigDecimal.valueOf(ticketPriceMinor, 2);
+    }
+
+    // ==================== CONVERSIONES ====================
+
+    /**
+     * Centavos; los precios se guardan con escala 2, cualquier resto se redondea
+     */
+    public static long toMinorUnits(BigDecimal price) {
+        if (price == null) {
+            return 0L;
+        }
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : NO_DATE;
+    }
+}
@@ -0,0 +1,131 @@
+package com.riwi.architecture.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de un listado de eventos: los mismos primitivos que
+ * {@link EventInventoryView} (ids, conteos, precio en centavos, fechas en
+ * segundos de época) más lo que se muestra del evento (nombre, categoría) y
+ * su fecha de inicio, que además es el cursor de la página siguiente.
+ *
+ * Sin descripción, fechas de auditoría ni versión: un listado no arma el
+ * Event completo. Inmutable.
+ */
+public final class EventListing {
+
+    private final long id;
+    private final long venueId;
+    private final boolean active;
+    private final int totalCapacity;
+    private final int availableTickets;
+    private final long ticketPriceMinor;
+    private final long closesAt;
+    private final String name;
+    private final String category;
+    private final LocalDateTime eventDate;
+
+    public EventListing(long id, long venueId, boolean active, int totalCapacity, int availableTickets,
+                        long ticketPriceMinor, long closesAt, String name, String category,
+                        LocalDateTime eventDate) {
+        this.id = id;
+        this.venueId = venueId;
+        this.active = active;
+        this.totalCapacity = totalCapacity;
+        this.availableTickets = availableTickets;
+        this.ticketPriceMinor = ticketPriceMinor;
+        this.closesAt = closesAt;
+        this.name = name;
+        this.category = category;
+        this.eventDate = eventDate;
+    }
+
+    /**
+     * A partir de los valores tal como están en la fila
+     * Los nulos quedan como 0 / false / NO_DATE, igual que en la vista
+     */
+    public static EventListing of(Long id, String name, String category, LocalDateTime eventDate,
+                                  LocalDateTime eventEndDate, BigDecimal ticketPrice,
+                                  Integer availableTickets, Integer totalCapacity,
+                                  Boolean active, Long venueId) {
+        long startsAt = EventInventoryView.epochSeconds(eventDate);
+        long endsAt = EventInventoryView.epochSeconds(eventEndDate);
+        return new EventListing(
+                id != null ? id : 0L,
+                venueId != null ? venueId : 0L,
+                Boolean.TRUE.equals(active),
+                totalCapacity != null ? totalCapacity : 0,
+                availableTickets != null ? availableTickets : 0,
+                EventInventoryView.toMinorUnits(ticketPrice),
+                endsAt != EventInventoryView.NO_DATE ? endsAt : startsAt,
+                name, category, eventDate);
+    }
+
+    public static EventListing from(Event event) {
+        return of(event.getId(), event.getName(), event.getCategory(), event.getEventDate(),
+                  event.getEventEndDate(), event.getTicketPrice(), event.getAvailableTickets(),
+                  event.getTotalCapacity(), event.getActive(), event.getVenueId());
+    }
+
+    /**
+     * Misma fila con otro conteo (la misma instancia si no cambia)
+     */
+    public EventListing withAvailableTickets(int available) {
+        if (available == availableTickets) {
+            return this;
+        }
+        return new EventListing(id, venueId, active, totalCapacity, available,
+                                ticketPriceMinor, closesAt, name, category, eventDate);
+    }
+
+    public boolean isPastAt(long nowSeconds) {
+        return closesAt <= nowSeconds;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getVenueId() {
+        return venueId;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public int getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public long getTicketPriceMinor() {
+        return ticketPriceMinor;
+    }
+
+    public long getClosesAt() {
+        return closesAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LocalDateTime getEventDate() {
+        return eventDate;
+    }
+
+    /**
+     * Precio como BigDecimal, solo para el borde
+     */
+    public BigDecimal getTicketPrice() {
+        return BigDecimal.valueOf(ticketPriceMinor, 2);
+    }
+}
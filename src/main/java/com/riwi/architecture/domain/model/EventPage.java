@@ -0,0 +1,41 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Página de resultados de una búsqueda de eventos (filas de listado)
+ * nextEventDate/nextId son el cursor para pedir la página siguiente
+ * (null cuando no hay más resultados)
+ */
+public class EventPage {
+
+    private final List<EventListing> events;
+    private final boolean hasMore;
+    private final LocalDateTime nextEventDate;
+    private final Long nextId;
+
+    public EventPage(List<EventListing> events, boolean hasMore,
+                     LocalDateTime nextEventDate, Long nextId) {
+        this.events = events;
+        this.hasMore = hasMore;
+        this.nextEventDate = nextEventDate;
+        this.nextId = nextId;
+    }
+
+    public List<EventListing> getEvents() {
+        return events;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public LocalDateTime getNextEventDate() {
+        return nextEventDate;
+    }
+
+    public Long getNextId() {
+        return nextId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros y cursor para listar eventos
+ * Todos los filtros son opcionales. La paginación es por cursor (keyset)
+ * sobre (eventDate, id): la página siguiente empieza justo después del
+ * último evento devuelto, sin OFFSET.
+ */
+public class EventSearchCriteria {
+
+    private String category;
+    private Long venueId;
+    private LocalDateTime fromDate;
+    private LocalDateTime toDate;
+    private Boolean active;
+    private LocalDateTime afterEventDate;
+    private Long afterId;
+    private Integer limit;
+
+    public EventSearchCriteria() {
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public LocalDateTime getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDateTime fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDateTime getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDateTime toDate) {
+        this.toDate = toDate;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getAfterEventDate() {
+        return afterEventDate;
+    }
+
+    public void setAfterEventDate(LocalDateTime afterEventDate) {
+        this.afterEventDate = afterEventDate;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,101 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de una operación de tickets identificada por su clave de idempotencia
+ * Mientras completedAt es null la operación sigue en curso
+ */
+public class IdempotencyRecord {
+
+    private String key;
+    private TicketOperation operation;
+    private Long eventId;
+    private Integer quantity;
+    private Integer availableTickets;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public IdempotencyRecord() {
+    }
+
+    public IdempotencyRecord(String key, TicketOperation operation, Long eventId, Integer quantity,
+                             Integer availableTickets, LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.key = key;
+        this.operation = operation;
+        this.eventId = eventId;
+        this.quantity = quantity;
+        this.availableTickets = availableTickets;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+
+    /**
+     * La misma clave solo puede repetirse con la misma operación, evento y cantidad
+     */
+    public boolean matches(TicketOperation operation, Long eventId, Integer quantity) {
+        return this.operation == operation
+                && this.eventId != null && this.eventId.equals(eventId)
+                && this.quantity != null && this.quantity.equals(quantity);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public TicketOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(TicketOperation operation) {
+        this.operation = operation;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Integer getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public void setAvailableTickets(Integer availableTickets) {
+        this.availableTickets = availableTickets;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
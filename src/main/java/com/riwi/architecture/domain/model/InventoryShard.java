@@ -0,0 +1,55 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Porción del inventario de un evento grande: la capacidad total se reparte
+ * entre varias porciones que se venden y devuelven por separado
+ */
+public class InventoryShard {
+
+    private Long eventId;
+    private Integer shardIndex;
+    private Integer availableTickets;
+    private Integer capacity;
+
+    public InventoryShard() {
+    }
+
+    public InventoryShard(Long eventId, Integer shardIndex, Integer availableTickets, Integer capacity) {
+        this.eventId = eventId;
+        this.shardIndex = shardIndex;
+        this.availableTickets = availableTickets;
+        this.capacity = capacity;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getShardIndex() {
+        return shardIndex;
+    }
+
+    public void setShardIndex(Integer shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public Integer getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public void setAvailableTickets(Integer availableTickets) {
+        this.availableTickets = availableTickets;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,53 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Resultado de comparar el saldo derivado del libro con availableTickets del evento
+ */
+public class LedgerReconciliation {
+
+    private final Long eventId;
+    private final int ledgerAvailable;
+    private final int eventAvailable;
+    private final long lastSequence;
+    private final boolean baselineCreated;
+
+    public LedgerReconciliation(Long eventId, int ledgerAvailable, int eventAvailable,
+                                long lastSequence, boolean baselineCreated) {
+        this.eventId = eventId;
+        this.ledgerAvailable = ledgerAvailable;
+        this.eventAvailable = eventAvailable;
+        this.lastSequence = lastSequence;
+        this.baselineCreated = baselineCreated;
+    }
+
+    public boolean isConsistent() {
+        return ledgerAvailable == eventAvailable;
+    }
+
+    public int getDifference() {
+        return eventAvailable - ledgerAvailable;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public int getLedgerAvailable() {
+        return ledgerAvailable;
+    }
+
+    public int getEventAvailable() {
+        return eventAvailable;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * true si el evento no tenía libro y se abrió con su saldo actual
+     */
+    public boolean isBaselineCreated() {
+        return baselineCreated;
+    }
+}
@@ -0,0 +1,34 @@
+package com.riwi.architecture.domain.model;
+
+import java.util.List;
+
+/**
+ * Venue encontrado por cercanía, con su distancia y sus próximos eventos activos
+ */
+public class NearbyVenue {
+
+    private final Venue venue;
+    private final double distanceKm;
+    private final List<Event> upcomingEvents;
+
+    public NearbyVenue(Venue venue, double distanceKm, List<Event> upcomingEvents) {
+        this.venue = venue;
+        this.distanceKm = distanceKm;
+        this.upcomingEvents = upcomingEvents;
+    }
+
+    public Venue getVenue() {
+        return venue;
+    }
+
+    /**
+     * Distancia al punto de búsqueda (al centro del recuadro en búsquedas por recuadro)
+     */
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public List<Event> getUpcomingEvents() {
+        return upcomingEvents;
+    }
+}
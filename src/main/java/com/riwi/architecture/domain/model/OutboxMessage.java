@@ -0,0 +1,79 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hecho del dominio pendiente de publicar (o ya publicado)
+ * sequence da el orden de publicación; aggregateId es el evento o venue afectado
+ * y payload el JSON que recibe el publicador
+ */
+public class OutboxMessage {
+
+    private Long sequence;
+    private DomainEventType type;
+    private Long aggregateId;
+    private String payload;
+    private LocalDateTime occurredAt;
+    private LocalDateTime publishedAt;
+
+    public OutboxMessage() {
+    }
+
+    public OutboxMessage(Long sequence, DomainEventType type, Long aggregateId, String payload,
+                         LocalDateTime occurredAt, LocalDateTime publishedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public DomainEventType getType() {
+        return type;
+    }
+
+    public void setType(DomainEventType type) {
+        this.type = type;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reserva temporal de tickets: se descuentan del evento al crearla y
+ * vuelven a estar disponibles si no se confirma antes de expiresAt
+ */
+public class TicketHold {
+
+    private String id;
+    private Long eventId;
+    private Integer quantity;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+    public TicketHold() {
+    }
+
+    public TicketHold(String id, Long eventId, Integer quantity,
+                      LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saldo de tickets de un evento hasta el movimiento 'lastSequence' incluido
+ * Reconstruir el estado solo necesita la foto más reciente y los movimientos posteriores
+ */
+public class TicketLedgerSnapshot {
+
+    private Long eventId;
+    private Long lastSequence;
+    private Integer availableTickets;
+    private LocalDateTime takenAt;
+
+    public TicketLedgerSnapshot() {
+    }
+
+    public TicketLedgerSnapshot(Long eventId, Long lastSequence, Integer availableTickets, LocalDateTime takenAt) {
+        this.eventId = eventId;
+        this.lastSequence = lastSequence;
+        this.availableTickets = availableTickets;
+        this.takenAt = takenAt;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public Integer getAvailableTickets() {
+        return availableTickets;
+    }
+
+    public void setAvailableTickets(Integer availableTickets) {
+        this.availableTickets = availableTickets;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(LocalDateTime takenAt) {
+        this.takenAt = takenAt;
+    }
+}
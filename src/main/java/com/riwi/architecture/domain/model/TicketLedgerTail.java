@@ -0,0 +1,30 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Resumen de los movimientos posteriores a una foto: suma de deltas,
+ * último número de secuencia y cantidad de movimientos
+ */
+public class TicketLedgerTail {
+
+    private final long delta;
+    private final long lastSequence;
+    private final long movements;
+
+    public TicketLedgerTail(long delta, long lastSequence, long movements) {
+        this.delta = delta;
+        this.lastSequence = lastSequence;
+        this.movements = movements;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getMovements() {
+        return movements;
+    }
+}
@@ -0,0 +1,98 @@
+package com.riwi.architecture.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Movimiento del libro de tickets de un evento (solo se agregan, nunca se modifican)
+ * delta es con signo: negativo para ventas, positivo para apertura y devoluciones
+ *
+ * Un movimiento puede sumar varias operaciones (el inventario en memoria
+ * asienta un total por pasada): operations dice cuántas y la ventana va de
+ * firstOccurredAt a occurredAt. Una operación suelta tiene operations = 1 y
+ * ambas fechas iguales.
+ */
+public class TicketMovement {
+
+    private Long sequence;
+    private Long eventId;
+    private TicketMovementType type;
+    private Integer delta;
+    private LocalDateTime occurredAt;
+    private Integer operations;
+    private LocalDateTime firstOccurredAt;
+
+    public TicketMovement() {
+    }
+
+    public TicketMovement(Long sequence, Long eventId, TicketMovementType type,
+                          Integer delta, LocalDateTime occurredAt) {
+        this(sequence, eventId, type, delta, occurredAt, 1, occurredAt);
+    }
+
+    public TicketMovement(Long sequence, Long eventId, TicketMovementType type, Integer delta,
+                          LocalDateTime occurredAt, Integer operations, LocalDateTime firstOccurredAt) {
+        this.sequence = sequence;
+        this.eventId = eventId;
+        this.type = type;
+        this.delta = delta;
+        this.occurredAt = occurredAt;
+        this.operations = operations;
+        this.firstOccurredAt = firstOccurredAt;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public TicketMovementType getType() {
+        return type;
+    }
+
+    public void setType(TicketMovementType type) {
+        this.type = type;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Integer getOperations() {
+        return operations;
+    }
+
+    public void setOperations(Integer operations) {
+        this.operations = operations;
+    }
+
+    public LocalDateTime getFirstOccurredAt() {
+        return firstOccurredAt;
+    }
+
+    public void setFirstOccurredAt(LocalDateTime firstOccurredAt) {
+        this.firstOccurredAt = firstOccurredAt;
+    }
+}
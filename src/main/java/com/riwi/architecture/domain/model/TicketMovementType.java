@@ -0,0 +1,15 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Tipos de movimiento del libro de tickets
+ * OPEN fija el saldo inicial del evento; SELL y REFUND lo restan/suman
+ * HOLD aparta tickets para una reserva temporal y RELEASE los devuelve
+ * (al vencer, al liberarla o al confirmarla, junto con su SELL)
+ */
+public enum TicketMovementType {
+    OPEN,
+    SELL,
+    REFUND,
+    HOLD,
+    RELEASE
+}
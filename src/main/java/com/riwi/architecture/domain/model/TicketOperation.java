@@ -0,0 +1,9 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Operaciones de tickets que admiten clave de idempotencia
+ */
+public enum TicketOperation {
+    SELL,
+    REFUND
+}
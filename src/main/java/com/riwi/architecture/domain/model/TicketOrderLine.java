@@ -0,0 +1,34 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Línea de un carrito de compra: cantidad de tickets pedida para un evento
+ */
+public class TicketOrderLine {
+
+    private Long eventId;
+    private Integer quantity;
+
+    public TicketOrderLine() {
+    }
+
+    public TicketOrderLine(Long eventId, Integer quantity) {
+        this.eventId = eventId;
+        this.quantity = quantity;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -11,6 +11,8 @@ public class Venue {
     private Integer capacity;
     private String type;
     private String facilities;
+    private Double latitude;
+    private Double longitude;
     private Boolean active;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -97,6 +99,29 @@ public class Venue {
         this.facilities = facilities;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    /**
+     * Tiene coordenadas (las dos o ninguna)
+     */
+    public boolean isLocated() {
+        return latitude != null && longitude != null;
+    }
+
     public Boolean getActive() {
         return active;
     }
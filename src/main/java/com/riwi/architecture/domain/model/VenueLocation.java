@@ -0,0 +1,29 @@
+package com.riwi.architecture.domain.model;
+
+/**
+ * Coordenadas de un venue activo, lo único que necesita el índice espacial
+ */
+public class VenueLocation {
+
+    private final Long venueId;
+    private final double latitude;
+    private final double longitude;
+
+    public VenueLocation(Long venueId, double latitude, double longitude) {
+        this.venueId = venueId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+}
@@ -0,0 +1,10 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.CatalogExportFormat;
+import com.riwi.architecture.domain.model.CatalogExportResult;
+
+import java.io.Writer;
+
+public interface ExportCatalogUseCase {
+    CatalogExportResult exportCatalog(Writer target, CatalogExportFormat format, Long afterId);
+}
@@ -0,0 +1,19 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.NearbyVenue;
+
+import java.util.List;
+
+public interface FindNearbyVenuesUseCase {
+    /**
+     * Venues activos a no más de 'radiusKm' del punto, del más cercano al más lejano
+     * @param limit máximo de venues (null para el valor por defecto)
+     */
+    List<NearbyVenue> findWithinRadius(double latitude, double longitude, double radiusKm, Integer limit);
+
+    /**
+     * Venues activos dentro del recuadro; si west > east cruza el antimeridiano
+     * @param limit máximo de venues (null para el valor por defecto)
+     */
+    List<NearbyVenue> findWithinBox(double south, double west, double north, double east, Integer limit);
+}
@@ -0,0 +1,12 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.AvailabilitySnapshot;
+
+import java.util.List;
+
+public interface GetAvailabilityUseCase {
+    /**
+     * @param ifNoneMatch ETag que ya tiene el cliente (null si ninguno)
+     */
+    AvailabilitySnapshot getAvailability(List<Long> eventIds, String ifNoneMatch);
+}
@@ -0,0 +1,10 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.EventImportFormat;
+import com.riwi.architecture.domain.model.EventImportReport;
+
+import java.io.Reader;
+
+public interface ImportEventsUseCase {
+    EventImportReport importEvents(Reader source, EventImportFormat format);
+}
@@ -0,0 +1,13 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.Event;
+
+import java.util.List;
+
+public interface SearchEventsByTextUseCase {
+    /**
+     * Eventos activos que coinciden con las palabras de 'query', del más al menos relevante
+     * @param limit máximo de eventos (null para el valor por defecto)
+     */
+    List<Event> searchByText(String query, Integer limit);
+}
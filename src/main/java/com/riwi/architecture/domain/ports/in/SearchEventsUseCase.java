@@ -0,0 +1,8 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.EventPage;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+
+public interface SearchEventsUseCase {
+    EventPage searchEvents(EventSearchCriteria criteria);
+}
@@ -0,0 +1,10 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketOrderLine;
+
+import java.util.List;
+
+public interface SellTicketsBatchUseCase {
+    List<Event> sellTickets(List<TicketOrderLine> lines);
+}
@@ -0,0 +1,12 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketHold;
+
+import java.time.Duration;
+
+public interface TicketHoldUseCase {
+    TicketHold placeHold(Long eventId, Integer quantity, Duration ttl);
+    Event confirmHold(String holdId);
+    void releaseHold(String holdId);
+}
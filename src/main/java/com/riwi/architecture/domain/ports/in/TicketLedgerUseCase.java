@@ -0,0 +1,11 @@
+package com.riwi.architecture.domain.ports.in;
+
+import com.riwi.architecture.domain.model.LedgerReconciliation;
+import com.riwi.architecture.domain.model.TicketMovement;
+
+import java.util.List;
+
+public interface TicketLedgerUseCase {
+    List<TicketMovement> getMovements(Long eventId, Long afterSequence, Integer limit);
+    LedgerReconciliation reconcile(Long eventId);
+}
@@ -6,4 +6,6 @@ public interface UpdateEventUseCase {
     Event updateEvent(Long id, Event event);
     Event sellTickets(Long eventId, Integer quantity);
     Event refundTickets(Long eventId, Integer quantity);
-}
\ No newline at end of file
+    Event sellTickets(Long eventId, Integer quantity, String idempotencyKey);
+    Event refundTickets(Long eventId, Integer quantity, String idempotencyKey);
+}
@@ -0,0 +1,14 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Puerto de salida hacia el transporte de eventos (broker, archivo, etc.)
+ * Recibe una tanda en orden de secuencia; si lanza excepción la tanda
+ * completa se vuelve a entregar en la siguiente pasada
+ */
+public interface DomainEventPublisher {
+    void publish(List<OutboxMessage> messages);
+}
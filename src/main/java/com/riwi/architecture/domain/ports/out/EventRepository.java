@@ -1,8 +1,17 @@
 package com.riwi.architecture.domain.ports.out;
 
 import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida (OUT PORT) - Repositorio de Event
@@ -17,11 +26,28 @@ public interface EventRepository {
      */
     Event save(Event event);
     
+    /**
+     * Guardar varios eventos en un solo lote
+     */
+    List<Event> saveAll(Collection<Event> events);
+    
     /**
      * Buscar un evento por su ID
      */
     Optional<Event> findById(Long id);
     
+    /**
+     * Buscar varios eventos por sus IDs en una sola consulta
+     * Los IDs que no existen simplemente no aparecen en el resultado
+     */
+    List<Event> findAllById(Collection<Long> ids);
+    
+    /**
+     * Vista primitiva (inventario, precio, fechas) de varios eventos, sin
+     * armar el agregado completo; los IDs que no existen no aparecen
+     */
+    List<EventInventoryView> findInventoryViewsById(Collection<Long> ids);
+    
     /**
      * Eliminar un evento por su ID
      */
@@ -31,4 +57,67 @@ public interface EventRepository {
      * Verificar si un evento existe por ID
      */
     boolean existsById(Long id);
+    
+    /**
+     * Verificar si un venue tiene al menos un evento activo
+     * Se resuelve con el índice (venue_id, active) y se detiene en la primera
+     * coincidencia: el costo no depende del tamaño del catálogo
+     */
+    boolean existsActiveByVenueId(Long venueId);
+    
+    /**
+     * Eventos activos de un venue (para armar su agenda de horarios)
+     */
+    List<Event> findActiveByVenueId(Long venueId);
+    
+    /**
+     * Eventos activos que aún no terminan en 'now' de varios venues, en una
+     * sola consulta, ordenados por (eventDate, id): los primeros 'perVenue' de cada venue
+     */
+    List<Event> findUpcomingActiveByVenueIds(Collection<Long> venueIds, LocalDateTime now, int perVenue);
+    
+    /**
+     * Descontar tickets con una sola sentencia condicional
+     * Solo afecta la fila si el evento está activo, no ha pasado en 'now'
+     * y tiene al menos 'quantity' tickets disponibles
+     * @return filas afectadas (0 si alguna condición no se cumple o no existe)
+     */
+    int decrementAvailableTickets(Long id, int quantity, LocalDateTime now);
+    
+    /**
+     * La misma sentencia condicional de {@link #decrementAvailableTickets}
+     * para varios eventos, enviadas en un solo lote
+     * @return filas afectadas por cada evento, en el orden del mapa
+     */
+    int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now);
+    
+    /**
+     * Devolver tickets con una sola sentencia condicional
+     * Solo afecta la fila si el resultado no supera totalCapacity
+     * @return filas afectadas (0 si se excede la capacidad o no existe)
+     */
+    int incrementAvailableTickets(Long id, int quantity, LocalDateTime now);
+    
+    /**
+     * Buscar eventos por filtros, ordenados por (eventDate, id) y a partir
+     * del cursor del criterio (paginación keyset)
+     * Devuelve filas de listado, no el agregado completo
+     * @param limit número máximo de eventos a devolver
+     */
+    List<EventListing> search(EventSearchCriteria criteria, int limit);
+    
+    /**
+     * Recorrer el catálogo completo (eventos + ciudad/país del venue) en
+     * orden de ID con un cursor del lado del servidor
+     * Debe consumirse dentro de una transacción y cerrarse al terminar
+     * @param afterId último ID ya exportado (null para empezar desde el principio)
+     */
+    Stream<EventCatalogEntry> streamCatalog(Long afterId);
+    
+    /**
+     * Recorrer solo las filas del catálogo cuyo evento o venue cambió
+     * después de 'since' (updatedAt), en orden de ID
+     * Debe consumirse dentro de una transacción y cerrarse al terminar
+     */
+    Stream<EventCatalogEntry> streamCatalogChangedSince(LocalDateTime since);
 }
@@ -0,0 +1,19 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para los registros de idempotencia
+ * claim inserta el registro solo si la clave no existe (false si ya existía)
+ * complete se une a la transacción de quien llama (la del cambio de stock)
+ */
+public interface IdempotencyRepository {
+    Optional<IdempotencyRecord> findByKey(String key);
+    boolean claim(IdempotencyRecord record);
+    void complete(String key, int availableTickets, LocalDateTime completedAt);
+    void release(String key);
+    int deleteCreatedBefore(LocalDateTime threshold);
+}
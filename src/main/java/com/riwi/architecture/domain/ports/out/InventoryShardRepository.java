@@ -0,0 +1,18 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.InventoryShard;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para las porciones de inventario de eventos grandes
+ * Las operaciones de descuento/devolución son condicionales y atómicas por fila
+ */
+public interface InventoryShardRepository {
+    List<InventoryShard> findByEventId(Long eventId);
+    void saveAll(List<InventoryShard> shards);
+    int decrementAvailableTickets(Long eventId, int shardIndex, int quantity);
+    int incrementAvailableTickets(Long eventId, int shardIndex, int quantity);
+    int sumAvailableTickets(Long eventId);
+    void deleteByEventId(Long eventId);
+}
@@ -0,0 +1,27 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Puerto de salida para la tabla outbox
+ * appendAll se une a la transacción de quien llama; findUnpublished
+ * devuelve los pendientes en orden de secuencia. El turno del relay
+ * (lease) decide qué instancia publica.
+ */
+public interface OutboxRepository {
+    void appendAll(List<OutboxMessage> messages);
+    List<OutboxMessage> findUnpublished(int limit);
+    void markPublished(List<Long> sequences, LocalDateTime publishedAt);
+    int deletePublishedBefore(LocalDateTime threshold);
+
+    /**
+     * Tomar o renovar el turno del relay hasta 'until'
+     * @return false si otra instancia tiene un turno vigente
+     */
+    boolean tryAcquireRelayLease(String owner, LocalDateTime now, LocalDateTime until);
+
+    void releaseRelayLease(String owner, LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.TicketHold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para las reservas temporales de tickets
+ * save y delete se unen a la transacción de quien llama (la que cambia el
+ * stock); delete devuelve false si la reserva ya no estaba
+ */
+public interface TicketHoldRepository {
+    void save(TicketHold hold);
+    Optional<TicketHold> findById(String id);
+    boolean delete(String id);
+    List<TicketHold> findExpiredBefore(LocalDateTime threshold, int limit);
+}
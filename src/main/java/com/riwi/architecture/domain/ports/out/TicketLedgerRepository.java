@@ -0,0 +1,26 @@
+package com.riwi.architecture.domain.ports.out;
+
+import com.riwi.architecture.domain.model.TicketLedgerSnapshot;
+import com.riwi.architecture.domain.model.TicketLedgerTail;
+import com.riwi.architecture.domain.model.TicketMovement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para el libro de movimientos de tickets (solo agregar)
+ */
+public interface TicketLedgerRepository {
+    void appendAll(List<TicketMovement> movements);
+    List<TicketMovement> findMovements(Long eventId, long afterSequence, int limit);
+    TicketLedgerTail summarizeAfter(Long eventId, long afterSequence);
+
+    /**
+     * Como {@link #summarizeAfter(Long, long)} pero solo hasta el último
+     * movimiento ocurrido antes de 'occurredBefore' (el tramo que cubre una foto)
+     */
+    TicketLedgerTail summarizeSettled(Long eventId, long afterSequence, LocalDateTime occurredBefore);
+    Optional<TicketLedgerSnapshot> findLatestSnapshot(Long eventId);
+    void saveSnapshot(TicketLedgerSnapshot snapshot);
+}
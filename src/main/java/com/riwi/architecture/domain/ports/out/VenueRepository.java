@@ -1,7 +1,10 @@
 package com.riwi.architecture.domain.ports.out;
 
 import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.model.VenueLocation;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,6 +25,17 @@ public interface VenueRepository {
      */
     Optional<Venue> findById(Long id);
     
+    /**
+     * Buscar varios venues por sus IDs en una sola consulta
+     * Los IDs que no existen simplemente no aparecen en el resultado
+     */
+    List<Venue> findAllById(Collection<Long> ids);
+    
+    /**
+     * Coordenadas de todos los venues activos que las tienen (para el índice espacial)
+     */
+    List<VenueLocation> findAllLocations();
+    
     /**
      * Eliminar un venue por su ID
      */
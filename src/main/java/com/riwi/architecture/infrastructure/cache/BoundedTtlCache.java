@@ -0,0 +1,202 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria acotada por tamaño y por tiempo de vida (TTL)
+ *
+ * Se divide en segmentos LRU independientes para repartir la contención
+ * entre hilos. Guarda también resultados negativos (IDs que no existen) con
+ * un TTL propio, más corto, para que las consultas repetidas sobre IDs
+ * borrados no lleguen a la base de datos.
+ *
+ * Una carga que coincide con una invalidación puede dejar un valor viejo;
+ * el TTL acota ese tiempo y el bloqueo optimista evita escribir sobre él.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl, Duration negativeTtl) {
+        int segmentSize = Math.max(1, maxSize / SEGMENTS);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segment<K, V>[] created = new Segment[SEGMENTS];
+        this.segments = created;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(segmentSize, evictions);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    /**
+     * Leer un valor, cargándolo con 'loader' si no está o expiró
+     * La carga se hace fuera del bloqueo del segmento
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        Entry<V> entry = lookup(key);
+        if (entry != null) {
+            return Optional.ofNullable(entry.value);
+        }
+
+        Optional<V> loaded = loader.apply(key);
+        store(key, loaded.orElse(null));
+        return loaded;
+    }
+
+    /**
+     * Leer varios valores; los que faltan se cargan con una sola llamada a 'bulkLoader'
+     * Los IDs que el cargador no devuelve quedan como entradas negativas
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            Entry<V> entry = lookup(key);
+            if (entry == null) {
+                missing.add(key);
+            } else if (entry.value != null) {
+                result.put(key, entry.value);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<K, V> loaded = bulkLoader.apply(missing);
+            for (K key : missing) {
+                V value = loaded.get(key);
+                store(key, value);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Registrar que la clave no existe (p. ej. tras borrarla)
+     */
+    public void putAbsent(K key) {
+        store(key, null);
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.map.remove(key);
+        }
+    }
+
+    public void bindTo(MeterRegistry registry, String cacheName) {
+        FunctionCounter.builder("catalog.cache.hits", hits, LongAdder::doubleValue)
+                .tag("cache", cacheName)
+                .description("Lecturas servidas desde la caché")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.misses", misses, LongAdder::doubleValue)
+                .tag("cache", cacheName)
+                .description("Lecturas que tuvieron que ir al repositorio")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.evictions", evictions, LongAdder::doubleValue)
+                .tag("cache", cacheName)
+                .description("Entradas descartadas por tamaño o por TTL")
+                .register(registry);
+        Gauge.builder("catalog.cache.size", this, BoundedTtlCache::size)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Entry<V> lookup(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.map.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits.increment();
+                return entry;
+            }
+            if (entry != null) {
+                segment.map.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    private void store(K key, V value) {
+        long ttl = value != null ? ttlNanos : negativeTtlNanos;
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + ttl);
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.map.put(key, entry);
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Segmento LRU: LinkedHashMap en orden de acceso que descarta el más antiguo
+     */
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        private Segment(int maxSize, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de salida con caché de lectura delante de JpaEventRepository
+ * (a través de OffHeapEventRepository, que sin activar pasa todo directo)
+ * Toda escritura invalida la entrada del evento (también si falla, para que
+ * un reintento por bloqueo optimista relea la fila) y las lecturas hechas
+ * dentro de una transacción de escritura no se cachean. Los eventos se entregan
+ * como copias porque los casos de uso los modifican antes de guardarlos.
+ */
+@Repository
+@Primary
+public class CachingEventRepository implements EventRepository, MeterBinder {
+
+    private final EventRepository delegate;
+    private final BoundedTtlCache<Long, Event> cache;
+
+    public CachingEventRepository(@Qualifier("offHeapEventRepository") EventRepository delegate,
+                                  @Value("${catalog.cache.max-size:10000}") int maxSize,
+                                  @Value("${catalog.cache.ttl-ms:30000}") long ttlMillis,
+                                  @Value("${catalog.cache.negative-ttl-ms:5000}") long negativeTtlMillis) {
+        this.delegate = delegate;
+        this.cache = new BoundedTtlCache<>(maxSize,
+                Duration.ofMillis(ttlMillis), Duration.ofMillis(negativeTtlMillis));
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved = null;
+        try {
+            saved = delegate.save(event);
+            return saved;
+        } finally {
+            // En una alta el ID solo existe en la entidad devuelta
+            invalidate(saved != null ? saved.getId() : event.getId());
+        }
+    }
+
+    @Override
+    public List<Event> saveAll(Collection<Event> events) {
+        List<Event> saved = null;
+        try {
+            saved = delegate.saveAll(events);
+            return saved;
+        } finally {
+            for (Event event : saved != null ? saved : events) {
+                invalidate(event.getId());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        if (insideWritingTransaction()) {
+            return delegate.findById(id);
+        }
+        return cache.get(id, delegate::findById).map(CachingEventRepository::copyOf);
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        if (insideWritingTransaction()) {
+            return delegate.findAllById(ids);
+        }
+        Map<Long, Event> found = cache.getAll(ids, this::loadAll);
+
+        List<Event> events = new ArrayList<>(found.size());
+        for (Event event : found.values()) {
+            events.add(copyOf(event));
+        }
+        return events;
+    }
+
+    /**
+     * Se arman desde los eventos de la caché; los que faltan se cargan completos
+     * (así la próxima lectura del evento también es un acierto)
+     */
+    @Override
+    public List<EventInventoryView> findInventoryViewsById(Collection<Long> ids) {
+        if (insideWritingTransaction()) {
+            return delegate.findInventoryViewsById(ids);
+        }
+        Map<Long, Event> found = cache.getAll(ids, this::loadAll);
+        List<EventInventoryView> views = new ArrayList<>(found.size());
+        for (Event event : found.values()) {
+            views.add(EventInventoryView.from(event));
+        }
+        return views;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+        AfterCommit.run(() -> cache.putAbsent(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (insideWritingTransaction()) {
+            return delegate.existsById(id);
+        }
+        return cache.get(id, delegate::findById).isPresent();
+    }
+
+    /**
+     * Consulta por venue: no pasa por la caché de eventos por ID
+     */
+    @Override
+    public boolean existsActiveByVenueId(Long venueId) {
+        return delegate.existsActiveByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findActiveByVenueId(Long venueId) {
+        return delegate.findActiveByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findUpcomingActiveByVenueIds(Collection<Long> venueIds, LocalDateTime now, int perVenue) {
+        return delegate.findUpcomingActiveByVenueIds(venueIds, now, perVenue);
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        try {
+            return delegate.decrementAvailableTickets(id, quantity, now);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now) {
+        try {
+            return delegate.decrementAvailableTicketsAll(quantitiesByEvent, now);
+        } finally {
+            quantitiesByEvent.keySet().forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        try {
+            return delegate.incrementAvailableTickets(id, quantity, now);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Los listados no se cachean: van directo al repositorio
+     */
+    @Override
+    public List<EventListing> search(EventSearchCriteria criteria, int limit) {
+        return delegate.search(criteria, limit);
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalog(Long afterId) {
+        return delegate.streamCatalog(afterId);
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalogChangedSince(LocalDateTime since) {
+        return delegate.streamCatalogChangedSince(since);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "events");
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Map<Long, Event> loadAll(Collection<Long> missing) {
+        Map<Long, Event> loaded = new HashMap<>();
+        for (Event event : delegate.findAllById(missing)) {
+            loaded.put(event.getId(), event);
+        }
+        return loaded;
+    }
+
+    /**
+     * Se invalida al escribir y otra vez tras el commit: una lectura de otro
+     * hilo entre ambos momentos todavía ve la fila anterior y la cachearía
+     */
+    private void invalidate(Long id) {
+        if (id != null) {
+            cache.invalidate(id);
+            AfterCommit.run(() -> cache.invalidate(id));
+        }
+    }
+
+    /**
+     * Dentro de una transacción de escritura las lecturas pueden ver cambios
+     * sin confirmar (o que se revertirán): se leen del repositorio sin tocar la caché
+     */
+    private static boolean insideWritingTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static Event copyOf(Event source) {
+        Event copy = new Event(source.getId(), source.getName(), source.getDescription(),
+                source.getEventDate(), source.getEventEndDate(), source.getCategory(),
+                source.getTicketPrice(), source.getAvailableTickets(), source.getTotalCapacity(),
+                source.getActive(), source.getVenueId(), source.getCreatedAt(), source.getUpdatedAt());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+}
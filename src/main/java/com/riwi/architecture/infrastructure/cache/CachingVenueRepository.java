@@ -0,0 +1,92 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.model.VenueLocation;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de salida con caché de lectura delante de JpaVenueRepository
+ */
+@Repository
+@Primary
+public class CachingVenueRepository implements VenueRepository, MeterBinder {
+
+    private final VenueRepository delegate;
+    private final BoundedTtlCache<Long, Venue> cache;
+
+    public CachingVenueRepository(@Qualifier("jpaVenueRepository") VenueRepository delegate,
+                                  @Value("${catalog.cache.max-size:10000}") int maxSize,
+                                  @Value("${catalog.cache.ttl-ms:30000}") long ttlMillis,
+                                  @Value("${catalog.cache.negative-ttl-ms:5000}") long negativeTtlMillis) {
+        this.delegate = delegate;
+        this.cache = new BoundedTtlCache<>(maxSize,
+                Duration.ofMillis(ttlMillis), Duration.ofMillis(negativeTtlMillis));
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        try {
+            return delegate.save(venue);
+        } finally {
+            if (venue.getId() != null) {
+                cache.invalidate(venue.getId());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        return cache.get(id, delegate::findById).map(CachingVenueRepository::copyOf);
+    }
+
+    /**
+     * Sin caché: se lee en un solo viaje y no se desplazan las entradas calientes
+     */
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        return new ArrayList<>(delegate.findAllById(ids));
+    }
+
+    @Override
+    public List<VenueLocation> findAllLocations() {
+        return delegate.findAllLocations();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.putAbsent(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return cache.get(id, delegate::findById).isPresent();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "venues");
+    }
+
+    private static Venue copyOf(Venue source) {
+        Venue copy = new Venue(source.getId(), source.getName(), source.getAddress(),
+                source.getCity(), source.getCountry(), source.getCapacity(), source.getType(),
+                source.getActive(), source.getCreatedAt(), source.getUpdatedAt());
+        copy.setFacilities(source.getFacilities());
+        copy.setLatitude(source.getLatitude());
+        copy.setLongitude(source.getLongitude());
+        return copy;
+    }
+}
@@ -0,0 +1,326 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.application.support.AfterCommit;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de salida: nivel tibio de lectura fuera del heap entre
+ * CachingEventRepository (caché caliente, pocos miles de eventos) y
+ * JpaEventRepository
+ *
+ * Guarda hasta 'max-events' eventos en {@link OffHeapEventStore}, así el
+ * catálogo completo puede servirse desde memoria sin millones de objetos
+ * Event en el heap. Como en la caché caliente, toda escritura invalida el
+ * evento (también si falla); además se vuelve a invalidar al confirmar la
+ * transacción, y una carga que se cruzó con una invalidación no se guarda.
+ * Cada entrada vence a los 'ttl-ms', lo que acota cuánto tarda en verse un
+ * cambio hecho por otra instancia. Los listados y recorridos del catálogo
+ * van directo al repositorio.
+ *
+ * Desactivado (catalog.offheap.enabled=false) todo pasa directo al repositorio.
+ */
+@Repository
+public class OffHeapEventRepository implements EventRepository, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapEventRepository.class);
+
+    // Contadores de invalidación por franja de IDs
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final EventRepository delegate;
+    private final OffHeapEventStore store;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public OffHeapEventRepository(@Qualifier("jpaEventRepository") EventRepository delegate,
+                                  @Value("${catalog.offheap.enabled:false}") boolean enabled,
+                                  @Value("${catalog.offheap.max-events:2000000}") int maxEvents,
+                                  @Value("${catalog.offheap.max-text-mb:512}") long maxTextMegabytes,
+                                  @Value("${catalog.offheap.ttl-ms:600000}") long ttlMillis) {
+        this.delegate = delegate;
+        this.store = enabled ? new OffHeapEventStore(maxEvents, maxTextMegabytes * 1024 * 1024) : null;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved = null;
+        try {
+            saved = delegate.save(event);
+            return saved;
+        } finally {
+            // En una alta el ID solo existe en la entidad devuelta
+            invalidate(saved != null ? saved.getId() : event.getId());
+        }
+    }
+
+    @Override
+    public List<Event> saveAll(Collection<Event> events) {
+        List<Event> saved = null;
+        try {
+            saved = delegate.saveAll(events);
+            return saved;
+        } finally {
+            for (Event event : saved != null ? saved : events) {
+                invalidate(event.getId());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        if (store == null) {
+            return delegate.findById(id);
+        }
+        Event stored = store.get(id, System.currentTimeMillis());
+        if (stored != null) {
+            hits.increment();
+            return Optional.of(stored);
+        }
+        misses.increment();
+        long generation = generation(id);
+        Optional<Event> loaded = delegate.findById(id);
+        loaded.ifPresent(event -> keep(event, generation));
+        return loaded;
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        if (store == null) {
+            return delegate.findAllById(ids);
+        }
+        long now = System.currentTimeMillis();
+        List<Event> events = new ArrayList<>(ids.size());
+        Map<Long, Long> missing = new HashMap<>();
+        for (Long id : ids) {
+            Event stored = store.get(id, now);
+            if (stored != null) {
+                events.add(stored);
+            } else {
+                missing.put(id, generation(id));
+            }
+        }
+        hits.add(events.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            for (Event event : delegate.findAllById(missing.keySet())) {
+                keep(event, missing.get(event.getId()));
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Los aciertos se leen del registro sin decodificar textos; los que
+     * faltan se cargan completos para que queden guardados
+     */
+    @Override
+    public List<EventInventoryView> findInventoryViewsById(Collection<Long> ids) {
+        if (store == null) {
+            return delegate.findInventoryViewsById(ids);
+        }
+        long now = System.currentTimeMillis();
+        List<EventInventoryView> views = new ArrayList<>(ids.size());
+        Map<Long, Long> missing = new HashMap<>();
+        for (Long id : ids) {
+            EventInventoryView view = store.inventoryView(id, now);
+            if (view != null) {
+                views.add(view);
+            } else {
+                missing.put(id, generation(id));
+            }
+        }
+        hits.add(views.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            for (Event event : delegate.findAllById(missing.keySet())) {
+                keep(event, missing.get(event.getId()));
+                views.add(EventInventoryView.from(event));
+            }
+        }
+        return views;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (store != null && store.contains(id, System.currentTimeMillis())) {
+            return true;
+        }
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsActiveByVenueId(Long venueId) {
+        return delegate.existsActiveByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findActiveByVenueId(Long venueId) {
+        return delegate.findActiveByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findUpcomingActiveByVenueIds(Collection<Long> venueIds, LocalDateTime now, int perVenue) {
+        return delegate.findUpcomingActiveByVenueIds(venueIds, now, perVenue);
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        try {
+            return delegate.decrementAvailableTickets(id, quantity, now);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now) {
+        try {
+            return delegate.decrementAvailableTicketsAll(quantitiesByEvent, now);
+        } finally {
+            quantitiesByEvent.keySet().forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        try {
+            return delegate.incrementAvailableTickets(id, quantity, now);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public List<EventListing> search(EventSearchCriteria criteria, int limit) {
+        return delegate.search(criteria, limit);
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalog(Long afterId) {
+        return delegate.streamCatalog(afterId);
+    }
+
+    @Override
+    public Stream<EventCatalogEntry> streamCatalogChangedSince(LocalDateTime since) {
+        return delegate.streamCatalogChangedSince(since);
+    }
+
+    /**
+     * Liberar los registros vencidos (y compactar los textos si hace falta)
+     */
+    @Scheduled(fixedDelayString = "${catalog.offheap.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        if (store == null) {
+            return;
+        }
+        int purged = store.purgeExpired(System.currentTimeMillis());
+        if (purged > 0) {
+            log.debug("Purged {} expired events from the off-heap catalog", purged);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (store == null) {
+            return;
+        }
+        FunctionCounter.builder("catalog.cache.hits", hits, LongAdder::doubleValue)
+                .tag("cache", "events-offheap")
+                .description("Lecturas servidas desde la caché")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.misses", misses, LongAdder::doubleValue)
+                .tag("cache", "events-offheap")
+                .description("Lecturas que tuvieron que ir al repositorio")
+                .register(registry);
+        Gauge.builder("catalog.cache.size", store, OffHeapEventStore::size)
+                .tag("cache", "events-offheap")
+                .register(registry);
+        Gauge.builder("catalog.offheap.reserved.bytes", store, OffHeapEventStore::reservedBytes)
+                .description("Memoria directa reservada por el nivel fuera del heap")
+                .register(registry);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Guardar lo leído del repositorio salvo que el evento se haya invalidado
+     * desde que empezó la lectura ('generation' tomado antes de leer)
+     * Se guarda y luego se comprueba: una invalidación que llega entre
+     * medio ya incrementó el contador y el registro se quita.
+     */
+    private void keep(Event event, long generation) {
+        if (generation(event.getId()) != generation) {
+            return;
+        }
+        store.put(event, System.currentTimeMillis() + ttlMillis);
+        if (generation(event.getId()) != generation) {
+            store.remove(event.getId());
+        }
+    }
+
+    /**
+     * Ahora y otra vez al confirmar: una lectura hecha antes de la
+     * confirmación pudo volver a guardar la fila anterior
+     */
+    private void invalidate(Long id) {
+        if (store != null && id != null) {
+            evict(id);
+            AfterCommit.run(() -> evict(id));
+        }
+    }
+
+    private void evict(long id) {
+        generations.incrementAndGet(stripe(id));
+        store.remove(id);
+    }
+
+    private long generation(long id) {
+        return generations.get(stripe(id));
+    }
+
+    private static int stripe(long id) {
+        return (int) (id ^ (id >>> 32)) & (GENERATION_STRIPES - 1);
+    }
+}
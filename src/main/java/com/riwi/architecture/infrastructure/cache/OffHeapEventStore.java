@@ -0,0 +1,673 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Eventos guardados fuera del heap, en buffers directos (ByteBuffer.allocateDirect)
+ *
+ * - Registros de tamaño fijo (RECORD_SIZE bytes) en bloques de RECORDS_PER_CHUNK:
+ *   ids, conteos, precio (sin escalar + escala) y fechas (segundos + nanos)
+ *   como primitivos; los textos son referencias al área de textos.
+ * - Área de textos: name y description como [largo int][bytes UTF-8], solo
+ *   se agregan al final. Si el texto no cambió se conserva la referencia;
+ *   si cambió, el anterior queda como basura y se compacta cuando supera la
+ *   mitad del área. Los bloques que quedan libres al compactar se reutilizan:
+ *   la memoria directa no depende de que el GC libere los ByteBuffer.
+ * - category va a un diccionario (pocos valores distintos): el registro
+ *   guarda el código y las lecturas devuelven siempre el mismo String.
+ * - Índice id -> número de registro también fuera del heap (direccionamiento
+ *   abierto, sondeo lineal, celdas de 12 bytes; id 0 = celda libre).
+ *
+ * En el heap solo quedan los objetos ByteBuffer de cada bloque, el
+ * diccionario y la pila de registros libres: el GC no recorre los eventos.
+ * Leer un Event copia los textos a Strings nuevos; {@link #inventoryView}
+ * lee los primitivos directamente del buffer.
+ *
+ * Seguro entre hilos (StampedLock: lecturas compartidas, escrituras exclusivas).
+ */
+final class OffHeapEventStore {
+
+    // ==================== FORMATO DEL REGISTRO ====================
+
+    private static final int ID = 0;               // long (0 = registro libre)
+    private static final int VENUE_ID = 8;         // long
+    private static final int VERSION = 16;         // long
+    private static final int PRICE_UNSCALED = 24;  // long
+    private static final int EVENT_DATE = 32;      // long segundos + int nanos
+    private static final int EVENT_END_DATE = 44;
+    private static final int CREATED_AT = 56;
+    private static final int UPDATED_AT = 68;
+    private static final int AVAILABLE = 80;       // int
+    private static final int CAPACITY = 84;        // int
+    private static final int NAME = 88;            // long referencia al área de textos
+    private static final int DESCRIPTION = 96;     // long
+    private static final int CATEGORY = 104;       // int código del diccionario
+    private static final int EXPIRES_AT = 108;     // long millis
+    private static final int PRICE_SCALE = 116;    // byte
+    private static final int ACTIVE = 117;         // byte
+    private static final int RECORD_SIZE = 120;
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final byte NULL_BYTE = -1;
+    private static final long NO_TEXT = -1L;
+    private static final int NO_CATEGORY = -1;
+
+    private static final int RECORD_CHUNK_BITS = 16;
+    private static final int RECORDS_PER_CHUNK = 1 << RECORD_CHUNK_BITS;
+
+    private static final int TEXT_CHUNK_BITS = 24;
+    private static final int TEXT_CHUNK_BYTES = 1 << TEXT_CHUNK_BITS;
+
+    private static final int INDEX_CELL = 12;
+    private static final int MAX_CATEGORIES = 4096;
+
+    // Registros revisados por cada toma del candado al purgar
+    private static final int PURGE_SLICE = 4096;
+
+    private final int maxEvents;
+    private final long maxTextBytes;
+    private final StampedLock lock = new StampedLock();
+
+    private ByteBuffer[] recordChunks = new ByteBuffer[0];
+    private int recordHighWater;
+    private int[] freeRecords = new int[64];
+    private int freeCount;
+    private int size;
+
+    private List<ByteBuffer> textChunks = new ArrayList<>();
+    private final ArrayDeque<ByteBuffer> spareTextChunks = new ArrayDeque<>();
+    private long textTail;
+    private long textGarbage;
+
+    private ByteBuffer index;
+    private int indexCapacity;
+
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+
+    OffHeapEventStore(int maxEvents, long maxTextBytes) {
+        this.maxEvents = maxEvents;
+        this.maxTextBytes = maxTextBytes;
+        this.indexCapacity = 1 << 16;
+        this.index = allocate(indexCapacity * INDEX_CELL);
+    }
+
+    // ==================== LECTURAS ====================
+
+    /**
+     * El evento si está y no venció; null si no
+     */
+    Event get(long id, long nowMillis) {
+        long stamp = lock.readLock();
+        try {
+            int record = find(id);
+            if (record < 0) {
+                return null;
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int base = offsetOf(record);
+            if (chunk.getLong(base + EXPIRES_AT) <= nowMillis) {
+                return null;
+            }
+            return decode(chunk, base);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Solo primitivos leídos del registro: no se decodifica ningún texto
+     */
+    EventInventoryView inventoryView(long id, long nowMillis) {
+        long stamp = lock.readLock();
+        try {
+            int record = find(id);
+            if (record < 0) {
+                return null;
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int base = offsetOf(record);
+            if (chunk.getLong(base + EXPIRES_AT) <= nowMillis) {
+                return null;
+            }
+            long startsAt = seconds(chunk, base + EVENT_DATE);
+            long endsAt = seconds(chunk, base + EVENT_END_DATE);
+            int available = chunk.getInt(base + AVAILABLE);
+            int capacity = chunk.getInt(base + CAPACITY);
+            long venueId = chunk.getLong(base + VENUE_ID);
+            return new EventInventoryView(id,
+                    venueId != NULL_LONG ? venueId : 0L,
+                    chunk.get(base + ACTIVE) == 1,
+                    capacity != NULL_INT ? capacity : 0,
+                    available != NULL_INT ? available : 0,
+                    priceMinorUnits(chunk, base),
+                    startsAt,
+                    endsAt != EventInventoryView.NO_DATE ? endsAt : startsAt);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    boolean contains(long id, long nowMillis) {
+        long stamp = lock.readLock();
+        try {
+            int record = find(id);
+            return record >= 0 && chunkOf(record).getLong(offsetOf(record) + EXPIRES_AT) > nowMillis;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Bytes reservados fuera del heap (registros + textos + índice)
+     */
+    long reservedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) recordChunks.length * RECORDS_PER_CHUNK * RECORD_SIZE
+                    + (long) (textChunks.size() + spareTextChunks.size()) * TEXT_CHUNK_BYTES
+                    + (long) indexCapacity * INDEX_CELL;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ==================== ESCRITURAS ====================
+
+    /**
+     * Guardar o reemplazar el evento
+     * @return false si no entra (sin lugar, precio o textos fuera de formato);
+     *         en ese caso tampoco queda la versión anterior
+     */
+    boolean put(Event event, long expiresAtMillis) {
+        if (event.getId() == null || event.getId() <= 0) {
+            return false;
+        }
+        long id = event.getId();
+        BigDecimal price = event.getTicketPrice();
+        byte[] name = bytesOf(event.getName());
+        byte[] description = bytesOf(event.getDescription());
+
+        long stamp = lock.writeLock();
+        try {
+            if (!storable(price, name, description, event.getCategory())) {
+                removeLocked(id);
+                return false;
+            }
+
+            int record = find(id);
+            if (record < 0) {
+                if (size >= maxEvents) {
+                    return false;
+                }
+                record = allocateRecord();
+                indexPut(id, record);
+                size++;
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int base = offsetOf(record);
+            boolean replacing = chunk.getLong(base + ID) == id;
+
+            long nameRef = replacing ? chunk.getLong(base + NAME) : NO_TEXT;
+            long descriptionRef = replacing ? chunk.getLong(base + DESCRIPTION) : NO_TEXT;
+
+            chunk.putLong(base + ID, id);
+            chunk.putLong(base + VENUE_ID, event.getVenueId() != null ? event.getVenueId() : NULL_LONG);
+            chunk.putLong(base + VERSION, event.getVersion() != null ? event.getVersion() : NULL_LONG);
+            chunk.putLong(base + PRICE_UNSCALED, price != null ? price.unscaledValue().longValue() : 0L);
+            chunk.put(base + PRICE_SCALE, price != null ? (byte) price.scale() : NULL_BYTE);
+            putDate(chunk, base + EVENT_DATE, event.getEventDate());
+            putDate(chunk, base + EVENT_END_DATE, event.getEventEndDate());
+            putDate(chunk, base + CREATED_AT, event.getCreatedAt());
+            putDate(chunk, base + UPDATED_AT, event.getUpdatedAt());
+            chunk.putInt(base + AVAILABLE,
+                    event.getAvailableTickets() != null ? event.getAvailableTickets() : NULL_INT);
+            chunk.putInt(base + CAPACITY,
+                    event.getTotalCapacity() != null ? event.getTotalCapacity() : NULL_INT);
+            chunk.put(base + ACTIVE, event.getActive() == null ? NULL_BYTE : (byte) (event.getActive() ? 1 : 0));
+            chunk.putInt(base + CATEGORY, categoryCode(event.getCategory()));
+            chunk.putLong(base + EXPIRES_AT, expiresAtMillis);
+            chunk.putLong(base + NAME, replaceText(nameRef, name));
+            chunk.putLong(base + DESCRIPTION, replaceText(descriptionRef, description));
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Liberar los registros vencidos y, si la mitad del área de textos es
+     * basura, compactarla
+     * El recorrido va por tramos de PURGE_SLICE registros, cada uno con su
+     * propia toma del candado: las lecturas esperan a lo sumo un tramo, no
+     * el recorrido completo
+     * @return registros liberados
+     */
+    int purgeExpired(long nowMillis) {
+        int purged = 0;
+        for (int from = 0; ; from += PURGE_SLICE) {
+            long stamp = lock.writeLock();
+            try {
+                // Se relee en cada tramo: el área pudo crecer entre tomas
+                if (from >= recordHighWater) {
+                    break;
+                }
+                int to = Math.min(from + PURGE_SLICE, recordHighWater);
+                for (int record = from; record < to; record++) {
+                    ByteBuffer chunk = chunkOf(record);
+                    int base = offsetOf(record);
+                    long id = chunk.getLong(base + ID);
+                    if (id != 0 && chunk.getLong(base + EXPIRES_AT) <= nowMillis) {
+                        removeLocked(id);
+                        purged++;
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (textGarbage > 0 && textGarbage * 2 >= textTail) {
+                compactTexts();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return purged;
+    }
+
+    // ==================== REGISTROS (con el candado tomado) ====================
+
+    private Event decode(ByteBuffer chunk, int base) {
+        long venueId = chunk.getLong(base + VENUE_ID);
+        long version = chunk.getLong(base + VERSION);
+        int available = chunk.getInt(base + AVAILABLE);
+        int capacity = chunk.getInt(base + CAPACITY);
+        byte active = chunk.get(base + ACTIVE);
+        byte scale = chunk.get(base + PRICE_SCALE);
+        int category = chunk.getInt(base + CATEGORY);
+
+        Event event = new Event(chunk.getLong(base + ID),
+                readText(chunk.getLong(base + NAME)),
+                readText(chunk.getLong(base + DESCRIPTION)),
+                readDate(chunk, base + EVENT_DATE),
+                readDate(chunk, base + EVENT_END_DATE),
+                category != NO_CATEGORY ? categories.get(category) : null,
+                scale != NULL_BYTE ? BigDecimal.valueOf(chunk.getLong(base + PRICE_UNSCALED), scale) : null,
+                available != NULL_INT ? available : null,
+                capacity != NULL_INT ? capacity : null,
+                active != NULL_BYTE ? active == 1 : null,
+                venueId != NULL_LONG ? venueId : null,
+                readDate(chunk, base + CREATED_AT),
+                readDate(chunk, base + UPDATED_AT));
+        event.setVersion(version != NULL_LONG ? version : null);
+        return event;
+    }
+
+    private void removeLocked(long id) {
+        int record = indexRemove(id);
+        if (record < 0) {
+            return;
+        }
+        ByteBuffer chunk = chunkOf(record);
+        int base = offsetOf(record);
+        textGarbage += textLength(chunk.getLong(base + NAME)) + textLength(chunk.getLong(base + DESCRIPTION));
+        chunk.putLong(base + ID, 0L);
+        if (freeCount == freeRecords.length) {
+            freeRecords = Arrays.copyOf(freeRecords, freeCount * 2);
+        }
+        freeRecords[freeCount++] = record;
+        size--;
+    }
+
+    private int allocateRecord() {
+        if (freeCount > 0) {
+            return freeRecords[--freeCount];
+        }
+        int record = recordHighWater++;
+        int chunk = record >>> RECORD_CHUNK_BITS;
+        if (chunk == recordChunks.length) {
+            recordChunks = Arrays.copyOf(recordChunks, chunk + 1);
+            recordChunks[chunk] = allocate(RECORDS_PER_CHUNK * RECORD_SIZE);
+        }
+        return record;
+    }
+
+    private ByteBuffer chunkOf(int record) {
+        return recordChunks[record >>> RECORD_CHUNK_BITS];
+    }
+
+    private static int offsetOf(int record) {
+        return (record & (RECORDS_PER_CHUNK - 1)) * RECORD_SIZE;
+    }
+
+    /**
+     * Precios con escala 0..127 cuyo valor sin escalar entra en un long;
+     * textos que caben en un bloque; categorías dentro del diccionario
+     */
+    private boolean storable(BigDecimal price, byte[] name, byte[] description, String category) {
+        if (price != null && (price.scale() < 0 || price.scale() > Byte.MAX_VALUE
+                || price.unscaledValue().bitLength() > 63)) {
+            return false;
+        }
+        if (textSize(name) > TEXT_CHUNK_BYTES || textSize(description) > TEXT_CHUNK_BYTES) {
+            return false;
+        }
+        if (!textFits(name, description) && textGarbage * 2 >= textTail) {
+            compactTexts();
+        }
+        if (!textFits(name, description)) {
+            return false;
+        }
+        return category == null || categoryCodes.containsKey(category) || categories.size() < MAX_CATEGORIES;
+    }
+
+    private int categoryCode(String category) {
+        if (category == null) {
+            return NO_CATEGORY;
+        }
+        Integer code = categoryCodes.get(category);
+        if (code == null) {
+            code = categories.size();
+            categories.add(category);
+            categoryCodes.put(category, code);
+        }
+        return code;
+    }
+
+    private static void putDate(ByteBuffer chunk, int at, LocalDateTime value) {
+        if (value == null) {
+            chunk.putLong(at, NULL_LONG);
+            chunk.putInt(at + 8, 0);
+        } else {
+            chunk.putLong(at, value.toEpochSecond(ZoneOffset.UTC));
+            chunk.putInt(at + 8, value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDate(ByteBuffer chunk, int at) {
+        long seconds = chunk.getLong(at);
+        if (seconds == NULL_LONG) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, chunk.getInt(at + 8), ZoneOffset.UTC);
+    }
+
+    /**
+     * Mismo criterio de segundos que EventInventoryView (NO_DATE si no hay fecha)
+     */
+    private static long seconds(ByteBuffer chunk, int at) {
+        long seconds = chunk.getLong(at);
+        return seconds != NULL_LONG ? seconds : EventInventoryView.NO_DATE;
+    }
+
+    private static long priceMinorUnits(ByteBuffer chunk, int base) {
+        byte scale = chunk.get(base + PRICE_SCALE);
+        long unscaled = chunk.getLong(base + PRICE_UNSCALED);
+        if (scale == NULL_BYTE) {
+            return 0L;
+        }
+        if (scale == 2) {
+            return unscaled;
+        }
+        return EventInventoryView.toMinorUnits(BigDecimal.valueOf(unscaled, scale));
+    }
+
+    // ==================== ÁREA DE TEXTOS ====================
+
+    private static byte[] bytesOf(String text) {
+        return text != null ? text.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static long textSize(byte[] bytes) {
+        return bytes != null ? Integer.BYTES + bytes.length : 0;
+    }
+
+    /**
+     * Los bloques en uso tras agregar los textos caben en max-text; no
+     * descuenta los textos que se conservarían por no haber cambiado
+     */
+    private boolean textFits(byte[]... texts) {
+        long tail = textTail;
+        int chunks = textChunks.size();
+        for (byte[] bytes : texts) {
+            if (bytes == null) {
+                continue;
+            }
+            int needed = Integer.BYTES + bytes.length;
+            int offset = (int) (tail & (TEXT_CHUNK_BYTES - 1));
+            if ((tail >>> TEXT_CHUNK_BITS) != chunks - 1 || TEXT_CHUNK_BYTES - offset < needed) {
+                chunks++;
+                tail = (long) (chunks - 1) << TEXT_CHUNK_BITS;
+            }
+            tail += needed;
+        }
+        return (long) chunks * TEXT_CHUNK_BYTES <= maxTextBytes;
+    }
+
+    /**
+     * Conservar la referencia si el texto no cambió; si no, agregar el nuevo
+     */
+    private long replaceText(long current, byte[] bytes) {
+        if (bytes == null) {
+            textGarbage += textLength(current);
+            return NO_TEXT;
+        }
+        if (current != NO_TEXT && sameText(current, bytes)) {
+            return current;
+        }
+        textGarbage += textLength(current);
+        return appendText(bytes);
+    }
+
+    private long appendText(byte[] bytes) {
+        int needed = Integer.BYTES + bytes.length;
+        int offset = (int) (textTail & (TEXT_CHUNK_BYTES - 1));
+        boolean tailInLastChunk = (textTail >>> TEXT_CHUNK_BITS) == textChunks.size() - 1;
+        if (!tailInLastChunk || TEXT_CHUNK_BYTES - offset < needed) {
+            if (tailInLastChunk) {
+                // El resto del bloque no alcanza: se salta y cuenta como basura
+                textGarbage += TEXT_CHUNK_BYTES - offset;
+            }
+            ByteBuffer spare = spareTextChunks.poll();
+            textChunks.add(spare != null ? spare : allocate(TEXT_CHUNK_BYTES));
+            textTail = (long) (textChunks.size() - 1) << TEXT_CHUNK_BITS;
+            offset = 0;
+        }
+        long ref = textTail;
+        ByteBuffer chunk = textChunks.get(textChunks.size() - 1);
+        chunk.putInt(offset, bytes.length);
+        chunk.put(offset + Integer.BYTES, bytes);
+        textTail += needed;
+        return ref;
+    }
+
+    private String readText(long ref) {
+        if (ref == NO_TEXT) {
+            return null;
+        }
+        ByteBuffer chunk = textChunks.get((int) (ref >>> TEXT_CHUNK_BITS));
+        int offset = (int) (ref & (TEXT_CHUNK_BYTES - 1));
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean sameText(long ref, byte[] bytes) {
+        ByteBuffer chunk = textChunks.get((int) (ref >>> TEXT_CHUNK_BITS));
+        int offset = (int) (ref & (TEXT_CHUNK_BYTES - 1));
+        if (chunk.getInt(offset) != bytes.length) {
+            return false;
+        }
+        return chunk.slice(offset + Integer.BYTES, bytes.length).equals(ByteBuffer.wrap(bytes));
+    }
+
+    private long textLength(long ref) {
+        if (ref == NO_TEXT) {
+            return 0;
+        }
+        ByteBuffer chunk = textChunks.get((int) (ref >>> TEXT_CHUNK_BITS));
+        return Integer.BYTES + chunk.getInt((int) (ref & (TEXT_CHUNK_BYTES - 1)));
+    }
+
+    /**
+     * Copiar los textos vivos a otros bloques (libres o nuevos: mientras
+     * dura la copia conviven ambos juegos) y dejar como libres los
+     * anteriores que quepan en max-text junto a los que quedaron en uso
+     */
+    private void compactTexts() {
+        List<ByteBuffer> previous = textChunks;
+        textChunks = new ArrayList<>();
+        textTail = 0;
+        textGarbage = 0;
+        for (int record = 0; record < recordHighWater; record++) {
+            ByteBuffer chunk = chunkOf(record);
+            int base = offsetOf(record);
+            if (chunk.getLong(base + ID) != 0) {
+                chunk.putLong(base + NAME, copyText(previous, chunk.getLong(base + NAME)));
+                chunk.putLong(base + DESCRIPTION, copyText(previous, chunk.getLong(base + DESCRIPTION)));
+            }
+        }
+        long maxChunks = maxTextBytes / TEXT_CHUNK_BYTES;
+        for (ByteBuffer chunk : previous) {
+            if (textChunks.size() + spareTextChunks.size() >= maxChunks) {
+                break;
+            }
+            spareTextChunks.add(chunk);
+        }
+    }
+
+    private long copyText(List<ByteBuffer> from, long ref) {
+        if (ref == NO_TEXT) {
+            return NO_TEXT;
+        }
+        ByteBuffer chunk = from.get((int) (ref >>> TEXT_CHUNK_BITS));
+        int offset = (int) (ref & (TEXT_CHUNK_BYTES - 1));
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return appendText(bytes);
+    }
+
+    // ==================== ÍNDICE id -> registro ====================
+
+    private int find(long id) {
+        int mask = indexCapacity - 1;
+        for (int i = slot(id, mask); ; i = (i + 1) & mask) {
+            long key = index.getLong(i * INDEX_CELL);
+            if (key == id) {
+                return index.getInt(i * INDEX_CELL + Long.BYTES);
+            }
+            if (key == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void indexPut(long id, int record) {
+        if ((size + 1) * 2 > indexCapacity) {
+            rehash(indexCapacity * 2);
+        }
+        int mask = indexCapacity - 1;
+        int i = slot(id, mask);
+        while (index.getLong(i * INDEX_CELL) != 0) {
+            i = (i + 1) & mask;
+        }
+        index.putLong(i * INDEX_CELL, id);
+        index.putInt(i * INDEX_CELL + Long.BYTES, record);
+    }
+
+    /**
+     * Borrado con corrimiento hacia atrás (sin lápidas)
+     */
+    private int indexRemove(long id) {
+        int mask = indexCapacity - 1;
+        int i = slot(id, mask);
+        while (index.getLong(i * INDEX_CELL) != id) {
+            if (index.getLong(i * INDEX_CELL) == 0) {
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+        int removed = index.getInt(i * INDEX_CELL + Long.BYTES);
+
+        int gap = i;
+        for (int j = (i + 1) & mask; index.getLong(j * INDEX_CELL) != 0; j = (j + 1) & mask) {
+            long key = index.getLong(j * INDEX_CELL);
+            int home = slot(key, mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                index.putLong(gap * INDEX_CELL, key);
+                index.putInt(gap * INDEX_CELL + Long.BYTES, index.getInt(j * INDEX_CELL + Long.BYTES));
+                gap = j;
+            }
+        }
+        index.putLong(gap * INDEX_CELL, 0L);
+        return removed;
+    }
+
+    private void rehash(int capacity) {
+        ByteBuffer previous = index;
+        int previousCapacity = indexCapacity;
+        index = allocate(capacity * INDEX_CELL);
+        indexCapacity = capacity;
+        int mask = capacity - 1;
+        for (int k = 0; k < previousCapacity; k++) {
+            long key = previous.getLong(k * INDEX_CELL);
+            if (key != 0) {
+                int i = slot(key, mask);
+                while (index.getLong(i * INDEX_CELL) != 0) {
+                    i = (i + 1) & mask;
+                }
+                index.putLong(i * INDEX_CELL, key);
+                index.putInt(i * INDEX_CELL + Long.BYTES, previous.getInt(k * INDEX_CELL + Long.BYTES));
+            }
+        }
+    }
+
+    /**
+     * Orden de bytes nativo: las lecturas no invierten bytes
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,49 @@
+package com.riwi.architecture.infrastructure.controllers;
+
+import com.riwi.architecture.domain.model.AvailabilitySnapshot;
+import com.riwi.architecture.domain.model.EventAvailability;
+import com.riwi.architecture.domain.ports.in.GetAvailabilityUseCase;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Adaptador de entrada (IN ADAPTER) - Disponibilidad de eventos por HTTP
+ * GET /api/events/availability?ids=1,2,3
+ * Con If-None-Match igual al ETag vigente responde 304 sin cuerpo
+ */
+@RestController
+@RequestMapping("/api/events")
+public class AvailabilityController {
+
+    private final GetAvailabilityUseCase getAvailabilityUseCase;
+
+    public AvailabilityController(GetAvailabilityUseCase getAvailabilityUseCase) {
+        this.getAvailabilityUseCase = getAvailabilityUseCase;
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<EventAvailability>> availability(
+            @RequestParam List<Long> ids,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AvailabilitySnapshot snapshot = getAvailabilityUseCase.getAvailability(ids, ifNoneMatch);
+
+        if (snapshot.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getEntries());
+    }
+}
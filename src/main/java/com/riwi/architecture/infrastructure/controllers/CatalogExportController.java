@@ -0,0 +1,69 @@
+package com.riwi.architecture.infrastructure.controllers;
+
+import com.riwi.architecture.domain.model.CatalogExportFormat;
+import com.riwi.architecture.domain.ports.in.ExportCatalogUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Adaptador de entrada (IN ADAPTER) - Exportación del catálogo por HTTP
+ * GET /api/catalog/export?format=ndjson|csv&afterId=123
+ * La respuesta se escribe mientras se recorre el cursor (StreamingResponseBody)
+ * Un formato desconocido responde 400 antes de abrir el cursor
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportCatalogUseCase exportCatalogUseCase;
+
+    public CatalogExportController(ExportCatalogUseCase exportCatalogUseCase) {
+        this.exportCatalogUseCase = exportCatalogUseCase;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long afterId) {
+        CatalogExportFormat exportFormat = parseFormat(format);
+
+        StreamingResponseBody body = output -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            exportCatalogUseCase.exportCatalog(writer, exportFormat, afterId);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat == CatalogExportFormat.CSV ? CSV : NDJSON)
+                .body(body);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static CatalogExportFormat parseFormat(String format) {
+        for (CatalogExportFormat candidate : CatalogExportFormat.values()) {
+            if (candidate.name().equalsIgnoreCase(format.trim())) {
+                return candidate;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Unsupported export format '" + format + "' (expected ndjson or csv)");
+    }
+}
@@ -0,0 +1,50 @@
+package com.riwi.architecture.infrastructure.controllers;
+
+import com.riwi.architecture.domain.exceptions.EventInactiveException;
+import com.riwi.architecture.domain.exceptions.EventNotFoundException;
+import com.riwi.architecture.domain.exceptions.HoldNotFoundException;
+import com.riwi.architecture.domain.exceptions.IdempotencyKeyConflictException;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.exceptions.InvalidVenueDataException;
+import com.riwi.architecture.domain.exceptions.PastEventException;
+import com.riwi.architecture.domain.exceptions.VenueHasActiveEventsException;
+import com.riwi.architecture.domain.exceptions.VenueNotFoundException;
+import com.riwi.architecture.domain.exceptions.VenueScheduleConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Adaptador de entrada (IN ADAPTER) - Excepciones de dominio como respuestas HTTP
+ * Lo que no existe responde 404; datos inválidos o una operación que el
+ * estado del evento no permite responden 400. El cuerpo es un ProblemDetail
+ * con el mensaje de la excepción.
+ */
+@RestControllerAdvice
+public class DomainExceptionHandler {
+
+    @ExceptionHandler({
+        EventNotFoundException.class,
+        VenueNotFoundException.class,
+        HoldNotFoundException.class
+    })
+    public ProblemDetail notFound(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler({
+        InvalidEventDataException.class,
+        InvalidVenueDataException.class,
+        InsufficientTicketsException.class,
+        EventInactiveException.class,
+        PastEventException.class,
+        VenueScheduleConflictException.class,
+        VenueHasActiveEventsException.class,
+        IdempotencyKeyConflictException.class
+    })
+    public ProblemDetail badRequest(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -1,5 +1,73 @@
 package com.riwi.architecture.infrastructure.entities;
 
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de Event (INFRASTRUCTURE)
+ * La columna version habilita el bloqueo optimista: dos escrituras
+ * concurrentes sobre la misma fila no se pisan, la segunda falla
+ * Los índices compuestos sirven la búsqueda paginada por cursor
+ */
+@Entity
+@Table(name = "events", indexes = {
+        // Listados: cada filtro de igualdad seguido de la clave del cursor (event_date, id)
+        @Index(name = "idx_events_date_id", columnList = "event_date, id"),
+        @Index(name = "idx_events_category_date_id", columnList = "category, event_date, id"),
+        @Index(name = "idx_events_venue_date_id", columnList = "venue_id, event_date, id"),
+        @Index(name = "idx_events_active_date_id", columnList = "active, event_date, id"),
+        // Guardia de borrado de venues: ¿queda algún evento activo?
+        @Index(name = "idx_events_venue_active", columnList = "venue_id, active")
+})
+@Getter
+@Setter
+@NoArgsConstructor
 public class EventEntity {
-    
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+
+    @Column(name = "event_end_date")
+    private LocalDateTime eventEndDate;
+
+    private String category;
+
+    @Column(name = "ticket_price", precision = 12, scale = 2)
+    private BigDecimal ticketPrice;
+
+    @Column(name = "available_tickets")
+    private Integer availableTickets;
+
+    @Column(name = "total_capacity")
+    private Integer totalCapacity;
+
+    private Boolean active;
+
+    @Column(name = "venue_id")
+    private Long venueId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
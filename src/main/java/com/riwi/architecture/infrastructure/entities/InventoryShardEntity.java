@@ -0,0 +1,38 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad JPA de InventoryShard (INFRASTRUCTURE)
+ * Una fila por porción: las ventas concurrentes de un evento grande se
+ * reparten entre filas distintas en lugar de disputar la fila del evento
+ */
+@Entity
+@Table(name = "event_inventory_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inventory_shards_event_shard",
+                columnNames = {"event_id", "shard_index"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryShardEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_shard_seq")
+    @SequenceGenerator(name = "inventory_shard_seq", sequenceName = "inventory_shard_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    @Column(name = "available_tickets", nullable = false)
+    private Integer availableTickets;
+
+    @Column(nullable = false)
+    private Integer capacity;
+}
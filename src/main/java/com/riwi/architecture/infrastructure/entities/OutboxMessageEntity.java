@@ -0,0 +1,47 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de OutboxMessage (INFRASTRUCTURE)
+ * El id de secuencia da el orden de publicación; el índice (published_at, id)
+ * sirve la lectura de pendientes y la purga de los ya publicados
+ *
+ * La secuencia se pide de a un valor: los cambios de un mismo evento se
+ * serializan en su fila, así que el id sigue el orden de confirmación
+ * también entre instancias (con bloques por instancia no lo haría)
+ */
+@Entity
+@Table(name = "outbox_messages", indexes = {
+        @Index(name = "idx_outbox_published_at", columnList = "published_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxMessageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_seq")
+    @SequenceGenerator(name = "outbox_message_seq", sequenceName = "outbox_message_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 30)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, updatable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,58 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA del turno del relay del outbox (INFRASTRUCTURE)
+ * Una fila por turno: la instancia en 'owner' publica hasta 'expires_at'.
+ * Se marca como nueva para que la primera toma haga INSERT (y falle si otra
+ * instancia la creó antes) en lugar de MERGE
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxRelayLeaseEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "lease_name", length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean newRecord = true;
+
+    public OutboxRelayLeaseEntity(String name, String owner, LocalDateTime expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newRecord = false;
+    }
+}
@@ -0,0 +1,54 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de TicketHold (INFRASTRUCTURE)
+ * El id lo asigna la aplicación: se marca como nueva para que guardar haga
+ * INSERT en lugar de MERGE
+ */
+@Entity
+@Table(name = "ticket_holds", indexes = {
+        @Index(name = "idx_ticket_holds_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketHoldEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean newRecord = true;
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newRecord = false;
+    }
+}
@@ -0,0 +1,38 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de TicketLedgerSnapshot (INFRASTRUCTURE)
+ */
+@Entity
+@Table(name = "ticket_ledger_snapshots", indexes = {
+        @Index(name = "idx_ticket_snapshots_event_sequence", columnList = "event_id, last_movement_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketLedgerSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_snapshot_seq")
+    @SequenceGenerator(name = "ticket_snapshot_seq", sequenceName = "ticket_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "last_movement_id", nullable = false)
+    private Long lastMovementId;
+
+    @Column(name = "available_tickets", nullable = false)
+    private Integer availableTickets;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
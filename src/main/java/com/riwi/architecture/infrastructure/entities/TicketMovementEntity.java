@@ -0,0 +1,50 @@
+package com.riwi.architecture.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de TicketMovement (INFRASTRUCTURE)
+ * Filas que solo se insertan: el id de secuencia da el orden del libro y
+ * el índice (event_id, id) sirve tanto la auditoría como la cola tras una foto
+ *
+ * La secuencia se pide de a un valor: con bloques por instancia un id menor
+ * podría asignarse después del límite de una foto y quedar fuera del saldo
+ */
+@Entity
+@Table(name = "ticket_movements", indexes = {
+        @Index(name = "idx_ticket_movements_event_id", columnList = "event_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketMovementEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_movement_seq")
+    @SequenceGenerator(name = "ticket_movement_seq", sequenceName = "ticket_movement_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private Long eventId;
+
+    @Column(name = "movement_type", nullable = false, updatable = false, length = 10)
+    private String movementType;
+
+    @Column(nullable = false, updatable = false)
+    private Integer delta;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    // Operaciones que suma el movimiento y desde cuándo (1 y occurred_at si es una sola)
+    @Column(nullable = false, updatable = false)
+    private Integer operations;
+
+    @Column(name = "first_occurred_at", nullable = false, updatable = false)
+    private LocalDateTime firstOccurredAt;
+}
@@ -1,5 +1,55 @@
 package com.riwi.architecture.infrastructure.entities;
 
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de Venue (INFRASTRUCTURE)
+ */
+@Entity
+@Table(name = "venues")
+@Getter
+@Setter
+@NoArgsConstructor
 public class VenueEntity {
-    
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "venue_seq")
+    @SequenceGenerator(name = "venue_seq", sequenceName = "venue_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(nullable = false)
+    private String country;
+
+    private Integer capacity;
+
+    private String type;
+
+    @Column(length = 1000)
+    private String facilities;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Boolean active;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
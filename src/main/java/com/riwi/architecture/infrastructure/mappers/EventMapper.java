@@ -0,0 +1,41 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.infrastructure.entities.EventEntity;
+
+/**
+ * Conversión entre el modelo de dominio Event y la entidad JPA
+ */
+public final class EventMapper {
+
+    private EventMapper() {
+    }
+
+    public static Event toDomain(EventEntity entity) {
+        Event event = new Event(entity.getId(), entity.getName(), entity.getDescription(),
+                entity.getEventDate(), entity.getEventEndDate(), entity.getCategory(),
+                entity.getTicketPrice(), entity.getAvailableTickets(), entity.getTotalCapacity(),
+                entity.getActive(), entity.getVenueId(), entity.getCreatedAt(), entity.getUpdatedAt());
+        event.setVersion(entity.getVersion());
+        return event;
+    }
+
+    public static EventEntity toEntity(Event event) {
+        EventEntity entity = new EventEntity();
+        entity.setId(event.getId());
+        entity.setName(event.getName());
+        entity.setDescription(event.getDescription());
+        entity.setEventDate(event.getEventDate());
+        entity.setEventEndDate(event.getEventEndDate());
+        entity.setCategory(event.getCategory());
+        entity.setTicketPrice(event.getTicketPrice());
+        entity.setAvailableTickets(event.getAvailableTickets());
+        entity.setTotalCapacity(event.getTotalCapacity());
+        entity.setActive(event.getActive());
+        entity.setVenueId(event.getVenueId());
+        entity.setCreatedAt(event.getCreatedAt());
+        entity.setUpdatedAt(event.getUpdatedAt());
+        entity.setVersion(event.getVersion());
+        return entity;
+    }
+}
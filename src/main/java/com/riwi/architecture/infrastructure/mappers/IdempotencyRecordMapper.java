@@ -0,0 +1,32 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.model.TicketOperation;
+import com.riwi.architecture.infrastructure.entities.IdempotencyRecordEntity;
+
+/**
+ * Conversión entre el modelo de dominio IdempotencyRecord y la entidad JPA
+ */
+public final class IdempotencyRecordMapper {
+
+    private IdempotencyRecordMapper() {
+    }
+
+    public static IdempotencyRecord toDomain(IdempotencyRecordEntity entity) {
+        return new IdempotencyRecord(entity.getKey(), TicketOperation.valueOf(entity.getOperation()),
+                entity.getEventId(), entity.getQuantity(), entity.getAvailableTickets(),
+                entity.getCreatedAt(), entity.getCompletedAt());
+    }
+
+    public static IdempotencyRecordEntity toEntity(IdempotencyRecord record) {
+        IdempotencyRecordEntity entity = new IdempotencyRecordEntity();
+        entity.setKey(record.getKey());
+        entity.setOperation(record.getOperation().name());
+        entity.setEventId(record.getEventId());
+        entity.setQuantity(record.getQuantity());
+        entity.setAvailableTickets(record.getAvailableTickets());
+        entity.setCreatedAt(record.getCreatedAt());
+        entity.setCompletedAt(record.getCompletedAt());
+        return entity;
+    }
+}
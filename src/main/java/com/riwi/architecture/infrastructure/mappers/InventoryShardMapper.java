@@ -0,0 +1,27 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.InventoryShard;
+import com.riwi.architecture.infrastructure.entities.InventoryShardEntity;
+
+/**
+ * Conversión entre el modelo de dominio InventoryShard y la entidad JPA
+ */
+public final class InventoryShardMapper {
+
+    private InventoryShardMapper() {
+    }
+
+    public static InventoryShard toDomain(InventoryShardEntity entity) {
+        return new InventoryShard(entity.getEventId(), entity.getShardIndex(),
+                entity.getAvailableTickets(), entity.getCapacity());
+    }
+
+    public static InventoryShardEntity toEntity(InventoryShard shard) {
+        InventoryShardEntity entity = new InventoryShardEntity();
+        entity.setEventId(shard.getEventId());
+        entity.setShardIndex(shard.getShardIndex());
+        entity.setAvailableTickets(shard.getAvailableTickets());
+        entity.setCapacity(shard.getCapacity());
+        return entity;
+    }
+}
@@ -0,0 +1,30 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.DomainEventType;
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.infrastructure.entities.OutboxMessageEntity;
+
+/**
+ * Conversión entre OutboxMessage y su entidad JPA
+ */
+public final class OutboxMessageMapper {
+
+    private OutboxMessageMapper() {
+    }
+
+    public static OutboxMessage toDomain(OutboxMessageEntity entity) {
+        return new OutboxMessage(entity.getId(), DomainEventType.valueOf(entity.getEventType()),
+                entity.getAggregateId(), entity.getPayload(),
+                entity.getOccurredAt(), entity.getPublishedAt());
+    }
+
+    public static OutboxMessageEntity toEntity(OutboxMessage message) {
+        OutboxMessageEntity entity = new OutboxMessageEntity();
+        entity.setEventType(message.getType().name());
+        entity.setAggregateId(message.getAggregateId());
+        entity.setPayload(message.getPayload());
+        entity.setOccurredAt(message.getOccurredAt());
+        entity.setPublishedAt(message.getPublishedAt());
+        return entity;
+    }
+}
@@ -0,0 +1,28 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.TicketHold;
+import com.riwi.architecture.infrastructure.entities.TicketHoldEntity;
+
+/**
+ * Conversión entre el modelo de dominio TicketHold y la entidad JPA
+ */
+public final class TicketHoldMapper {
+
+    private TicketHoldMapper() {
+    }
+
+    public static TicketHold toDomain(TicketHoldEntity entity) {
+        return new TicketHold(entity.getId(), entity.getEventId(), entity.getQuantity(),
+                entity.getCreatedAt(), entity.getExpiresAt());
+    }
+
+    public static TicketHoldEntity toEntity(TicketHold hold) {
+        TicketHoldEntity entity = new TicketHoldEntity();
+        entity.setId(hold.getId());
+        entity.setEventId(hold.getEventId());
+        entity.setQuantity(hold.getQuantity());
+        entity.setCreatedAt(hold.getCreatedAt());
+        entity.setExpiresAt(hold.getExpiresAt());
+        return entity;
+    }
+}
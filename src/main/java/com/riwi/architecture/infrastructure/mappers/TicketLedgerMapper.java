@@ -0,0 +1,49 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.TicketLedgerSnapshot;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.infrastructure.entities.TicketLedgerSnapshotEntity;
+import com.riwi.architecture.infrastructure.entities.TicketMovementEntity;
+
+/**
+ * Conversión entre los movimientos/fotos del libro de tickets y sus entidades JPA
+ */
+public final class TicketLedgerMapper {
+
+    private TicketLedgerMapper() {
+    }
+
+    public static TicketMovement toDomain(TicketMovementEntity entity) {
+        return new TicketMovement(entity.getId(), entity.getEventId(),
+                TicketMovementType.valueOf(entity.getMovementType()),
+                entity.getDelta(), entity.getOccurredAt(),
+                entity.getOperations(), entity.getFirstOccurredAt());
+    }
+
+    public static TicketMovementEntity toEntity(TicketMovement movement) {
+        TicketMovementEntity entity = new TicketMovementEntity();
+        entity.setEventId(movement.getEventId());
+        entity.setMovementType(movement.getType().name());
+        entity.setDelta(movement.getDelta());
+        entity.setOccurredAt(movement.getOccurredAt());
+        entity.setOperations(movement.getOperations() != null ? movement.getOperations() : 1);
+        entity.setFirstOccurredAt(movement.getFirstOccurredAt() != null
+                ? movement.getFirstOccurredAt() : movement.getOccurredAt());
+        return entity;
+    }
+
+    public static TicketLedgerSnapshot toDomain(TicketLedgerSnapshotEntity entity) {
+        return new TicketLedgerSnapshot(entity.getEventId(), entity.getLastMovementId(),
+                entity.getAvailableTickets(), entity.getTakenAt());
+    }
+
+    public static TicketLedgerSnapshotEntity toEntity(TicketLedgerSnapshot snapshot) {
+        TicketLedgerSnapshotEntity entity = new TicketLedgerSnapshotEntity();
+        entity.setEventId(snapshot.getEventId());
+        entity.setLastMovementId(snapshot.getLastSequence());
+        entity.setAvailableTickets(snapshot.getAvailableTickets());
+        entity.setTakenAt(snapshot.getTakenAt());
+        return entity;
+    }
+}
@@ -0,0 +1,41 @@
+package com.riwi.architecture.infrastructure.mappers;
+
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.infrastructure.entities.VenueEntity;
+
+/**
+ * Conversión entre el modelo de dominio Venue y la entidad JPA
+ */
+public final class VenueMapper {
+
+    private VenueMapper() {
+    }
+
+    public static Venue toDomain(VenueEntity entity) {
+        Venue venue = new Venue(entity.getId(), entity.getName(), entity.getAddress(),
+                entity.getCity(), entity.getCountry(), entity.getCapacity(), entity.getType(),
+                entity.getActive(), entity.getCreatedAt(), entity.getUpdatedAt());
+        venue.setFacilities(entity.getFacilities());
+        venue.setLatitude(entity.getLatitude());
+        venue.setLongitude(entity.getLongitude());
+        return venue;
+    }
+
+    public static VenueEntity toEntity(Venue venue) {
+        VenueEntity entity = new VenueEntity();
+        entity.setId(venue.getId());
+        entity.setName(venue.getName());
+        entity.setAddress(venue.getAddress());
+        entity.setCity(venue.getCity());
+        entity.setCountry(venue.getCountry());
+        entity.setCapacity(venue.getCapacity());
+        entity.setType(venue.getType());
+        entity.setFacilities(venue.getFacilities());
+        entity.setLatitude(venue.getLatitude());
+        entity.setLongitude(venue.getLongitude());
+        entity.setActive(venue.getActive());
+        entity.setCreatedAt(venue.getCreatedAt());
+        entity.setUpdatedAt(venue.getUpdatedAt());
+        return entity;
+    }
+}
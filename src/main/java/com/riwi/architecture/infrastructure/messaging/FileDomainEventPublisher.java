@@ -0,0 +1,95 @@
+package com.riwi.architecture.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.DomainEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Agrega cada tanda a un archivo NDJSON
+ * (una línea por mensaje) y la fuerza a disco antes de confirmarla
+ *
+ * Sustituto de un broker para pruebas de integración: otro proceso puede
+ * seguir el archivo. Con entrega al menos una vez, una tanda reintentada
+ * puede aparecer dos veces; el campo "sequence" permite descartarla.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher.type", havingValue = "file")
+public class FileDomainEventPublisher implements DomainEventPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    /** Una tanda a la vez en el archivo; sin synchronized para no fijar hilos virtuales en la escritura */
+    private final ReentrantLock fileLock = new ReentrantLock();
+
+    public FileDomainEventPublisher(ObjectMapper objectMapper,
+                                    @Value("${outbox.publisher.file-path:outbox/domain-events.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        byte[] lines;
+        try {
+            lines = render(messages).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not render domain events", e);
+        }
+        fileLock.lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append domain events to " + path, e);
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    /**
+     * La tanda completa se arma antes de abrir el archivo
+     */
+    private String render(List<OutboxMessage> messages) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            for (OutboxMessage message : messages) {
+                generator.writeStartObject();
+                generator.writeNumberField("sequence", message.getSequence());
+                generator.writeStringField("type", message.getType().name());
+                generator.writeNumberField("aggregateId", message.getAggregateId());
+                generator.writeStringField("occurredAt", message.getOccurredAt().toString());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(message.getPayload());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        return writer.toString();
+    }
+}
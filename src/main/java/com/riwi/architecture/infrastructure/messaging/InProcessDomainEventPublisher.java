@@ -0,0 +1,34 @@
+package com.riwi.architecture.infrastructure.messaging;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.DomainEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Publica cada mensaje como evento de
+ * Spring dentro del mismo proceso; los interesados lo reciben con
+ * {@code @EventListener OutboxMessage}
+ *
+ * Sustituto de un broker para desarrollo y pruebas (publisher por defecto)
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher.type", havingValue = "in-process", matchIfMissing = true)
+public class InProcessDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public InProcessDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            applicationEventPublisher.publishEvent(message);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.riwi.architecture.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Instrumentación de los puertos del dominio
+ * - ports.in.*  : casos de uso (CreateEventUseCase, UpdateEventUseCase, ...)
+ * - ports.out.* : repositorios (una serie por adaptador: caché y JPA por separado)
+ *
+ * Los advisors son static, de rol infraestructura, y reciben el MeterRegistry
+ * de forma perezosa para no forzar su creación antes de que se registren los
+ * post-processors (ni que estos avisen de beans no aptos para proxies).
+ */
+@Configuration
+public class PortMetricsConfig {
+
+    private static final String PORTS_IN = "com.riwi.architecture.domain.ports.in";
+    private static final String PORTS_OUT = "com.riwi.architecture.domain.ports.out";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor inboundPortMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return portAdvisor(meterRegistry, "ports.in", PORTS_IN);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor outboundPortMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return portAdvisor(meterRegistry, "ports.out", PORTS_OUT);
+    }
+
+    private static Advisor portAdvisor(ObjectProvider<MeterRegistry> meterRegistry,
+                                       String metricPrefix, String portsPackage) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression("execution(* " + portsPackage + "..*.*(..))");
+        return new DefaultPointcutAdvisor(pointcut,
+                new PortMetricsInterceptor(meterRegistry, metricPrefix, portsPackage));
+    }
+}
@@ -0,0 +1,146 @@
+package com.riwi.architecture.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mide cada llamada a un puerto (in u out): latencia con percentiles,
+ * número de llamadas, fallos por tipo de excepción y llamadas en curso
+ *
+ * Los medidores se crean una sola vez por (adaptador, método): un mismo
+ * método de interfaz lo implementan varios adaptadores (caché, JPA, ...)
+ * y cada uno lleva su propia serie.
+ * En el camino exitoso solo se leen dos nanoTime y se actualizan contadores,
+ * sin reservar memoria por llamada.
+ */
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String metricPrefix;
+    private final String portsPackage;
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Method, PortInstruments>> instruments =
+            new ConcurrentHashMap<>();
+
+    public PortMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+                                  String metricPrefix, String portsPackage) {
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        this.portsPackage = portsPackage;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PortInstruments port = instrumentsFor(invocation);
+
+        port.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable failure) {
+            port.failure(failure.getClass());
+            throw failure;
+        } finally {
+            port.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            port.inFlight.decrementAndGet();
+        }
+    }
+
+    private PortInstruments instrumentsFor(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Class<?> adapter = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : method.getDeclaringClass();
+
+        ConcurrentHashMap<Method, PortInstruments> byMethod = instruments.get(adapter);
+        if (byMethod == null) {
+            byMethod = instruments.computeIfAbsent(adapter, a -> new ConcurrentHashMap<>());
+        }
+        PortInstruments port = byMethod.get(method);
+        if (port == null) {
+            port = byMethod.computeIfAbsent(method, m -> new PortInstruments(
+                    meterRegistry.getObject(), metricPrefix,
+                    portName(adapter, m), m.getName(), adapter.getSimpleName()));
+        }
+        return port;
+    }
+
+    /**
+     * Interfaz del paquete de puertos que declara el método (p. ej. UpdateEventUseCase)
+     */
+    private String portName(Class<?> adapter, Method method) {
+        for (Class<?> type = adapter; type != null; type = type.getSuperclass()) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getPackageName().startsWith(portsPackage) && declares(candidate, method)) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return method.getDeclaringClass().getSimpleName();
+    }
+
+    private static boolean declares(Class<?> port, Method method) {
+        try {
+            port.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Medidores de un método de un puerto en un adaptador concreto
+     */
+    private static final class PortInstruments {
+        private final MeterRegistry registry;
+        private final String metricPrefix;
+        private final String port;
+        private final String operation;
+        private final String adapter;
+
+        private final Timer latency;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final ConcurrentHashMap<Class<?>, Counter> failures = new ConcurrentHashMap<>();
+
+        private PortInstruments(MeterRegistry registry, String metricPrefix,
+                                String port, String operation, String adapter) {
+            this.registry = registry;
+            this.metricPrefix = metricPrefix;
+            this.port = port;
+            this.operation = operation;
+            this.adapter = adapter;
+
+            this.latency = Timer.builder(metricPrefix + ".calls")
+                    .description("Latencia y número de llamadas al puerto")
+                    .tags("port", port, "operation", operation, "adapter", adapter)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            Gauge.builder(metricPrefix + ".in_flight", inFlight, AtomicInteger::get)
+                    .description("Llamadas al puerto en curso")
+                    .tags("port", port, "operation", operation, "adapter", adapter)
+                    .register(registry);
+        }
+
+        private void failure(Class<?> exceptionType) {
+            failures.computeIfAbsent(exceptionType, type -> Counter.builder(metricPrefix + ".failures")
+                    .description("Llamadas al puerto que terminaron en excepción")
+                    .tags("port", port, "operation", operation, "adapter", adapter,
+                          "exception", type.getSimpleName())
+                    .register(registry))
+                    .increment();
+        }
+    }
+}
@@ -1,5 +1,286 @@
 package com.riwi.architecture.infrastructure.repositories;
 
-public class JpaEventRepository {
-    
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventCatalogEntry;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.infrastructure.entities.EventEntity;
+import com.riwi.architecture.infrastructure.mappers.EventMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa EventRepository con JPA
+ * Las escrituras se sincronizan de inmediato (flush) para que un conflicto
+ * de versión se detecte dentro de la llamada y no al confirmar la transacción
+ */
+@Repository
+public class JpaEventRepository implements EventRepository {
+
+    private static final int CATALOG_FETCH_SIZE = 1000;
+
+    /**
+     * Misma condición que SpringDataEventRepository.decrementAvailableTickets, en SQL
+     * para enviarla en lote por JDBC
+     */
+    private static final String DECREMENT_SQL =
+            "UPDATE events SET available_tickets = available_tickets - ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND active = TRUE AND available_tickets >= ? " +
+            "AND ((event_end_date IS NOT NULL AND event_end_date > ?) " +
+            "OR (event_end_date IS NULL AND event_date > ?))";
+
+    private final SpringDataEventRepository springDataRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaEventRepository(SpringDataEventRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public Event save(Event event) {
+        EventEntity saved = springDataRepository.saveAndFlush(EventMapper.toEntity(event));
+        return EventMapper.toDomain(saved);
+    }
+
+    @Override
+    public List<Event> saveAll(Collection<Event> events) {
+        List<EventEntity> entities = new ArrayList<>(events.size());
+        for (Event event : events) {
+            entities.add(EventMapper.toEntity(event));
+        }
+        return toDomain(springDataRepository.saveAllAndFlush(entities));
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        return springDataRepository.findById(id).map(EventMapper::toDomain);
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        return toDomain(springDataRepository.findAllById(ids));
+    }
+
+    /**
+     * Solo las columnas de la vista, como escalares (sin entidades en el contexto)
+     */
+    @Override
+    public List<EventInventoryView> findInventoryViewsById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return entityManager.createQuery(
+                        "SELECT e.id, e.venueId, e.active, e.totalCapacity, e.availableTickets, " +
+                        "e.ticketPrice, e.eventDate, e.eventEndDate " +
+                        "FROM EventEntity e WHERE e.id IN :ids", Object[].class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList().stream()
+                .map(row -> EventInventoryView.of((Long) row[0], (Long) row[1], (Boolean) row[2],
+                        (Integer) row[3], (Integer) row[4], (BigDecimal) row[5],
+                        (LocalDateTime) row[6], (LocalDateTime) row[7]))
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        springDataRepository.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return springDataRepository.existsById(id);
+    }
+
+    @Override
+    public boolean existsActiveByVenueId(Long venueId) {
+        return springDataRepository.existsByVenueIdAndActiveTrue(venueId);
+    }
+
+    @Override
+    public List<Event> findActiveByVenueId(Long venueId) {
+        return toDomain(springDataRepository.findByVenueIdAndActiveTrue(venueId));
+    }
+
+    @Override
+    public List<Event> findUpcomingActiveByVenueIds(Collection<Long> venueIds, LocalDateTime now, int perVenue) {
+        if (venueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toDomain(springDataRepository.findUpcomingActiveByVenueIds(venueIds, now, perVenue));
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        return springDataRepository.decrementAvailableTickets(id, quantity, now);
+    }
+
+    /**
+     * Un PreparedStatement con una sentencia por evento (addBatch) y un solo
+     * executeBatch. Como en las sentencias @Modifying, lo pendiente en el
+     * contexto de persistencia se escribe antes y el contexto se limpia
+     * después: las entidades ya leídas no conservan el conteo anterior.
+     */
+    @Override
+    @Transactional
+    public int[] decrementAvailableTicketsAll(Map<Long, Integer> quantitiesByEvent, LocalDateTime now) {
+        if (quantitiesByEvent.isEmpty()) {
+            return new int[0];
+        }
+        entityManager.flush();
+        int[] affected = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Timestamp at = Timestamp.valueOf(now);
+            try (PreparedStatement statement = connection.prepareStatement(DECREMENT_SQL)) {
+                for (Map.Entry<Long, Integer> line : quantitiesByEvent.entrySet()) {
+                    statement.setInt(1, line.getValue());
+                    statement.setTimestamp(2, at);
+                    statement.setLong(3, line.getKey());
+                    statement.setInt(4, line.getValue());
+                    statement.setTimestamp(5, at);
+                    statement.setTimestamp(6, at);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+        return affected;
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long id, int quantity, LocalDateTime now) {
+        return springDataRepository.incrementAvailableTickets(id, quantity, now);
+    }
+
+    /**
+     * Consulta dinámica: solo se agregan los filtros presentes, para que el
+     * plan use el índice compuesto que corresponda (ver EventEntity)
+     */
+    @Override
+    public List<EventListing> search(EventSearchCriteria criteria, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<EventEntity> event = query.from(EventEntity.class);
+        Path<LocalDateTime> eventDate = event.get("eventDate");
+        Path<Long> id = event.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getCategory() != null) {
+            predicates.add(cb.equal(event.get("category"), criteria.getCategory()));
+        }
+        if (criteria.getVenueId() != null) {
+            predicates.add(cb.equal(event.get("venueId"), criteria.getVenueId()));
+        }
+        if (criteria.getActive() != null) {
+            predicates.add(cb.equal(event.get("active"), criteria.getActive()));
+        }
+        if (criteria.getFromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(eventDate, criteria.getFromDate()));
+        }
+        if (criteria.getToDate() != null) {
+            predicates.add(cb.lessThan(eventDate, criteria.getToDate()));
+        }
+        // Cursor keyset: (eventDate, id) > (afterEventDate, afterId)
+        if (criteria.getAfterEventDate() != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(eventDate, criteria.getAfterEventDate()),
+                    cb.and(cb.equal(eventDate, criteria.getAfterEventDate()),
+                           cb.greaterThan(id, criteria.getAfterId()))));
+        }
+
+        // Proyección escalar: solo las columnas del listado, sin entidades en el contexto
+        query.multiselect(id, event.get("name"), event.get("category"), eventDate,
+                          event.get("eventEndDate"), event.get("ticketPrice"), event.get("availableTickets"),
+                          event.get("totalCapacity"), event.get("active"), event.get("venueId"))
+             .where(predicates.toArray(new Predicate[0]))
+             .orderBy(cb.asc(eventDate), cb.asc(id));
+
+        List<Object[]> rows = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        List<EventListing> listings = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            listings.add(EventListing.of((Long) row[0], (String) row[1], (String) row[2],
+                    (LocalDateTime) row[3], (LocalDateTime) row[4], (BigDecimal) row[5],
+                    (Integer) row[6], (Integer) row[7], (Boolean) row[8], (Long) row[9]));
+        }
+        return listings;
+    }
+
+    /**
+     * Proyección escalar (no entidades): las filas no quedan en el contexto de
+     * persistencia, así recorrer millones de eventos no acumula memoria.
+     * El fetch size hace que el driver traiga las filas por bloques.
+     */
+    @Override
+    public Stream<EventCatalogEntry> streamCatalog(Long afterId) {
+        return entityManager.createQuery(
+                        "SELECT e.id, e.name, e.description, e.category, e.eventDate, e.eventEndDate, " +
+                        "e.ticketPrice, e.availableTickets, e.totalCapacity, e.active, e.venueId, " +
+                        "v.name, v.city, v.country " +
+                        "FROM EventEntity e LEFT JOIN VenueEntity v ON v.id = e.venueId " +
+                        "WHERE e.id > :afterId ORDER BY e.id", Object[].class)
+                .setParameter("afterId", afterId != null ? afterId : 0L)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, CATALOG_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(JpaEventRepository::toCatalogEntry);
+    }
+
+    /**
+     * Mismas columnas que streamCatalog, filtradas por updatedAt del evento o del venue
+     */
+    @Override
+    public Stream<EventCatalogEntry> streamCatalogChangedSince(LocalDateTime since) {
+        return entityManager.createQuery(
+                        "SELECT e.id, e.name, e.description, e.category, e.eventDate, e.eventEndDate, " +
+                        "e.ticketPrice, e.availableTickets, e.totalCapacity, e.active, e.venueId, " +
+                        "v.name, v.city, v.country " +
+                        "FROM EventEntity e LEFT JOIN VenueEntity v ON v.id = e.venueId " +
+                        "WHERE e.updatedAt > :since OR v.updatedAt > :since ORDER BY e.id", Object[].class)
+                .setParameter("since", since)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, CATALOG_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(JpaEventRepository::toCatalogEntry);
+    }
+
+    private static EventCatalogEntry toCatalogEntry(Object[] row) {
+        return new EventCatalogEntry((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (LocalDateTime) row[4], (LocalDateTime) row[5], (BigDecimal) row[6],
+                (Integer) row[7], (Integer) row[8], (Boolean) row[9], (Long) row[10],
+                (String) row[11], (String) row[12], (String) row[13]);
+    }
+
+    private List<Event> toDomain(List<EventEntity> entities) {
+        List<Event> events = new ArrayList<>(entities.size());
+        for (EventEntity entity : entities) {
+            events.add(EventMapper.toDomain(entity));
+        }
+        return events;
+    }
 }
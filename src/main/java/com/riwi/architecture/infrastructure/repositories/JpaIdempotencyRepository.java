@@ -0,0 +1,59 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+import com.riwi.architecture.infrastructure.mappers.IdempotencyRecordMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa IdempotencyRepository con JPA
+ * La clave primaria garantiza que solo una petición (de cualquier instancia)
+ * logra reclamar una clave
+ */
+@Repository
+public class JpaIdempotencyRepository implements IdempotencyRepository {
+
+    private final SpringDataIdempotencyRepository springDataRepository;
+
+    public JpaIdempotencyRepository(SpringDataIdempotencyRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return springDataRepository.findById(key).map(IdempotencyRecordMapper::toDomain);
+    }
+
+    /**
+     * INSERT en su propia transacción: la violación de clave primaria llega
+     * aquí ya traducida y sin dejar marcada la transacción de quien llama
+     */
+    @Override
+    public boolean claim(IdempotencyRecord record) {
+        try {
+            springDataRepository.saveAndFlush(IdempotencyRecordMapper.toEntity(record));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String key, int availableTickets, LocalDateTime completedAt) {
+        springDataRepository.complete(key, availableTickets, completedAt);
+    }
+
+    @Override
+    public void release(String key) {
+        springDataRepository.deletePending(key);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime threshold) {
+        return springDataRepository.deleteCreatedBefore(threshold);
+    }
+}
@@ -0,0 +1,55 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.InventoryShard;
+import com.riwi.architecture.domain.ports.out.InventoryShardRepository;
+import com.riwi.architecture.infrastructure.mappers.InventoryShardMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa InventoryShardRepository con JPA
+ */
+@Repository
+public class JpaInventoryShardRepository implements InventoryShardRepository {
+
+    private final SpringDataInventoryShardRepository springDataRepository;
+
+    public JpaInventoryShardRepository(SpringDataInventoryShardRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public List<InventoryShard> findByEventId(Long eventId) {
+        return springDataRepository.findByEventIdOrderByShardIndex(eventId).stream()
+                .map(InventoryShardMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void saveAll(List<InventoryShard> shards) {
+        springDataRepository.saveAllAndFlush(shards.stream()
+                .map(InventoryShardMapper::toEntity)
+                .toList());
+    }
+
+    @Override
+    public int decrementAvailableTickets(Long eventId, int shardIndex, int quantity) {
+        return springDataRepository.decrementAvailableTickets(eventId, shardIndex, quantity);
+    }
+
+    @Override
+    public int incrementAvailableTickets(Long eventId, int shardIndex, int quantity) {
+        return springDataRepository.incrementAvailableTickets(eventId, shardIndex, quantity);
+    }
+
+    @Override
+    public int sumAvailableTickets(Long eventId) {
+        return (int) springDataRepository.sumAvailableTickets(eventId);
+    }
+
+    @Override
+    public void deleteByEventId(Long eventId) {
+        springDataRepository.deleteByEventId(eventId);
+    }
+}
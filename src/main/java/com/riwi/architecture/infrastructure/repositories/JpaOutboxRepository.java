@@ -0,0 +1,87 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+import com.riwi.architecture.infrastructure.entities.OutboxMessageEntity;
+import com.riwi.architecture.infrastructure.entities.OutboxRelayLeaseEntity;
+import com.riwi.architecture.infrastructure.mappers.OutboxMessageMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa OutboxRepository con JPA
+ * saveAll se une a la transacción en curso: la fila del outbox se confirma
+ * o se revierte junto con el cambio que la originó
+ *
+ * El turno del relay es una fila: se renueva o se toma vencida con una
+ * sentencia condicional, y la primera vez se crea (si dos instancias la
+ * crean a la vez, la clave primaria deja pasar a una sola)
+ */
+@Repository
+public class JpaOutboxRepository implements OutboxRepository {
+
+    private static final String RELAY_LEASE = "outbox-relay";
+
+    private final SpringDataOutboxRepository springDataRepository;
+    private final SpringDataOutboxRelayLeaseRepository leaseRepository;
+
+    public JpaOutboxRepository(SpringDataOutboxRepository springDataRepository,
+                               SpringDataOutboxRelayLeaseRepository leaseRepository) {
+        this.springDataRepository = springDataRepository;
+        this.leaseRepository = leaseRepository;
+    }
+
+    @Override
+    public void appendAll(List<OutboxMessage> messages) {
+        List<OutboxMessageEntity> entities = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            entities.add(OutboxMessageMapper.toEntity(message));
+        }
+        springDataRepository.saveAll(entities);
+    }
+
+    @Override
+    public List<OutboxMessage> findUnpublished(int limit) {
+        return springDataRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, limit)).stream()
+                .map(OutboxMessageMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void markPublished(List<Long> sequences, LocalDateTime publishedAt) {
+        if (!sequences.isEmpty()) {
+            springDataRepository.markPublished(sequences, publishedAt);
+        }
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime threshold) {
+        return springDataRepository.deletePublishedBefore(threshold);
+    }
+
+    @Override
+    public boolean tryAcquireRelayLease(String owner, LocalDateTime now, LocalDateTime until) {
+        if (leaseRepository.acquire(RELAY_LEASE, owner, now, until) > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(RELAY_LEASE)) {
+            return false;
+        }
+        try {
+            leaseRepository.saveAndFlush(new OutboxRelayLeaseEntity(RELAY_LEASE, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void releaseRelayLease(String owner, LocalDateTime now) {
+        leaseRepository.release(RELAY_LEASE, owner, now);
+    }
+}
@@ -0,0 +1,49 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.TicketHold;
+import com.riwi.architecture.domain.ports.out.TicketHoldRepository;
+import com.riwi.architecture.infrastructure.mappers.TicketHoldMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa TicketHoldRepository con JPA
+ * El DELETE condicional decide quién devuelve o confirma una reserva: solo
+ * una transacción logra borrar la fila
+ */
+@Repository
+public class JpaTicketHoldRepository implements TicketHoldRepository {
+
+    private final SpringDataTicketHoldRepository springDataRepository;
+
+    public JpaTicketHoldRepository(SpringDataTicketHoldRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public void save(TicketHold hold) {
+        springDataRepository.save(TicketHoldMapper.toEntity(hold));
+    }
+
+    @Override
+    public Optional<TicketHold> findById(String id) {
+        return springDataRepository.findById(id).map(TicketHoldMapper::toDomain);
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return springDataRepository.deleteHold(id) > 0;
+    }
+
+    @Override
+    public List<TicketHold> findExpiredBefore(LocalDateTime threshold, int limit) {
+        return springDataRepository.findByExpiresAtBeforeOrderByExpiresAtAsc(threshold, PageRequest.of(0, limit))
+                .stream()
+                .map(TicketHoldMapper::toDomain)
+                .toList();
+    }
+}
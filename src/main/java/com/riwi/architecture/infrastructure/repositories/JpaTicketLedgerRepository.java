@@ -0,0 +1,74 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.TicketLedgerSnapshot;
+import com.riwi.architecture.domain.model.TicketLedgerTail;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.ports.out.TicketLedgerRepository;
+import com.riwi.architecture.infrastructure.entities.TicketMovementEntity;
+import com.riwi.architecture.infrastructure.mappers.TicketLedgerMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa TicketLedgerRepository con JPA
+ * Los movimientos se insertan en lote (hibernate.jdbc.batch_size) con un
+ * solo saveAll por tanda
+ */
+@Repository
+public class JpaTicketLedgerRepository implements TicketLedgerRepository {
+
+    private final SpringDataTicketMovementRepository movementRepository;
+    private final SpringDataTicketLedgerSnapshotRepository snapshotRepository;
+
+    public JpaTicketLedgerRepository(SpringDataTicketMovementRepository movementRepository,
+                                     SpringDataTicketLedgerSnapshotRepository snapshotRepository) {
+        this.movementRepository = movementRepository;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    @Override
+    public void appendAll(List<TicketMovement> movements) {
+        List<TicketMovementEntity> entities = new ArrayList<>(movements.size());
+        for (TicketMovement movement : movements) {
+            entities.add(TicketLedgerMapper.toEntity(movement));
+        }
+        movementRepository.saveAll(entities);
+    }
+
+    @Override
+    public List<TicketMovement> findMovements(Long eventId, long afterSequence, int limit) {
+        return movementRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(
+                        eventId, afterSequence, PageRequest.of(0, limit)).stream()
+                .map(TicketLedgerMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public TicketLedgerTail summarizeAfter(Long eventId, long afterSequence) {
+        SpringDataTicketMovementRepository.TailView tail = movementRepository.summarizeAfter(eventId, afterSequence);
+        return new TicketLedgerTail(tail.getDelta(), tail.getLastId(), tail.getMovements());
+    }
+
+    @Override
+    public TicketLedgerTail summarizeSettled(Long eventId, long afterSequence, LocalDateTime occurredBefore) {
+        SpringDataTicketMovementRepository.TailView tail =
+                movementRepository.summarizeSettled(eventId, afterSequence, occurredBefore);
+        return new TicketLedgerTail(tail.getDelta(), tail.getLastId(), tail.getMovements());
+    }
+
+    @Override
+    public Optional<TicketLedgerSnapshot> findLatestSnapshot(Long eventId) {
+        return snapshotRepository.findFirstByEventIdOrderByLastMovementIdDesc(eventId)
+                .map(TicketLedgerMapper::toDomain);
+    }
+
+    @Override
+    public void saveSnapshot(TicketLedgerSnapshot snapshot) {
+        snapshotRepository.save(TicketLedgerMapper.toEntity(snapshot));
+    }
+}
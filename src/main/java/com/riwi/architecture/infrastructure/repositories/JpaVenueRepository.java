@@ -0,0 +1,60 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.Venue;
+import com.riwi.architecture.domain.model.VenueLocation;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import com.riwi.architecture.infrastructure.entities.VenueEntity;
+import com.riwi.architecture.infrastructure.mappers.VenueMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de salida (OUT ADAPTER) - Implementa VenueRepository con JPA
+ */
+@Repository
+public class JpaVenueRepository implements VenueRepository {
+
+    private final SpringDataVenueRepository springDataRepository;
+
+    public JpaVenueRepository(SpringDataVenueRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        return VenueMapper.toDomain(springDataRepository.save(VenueMapper.toEntity(venue)));
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        return springDataRepository.findById(id).map(VenueMapper::toDomain);
+    }
+
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        List<Venue> venues = new ArrayList<>(ids.size());
+        for (VenueEntity entity : springDataRepository.findAllById(ids)) {
+            venues.add(VenueMapper.toDomain(entity));
+        }
+        return venues;
+    }
+
+    @Override
+    public List<VenueLocation> findAllLocations() {
+        return springDataRepository.findAllLocations();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        springDataRepository.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return springDataRepository.existsById(id);
+    }
+}
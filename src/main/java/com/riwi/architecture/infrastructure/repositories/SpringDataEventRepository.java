@@ -0,0 +1,61 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.EventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringDataEventRepository extends JpaRepository<EventEntity, Long> {
+
+    /**
+     * SELECT ... LIMIT 1 sobre idx_events_venue_active
+     */
+    boolean existsByVenueIdAndActiveTrue(Long venueId);
+
+    List<EventEntity> findByVenueIdAndActiveTrue(Long venueId);
+
+    /**
+     * Mismo criterio de vigencia que la venta condicional, sobre idx_events_venue_active
+     * ROW_NUMBER() por venue corta en la base: llegan a lo sumo 'perVenue' filas de cada uno
+     */
+    @Query(value = "SELECT e.* FROM events e JOIN (" +
+           "SELECT id, ROW_NUMBER() OVER (PARTITION BY venue_id ORDER BY event_date, id) AS rn " +
+           "FROM events WHERE venue_id IN (:venueIds) AND active = TRUE " +
+           "AND ((event_end_date IS NOT NULL AND event_end_date > :now) " +
+           "OR (event_end_date IS NULL AND event_date > :now))" +
+           ") ranked ON ranked.id = e.id WHERE ranked.rn <= :perVenue " +
+           "ORDER BY e.event_date, e.id", nativeQuery = true)
+    List<EventEntity> findUpcomingActiveByVenueIds(@Param("venueIds") Collection<Long> venueIds,
+                                                   @Param("now") LocalDateTime now,
+                                                   @Param("perVenue") int perVenue);
+
+    /**
+     * La versión también se incrementa para que las escrituras con bloqueo
+     * optimista que leyeron la fila antes detecten el cambio
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EventEntity e SET e.availableTickets = e.availableTickets - :quantity, " +
+           "e.updatedAt = :now, e.version = e.version + 1 " +
+           "WHERE e.id = :id AND e.active = true AND e.availableTickets >= :quantity " +
+           "AND ((e.eventEndDate IS NOT NULL AND e.eventEndDate > :now) " +
+           "OR (e.eventEndDate IS NULL AND e.eventDate > :now))")
+    int decrementAvailableTickets(@Param("id") Long id,
+                                  @Param("quantity") int quantity,
+                                  @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EventEntity e SET e.availableTickets = e.availableTickets + :quantity, " +
+           "e.updatedAt = :now, e.version = e.version + 1 " +
+           "WHERE e.id = :id AND e.availableTickets + :quantity <= e.totalCapacity")
+    int incrementAvailableTickets(@Param("id") Long id,
+                                  @Param("quantity") int quantity,
+                                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.IdempotencyRecordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SpringDataIdempotencyRepository extends JpaRepository<IdempotencyRecordEntity, String> {
+
+    // Corre dentro de la transacción del stock: escribir antes de limpiar el contexto
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyRecordEntity r SET r.availableTickets = :availableTickets, " +
+           "r.completedAt = :completedAt WHERE r.key = :key")
+    int complete(@Param("key") String key,
+                 @Param("availableTickets") int availableTickets,
+                 @Param("completedAt") LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.key = :key AND r.completedAt IS NULL")
+    int deletePending(@Param("key") String key);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
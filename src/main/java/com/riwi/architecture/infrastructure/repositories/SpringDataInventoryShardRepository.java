@@ -0,0 +1,40 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.InventoryShardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface SpringDataInventoryShardRepository extends JpaRepository<InventoryShardEntity, Long> {
+
+    List<InventoryShardEntity> findByEventIdOrderByShardIndex(Long eventId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryShardEntity s SET s.availableTickets = s.availableTickets - :quantity " +
+           "WHERE s.eventId = :eventId AND s.shardIndex = :shardIndex AND s.availableTickets >= :quantity")
+    int decrementAvailableTickets(@Param("eventId") Long eventId,
+                                  @Param("shardIndex") int shardIndex,
+                                  @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryShardEntity s SET s.availableTickets = s.availableTickets + :quantity " +
+           "WHERE s.eventId = :eventId AND s.shardIndex = :shardIndex " +
+           "AND s.availableTickets + :quantity <= s.capacity")
+    int incrementAvailableTickets(@Param("eventId") Long eventId,
+                                  @Param("shardIndex") int shardIndex,
+                                  @Param("quantity") int quantity);
+
+    @Query("SELECT COALESCE(SUM(s.availableTickets), 0) FROM InventoryShardEntity s WHERE s.eventId = :eventId")
+    long sumAvailableTickets(@Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM InventoryShardEntity s WHERE s.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
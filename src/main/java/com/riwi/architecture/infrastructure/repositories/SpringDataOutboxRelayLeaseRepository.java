@@ -0,0 +1,28 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.OutboxRelayLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SpringDataOutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLeaseEntity, String> {
+
+    /**
+     * Renovar el turno propio o tomar uno vencido en una sola sentencia
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxRelayLeaseEntity l SET l.owner = :owner, l.expiresAt = :until " +
+           "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxRelayLeaseEntity l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
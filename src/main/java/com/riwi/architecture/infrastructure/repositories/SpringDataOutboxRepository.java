@@ -0,0 +1,27 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.OutboxMessageEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxMessageEntity, Long> {
+
+    List<OutboxMessageEntity> findByPublishedAtIsNullOrderByIdAsc(Pageable page);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxMessageEntity m SET m.publishedAt = :publishedAt WHERE m.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OutboxMessageEntity m WHERE m.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("threshold") LocalDateTime threshold);
+}
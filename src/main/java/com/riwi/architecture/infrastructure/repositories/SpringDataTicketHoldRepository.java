@@ -0,0 +1,23 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.TicketHoldEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataTicketHoldRepository extends JpaRepository<TicketHoldEntity, String> {
+
+    List<TicketHoldEntity> findByExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime threshold, Pageable page);
+
+    // Corre dentro de la transacción del stock: la reserva recién guardada se escribe antes
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TicketHoldEntity h WHERE h.id = :id")
+    int deleteHold(@Param("id") String id);
+}
@@ -0,0 +1,11 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.TicketLedgerSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SpringDataTicketLedgerSnapshotRepository extends JpaRepository<TicketLedgerSnapshotEntity, Long> {
+
+    Optional<TicketLedgerSnapshotEntity> findFirstByEventIdOrderByLastMovementIdDesc(Long eventId);
+}
@@ -0,0 +1,41 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.infrastructure.entities.TicketMovementEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataTicketMovementRepository extends JpaRepository<TicketMovementEntity, Long> {
+
+    List<TicketMovementEntity> findByEventIdAndIdGreaterThanOrderByIdAsc(Long eventId, Long afterId, Pageable page);
+
+    /**
+     * Un solo recorrido del índice (event_id, id) desde la última foto
+     */
+    @Query("SELECT COALESCE(SUM(m.delta), 0) AS delta, COALESCE(MAX(m.id), :afterId) AS lastId, " +
+           "COUNT(m) AS movements FROM TicketMovementEntity m " +
+           "WHERE m.eventId = :eventId AND m.id > :afterId")
+    TailView summarizeAfter(@Param("eventId") Long eventId, @Param("afterId") Long afterId);
+
+    /**
+     * El tramo termina en el último movimiento anterior a :before, así que
+     * incluye también los que recibieron un id menor y se confirmaron después
+     */
+    @Query("SELECT COALESCE(SUM(m.delta), 0) AS delta, COALESCE(MAX(m.id), :afterId) AS lastId, " +
+           "COUNT(m) AS movements FROM TicketMovementEntity m " +
+           "WHERE m.eventId = :eventId AND m.id > :afterId AND m.id <= (" +
+           "SELECT COALESCE(MAX(s.id), :afterId) FROM TicketMovementEntity s " +
+           "WHERE s.eventId = :eventId AND s.id > :afterId AND s.occurredAt < :before)")
+    TailView summarizeSettled(@Param("eventId") Long eventId, @Param("afterId") Long afterId,
+                              @Param("before") LocalDateTime before);
+
+    interface TailView {
+        Long getDelta();
+        Long getLastId();
+        Long getMovements();
+    }
+}
@@ -0,0 +1,19 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.domain.model.VenueLocation;
+import com.riwi.architecture.infrastructure.entities.VenueEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SpringDataVenueRepository extends JpaRepository<VenueEntity, Long> {
+
+    /**
+     * Solo tres columnas por venue: no se materializan entidades
+     */
+    @Query("SELECT new com.riwi.architecture.domain.model.VenueLocation(v.id, v.latitude, v.longitude) " +
+           "FROM VenueEntity v WHERE v.active = true " +
+           "AND v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+    List<VenueLocation> findAllLocations();
+}
@@ -0,0 +1,53 @@
+package com.riwi.architecture;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.Venue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Datos de prueba compartidos por las pruebas de comportamiento
+ */
+public final class TestFixtures {
+
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.now().plusDays(30).withNano(0);
+    private static final AtomicLong generated = new AtomicLong();
+
+    private TestFixtures() {
+    }
+
+    public static Venue venue() {
+        Venue venue = new Venue();
+        venue.setName("Test arena");
+        venue.setAddress("Calle 10 # 20-30");
+        venue.setCity("Medellín");
+        venue.setCountry("Colombia");
+        venue.setCapacity(100_000);
+        venue.setType("ARENA");
+        return venue;
+    }
+
+    /**
+     * Cada llamada cae en un horario distinto: nunca se solapa con otro
+     * evento generado, aunque compartan venue
+     */
+    public static Event futureEvent(Long venueId, int capacity) {
+        LocalDateTime start = FIRST_SLOT.plusHours(4 * generated.getAndIncrement());
+        return event(venueId, capacity, start, start.plusHours(3));
+    }
+
+    public static Event event(Long venueId, int capacity, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event();
+        event.setName("Test concert");
+        event.setDescription("Evento generado para pruebas");
+        event.setEventDate(start);
+        event.setEventEndDate(end);
+        event.setCategory("MUSIC");
+        event.setTicketPrice(new BigDecimal("120.00"));
+        event.setTotalCapacity(capacity);
+        event.setVenueId(venueId);
+        return event;
+    }
+}
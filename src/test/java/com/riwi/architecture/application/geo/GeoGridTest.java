@@ -0,0 +1,113 @@
+package com.riwi.architecture.application.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridTest {
+
+    @Test
+    void radiusSearchReturnsNearestFirstAndSkipsFarVenues() {
+        GeoGrid grid = new GeoGrid(0.1, 0);
+        grid.put(1, 6.2442, -75.5812);   // Medellín
+        grid.put(2, 6.1759, -75.5917);   // Envigado, ~7.6 km
+        grid.put(3, 4.7110, -74.0721);   // Bogotá, ~240 km
+
+        List<VenueGeoIndex.Hit> hits = grid.withinRadius(6.2442, -75.5812, 20, 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertEquals(0.0, hits.get(0).distanceKm(), 0.01);
+        assertEquals(7.6, hits.get(1).distanceKm(), 0.2);
+    }
+
+    @Test
+    void radiusSearchHonorsTheLimit() {
+        GeoGrid grid = new GeoGrid(0.1, 0);
+        for (int i = 1; i <= 10; i++) {
+            grid.put(i, 6.0 + i * 0.01, -75.0);
+        }
+
+        List<VenueGeoIndex.Hit> hits = grid.withinRadius(6.0, -75.0, 50, 3);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(hits));
+    }
+
+    @Test
+    void boxSearchCrossesTheAntimeridian() {
+        GeoGrid grid = new GeoGrid(0.1, 0);
+        grid.put(1, -17.0, 179.9);
+        grid.put(2, -17.0, -179.9);
+        grid.put(3, -17.0, 0.0);
+
+        Set<Long> found = new HashSet<>(ids(grid.withinBox(-18.0, 179.0, -16.0, -179.0, 10)));
+
+        assertEquals(Set.of(1L, 2L), found);
+    }
+
+    @Test
+    void putMovesAVenueAndRemoveDropsIt() {
+        GeoGrid grid = new GeoGrid(0.1, 0);
+        grid.put(1, 6.2442, -75.5812);
+        grid.put(1, 4.7110, -74.0721);
+
+        assertTrue(grid.withinRadius(6.2442, -75.5812, 20, 10).isEmpty());
+        assertEquals(List.of(1L), ids(grid.withinRadius(4.7110, -74.0721, 20, 10)));
+        assertEquals(1, grid.size());
+
+        grid.remove(1);
+        assertTrue(grid.withinRadius(4.7110, -74.0721, 20, 10).isEmpty());
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    void radiusSearchMatchesAFullScan() {
+        Random random = new Random(7);
+        int n = 3_000;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        GeoGrid grid = new GeoGrid(0.1, n);
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = 6.0 + random.nextDouble() * 2.0;
+            longitudes[i] = -76.0 + random.nextDouble() * 2.0;
+            grid.put(i + 1, latitudes[i], longitudes[i]);
+        }
+
+        double radiusKm = 35.0;
+        List<VenueGeoIndex.Hit> hits = grid.withinRadius(7.0, -75.0, radiusKm, n);
+
+        Set<Long> expected = new HashSet<>();
+        Set<Long> found = new HashSet<>(ids(hits));
+        for (int i = 0; i < n; i++) {
+            double distance = haversineKm(7.0, -75.0, latitudes[i], longitudes[i]);
+            // Justo en el borde cada fórmula redondea distinto: no se compara
+            if (Math.abs(distance - radiusKm) < 1e-6) {
+                found.remove((long) i + 1);
+            } else if (distance < radiusKm) {
+                expected.add((long) i + 1);
+            }
+        }
+        assertEquals(expected, found);
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).distanceKm() <= hits.get(i).distanceKm());
+        }
+    }
+
+    private static List<Long> ids(List<VenueGeoIndex.Hit> hits) {
+        return hits.stream().map(VenueGeoIndex.Hit::venueId).toList();
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * GeoGrid.EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
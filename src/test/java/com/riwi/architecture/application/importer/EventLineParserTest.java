@@ -0,0 +1,91 @@
+package com.riwi.architecture.application.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLineParserTest {
+
+    @Test
+    void csvColumnsAreReadByHeaderName() {
+        CsvEventLineParser parser = new CsvEventLineParser();
+        assertTrue(parser.consumeHeader("venueId,totalCapacity,name,eventDate,ticketPrice"));
+
+        Event event = parser.parse("7,250,Concierto,2030-05-01T20:00,99.50");
+
+        assertEquals("Concierto", event.getName());
+        assertEquals(7L, event.getVenueId());
+        assertEquals(250, event.getTotalCapacity());
+        assertEquals(LocalDateTime.of(2030, 5, 1, 20, 0), event.getEventDate());
+        assertEquals(new BigDecimal("99.50"), event.getTicketPrice());
+        // Columnas ausentes en la cabecera quedan en null
+        assertNull(event.getDescription());
+        assertNull(event.getEventEndDate());
+    }
+
+    @Test
+    void csvHeaderIsOnlyConsumedOnce() {
+        CsvEventLineParser parser = new CsvEventLineParser();
+
+        assertTrue(parser.consumeHeader("﻿name,category"));
+        assertFalse(parser.consumeHeader("name,category"));
+        assertEquals("name", parser.parse("name,category").getName());
+    }
+
+    @Test
+    void csvQuotedFieldsKeepCommasAndEscapedQuotes() {
+        assertEquals(List.of("Rock, pop", "El \"gran\" show", "", "x"),
+                CsvEventLineParser.split("\"Rock, pop\",\"El \"\"gran\"\" show\",,x"));
+        assertThrows(IllegalArgumentException.class, () -> CsvEventLineParser.split("\"sin cerrar,x"));
+    }
+
+    @Test
+    void invalidCsvHeadersAreRejected() {
+        assertThrows(InvalidEventDataException.class, () -> new CsvEventLineParser().consumeHeader("eventDate,venueId"));
+        assertThrows(InvalidEventDataException.class, () -> new CsvEventLineParser().consumeHeader("name,name"));
+        assertThrows(InvalidEventDataException.class, () -> new CsvEventLineParser().consumeHeader("\"name,venueId"));
+    }
+
+    @Test
+    void badCsvValuesFailTheLine() {
+        CsvEventLineParser parser = new CsvEventLineParser();
+        parser.consumeHeader("name,totalCapacity,eventDate");
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("Concierto,muchos,"));
+        assertThrows(RuntimeException.class, () -> parser.parse("Concierto,10,mañana"));
+    }
+
+    @Test
+    void ndjsonIgnoresUnknownFieldsAndHasNoHeader() {
+        NdjsonEventLineParser parser = new NdjsonEventLineParser(new ObjectMapper().findAndRegisterModules());
+
+        assertFalse(parser.consumeHeader("{\"name\":\"Concierto\"}"));
+        Event event = parser.parse("{\"name\":\"Concierto\",\"eventDate\":\"2030-05-01T20:00:00\","
+                + "\"totalCapacity\":250,\"venueId\":7,\"promoter\":\"desconocido\"}");
+
+        assertEquals("Concierto", event.getName());
+        assertEquals(LocalDateTime.of(2030, 5, 1, 20, 0), event.getEventDate());
+        assertEquals(250, event.getTotalCapacity());
+        assertEquals(7L, event.getVenueId());
+    }
+
+    @Test
+    void invalidJsonFailsTheLine() {
+        NdjsonEventLineParser parser = new NdjsonEventLineParser(new ObjectMapper().findAndRegisterModules());
+
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> parser.parse("{\"name\": "));
+        assertTrue(failure.getMessage().startsWith("Invalid JSON"));
+    }
+}
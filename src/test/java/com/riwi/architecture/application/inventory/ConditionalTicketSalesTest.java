@@ -0,0 +1,193 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.service.EventService;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.EventNotFoundException;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.exceptions.PastEventException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.model.TicketOrderLine;
+import com.riwi.architecture.domain.ports.in.SellTicketsBatchUseCase;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ventas por sentencia condicional: sin inventario en memoria ni agrupador,
+ * cada venta es un UPDATE condicional sobre la fila del evento
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:events_catalog_conditional_db",
+        "tickets.inventory.enabled=false",
+        "tickets.coalescing.enabled=false"
+})
+@ActiveProfiles("test")
+class ConditionalTicketSalesTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private SellTicketsBatchUseCase sellTicketsBatchUseCase;
+    @Autowired
+    private TicketLedgerUseCase ticketLedgerUseCase;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void eachSaleIsWrittenToTheRowAndTheLedgerAtOnce() {
+        Long eventId = createEvent(100);
+
+        assertEquals(70, updateEventUseCase.sellTickets(eventId, 30).getAvailableTickets());
+        assertEquals(75, updateEventUseCase.refundTickets(eventId, 5).getAvailableTickets());
+
+        // Sin flush: la fila y el libro ya tienen la venta
+        assertEquals(75, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void keyResultIsWrittenWithTheSale() {
+        Long eventId = createEvent(100);
+        String key = UUID.randomUUID().toString();
+
+        assertEquals(90, updateEventUseCase.sellTickets(eventId, 10, key).getAvailableTickets());
+
+        IdempotencyRecord record = idempotencyRepository.findByKey(key).orElseThrow();
+        assertTrue(record.isCompleted());
+        assertEquals(90, record.getAvailableTickets());
+        assertEquals(90, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+    }
+
+    @Test
+    void failedStatementReportsTheUnmetCondition() {
+        Long eventId = createEvent(10);
+        Long pastEventId = savePastEvent(10);
+
+        assertThrows(InsufficientTicketsException.class, () -> updateEventUseCase.sellTickets(eventId, 11));
+        assertThrows(PastEventException.class, () -> updateEventUseCase.sellTickets(pastEventId, 1));
+        assertThrows(EventNotFoundException.class, () -> updateEventUseCase.sellTickets(Long.MAX_VALUE, 1));
+        assertThrows(InvalidEventDataException.class, () -> updateEventUseCase.refundTickets(eventId, 1));
+
+        assertEquals(10, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertEquals(10, eventRepository.findById(pastEventId).orElseThrow().getAvailableTickets());
+    }
+
+    @Test
+    void concurrentSalesNeverOversell() throws Exception {
+        Long eventId = createEvent(100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            attempts.add(executor.submit(() -> {
+                try {
+                    updateEventUseCase.sellTickets(eventId, 1);
+                    return true;
+                } catch (InsufficientTicketsException e) {
+                    return false;
+                }
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        int sold = 0;
+        for (Future<Boolean> attempt : attempts) {
+            sold += attempt.get() ? 1 : 0;
+        }
+        assertEquals(100, sold);
+        assertEquals(0, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void legacyServiceSellsThroughTheSamePath() {
+        Long eventId = createEvent(10);
+
+        assertEquals(6, eventService.sellTickets(eventId, 4).getAvailableTickets());
+        assertEquals(8, eventService.refundTickets(eventId, 2).getAvailableTickets());
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> eventService.sellTickets(eventId, 9));
+        assertInstanceOf(InsufficientTicketsException.class, error.getCause());
+        assertThrows(IllegalArgumentException.class, () -> eventService.refundTickets(eventId, 3));
+
+        assertEquals(8, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void cartSellsEveryLineInOneBatchOrNone() {
+        Long first = createEvent(10);
+        Long second = createEvent(5);
+
+        assertThrows(InsufficientTicketsException.class, () -> sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(first, 3), new TicketOrderLine(second, 6))));
+        assertEquals(10, eventRepository.findById(first).orElseThrow().getAvailableTickets());
+        assertEquals(5, eventRepository.findById(second).orElseThrow().getAvailableTickets());
+
+        List<Event> sold = sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(second, 2), new TicketOrderLine(first, 3), new TicketOrderLine(second, 3)));
+
+        assertEquals(List.of(0, 7), sold.stream().map(Event::getAvailableTickets).toList());
+        assertEquals(0, eventRepository.findById(second).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(first).isConsistent());
+        assertTrue(ticketLedgerUseCase.reconcile(second).isConsistent());
+    }
+
+    private Long createEvent(int capacity) {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, capacity)).getId();
+    }
+
+    /**
+     * Directo al repositorio: crear un evento pasado no es válido por el caso de uso
+     */
+    private Long savePastEvent(int capacity) {
+        LocalDateTime start = LocalDateTime.now().minusDays(2);
+        Event event = TestFixtures.event(venueId, capacity, start, start.plusHours(3));
+        event.setActive(true);
+        event.setAvailableTickets(capacity);
+        event.setCreatedAt(start.minusDays(30));
+        event.setUpdatedAt(start.minusDays(30));
+        return eventRepository.save(event).getId();
+    }
+}
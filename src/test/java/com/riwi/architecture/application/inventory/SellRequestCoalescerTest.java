@@ -0,0 +1,127 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ventas agrupadas por lotes (inventario en memoria apagado, lotes pequeños para la prueba)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:events_catalog_coalescing_db",
+        "tickets.inventory.enabled=false",
+        "tickets.coalescing.enabled=true",
+        "tickets.coalescing.window-ms=150",
+        "tickets.coalescing.max-batch-size=2"
+})
+@ActiveProfiles("test")
+class SellRequestCoalescerTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private SellRequestCoalescer coalescer;
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TicketLedgerUseCase ticketLedgerUseCase;
+
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void concurrentSalesNeverOversell() {
+        Long eventId = createEvent(5);
+
+        List<CompletableFuture<?>> sales = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                sales.add(CompletableFuture.supplyAsync(() -> coalescer.sell(eventId, 1), executor));
+            }
+        }
+
+        long rejected = sales.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+        assertTrue(sales.stream().allMatch(CompletableFuture::isDone));
+        assertEquals(3, rejected);
+        sales.stream().filter(CompletableFuture::isCompletedExceptionally).forEach(sale -> assertInstanceOf(
+                InsufficientTicketsException.class,
+                assertThrows(CompletionException.class, sale::join).getCause()));
+        assertEquals(0, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void leaderReturnsAfterItsOwnBatch() throws Exception {
+        Long eventId = createEvent(10);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // La primera petición toma el carril y espera su ventana; las demás se encolan detrás
+            CompletableFuture<?> leader = CompletableFuture.supplyAsync(() -> coalescer.sell(eventId, 1), executor);
+            TimeUnit.MILLISECONDS.sleep(30);
+            List<CompletableFuture<?>> followers = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                followers.add(CompletableFuture.supplyAsync(() -> coalescer.sell(eventId, 1), executor));
+            }
+
+            leader.get(5, TimeUnit.SECONDS);
+            // Con lotes de dos, quedan lotes pendientes que atienden otras peticiones
+            assertFalse(followers.stream().allMatch(CompletableFuture::isDone));
+
+            CompletableFuture.allOf(followers.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(4, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void keyResultIsWrittenWithTheBatch() {
+        Long eventId = createEvent(10);
+        String key = UUID.randomUUID().toString();
+
+        assertEquals(7, updateEventUseCase.sellTickets(eventId, 3, key).getAvailableTickets());
+
+        IdempotencyRecord record = idempotencyRepository.findByKey(key).orElseThrow();
+        assertTrue(record.isCompleted());
+        assertEquals(7, record.getAvailableTickets());
+    }
+
+    private Long createEvent(int capacity) {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, capacity)).getId();
+    }
+}
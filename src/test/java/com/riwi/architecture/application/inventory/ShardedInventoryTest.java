@@ -0,0 +1,144 @@
+package com.riwi.architecture.application.inventory;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.domain.model.TicketOrderLine;
+import com.riwi.architecture.domain.ports.in.SellTicketsBatchUseCase;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.InventoryShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ventas de eventos grandes repartidos en porciones (umbral bajo para la prueba)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:events_catalog_sharding_db",
+        "tickets.sharding.enabled=true",
+        "tickets.sharding.shard-count=4",
+        "tickets.sharding.capacity-threshold=1000"
+})
+@ActiveProfiles("test")
+class ShardedInventoryTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private SellTicketsBatchUseCase sellTicketsBatchUseCase;
+    @Autowired
+    private ShardedInventory shardedInventory;
+    @Autowired
+    private TicketAllocator ticketAllocator;
+    @Autowired
+    private InventoryShardRepository shardRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TicketInventoryEngine ticketInventory;
+    @Autowired
+    private TicketLedgerUseCase ticketLedgerUseCase;
+
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void onlyEventsAboveTheThresholdAreSharded() {
+        Long small = createEvent(999);
+        Long large = createEvent(1000);
+
+        assertNull(shardedInventory.managedEvent(small));
+        assertNotNull(shardedInventory.managedEvent(large));
+        // La decisión y el evento leído se recuerdan: la siguiente venta no relee la fila
+        assertSame(shardedInventory.managedEvent(large), shardedInventory.managedEvent(large));
+    }
+
+    @Test
+    void saleLargerThanAnyShardSpansSeveral() {
+        Long eventId = createEvent(2000);
+
+        assertEquals(1300, updateEventUseCase.sellTickets(eventId, 700).getAvailableTickets());
+        assertEquals(4, shardRepository.findByEventId(eventId).size());
+        assertEquals(1300, shardRepository.sumAvailableTickets(eventId));
+        assertEquals(1300, ticketAllocator.current(eventId).getAvailableTickets());
+
+        assertThrows(InsufficientTicketsException.class, () -> updateEventUseCase.sellTickets(eventId, 1301));
+        assertEquals(1300, shardRepository.sumAvailableTickets(eventId));
+    }
+
+    @Test
+    void refundsNeverExceedCapacity() {
+        Long eventId = createEvent(2000);
+        updateEventUseCase.sellTickets(eventId, 600);
+
+        assertEquals(1900, updateEventUseCase.refundTickets(eventId, 500).getAvailableTickets());
+        assertThrows(InvalidEventDataException.class, () -> updateEventUseCase.refundTickets(eventId, 101));
+        assertEquals(1900, shardRepository.sumAvailableTickets(eventId));
+    }
+
+    @Test
+    void reconcileWritesTheShardSumToTheEvent() {
+        Long eventId = createEvent(2000);
+        updateEventUseCase.sellTickets(eventId, 250);
+
+        shardedInventory.reconcile();
+
+        assertEquals(1750, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertEquals(1750, ticketAllocator.current(eventId).getAvailableTickets());
+    }
+
+    @Test
+    void cartWithAFailingShardedLineGivesBackThePlainLines() {
+        Long plain = createEvent(10);
+        Long sharded = createEvent(2000);
+
+        assertThrows(InsufficientTicketsException.class, () -> sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(plain, 4), new TicketOrderLine(sharded, 2001))));
+        assertEquals(10, ticketAllocator.current(plain).getAvailableTickets());
+        assertEquals(2000, ticketAllocator.current(sharded).getAvailableTickets());
+        // Las porciones se crearon en su propia transacción: siguen completas tras revertir el carrito
+        assertEquals(4, shardRepository.findByEventId(sharded).size());
+        assertEquals(2000, shardRepository.sumAvailableTickets(sharded));
+        // Las líneas del inventario en memoria solo vuelven a su contador: ni venta ni devolución en el libro
+        ticketInventory.flush();
+        assertEquals(List.of(TicketMovementType.OPEN), ticketLedgerUseCase.getMovements(plain, 0L, 10).stream()
+                .map(TicketMovement::getType).toList());
+
+        List<Event> sold = sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(plain, 4), new TicketOrderLine(sharded, 10)));
+
+        assertEquals(6, sold.get(0).getAvailableTickets());
+        assertEquals(1990, sold.get(1).getAvailableTickets());
+        assertEquals(1990, shardRepository.sumAvailableTickets(sharded));
+    }
+
+    private Long createEvent(int capacity) {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, capacity)).getId();
+    }
+}
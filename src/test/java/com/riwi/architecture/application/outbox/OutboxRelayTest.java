@@ -0,0 +1,161 @@
+package com.riwi.architecture.application.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.model.DomainEventType;
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.ports.out.DomainEventPublisher;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Publicación del outbox: orden de secuencia, reintento de tandas fallidas y
+ * turno del relay (el relay programado está apagado en el perfil de pruebas)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private TicketInventoryEngine ticketInventory;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<OutboxRelay> relays = new ArrayList<>();
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @AfterEach
+    void releaseLeases() {
+        relays.forEach(OutboxRelay::releaseLease);
+    }
+
+    @Test
+    void messagesArePublishedInSequenceOrder() {
+        Long eventId = createEvent();
+        updateEventUseCase.sellTickets(eventId, 2);
+        ticketInventory.flush();
+        updateEventUseCase.refundTickets(eventId, 1);
+        ticketInventory.flush();
+
+        List<OutboxMessage> published = new ArrayList<>();
+        // Tandas pequeñas: el orden se mantiene entre tandas
+        relay(published::addAll, 2).relay();
+
+        for (int i = 1; i < published.size(); i++) {
+            assertTrue(published.get(i - 1).getSequence() < published.get(i).getSequence());
+        }
+        assertEquals(List.of(DomainEventType.EVENT_CREATED, DomainEventType.TICKETS_SOLD,
+                DomainEventType.TICKETS_REFUNDED), typesOf(published, eventId));
+        assertTrue(typesOf(outboxRepository.findUnpublished(10_000), eventId).isEmpty());
+    }
+
+    @Test
+    void flushedSalesArePublishedAsExplicitAggregates() throws Exception {
+        Long eventId = createEvent();
+        updateEventUseCase.sellTickets(eventId, 2);
+        updateEventUseCase.sellTickets(eventId, 3);
+        updateEventUseCase.sellTickets(eventId, 1);
+        ticketInventory.flush();
+
+        List<OutboxMessage> sold = outboxRepository.findUnpublished(10_000).stream()
+                .filter(message -> eventId.equals(message.getAggregateId()))
+                .filter(message -> message.getType() == DomainEventType.TICKETS_SOLD)
+                .toList();
+        // El flush programado puede partir las ventas en dos pasadas: los totales igual cuadran
+        int quantity = 0;
+        int operations = 0;
+        for (OutboxMessage message : sold) {
+            JsonNode payload = objectMapper.readTree(message.getPayload());
+            quantity += payload.get("quantity").asInt();
+            operations += payload.get("operations").asInt();
+            assertFalse(LocalDateTime.parse(payload.get("windowStart").asText())
+                    .isAfter(LocalDateTime.parse(payload.get("windowEnd").asText())));
+        }
+        assertEquals(6, quantity);
+        assertEquals(3, operations);
+    }
+
+    @Test
+    void failedBatchIsRetriedWithoutSkippingAhead() {
+        Long eventId = createEvent();
+        DomainEventPublisher failing = messages -> {
+            throw new IllegalStateException("broker down");
+        };
+
+        relay(failing, 200).relay();
+        assertEquals(List.of(DomainEventType.EVENT_CREATED),
+                typesOf(outboxRepository.findUnpublished(10_000), eventId));
+        releaseLeases();
+
+        List<OutboxMessage> published = new ArrayList<>();
+        relay(published::addAll, 200).relay();
+        assertEquals(List.of(DomainEventType.EVENT_CREATED), typesOf(published, eventId));
+    }
+
+    @Test
+    void onlyTheLeaseHolderPublishes() {
+        List<OutboxMessage> first = new ArrayList<>();
+        List<OutboxMessage> second = new ArrayList<>();
+        OutboxRelay holder = relay(first::addAll, 200);
+        OutboxRelay standby = relay(second::addAll, 200);
+
+        holder.relay();
+        Long eventId = createEvent();
+        standby.relay();
+        assertTrue(typesOf(second, eventId).isEmpty());
+
+        // Al ceder el turno (apagado) la otra instancia lo toma
+        holder.releaseLease();
+        standby.relay();
+        assertEquals(List.of(DomainEventType.EVENT_CREATED), typesOf(second, eventId));
+        assertTrue(typesOf(first, eventId).isEmpty());
+    }
+
+    private OutboxRelay relay(DomainEventPublisher publisher, int batchSize) {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, publisher, true, batchSize, 24, 60_000);
+        relays.add(relay);
+        return relay;
+    }
+
+    private Long createEvent() {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, 100)).getId();
+    }
+
+    private static List<DomainEventType> typesOf(List<OutboxMessage> messages, Long aggregateId) {
+        return messages.stream()
+                .filter(message -> aggregateId.equals(message.getAggregateId()))
+                .map(OutboxMessage::getType)
+                .toList();
+    }
+}
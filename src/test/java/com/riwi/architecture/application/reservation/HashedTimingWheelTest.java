@@ -0,0 +1,61 @@
+package com.riwi.architecture.application.reservation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void entriesExpireOnlyAfterTheirDelay() throws InterruptedException {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8);
+        wheel.schedule("soon", 20);
+        wheel.schedule("later", 400);
+        List<String> expired = new ArrayList<>();
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        wheel.advance(expired::add);
+
+        assertEquals(List.of("soon"), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void cancelledEntriesNeverExpire() throws InterruptedException {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8);
+        wheel.schedule("cancelled", 10).cancel();
+        List<String> expired = new ArrayList<>();
+
+        TimeUnit.MILLISECONDS.sleep(40);
+
+        assertEquals(0, wheel.advance(expired::add));
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    void callbacksRunOutsideTheLock() throws Exception {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8);
+        wheel.schedule("first", 0);
+        List<String> expired = new ArrayList<>();
+
+        TimeUnit.MILLISECONDS.sleep(30);
+        wheel.advance(payload -> {
+            expired.add(payload);
+            // Otro hilo usa la rueda mientras dura el callback: no queda esperando el candado
+            CompletableFuture.runAsync(() -> {
+                wheel.schedule("retry", 0);
+                wheel.size();
+            }).orTimeout(2, TimeUnit.SECONDS).join();
+        });
+
+        TimeUnit.MILLISECONDS.sleep(30);
+        wheel.advance(expired::add);
+        assertEquals(List.of("first", "retry"), expired);
+    }
+}
@@ -0,0 +1,85 @@
+package com.riwi.architecture.application.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VenueIntervalTreeTest {
+
+    @Test
+    void intervalsThatOnlyTouchDoNotOverlap() {
+        VenueIntervalTree tree = VenueIntervalTree.of(new long[]{1, 2}, new long[]{10, 30}, new long[]{20, 40});
+
+        assertEquals(VenueIntervalTree.NONE, tree.findOverlap(20, 30, VenueIntervalTree.NONE));
+        assertEquals(1, tree.findOverlap(15, 16, VenueIntervalTree.NONE));
+        assertEquals(2, tree.findOverlap(39, 50, VenueIntervalTree.NONE));
+        assertEquals(VenueIntervalTree.NONE, tree.findOverlap(0, 10, VenueIntervalTree.NONE));
+    }
+
+    @Test
+    void excludedIdIsNotReportedAsItsOwnConflict() {
+        VenueIntervalTree tree = VenueIntervalTree.of(new long[]{1, 2}, new long[]{10, 15}, new long[]{20, 25});
+
+        assertEquals(2, tree.findOverlap(12, 18, 1));
+        assertEquals(VenueIntervalTree.NONE, tree.findOverlap(11, 14, 1));
+    }
+
+    @Test
+    void withAndWithoutReturnNewTreesAndKeepTheOriginal() {
+        VenueIntervalTree original = VenueIntervalTree.empty().with(1, 10, 20).with(2, 30, 40);
+
+        VenueIntervalTree moved = original.with(1, 50, 60);
+        assertEquals(2, moved.size());
+        assertEquals(VenueIntervalTree.NONE, moved.findOverlap(10, 20, VenueIntervalTree.NONE));
+        assertEquals(1, moved.findOverlap(55, 56, VenueIntervalTree.NONE));
+
+        VenueIntervalTree removed = original.without(2);
+        assertEquals(1, removed.size());
+        assertEquals(VenueIntervalTree.NONE, removed.findOverlap(30, 40, VenueIntervalTree.NONE));
+
+        assertEquals(1, original.findOverlap(10, 20, VenueIntervalTree.NONE));
+        assertEquals(2, original.findOverlap(30, 40, VenueIntervalTree.NONE));
+        assertTrue(original.without(99) == original);
+    }
+
+    @Test
+    void findsTheSameOverlapsAsAFullScan() {
+        Random random = new Random(42);
+        int n = 500;
+        long[] ids = new long[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            starts[i] = random.nextInt(100_000);
+            ends[i] = starts[i] + 1 + random.nextInt(500);
+        }
+        VenueIntervalTree tree = VenueIntervalTree.of(ids, starts, ends);
+
+        for (int q = 0; q < 5_000; q++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(300);
+            long exclude = random.nextBoolean() ? ids[random.nextInt(n)] : VenueIntervalTree.NONE;
+
+            boolean expected = false;
+            for (int i = 0; i < n; i++) {
+                if (ids[i] != exclude && starts[i] < end && start < ends[i]) {
+                    expected = true;
+                    break;
+                }
+            }
+
+            long found = tree.findOverlap(start, end, exclude);
+            assertEquals(expected, found != VenueIntervalTree.NONE);
+            if (found != VenueIntervalTree.NONE) {
+                int i = (int) found - 1;
+                assertNotEquals(exclude, found);
+                assertTrue(starts[i] < end && start < ends[i]);
+            }
+        }
+    }
+}
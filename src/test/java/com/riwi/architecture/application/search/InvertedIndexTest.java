@@ -0,0 +1,114 @@
+package com.riwi.architecture.application.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenizerLowercasesStripsAccentsAndSplits() {
+        List<String> tokens = new ArrayList<>();
+        TextTokenizer.tokenize("Café Tacuba: ¡EN VIVO!", tokens::add);
+
+        assertEquals(List.of("cafe", "tacuba", "en", "vivo"), tokens);
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        InvertedIndex index = new InvertedIndex(16);
+        index.put(1, terms("Rock al parque", 3));
+        index.put(2, terms("Jazz al parque", 3));
+
+        assertArrayEquals(new long[]{1}, index.search("rock parque", 10));
+        assertArrayEquals(new long[]{2}, index.search("JAZZ Parque", 10));
+        assertArrayEquals(new long[0], index.search("rock jazz", 10));
+    }
+
+    @Test
+    void lastTermMatchesByPrefixAndLongTermsTolerateTypos() {
+        InvertedIndex index = new InvertedIndex(16);
+        index.put(1, terms("Concierto sinfónico", 3));
+        index.put(2, terms("Obra de teatro", 3));
+
+        assertArrayEquals(new long[]{1}, index.search("conci", 10));
+        assertArrayEquals(new long[]{1}, index.search("sinfonico", 10));
+        assertArrayEquals(new long[]{1}, index.search("conciero", 10));
+        assertArrayEquals(new long[]{2}, index.search("teatr", 10));
+        // El prefijo solo aplica al último término
+        assertArrayEquals(new long[0], index.search("conci sinfonico", 10));
+    }
+
+    @Test
+    void heavierTermsRankFirstAndLimitCuts() {
+        InvertedIndex index = new InvertedIndex(16);
+        index.put(1, terms("festival", 1));
+        index.put(2, terms("festival", 5));
+        index.put(3, terms("festival", 3));
+
+        assertArrayEquals(new long[]{2, 3, 1}, index.search("festival", 10));
+        assertArrayEquals(new long[]{2}, index.search("festival", 1));
+    }
+
+    @Test
+    void reindexAndRemoveHideOldTermsAndCompactKeepsResults() {
+        InvertedIndex index = new InvertedIndex(16);
+        index.put(1, terms("Salsa en la plaza", 3));
+        index.put(2, terms("Salsa brava", 3));
+        index.put(1, terms("Tango en la plaza", 3));
+        assertFalse(index.remove(99));
+        index.remove(2);
+
+        assertArrayEquals(new long[0], index.search("salsa", 10));
+        assertArrayEquals(new long[]{1}, index.search("tango plaza", 10));
+        assertEquals(1, index.size());
+
+        index.compact();
+        assertArrayEquals(new long[]{1}, index.search("tango plaza", 10));
+        assertArrayEquals(new long[0], index.search("salsa", 10));
+    }
+
+    @Test
+    void writtenIndexReadsBackWithTheSameResults() throws IOException {
+        InvertedIndex index = new InvertedIndex(16);
+        for (long id = 1; id <= 300; id++) {
+            index.put(id, terms("Evento " + id + (id % 3 == 0 ? " teatro" : " musica"), (int) (id % 7) + 1));
+        }
+        index.remove(3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex copy = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.size(), copy.size());
+        assertFalse(copy.contains(3));
+        assertArrayEquals(index.search("teatro", 500), copy.search("teatro", 500));
+        assertArrayEquals(index.search("evento 42", 10), copy.search("evento 42", 10));
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThrows(IOException.class,
+                () -> InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(garbage))));
+    }
+
+    private static Map<String, Integer> terms(String text, int weight) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        TextTokenizer.tokenize(text, token -> termWeights.merge(token, weight, Integer::sum));
+        return termWeights;
+    }
+}
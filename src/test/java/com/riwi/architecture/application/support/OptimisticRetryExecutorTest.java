@@ -0,0 +1,82 @@
+package com.riwi.architecture.application.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reintentos por bloqueo optimista, cada uno en su propia transacción
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticRetryExecutorTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OptimisticRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void createExecutor() {
+        retryExecutor = new OptimisticRetryExecutor(transactionManager, 3, 0);
+    }
+
+    @Test
+    void optimisticFailureIsRetriedInANewTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retryExecutor.execute(() -> {
+            assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            if (attempts.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("Event changed");
+            }
+            return "sold";
+        });
+
+        assertEquals("sold", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void givesUpAfterTheLastAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> retryExecutor.run(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("Event changed");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> retryExecutor.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("bad quantity");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void refusesToJoinAnActiveTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assertThrows(IllegalStateException.class, () -> retryExecutor.run(attempts::incrementAndGet)));
+        assertEquals(0, attempts.get());
+    }
+}
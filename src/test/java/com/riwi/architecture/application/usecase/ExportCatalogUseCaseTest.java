@@ -0,0 +1,119 @@
+package com.riwi.architecture.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.CatalogExportFormat;
+import com.riwi.architecture.domain.model.CatalogExportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exportación del catálogo: orden por id, reanudación con afterId y error
+ * con el último id escrito si el destino falla
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportCatalogUseCaseTest {
+
+    @Autowired
+    private ExportCatalogUseCaseImpl exportCatalogUseCase;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void createEvents() {
+        Long venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        for (int i = 0; i < 4; i++) {
+            createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, 10));
+        }
+    }
+
+    @Test
+    void resumedExportContinuesAfterTheGivenId() throws IOException {
+        StringWriter full = new StringWriter();
+        CatalogExportResult complete = exportCatalogUseCase.exportCatalog(full, CatalogExportFormat.NDJSON, null);
+        List<Long> allIds = ids(full.toString());
+        assertEquals(complete.getExported(), allIds.size());
+        assertEquals(allIds.get(allIds.size() - 1), complete.getLastExportedId());
+        assertEquals(allIds.stream().sorted().toList(), allIds);
+
+        // Reanudar desde la mitad: ni repite ni salta filas
+        Long resumeAfter = allIds.get(allIds.size() / 2);
+        StringWriter rest = new StringWriter();
+        CatalogExportResult resumed = exportCatalogUseCase.exportCatalog(rest, CatalogExportFormat.NDJSON, resumeAfter);
+
+        assertEquals(allIds.subList(allIds.size() / 2 + 1, allIds.size()), ids(rest.toString()));
+        assertEquals(complete.getLastExportedId(), resumed.getLastExportedId());
+    }
+
+    @Test
+    void exportPastTheLastIdIsEmptyAndKeepsTheCursor() {
+        StringWriter csv = new StringWriter();
+        CatalogExportResult result = exportCatalogUseCase.exportCatalog(csv, CatalogExportFormat.CSV, Long.MAX_VALUE);
+
+        assertEquals(0, result.getExported());
+        assertEquals(Long.MAX_VALUE, result.getLastExportedId());
+        // Solo la cabecera
+        assertEquals(1, csv.toString().lines().count());
+        assertTrue(csv.toString().startsWith("eventId,name,"));
+    }
+
+    @Test
+    void failingTargetReportsWhereToResume() {
+        Writer broken = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class,
+                () -> exportCatalogUseCase.exportCatalog(broken, CatalogExportFormat.CSV, null));
+        assertTrue(failure.getMessage().startsWith("Catalog export interrupted after event"));
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(InvalidEventDataException.class,
+                () -> exportCatalogUseCase.exportCatalog(null, CatalogExportFormat.CSV, null));
+        assertThrows(InvalidEventDataException.class,
+                () -> exportCatalogUseCase.exportCatalog(new StringWriter(), CatalogExportFormat.CSV, -1L));
+    }
+
+    private List<Long> ids(String ndjson) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isBlank()) {
+                ids.add(objectMapper.readTree(line).get("eventId").asLong());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,71 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.NearbyVenue;
+import com.riwi.architecture.domain.model.Venue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Venues cercanos: índice espacial + próximos eventos de cada venue
+ * (coordenadas en medio del Pacífico: ningún otro venue de las pruebas cae cerca)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FindNearbyVenuesUseCaseTest {
+
+    @Autowired
+    private FindNearbyVenuesUseCaseImpl findNearbyVenuesUseCase;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private DeleteVenueUseCaseImpl deleteVenueUseCase;
+
+    @Test
+    void nearbyVenuesComeNearestFirstWithTheirNextEvents() {
+        Long near = createVenue(-40.0, -100.0);
+        Long close = createVenue(-40.05, -100.0);
+        createVenue(-43.0, -100.0);
+        for (int i = 0; i < 12; i++) {
+            createEventUseCase.createEvent(TestFixtures.futureEvent(near, 100));
+        }
+
+        List<NearbyVenue> nearby = findNearbyVenuesUseCase.findWithinRadius(-40.0, -100.0, 20, null);
+
+        assertEquals(List.of(near, close), nearby.stream().map(found -> found.getVenue().getId()).toList());
+        assertEquals(5.6, nearby.get(1).getDistanceKm(), 0.1);
+        List<Event> upcoming = nearby.get(0).getUpcomingEvents();
+        assertEquals(10, upcoming.size());
+        for (int i = 1; i < upcoming.size(); i++) {
+            assertTrue(upcoming.get(i - 1).getEventDate().isBefore(upcoming.get(i).getEventDate()));
+        }
+        assertTrue(nearby.get(1).getUpcomingEvents().isEmpty());
+    }
+
+    @Test
+    void deletedVenuesLeaveTheIndex() {
+        Long venueId = createVenue(-45.0, -110.0);
+        assertEquals(1, findNearbyVenuesUseCase.findWithinBox(-45.1, -110.1, -44.9, -109.9, null).size());
+
+        deleteVenueUseCase.deleteVenue(venueId);
+
+        assertTrue(findNearbyVenuesUseCase.findWithinBox(-45.1, -110.1, -44.9, -109.9, null).isEmpty());
+    }
+
+    private Long createVenue(double latitude, double longitude) {
+        Venue venue = TestFixtures.venue();
+        venue.setLatitude(latitude);
+        venue.setLongitude(longitude);
+        return createVenueUseCase.createVenue(venue).getId();
+    }
+}
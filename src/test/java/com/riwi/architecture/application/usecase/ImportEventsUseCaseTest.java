@@ -0,0 +1,95 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.domain.model.EventImportError;
+import com.riwi.architecture.domain.model.EventImportFormat;
+import com.riwi.architecture.domain.model.EventImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Importación masiva: solapes contra la agenda confirmada y dentro del mismo lote
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ImportEventsUseCaseTest {
+
+    private static final String HEADER = "name,eventDate,eventEndDate,ticketPrice,totalCapacity,venueId";
+
+    @Autowired
+    private ImportEventsUseCaseImpl importEventsUseCase;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+
+    private Long venueId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        base = LocalDateTime.now().plusYears(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void overlappingLinesOfTheSameImportAreRejected() {
+        String csv = String.join("\n",
+                HEADER,
+                line("Primero", base, base.plusHours(2)),
+                line("Se cruza con el primero", base.plusHours(1), base.plusHours(3)),
+                line("Empieza cuando termina el primero", base.plusHours(2), base.plusHours(4)),
+                line("Otro día", base.plusDays(1), base.plusDays(1).plusHours(2)));
+
+        EventImportReport report = importEventsUseCase.importEvents(new StringReader(csv), EventImportFormat.CSV);
+
+        assertEquals(3, report.getImported());
+        assertEquals(1, report.getFailed());
+        EventImportError error = report.getErrors().get(0);
+        assertEquals(3, error.getLine());
+        assertTrue(error.getMessage().contains("line 2 of this import"), error.getMessage());
+    }
+
+    @Test
+    void linesOverlappingConfirmedEventsAreRejected() {
+        Long existing = createEventUseCase.createEvent(
+                TestFixtures.event(venueId, 100, base, base.plusHours(2))).getId();
+        String csv = String.join("\n",
+                HEADER,
+                line("Choca con el existente", base.plusMinutes(30), base.plusHours(1)),
+                line("", base.plusDays(2), base.plusDays(2).plusHours(1)),
+                line("Libre", base.plusDays(3), base.plusDays(3).plusHours(1)));
+
+        EventImportReport report = importEventsUseCase.importEvents(new StringReader(csv), EventImportFormat.CSV);
+
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(2L, 3L), report.getErrors().stream().map(EventImportError::getLine).toList());
+        assertTrue(report.getErrors().get(0).getMessage().contains("event " + existing),
+                report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void importedEventsBlockLaterImports() {
+        String csv = String.join("\n", HEADER, line("Primero", base, base.plusHours(2)));
+        assertEquals(1, importEventsUseCase.importEvents(new StringReader(csv), EventImportFormat.CSV).getImported());
+
+        EventImportReport again = importEventsUseCase.importEvents(new StringReader(csv), EventImportFormat.CSV);
+
+        assertEquals(0, again.getImported());
+        assertEquals(1, again.getFailed());
+    }
+
+    private String line(String name, LocalDateTime start, LocalDateTime end) {
+        return name + "," + start + "," + end + ",80.00,500," + venueId;
+    }
+}
@@ -0,0 +1,82 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.search.EventTextIndex;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Búsqueda de texto completo: altas, bajas y la ciudad del venue en el índice
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchEventsByTextUseCaseTest {
+
+    @Autowired
+    private SearchEventsByTextUseCaseImpl searchEventsByTextUseCase;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private DeleteEventUseCaseImpl deleteEventUseCase;
+    @Autowired
+    private EventTextIndex eventTextIndex;
+
+    private Long venueId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // El índice se carga en segundo plano al arrancar
+        for (int i = 0; i < 100 && !eventTextIndex.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(eventTextIndex.isReady());
+
+        Venue venue = TestFixtures.venue();
+        venue.setCity("Quibdó");
+        venueId = createVenueUseCase.createVenue(venue).getId();
+    }
+
+    @Test
+    void createdEventsAreFoundByNameAndVenueCity() {
+        Event created = createEvent("Zarzuela quimérica");
+        eventTextIndex.applyPending();
+
+        assertEquals(List.of(created.getId()), ids(searchEventsByTextUseCase.searchByText("zarzuela quimerica", 10)));
+        assertEquals(List.of(created.getId()), ids(searchEventsByTextUseCase.searchByText("zarzuela quibdo", 10)));
+        assertEquals(List.of(created.getId()), ids(searchEventsByTextUseCase.searchByText("zarsuela quimer", 10)));
+    }
+
+    @Test
+    void deletedEventsLeaveTheIndex() {
+        Event created = createEvent("Ópera efímera");
+        eventTextIndex.applyPending();
+        assertEquals(List.of(created.getId()), ids(searchEventsByTextUseCase.searchByText("opera efimera", 10)));
+
+        deleteEventUseCase.deleteEvent(created.getId());
+        eventTextIndex.applyPending();
+
+        assertTrue(searchEventsByTextUseCase.searchByText("opera efimera", 10).isEmpty());
+    }
+
+    private Event createEvent(String name) {
+        Event event = TestFixtures.futureEvent(venueId, 100);
+        event.setName(name);
+        return createEventUseCase.createEvent(event);
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+}
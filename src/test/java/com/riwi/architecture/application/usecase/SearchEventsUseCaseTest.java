@@ -0,0 +1,132 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventListing;
+import com.riwi.architecture.domain.model.EventPage;
+import com.riwi.architecture.domain.model.EventSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Listado con paginación keyset: orden (eventDate, id), empates de fecha
+ * entre páginas y conteo vivo del inventario en memoria
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchEventsUseCaseTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private SearchEventsUseCaseImpl searchEventsUseCase;
+
+    private String category;
+    private Long firstVenue;
+    private Long secondVenue;
+
+    @BeforeEach
+    void createVenues() {
+        // Categoría propia: el listado solo ve los eventos de esta prueba
+        category = "PAGE-" + UUID.randomUUID().toString().substring(0, 8);
+        firstVenue = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        secondVenue = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void cursorWalksEveryEventOnceAcrossDateTies() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            // Dos eventos con la misma fecha en venues distintos
+            Event first = createEvent(TestFixtures.futureEvent(firstVenue, 10));
+            Event second = createEvent(TestFixtures.event(secondVenue, 10, first.getEventDate(), first.getEventEndDate()));
+            created.add(first.getId());
+            created.add(second.getId());
+        }
+
+        List<EventListing> walked = new ArrayList<>();
+        EventSearchCriteria criteria = criteria(3);
+        EventPage page;
+        do {
+            page = searchEventsUseCase.searchEvents(criteria);
+            walked.addAll(page.getEvents());
+            criteria = criteria(3);
+            criteria.setAfterEventDate(page.getNextEventDate());
+            criteria.setAfterId(page.getNextId());
+        } while (page.isHasMore());
+
+        assertEquals(created.stream().sorted().toList(), walked.stream().map(EventListing::getId).sorted().toList());
+        assertEquals(walked.stream().sorted(Comparator.comparing(EventListing::getEventDate)
+                .thenComparing(EventListing::getId)).toList(), walked);
+        assertNull(page.getNextId());
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        createEvent(TestFixtures.futureEvent(firstVenue, 10));
+        createEvent(TestFixtures.futureEvent(firstVenue, 10));
+
+        EventPage page = searchEventsUseCase.searchEvents(criteria(2));
+
+        assertEquals(2, page.getEvents().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextEventDate());
+    }
+
+    @Test
+    void listingShowsTheLiveTicketCount() {
+        Long eventId = createEvent(TestFixtures.futureEvent(firstVenue, 10)).getId();
+        updateEventUseCase.sellTickets(eventId, 4);
+
+        EventPage page = searchEventsUseCase.searchEvents(criteria(10));
+
+        assertEquals(6, page.getEvents().get(0).getAvailableTickets());
+    }
+
+    @Test
+    void invalidCursorsAndLimitsAreRejected() {
+        EventSearchCriteria halfCursor = criteria(10);
+        halfCursor.setAfterEventDate(LocalDateTime.now());
+        assertThrows(InvalidEventDataException.class, () -> searchEventsUseCase.searchEvents(halfCursor));
+
+        assertThrows(InvalidEventDataException.class, () -> searchEventsUseCase.searchEvents(criteria(0)));
+        assertThrows(InvalidEventDataException.class, () -> searchEventsUseCase.searchEvents(criteria(101)));
+
+        EventSearchCriteria inverted = criteria(10);
+        inverted.setFromDate(LocalDateTime.now().plusDays(2));
+        inverted.setToDate(LocalDateTime.now());
+        assertThrows(InvalidEventDataException.class, () -> searchEventsUseCase.searchEvents(inverted));
+    }
+
+    private EventSearchCriteria criteria(int limit) {
+        EventSearchCriteria criteria = new EventSearchCriteria();
+        criteria.setCategory(category);
+        criteria.setLimit(limit);
+        return criteria;
+    }
+
+    private Event createEvent(Event event) {
+        event.setCategory(category);
+        return createEventUseCase.createEvent(event);
+    }
+}
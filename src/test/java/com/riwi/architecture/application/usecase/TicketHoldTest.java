@@ -0,0 +1,165 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.domain.exceptions.HoldNotFoundException;
+import com.riwi.architecture.domain.model.DomainEventType;
+import com.riwi.architecture.domain.model.OutboxMessage;
+import com.riwi.architecture.domain.model.TicketHold;
+import com.riwi.architecture.domain.model.TicketMovement;
+import com.riwi.architecture.domain.model.TicketMovementType;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import com.riwi.architecture.domain.ports.out.OutboxRepository;
+import com.riwi.architecture.domain.ports.out.TicketHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reservas temporales: se guardan con el descuento de stock, no publican
+ * ventas hasta confirmarse y vuelven al stock al liberarse o vencer
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:events_catalog_holds_db",
+        "tickets.holds.tick-ms=20",
+        "tickets.holds.adopt-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class TicketHoldTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private TicketHoldUseCaseImpl ticketHoldUseCase;
+    @Autowired
+    private TicketAllocator ticketAllocator;
+    @Autowired
+    private TicketInventoryEngine ticketInventory;
+    @Autowired
+    private TicketHoldRepository holdRepository;
+    @Autowired
+    private TicketLedgerUseCase ticketLedgerUseCase;
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void holdIsStoredWithoutPublishingASale() {
+        Long eventId = createEvent(10);
+
+        TicketHold hold = ticketHoldUseCase.placeHold(eventId, 4, null);
+        ticketInventory.flush();
+
+        assertEquals(6, ticketAllocator.current(eventId).getAvailableTickets());
+        assertTrue(holdRepository.findById(hold.getId()).isPresent());
+        assertEquals(List.of(TicketMovementType.OPEN, TicketMovementType.HOLD), movementTypes(eventId));
+        assertEquals(List.of(DomainEventType.EVENT_CREATED), outboxTypes(eventId));
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void confirmedHoldBecomesASale() {
+        Long eventId = createEvent(10);
+        TicketHold hold = ticketHoldUseCase.placeHold(eventId, 4, null);
+
+        assertEquals(6, ticketHoldUseCase.confirmHold(hold.getId()).getAvailableTickets());
+        ticketInventory.flush();
+
+        assertTrue(holdRepository.findById(hold.getId()).isEmpty());
+        assertEquals(List.of(DomainEventType.EVENT_CREATED, DomainEventType.TICKETS_SOLD), outboxTypes(eventId));
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+        assertEquals(6, ticketLedgerUseCase.reconcile(eventId).getLedgerAvailable());
+        // Ya confirmada: ni se confirma dos veces ni se libera
+        assertThrows(HoldNotFoundException.class, () -> ticketHoldUseCase.confirmHold(hold.getId()));
+        assertThrows(HoldNotFoundException.class, () -> ticketHoldUseCase.releaseHold(hold.getId()));
+    }
+
+    @Test
+    void releasedHoldReturnsTheTickets() {
+        Long eventId = createEvent(10);
+        TicketHold hold = ticketHoldUseCase.placeHold(eventId, 4, null);
+
+        ticketHoldUseCase.releaseHold(hold.getId());
+        ticketInventory.flush();
+
+        assertEquals(10, ticketAllocator.current(eventId).getAvailableTickets());
+        assertTrue(holdRepository.findById(hold.getId()).isEmpty());
+        assertEquals(List.of(DomainEventType.EVENT_CREATED), outboxTypes(eventId));
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+        assertThrows(HoldNotFoundException.class, () -> ticketHoldUseCase.confirmHold(hold.getId()));
+    }
+
+    @Test
+    void expiredHoldReturnsTheTickets() throws InterruptedException {
+        Long eventId = createEvent(10);
+        TicketHold hold = ticketHoldUseCase.placeHold(eventId, 3, Duration.ofSeconds(1));
+
+        awaitAvailable(eventId, 10);
+        ticketInventory.flush();
+
+        assertTrue(holdRepository.findById(hold.getId()).isEmpty());
+        assertThrows(HoldNotFoundException.class, () -> ticketHoldUseCase.confirmHold(hold.getId()));
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    @Test
+    void orphanedExpiredHoldIsAdopted() {
+        Long eventId = createEvent(10);
+        // Reserva de una instancia que cayó: su fila y su descuento existen, nadie la vigila
+        TicketHold orphan = new TicketHold(UUID.randomUUID().toString(), eventId, 2,
+                LocalDateTime.now().minusMinutes(20), LocalDateTime.now().minusMinutes(10));
+        ticketAllocator.hold(eventId, 2, available -> holdRepository.save(orphan));
+        ticketInventory.flush();
+        assertEquals(8, ticketAllocator.current(eventId).getAvailableTickets());
+
+        ticketHoldUseCase.adoptExpiredHolds();
+        ticketInventory.flush();
+
+        assertEquals(10, ticketAllocator.current(eventId).getAvailableTickets());
+        assertTrue(holdRepository.findById(orphan.getId()).isEmpty());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+    }
+
+    private void awaitAvailable(Long eventId, int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && ticketAllocator.current(eventId).getAvailableTickets() != expected; i++) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertEquals(expected, ticketAllocator.current(eventId).getAvailableTickets());
+    }
+
+    private List<TicketMovementType> movementTypes(Long eventId) {
+        return ticketLedgerUseCase.getMovements(eventId, 0L, 10).stream().map(TicketMovement::getType).toList();
+    }
+
+    private List<DomainEventType> outboxTypes(Long eventId) {
+        return outboxRepository.findUnpublished(1000).stream()
+                .filter(message -> eventId.equals(message.getAggregateId()))
+                .map(OutboxMessage::getType)
+                .toList();
+    }
+
+    private Long createEvent(int capacity) {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, capacity)).getId();
+    }
+}
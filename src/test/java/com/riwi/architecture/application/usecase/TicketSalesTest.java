@@ -0,0 +1,187 @@
+package com.riwi.architecture.application.usecase;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.inventory.TicketAllocator;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.domain.exceptions.IdempotencyKeyConflictException;
+import com.riwi.architecture.domain.exceptions.InsufficientTicketsException;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.IdempotencyRecord;
+import com.riwi.architecture.domain.model.TicketOperation;
+import com.riwi.architecture.domain.model.TicketOrderLine;
+import com.riwi.architecture.domain.ports.in.SellTicketsBatchUseCase;
+import com.riwi.architecture.domain.ports.in.TicketLedgerUseCase;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import com.riwi.architecture.domain.ports.out.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ventas, devoluciones, idempotencia y carrito sobre el inventario en memoria
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TicketSalesTest {
+
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private SellTicketsBatchUseCase sellTicketsBatchUseCase;
+    @Autowired
+    private TicketLedgerUseCase ticketLedgerUseCase;
+    @Autowired
+    private TicketAllocator ticketAllocator;
+    @Autowired
+    private TicketInventoryEngine ticketInventory;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    private Long venueId;
+
+    @BeforeEach
+    void createVenue() {
+        venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+    }
+
+    @Test
+    void salesAndRefundsKeepStockWithinCapacity() {
+        Long eventId = createEvent(100);
+
+        assertEquals(70, updateEventUseCase.sellTickets(eventId, 30).getAvailableTickets());
+        assertEquals(80, updateEventUseCase.refundTickets(eventId, 10).getAvailableTickets());
+
+        assertThrows(InsufficientTicketsException.class, () -> updateEventUseCase.sellTickets(eventId, 81));
+        assertThrows(InvalidEventDataException.class, () -> updateEventUseCase.refundTickets(eventId, 21));
+        assertThrows(InvalidEventDataException.class, () -> updateEventUseCase.sellTickets(eventId, 0));
+        assertEquals(80, ticketAllocator.current(eventId).getAvailableTickets());
+    }
+
+    @Test
+    void flushedStockMatchesTheLedger() {
+        Long eventId = createEvent(50);
+        updateEventUseCase.sellTickets(eventId, 12);
+        updateEventUseCase.refundTickets(eventId, 2);
+
+        ticketInventory.flush();
+
+        assertEquals(40, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+        assertTrue(ticketLedgerUseCase.reconcile(eventId).isConsistent());
+        assertEquals(40, ticketLedgerUseCase.reconcile(eventId).getLedgerAvailable());
+    }
+
+    @Test
+    void repeatedKeyReplaysTheOriginalSale() {
+        Long eventId = createEvent(100);
+        String key = UUID.randomUUID().toString();
+
+        Event first = updateEventUseCase.sellTickets(eventId, 5, key);
+        Event replay = updateEventUseCase.sellTickets(eventId, 5, key);
+
+        assertEquals(95, first.getAvailableTickets());
+        assertEquals(95, replay.getAvailableTickets());
+        assertEquals(95, ticketAllocator.current(eventId).getAvailableTickets());
+    }
+
+    @Test
+    void keyResultIsWrittenWithTheFlushedSale() {
+        Long eventId = createEvent(100);
+        String key = UUID.randomUUID().toString();
+
+        updateEventUseCase.sellTickets(eventId, 5, key);
+        // La venta sigue en memoria: su resultado tampoco está escrito
+        assertFalse(idempotencyRepository.findByKey(key).orElseThrow().isCompleted());
+
+        ticketInventory.flush();
+
+        IdempotencyRecord record = idempotencyRepository.findByKey(key).orElseThrow();
+        assertTrue(record.isCompleted());
+        assertEquals(95, record.getAvailableTickets());
+        assertEquals(95, eventRepository.findById(eventId).orElseThrow().getAvailableTickets());
+    }
+
+    @Test
+    void stalePendingKeyIsNeverExecutedAgain() {
+        Long eventId = createEvent(100);
+        String key = UUID.randomUUID().toString();
+        // Reclamo de una instancia que cayó hace una hora sin escribir resultado
+        idempotencyRepository.claim(new IdempotencyRecord(key, TicketOperation.SELL, eventId, 5,
+                null, LocalDateTime.now().minusHours(1), null));
+
+        IdempotencyKeyConflictException conflict = assertThrows(IdempotencyKeyConflictException.class,
+                () -> updateEventUseCase.sellTickets(eventId, 5, key));
+        assertTrue(conflict.getMessage().contains("unknown"));
+
+        assertEquals(100, ticketAllocator.current(eventId).getAvailableTickets());
+        assertFalse(idempotencyRepository.findByKey(key).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void reusedKeyWithAnotherRequestConflicts() {
+        Long eventId = createEvent(100);
+        Long otherEventId = createEvent(100);
+        String key = UUID.randomUUID().toString();
+        updateEventUseCase.sellTickets(eventId, 5, key);
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> updateEventUseCase.sellTickets(eventId, 6, key));
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> updateEventUseCase.sellTickets(otherEventId, 5, key));
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> updateEventUseCase.refundTickets(eventId, 5, key));
+
+        assertEquals(95, ticketAllocator.current(eventId).getAvailableTickets());
+        assertEquals(100, ticketAllocator.current(otherEventId).getAvailableTickets());
+    }
+
+    @Test
+    void failedSaleReleasesTheKey() {
+        Long eventId = createEvent(10);
+        String key = UUID.randomUUID().toString();
+
+        assertThrows(InsufficientTicketsException.class, () -> updateEventUseCase.sellTickets(eventId, 11, key));
+
+        // La clave quedó libre: el reintento corregido se ejecuta
+        assertEquals(6, updateEventUseCase.sellTickets(eventId, 4, key).getAvailableTickets());
+    }
+
+    @Test
+    void cartSellsEveryLineOrNone() {
+        Long first = createEvent(10);
+        Long second = createEvent(5);
+
+        assertThrows(InsufficientTicketsException.class, () -> sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(first, 3), new TicketOrderLine(second, 6))));
+        assertEquals(10, ticketAllocator.current(first).getAvailableTickets());
+        assertEquals(5, ticketAllocator.current(second).getAvailableTickets());
+
+        List<Event> sold = sellTicketsBatchUseCase.sellTickets(List.of(
+                new TicketOrderLine(second, 2), new TicketOrderLine(first, 3), new TicketOrderLine(second, 3)));
+
+        assertEquals(List.of(second, first), sold.stream().map(Event::getId).toList());
+        assertEquals(0, sold.get(0).getAvailableTickets());
+        assertEquals(7, sold.get(1).getAvailableTickets());
+    }
+
+    private Long createEvent(int capacity) {
+        return createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, capacity)).getId();
+    }
+}
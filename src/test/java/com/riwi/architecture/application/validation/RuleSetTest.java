@@ -0,0 +1,88 @@
+package com.riwi.architecture.application.validation;
+
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleSetTest {
+
+    @Test
+    void everyFailedRuleIsReportedInDeclarationOrder() {
+        Event event = validEvent();
+        event.setName("   ");
+        event.setTotalCapacity(0);
+        event.setVenueId(null);
+
+        assertEquals(List.of(
+                new Violation("name", "is mandatory"),
+                new Violation("totalCapacity", "must be greater than zero"),
+                new Violation("venueId", "is mandatory")), EventValidator.CREATION.check(event));
+    }
+
+    @Test
+    void validTargetSharesTheEmptyResult() {
+        assertSame(List.of(), EventValidator.CREATION.check(validEvent()));
+    }
+
+    @Test
+    void nullTargetReportsTheSubject() {
+        assertEquals(List.of(new Violation("event", "cant be null")), EventValidator.CREATION.check(null));
+    }
+
+    @Test
+    void singleViolationKeepsTheFieldMessageAndSeveralAreJoined() {
+        Event missingName = validEvent();
+        missingName.setName(null);
+        InvalidEventDataException single = assertThrows(InvalidEventDataException.class,
+                () -> EventValidator.validateForCreation(missingName));
+        assertTrue(single.getMessage().contains("name"));
+
+        Event invalid = validEvent();
+        invalid.setName(null);
+        invalid.setTicketPrice(new BigDecimal("-1"));
+        InvalidEventDataException several = assertThrows(InvalidEventDataException.class,
+                () -> EventValidator.validateForCreation(invalid));
+        assertTrue(several.getMessage().contains("'name': is mandatory; 'ticketPrice': needs to be zero or positive"));
+    }
+
+    @Test
+    void largeBatchesKeepEachResultInItsPosition() {
+        // Por encima del umbral: el lote se reparte en el pool fork-join
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Event event = validEvent();
+            if (i % 7 == 0) {
+                event.setVenueId(null);
+            }
+            events.add(event);
+        }
+
+        List<List<Violation>> results = EventValidator.CREATION.checkAll(events);
+
+        assertEquals(events.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            List<Violation> expected = i % 7 == 0 ? List.of(new Violation("venueId", "is mandatory")) : List.of();
+            assertEquals(expected, results.get(i));
+        }
+    }
+
+    private static Event validEvent() {
+        Event event = new Event();
+        event.setName("Concert");
+        event.setEventDate(LocalDateTime.now().plusDays(10));
+        event.setTicketPrice(new BigDecimal("50.00"));
+        event.setTotalCapacity(100);
+        event.setVenueId(1L);
+        return event;
+    }
+}
@@ -0,0 +1,99 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Caché de lectura de eventos: aciertos, copias e invalidación al escribir
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CachingEventRepositoryTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    @Qualifier("jpaEventRepository")
+    private EventRepository jpaEventRepository;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId;
+
+    @BeforeEach
+    void createEvent() {
+        Long venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        eventId = createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, 10)).getId();
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        eventRepository.findById(eventId);
+
+        // Cambio hecho por debajo de la caché: la lectura siguiente aún no lo ve
+        Event row = jpaEventRepository.findById(eventId).orElseThrow();
+        row.setName("Changed underneath");
+        jpaEventRepository.save(row);
+
+        assertEquals("Test concert", eventRepository.findById(eventId).orElseThrow().getName());
+    }
+
+    @Test
+    void cachedEventsAreHandedOutAsCopies() {
+        eventRepository.findById(eventId).orElseThrow().setName("Modified by a caller");
+
+        assertEquals("Test concert", eventRepository.findById(eventId).orElseThrow().getName());
+    }
+
+    @Test
+    void saveInvalidatesTheEvent() {
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        event.setName("Renamed");
+        eventRepository.save(event);
+
+        assertEquals("Renamed", eventRepository.findById(eventId).orElseThrow().getName());
+    }
+
+    @Test
+    void uncommittedReadsAreNotCached() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.setName("Rolled back");
+            eventRepository.save(event);
+            assertEquals("Rolled back", eventRepository.findById(eventId).orElseThrow().getName());
+            status.setRollbackOnly();
+        });
+
+        assertEquals("Test concert", eventRepository.findById(eventId).orElseThrow().getName());
+    }
+
+    @Test
+    void deletedEventReadsAsMissing() {
+        eventRepository.findById(eventId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventRepository.deleteById(eventId));
+
+        assertTrue(eventRepository.findById(eventId).isEmpty());
+        assertFalse(eventRepository.existsById(eventId));
+    }
+}
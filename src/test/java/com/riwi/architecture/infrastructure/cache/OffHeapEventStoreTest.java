@@ -0,0 +1,168 @@
+package com.riwi.architecture.infrastructure.cache;
+
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.model.EventInventoryView;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapEventStoreTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final long TEXT_BYTES = 64L * 1024 * 1024;
+
+    @Test
+    void storedEventDecodesWithEveryField() {
+        OffHeapEventStore store = new OffHeapEventStore(100, TEXT_BYTES);
+        Event event = event(7L);
+        event.setVersion(3L);
+
+        assertTrue(store.put(event, NEVER));
+        Event decoded = store.get(7L, NOW);
+
+        assertNotNull(decoded);
+        assertEquals(event.getId(), decoded.getId());
+        assertEquals(event.getName(), decoded.getName());
+        assertEquals(event.getDescription(), decoded.getDescription());
+        assertEquals(event.getEventDate(), decoded.getEventDate());
+        assertEquals(event.getEventEndDate(), decoded.getEventEndDate());
+        assertEquals(event.getCategory(), decoded.getCategory());
+        assertEquals(event.getTicketPrice(), decoded.getTicketPrice());
+        assertEquals(event.getAvailableTickets(), decoded.getAvailableTickets());
+        assertEquals(event.getTotalCapacity(), decoded.getTotalCapacity());
+        assertEquals(event.getActive(), decoded.getActive());
+        assertEquals(event.getVenueId(), decoded.getVenueId());
+        assertEquals(event.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(event.getUpdatedAt(), decoded.getUpdatedAt());
+        assertEquals(3L, decoded.getVersion());
+    }
+
+    @Test
+    void missingValuesDecodeAsNull() {
+        OffHeapEventStore store = new OffHeapEventStore(100, TEXT_BYTES);
+        Event event = new Event();
+        event.setId(8L);
+        event.setName("Solo nombre");
+
+        assertTrue(store.put(event, NEVER));
+        Event decoded = store.get(8L, NOW);
+
+        assertEquals("Solo nombre", decoded.getName());
+        assertNull(decoded.getDescription());
+        assertNull(decoded.getEventDate());
+        assertNull(decoded.getCategory());
+        assertNull(decoded.getTicketPrice());
+        assertNull(decoded.getAvailableTickets());
+        assertNull(decoded.getActive());
+        assertNull(decoded.getVenueId());
+        assertNull(decoded.getVersion());
+    }
+
+    @Test
+    void inventoryViewMatchesTheAggregate() {
+        OffHeapEventStore store = new OffHeapEventStore(100, TEXT_BYTES);
+        Event event = event(9L);
+        store.put(event, NEVER);
+
+        EventInventoryView expected = EventInventoryView.from(event);
+        EventInventoryView view = store.inventoryView(9L, NOW);
+
+        assertEquals(expected.getId(), view.getId());
+        assertEquals(expected.getVenueId(), view.getVenueId());
+        assertEquals(expected.isActive(), view.isActive());
+        assertEquals(expected.getTotalCapacity(), view.getTotalCapacity());
+        assertEquals(expected.getAvailableTickets(), view.getAvailableTickets());
+        assertEquals(expected.getTicketPriceMinor(), view.getTicketPriceMinor());
+        assertEquals(expected.getStartsAt(), view.getStartsAt());
+        assertEquals(expected.getClosesAt(), view.getClosesAt());
+    }
+
+    @Test
+    void putReplacesTheStoredVersion() {
+        OffHeapEventStore store = new OffHeapEventStore(100, TEXT_BYTES);
+        store.put(event(1L), NEVER);
+
+        Event changed = event(1L);
+        changed.setName("Nombre nuevo");
+        changed.setAvailableTickets(10);
+        store.put(changed, NEVER);
+
+        assertEquals(1, store.size());
+        assertEquals("Nombre nuevo", store.get(1L, NOW).getName());
+        assertEquals(10, store.get(1L, NOW).getAvailableTickets());
+        assertEquals("Evento guardado fuera del heap", store.get(1L, NOW).getDescription());
+    }
+
+    @Test
+    void expiredEventsAreHiddenAndPurgedAcrossSlices() {
+        int events = 10_000;
+        OffHeapEventStore store = new OffHeapEventStore(events, TEXT_BYTES);
+        for (long id = 1; id <= events; id++) {
+            store.put(event(id), id % 2 == 0 ? NOW - 1 : NEVER);
+        }
+
+        assertNull(store.get(2L, NOW));
+        assertNull(store.inventoryView(2L, NOW));
+        assertFalse(store.contains(2L, NOW));
+        assertNotNull(store.get(1L, NOW));
+
+        assertEquals(events / 2, store.purgeExpired(NOW));
+        assertEquals(events / 2, store.size());
+        for (long id = 1; id <= events; id += 2) {
+            assertTrue(store.contains(id, NOW));
+        }
+
+        // Los registros liberados vuelven a usarse
+        for (long id = events + 1; id <= events + events / 2; id++) {
+            assertTrue(store.put(event(id), NEVER));
+        }
+        assertEquals(events, store.size());
+        assertEquals("Evento guardado fuera del heap", store.get(events + 1L, NOW).getDescription());
+    }
+
+    @Test
+    void fullStoreRejectsNewEventsButStillReplaces() {
+        OffHeapEventStore store = new OffHeapEventStore(2, TEXT_BYTES);
+        assertTrue(store.put(event(1L), NEVER));
+        assertTrue(store.put(event(2L), NEVER));
+
+        assertFalse(store.put(event(3L), NEVER));
+        assertNull(store.get(3L, NOW));
+        assertTrue(store.put(event(2L), NEVER));
+
+        store.remove(1L);
+        assertNull(store.get(1L, NOW));
+        assertTrue(store.put(event(3L), NEVER));
+    }
+
+    @Test
+    void unstorableEventDropsThePreviousVersion() {
+        OffHeapEventStore store = new OffHeapEventStore(100, TEXT_BYTES);
+        store.put(event(1L), NEVER);
+
+        Event negativeScale = event(1L);
+        negativeScale.setTicketPrice(new BigDecimal("1E+3"));
+
+        assertFalse(store.put(negativeScale, NEVER));
+        assertNull(store.get(1L, NOW));
+        assertEquals(0, store.size());
+    }
+
+    private static Event event(long id) {
+        LocalDateTime start = LocalDateTime.of(2030, 5, 1, 20, 0, 0, 123_456_789);
+        Event event = new Event(id, "Concierto " + id, "Evento guardado fuera del heap",
+                start, start.plusHours(3), "MUSIC", new BigDecimal("120.50"),
+                4_000, 5_000, true, 42L,
+                LocalDateTime.of(2030, 1, 1, 9, 30), LocalDateTime.of(2030, 1, 2, 10, 45, 5));
+        event.setVersion(1L);
+        return event;
+    }
+}
@@ -0,0 +1,121 @@
+package com.riwi.architecture.infrastructure.controllers;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.availability.AvailabilityProjection;
+import com.riwi.architecture.application.inventory.ShardedInventory;
+import com.riwi.architecture.application.inventory.TicketInventoryEngine;
+import com.riwi.architecture.application.usecase.CreateEventUseCaseImpl;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.UpdateEventUseCaseImpl;
+import com.riwi.architecture.domain.model.AvailabilitySnapshot;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Consultas periódicas de disponibilidad: ETag, 304, cambio tras una venta y
+ * mismo ETag en otra instancia
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AvailabilityControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private CreateEventUseCaseImpl createEventUseCase;
+    @Autowired
+    private UpdateEventUseCaseImpl updateEventUseCase;
+    @Autowired
+    private AvailabilityProjection availabilityProjection;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TicketInventoryEngine ticketInventory;
+    @Autowired
+    private ShardedInventory shardedInventory;
+
+    private MockMvc mockMvc;
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        Long venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        eventId = createEventUseCase.createEvent(TestFixtures.futureEvent(venueId, 50)).getId();
+    }
+
+    @Test
+    void unchangedAvailabilityAnswersNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/availability").param("ids", eventId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$[0].eventId").value(eventId))
+                .andExpect(jsonPath("$[0].availableTickets").value(50))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/events/availability").param("ids", eventId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void saleChangesTheEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/availability").param("ids", eventId.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        updateEventUseCase.sellTickets(eventId, 5);
+        availabilityProjection.refresh();
+
+        String changed = mockMvc.perform(get("/api/events/availability").param("ids", eventId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].availableTickets").value(45))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void anotherInstanceAnswersTheSameEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/availability").param("ids", eventId.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Otra réplica (o esta tras reiniciar) con su propia proyección vacía
+        AvailabilityProjection replica = new AvailabilityProjection(eventRepository, ticketInventory,
+                shardedInventory, 30_000);
+        AvailabilitySnapshot snapshot = replica.snapshot(new long[]{eventId}, etag);
+
+        assertTrue(snapshot.isNotModified());
+        assertEquals(etag, snapshot.getEtag());
+    }
+
+    @Test
+    void unknownEventsAreLeftOut() throws Exception {
+        mockMvc.perform(get("/api/events/availability").param("ids", eventId + ",987654321"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].eventId").value(eventId));
+    }
+}
@@ -0,0 +1,89 @@
+package com.riwi.architecture.infrastructure.metrics;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.application.usecase.DeleteEventUseCaseImpl;
+import com.riwi.architecture.domain.exceptions.InvalidEventDataException;
+import com.riwi.architecture.domain.ports.out.VenueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Métricas de los puertos: llamadas, fallos por excepción y una serie por adaptador
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PortMetricsTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+    @Autowired
+    private DeleteEventUseCaseImpl deleteEventUseCase;
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Test
+    void inboundCallsAreTimedPerOperation() {
+        long before = calls("CreateVenueUseCase", "createVenue", "CreateVenueUseCaseImpl");
+
+        createVenueUseCase.createVenue(TestFixtures.venue());
+        createVenueUseCase.createVenue(TestFixtures.venue());
+
+        assertEquals(before + 2, calls("CreateVenueUseCase", "createVenue", "CreateVenueUseCaseImpl"));
+        assertEquals(0.0, meterRegistry.get("ports.in.in_flight")
+                .tags("port", "CreateVenueUseCase", "operation", "createVenue",
+                      "adapter", "CreateVenueUseCaseImpl").gauge().value());
+    }
+
+    @Test
+    void failuresAreCountedByExceptionType() {
+        assertThrows(InvalidEventDataException.class, () -> deleteEventUseCase.deleteEvent(-1L));
+        Counter failures = meterRegistry.find("ports.in.failures")
+                .tags("port", "DeleteEventUseCase", "operation", "deleteEvent",
+                      "adapter", "DeleteEventUseCaseImpl", "exception", "InvalidEventDataException")
+                .counter();
+        assertNotNull(failures);
+        double before = failures.count();
+
+        assertThrows(InvalidEventDataException.class, () -> deleteEventUseCase.deleteEvent(0L));
+
+        assertEquals(before + 1, failures.count());
+    }
+
+    @Test
+    void eachOutboundAdapterHasItsOwnSeries() {
+        Long venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        // Fuera de la caché: la primera lectura llega también al adaptador JPA
+        venueRepository.findById(venueId);
+
+        Set<String> adapters = meterRegistry.find("ports.out.calls")
+                .tags("port", "VenueRepository", "operation", "findById")
+                .timers().stream()
+                .map(timer -> timer.getId().getTag("adapter"))
+                .collect(Collectors.toSet());
+
+        assertTrue(adapters.contains("CachingVenueRepository"), adapters.toString());
+        assertTrue(adapters.contains("JpaVenueRepository"), adapters.toString());
+    }
+
+    private long calls(String port, String operation, String adapter) {
+        Timer timer = meterRegistry.find("ports.in.calls")
+                .tags("port", port, "operation", operation, "adapter", adapter).timer();
+        return timer != null ? timer.count() : 0L;
+    }
+}
@@ -0,0 +1,98 @@
+package com.riwi.architecture.infrastructure.repositories;
+
+import com.riwi.architecture.TestFixtures;
+import com.riwi.architecture.application.usecase.CreateVenueUseCaseImpl;
+import com.riwi.architecture.domain.model.Event;
+import com.riwi.architecture.domain.ports.out.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Consultas propias del adaptador JPA sobre H2
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JpaEventRepositoryTest {
+
+    @Autowired
+    @Qualifier("jpaEventRepository")
+    private EventRepository eventRepository;
+    @Autowired
+    private CreateVenueUseCaseImpl createVenueUseCase;
+
+    @Test
+    void upcomingActiveEventsAreCappedPerVenueInDateOrder() {
+        Long busy = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        Long quiet = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        Long notAsked = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> busyIds = new ArrayList<>();
+        // Guardados en desorden: la consulta ordena por fecha
+        for (int day : new int[]{5, 1, 4, 2, 3}) {
+            busyIds.add(save(busy, now.plusDays(day), true).getId());
+        }
+        Long quietFirst = save(quiet, now.plusDays(1), true).getId();
+        Long quietSecond = save(quiet, now.plusDays(2), true).getId();
+        save(quiet, now.minusDays(1), true);
+        save(quiet, now.plusHours(1), false);
+        save(notAsked, now.plusDays(1), true);
+
+        List<Event> upcoming = eventRepository.findUpcomingActiveByVenueIds(List.of(busy, quiet), now, 3);
+
+        Map<Long, List<Long>> byVenue = upcoming.stream().collect(Collectors.groupingBy(Event::getVenueId,
+                Collectors.mapping(Event::getId, Collectors.toList())));
+        assertEquals(2, byVenue.size());
+        // Días 1, 2 y 3 del venue con más eventos
+        assertEquals(List.of(busyIds.get(1), busyIds.get(3), busyIds.get(4)), byVenue.get(busy));
+        assertEquals(List.of(quietFirst, quietSecond), byVenue.get(quiet));
+    }
+
+    @Test
+    void noVenuesMeansNoQuery() {
+        assertEquals(List.of(), eventRepository.findUpcomingActiveByVenueIds(List.of(), LocalDateTime.now(), 3));
+    }
+
+    @Test
+    void batchedDecrementReportsEachLine() {
+        Long venueId = createVenueUseCase.createVenue(TestFixtures.venue()).getId();
+        LocalDateTime now = LocalDateTime.now();
+        Long open = save(venueId, now.plusDays(1), true).getId();
+        Long inactive = save(venueId, now.plusDays(2), false).getId();
+        Long past = save(venueId, now.minusDays(1), true).getId();
+        Long scarce = save(venueId, now.plusDays(3), true).getId();
+
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(open, 30);
+        lines.put(inactive, 1);
+        lines.put(past, 1);
+        lines.put(scarce, 101);
+        lines.put(Long.MAX_VALUE, 1);
+
+        assertArrayEquals(new int[]{1, 0, 0, 0, 0}, eventRepository.decrementAvailableTicketsAll(lines, now));
+        assertEquals(70, eventRepository.findById(open).orElseThrow().getAvailableTickets());
+        assertEquals(100, eventRepository.findById(scarce).orElseThrow().getAvailableTickets());
+    }
+
+    private Event save(Long venueId, LocalDateTime start, boolean active) {
+        Event event = TestFixtures.event(venueId, 100, start, start.plusHours(2));
+        event.setActive(active);
+        event.setAvailableTickets(100);
+        event.setCreatedAt(LocalDateTime.now());
+        event.setUpdatedAt(event.getCreatedAt());
+        return eventRepository.save(event);
+    }
+}